@@ -89,9 +89,8 @@ public class FortranModelBuilder implements IFortranModelBuilder
                 file,
                 filename,
                 sourceForm);
-            // There may be more than one FortranModelBuilder running at once, so, unfortunately, we have to
-            // create a new parser each time
-            IFortranAST ast = new FortranAST(file, new Parser().parse(lexer), lexer.getTokenList());
+            // There may be more than one FortranModelBuilder running at once, so use the current thread's parser
+            IFortranAST ast = new FortranAST(file, Parser.getThreadLocalParser().parse(lexer), lexer.getTokenList());
 
             if (isParseTreeModelEnabled())
             {
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.tests.preprocessor.c;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import junit.framework.TestCase;
+
+import org.eclipse.cdt.core.parser.CodeReader;
+import org.eclipse.photran.internal.core.preprocessor.c.SharedCodeReaderCache;
+
+/**
+ * Tests for {@link SharedCodeReaderCache}.
+ */
+public class SharedCodeReaderCacheTests extends TestCase
+{
+    private File file;
+
+    @Override protected void setUp() throws Exception
+    {
+        file = File.createTempFile("config", ".h");
+        write("#define N 10\n");
+    }
+
+    @Override protected void tearDown() throws Exception
+    {
+        file.delete();
+    }
+
+    public void testReuse() throws Exception
+    {
+        SharedCodeReaderCache cache = new SharedCodeReaderCache();
+        String path = file.getCanonicalPath();
+
+        CodeReader reader = cache.get(path);
+        assertEquals("#define N 10\n", new String(reader.buffer));
+        assertSame(reader, cache.get(path));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        write("#define N 100\n");
+        CodeReader newReader = cache.get(path);
+        assertNotSame(reader, newReader);
+        assertEquals("#define N 100\n", new String(newReader.buffer));
+
+        cache.flush();
+        assertEquals(0, cache.getCurrentSpace());
+        assertNotSame(newReader, cache.get(path));
+
+        file.delete();
+        assertNull(cache.get(path));
+    }
+
+    private void write(String contents) throws IOException
+    {
+        FileWriter out = new FileWriter(file);
+        out.write(contents);
+        out.close();
+    }
+}
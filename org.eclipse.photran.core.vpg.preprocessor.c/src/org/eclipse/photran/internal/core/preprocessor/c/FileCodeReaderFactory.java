@@ -56,11 +56,12 @@ public class FileCodeReaderFactory implements ICodeReaderFactory {
 	}
 
     /**
-     * @return
+     * @return the shared factory, whose {@link SharedCodeReaderCache} allows included files to be
+     *         read once and reused by every preprocessor
      */
-    public static FileCodeReaderFactory getInstance() {
+    public static synchronized FileCodeReaderFactory getInstance() {
         if( instance == null )
-            instance = new FileCodeReaderFactory(new EmptyCodeReaderCache());
+            instance = new FileCodeReaderFactory(new SharedCodeReaderCache());
         return instance;
     }
 
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.preprocessor.c;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.parser.CodeReader;
+import org.eclipse.cdt.core.parser.ICodeReaderCache;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * A bounded cache of {@link CodeReader}s for included files, which is shared by every
+ * {@link CPreprocessor} created by {@link FileCodeReaderFactory}.
+ * <p>
+ * A header such as <code>config.h</code> may be included by thousands of files during a single
+ * indexing run.  Rather than reading and decoding it each time, the first {@link CodeReader} is
+ * retained and handed to every subsequent preprocessor (its buffer is never modified, so it can
+ * be shared).  A cached reader is only reused if the file's size and modification time have not
+ * changed since it was read.
+ * <p>
+ * At most {@link #MAX_CACHED_CHARACTERS} characters are cached; when that limit is exceeded, the
+ * least recently used readers are discarded.
+ * <p>
+ * This class is thread-safe.
+ */
+public class SharedCodeReaderCache implements ICodeReaderCache {
+
+    /** Maximum total length of the buffers of the cached readers */
+    public static final int MAX_CACHED_CHARACTERS = 8 * 1024 * 1024;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(64, 0.75f, true);
+
+    private int cachedCharacters = 0;
+
+    private int hits = 0, misses = 0;
+
+    private static final class Entry {
+        public final CodeReader reader;
+        public final long lastModified;
+        public final long length;
+
+        public Entry(CodeReader reader, long lastModified, long length) {
+            this.reader = reader;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Returns a CodeReader for the given file location, which may have been created for a
+     * previous inclusion of the same file.
+     */
+    public CodeReader get(String location) {
+        File file = new File(location);
+        if (!file.isFile())
+            return null;
+
+        long lastModified = file.lastModified(), length = file.length();
+        synchronized (this) {
+            Entry entry = entries.get(location);
+            if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+                hits++;
+                return entry.reader;
+            }
+            misses++;
+        }
+
+        CodeReader reader = InternalParserUtil.createFileReader(location);
+        synchronized (this) {
+            remove(location);
+            if (reader != null && reader.buffer.length <= MAX_CACHED_CHARACTERS / 4) {
+                entries.put(location, new Entry(reader, lastModified, length));
+                cachedCharacters += reader.buffer.length;
+
+                for (Iterator<Entry> it = entries.values().iterator();
+                     cachedCharacters > MAX_CACHED_CHARACTERS && it.hasNext(); ) {
+                    cachedCharacters -= it.next().reader.buffer.length;
+                    it.remove();
+                }
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * Removes the CodeReader for the given file location from the cache.
+     */
+    public synchronized CodeReader remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry == null)
+            return null;
+
+        cachedCharacters -= entry.reader.buffer.length;
+        return entry.reader;
+    }
+
+    /**
+     * Returns the approximate amount of memory used by the cached readers, in KB.
+     */
+    public synchronized int getCurrentSpace() {
+        return (int)(cachedCharacters * 2L / 1024);
+    }
+
+    public synchronized void flush() {
+        entries.clear();
+        cachedCharacters = 0;
+    }
+
+    /** @return the number of times a cached reader was reused */
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    /** @return the number of times a file had to be read */
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    @Deprecated
+    //method added to conform with CDT interface
+    public CodeReader get(String key, IIndexFileLocation ifl)
+            throws CoreException, IOException {
+        return get(key);
+    }
+}
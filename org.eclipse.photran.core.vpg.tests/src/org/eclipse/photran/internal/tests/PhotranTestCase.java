@@ -62,7 +62,7 @@ public abstract class PhotranTestCase extends TestCase
 
     protected ASTExecutableProgramNode parse(String string, ISourceForm sourceForm) throws IOException, LexerException, SyntaxException
     {
-        ASTExecutableProgramNode ast = new Parser().parse(new ASTLexerFactory().createLexer(new StringReader(string), null, "<stdin>", sourceForm));
+        ASTExecutableProgramNode ast = Parser.getThreadLocalParser().parse(new ASTLexerFactory().createLexer(new StringReader(string), null, "<stdin>", sourceForm));
         assertTrue(ast != null);
         return ast;
     }
@@ -74,7 +74,7 @@ public abstract class PhotranTestCase extends TestCase
 
     protected ASTExecutableProgramNode parse(File file, ISourceForm sourceForm) throws IOException, LexerException, SyntaxException, CoreException
     {
-        ASTExecutableProgramNode ast = new Parser().parse(new ASTLexerFactory().createLexer(file, sourceForm));
+        ASTExecutableProgramNode ast = Parser.getThreadLocalParser().parse(new ASTLexerFactory().createLexer(file, sourceForm));
         assertTrue(ast != null);
         return ast;
     }
@@ -83,7 +83,7 @@ public abstract class PhotranTestCase extends TestCase
     protected <T extends IBodyConstruct> T parseStmt(String stmt) throws IOException, LexerException, SyntaxException
     {
         String program = stmt + "\nend program\n";
-        ASTExecutableProgramNode ast = new Parser().parse(new ASTLexerFactory().createLexer(new StringReader(program), null, null));
+        ASTExecutableProgramNode ast = Parser.getThreadLocalParser().parse(new ASTLexerFactory().createLexer(new StringReader(program), null, null));
         assertTrue(ast != null);
         LoopReplacer.replaceAllLoopsIn(ast);
         return (T)((ASTMainProgramNode)ast.getProgramUnitList().get(0)).getBody().get(0);
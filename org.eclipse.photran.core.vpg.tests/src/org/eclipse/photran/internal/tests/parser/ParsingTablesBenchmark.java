@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.parser;
+
+import java.io.StringReader;
+
+import junit.framework.TestCase;
+
+import org.eclipse.photran.internal.core.lexer.ASTLexerFactory;
+import org.eclipse.photran.internal.core.lexer.IAccumulatingLexer;
+import org.eclipse.photran.internal.core.lexer.sourceform.UnpreprocessedFreeSourceForm;
+import org.eclipse.photran.internal.core.parser.Parser;
+
+/**
+ * Compares the time to parse a small program the first time (which includes loading the
+ * parsing tables for the start symbol) with the time to parse it once the tables are loaded.
+ * <p>
+ * The first measurement is only meaningful if this is the first test run in the JVM.
+ */
+public class ParsingTablesBenchmark extends TestCase
+{
+    private static final int N = 100;
+
+    private static final String PROGRAM =
+        "program p\n" +
+        "  implicit none\n" +
+        "  integer :: i, total\n" +
+        "  total = 0\n" +
+        "  do i = 1, 10\n" +
+        "    if (mod(i, 2) == 0) total = total + f(i)\n" +
+        "  end do\n" +
+        "  print *, total\n" +
+        "contains\n" +
+        "  integer function f(n)\n" +
+        "    integer, intent(in) :: n\n" +
+        "    f = n * n\n" +
+        "  end function f\n" +
+        "end program p\n";
+
+    public void testBenchmark() throws Exception
+    {
+        long start = System.nanoTime();
+        assertNotNull(new Parser().parse(lexer(PROGRAM)));
+        long first = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < N; i++)
+            assertNotNull(new Parser().parse(lexer(PROGRAM)));
+        long steady = (System.nanoTime() - start) / N;
+
+        System.out.printf("%s: %.2f ms for the first parse, %.2f ms/parse after\n",
+            getClass().getSimpleName(), first / 1e6, steady / 1e6);
+    }
+
+    private static IAccumulatingLexer lexer(String text) throws Exception
+    {
+        return new ASTLexerFactory().createLexer(new StringReader(text), null, "<stdin>", new UnpreprocessedFreeSourceForm());
+    }
+}
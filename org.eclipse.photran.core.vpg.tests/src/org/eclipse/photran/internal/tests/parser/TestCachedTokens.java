@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.photran.internal.core.lexer.Token;
+import org.eclipse.photran.internal.core.parser.ASTExecutableProgramNode;
+import org.eclipse.photran.internal.core.parser.ASTMainProgramNode;
+import org.eclipse.photran.internal.core.parser.ASTPrintStmtNode;
+import org.eclipse.photran.internal.core.parser.GenericASTVisitor;
+import org.eclipse.photran.internal.core.parser.IASTNode;
+import org.eclipse.photran.internal.tests.PhotranTestCase;
+
+/**
+ * Unit tests for the first and last tokens cached by AST nodes (see
+ * {@link IASTNode#findFirstToken()} and {@link IASTNode#findLastToken()}).
+ */
+public class TestCachedTokens extends PhotranTestCase
+{
+    private static final String PROGRAM =
+        "program p\n" +
+        "10 print *, 1\n" +
+        "   print *, 2\n" +
+        "end program p\n";
+
+    public void testCachedTokens() throws Exception
+    {
+        ASTExecutableProgramNode ast = parse(PROGRAM);
+        assertCachedTokensCorrect(ast);
+        assertCachedTokensCorrect(ast); // Now from the cache
+
+        ASTMainProgramNode program = (ASTMainProgramNode)ast.getProgramUnitList().get(0);
+        assertEquals("program", program.findFirstToken().getText());
+        assertEquals("10", program.getBody().findFirstToken().getText());
+
+        ((ASTPrintStmtNode)program.getBody().get(0)).setLabel(null);
+        assertEquals("print", program.getBody().findFirstToken().getText());
+        assertCachedTokensCorrect(ast);
+
+        program.getBody().remove(0);
+        assertSame(program.getBody().get(0).findFirstToken(), program.getBody().findFirstToken());
+        assertCachedTokensCorrect(ast);
+
+        program.getBody().get(0).removeFromTree();
+        assertNull(program.getBody().findFirstToken());
+        assertNull(program.getBody().findLastToken());
+        assertCachedTokensCorrect(ast);
+
+        program.setEndProgramStmt(null);
+        assertSame(program.getProgramStmt().findLastToken(), ast.findLastToken());
+        assertCachedTokensCorrect(ast);
+
+        ASTExecutableProgramNode copy = (ASTExecutableProgramNode)ast.clone();
+        assertNotSame(ast.findFirstToken(), copy.findFirstToken());
+        assertCachedTokensCorrect(copy);
+    }
+
+    private void assertCachedTokensCorrect(IASTNode root)
+    {
+        root.accept(new GenericASTVisitor()
+        {
+            @Override public void visitASTNode(IASTNode node)
+            {
+                List<Token> tokens = tokensIn(node);
+                assertSame(tokens.isEmpty() ? null : tokens.get(0), node.findFirstToken());
+                assertSame(tokens.isEmpty() ? null : tokens.get(tokens.size()-1), node.findLastToken());
+                traverseChildren(node);
+            }
+        });
+    }
+
+    private List<Token> tokensIn(IASTNode node)
+    {
+        final List<Token> result = new ArrayList<Token>();
+        node.accept(new GenericASTVisitor()
+        {
+            @Override public void visitToken(Token token)
+            {
+                result.add(token);
+            }
+        });
+        return result;
+    }
+}
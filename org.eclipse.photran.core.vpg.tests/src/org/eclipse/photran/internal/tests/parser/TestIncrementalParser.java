@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.parser;
+
+import java.io.StringReader;
+
+import org.eclipse.photran.internal.core.SyntaxException;
+import org.eclipse.photran.internal.core.lexer.ASTLexerFactory;
+import org.eclipse.photran.internal.core.lexer.IAccumulatingLexer;
+import org.eclipse.photran.internal.core.lexer.Token;
+import org.eclipse.photran.internal.core.lexer.TokenList;
+import org.eclipse.photran.internal.core.lexer.sourceform.UnpreprocessedFreeSourceForm;
+import org.eclipse.photran.internal.core.parser.ASTExecutableProgramNode;
+import org.eclipse.photran.internal.core.parser.GenericASTVisitor;
+import org.eclipse.photran.internal.core.parser.IASTNode;
+import org.eclipse.photran.internal.core.parser.IncrementalParser;
+import org.eclipse.photran.internal.core.parser.Parser;
+import org.eclipse.photran.internal.tests.PhotranTestCase;
+
+/**
+ * Unit tests for {@link IncrementalParser}.  After each edit, the AST and tokens must be identical
+ * (including positions) to those produced by parsing the entire text.
+ */
+public class TestIncrementalParser extends PhotranTestCase
+{
+    private static final String PROGRAM =
+        "! Leading comment\n" +
+        "module m\n" +
+        "  integer :: x\n" +
+        "contains\n" +
+        "  subroutine s1\n" +
+        "    x = 1\n" +
+        "  end subroutine s1\n" +
+        "\n" +
+        "  ! Comment before s2\n" +
+        "  subroutine s2\n" +
+        "    x = 2\n" +
+        "  contains\n" +
+        "    subroutine inner\n" +
+        "      print *, x\n" +
+        "    end subroutine inner\n" +
+        "  end subroutine s2\n" +
+        "end module m\n" +
+        "\n" +
+        "program p\n" +
+        "  use m\n" +
+        "  call s1\n" +
+        "end program p\n" +
+        "! Trailing comment\n";
+
+    private IncrementalParser parser;
+    private String text;
+
+    @Override protected void setUp() throws Exception
+    {
+        super.setUp();
+        parser = new IncrementalParser();
+        text = PROGRAM;
+        check();
+        assertEquals(1, parser.getFullParseCount());
+    }
+
+    public void testEditInsideModuleSubprogram() throws Exception
+    {
+        edit("    x = 1\n", "    x = 1 + 2\n    x = x * 3\n");
+        edit("  end subroutine s1\n", "  end subroutine s1\n\n  function f()\n    f = 1\n  end function f\n");
+        assertEquals(1, parser.getFullParseCount());
+        assertEquals(2, parser.getIncrementalParseCount());
+    }
+
+    public void testEditInsideInternalSubprogram() throws Exception
+    {
+        edit("      print *, x\n", "      print *, x, x\n");
+        assertEquals(1, parser.getFullParseCount());
+        assertEquals(1, parser.getIncrementalParseCount());
+    }
+
+    public void testEditsInComments() throws Exception
+    {
+        edit("! Leading comment\n", "! Leading\n! comment\n");
+        edit("  ! Comment before s2\n", "");
+        edit("! Trailing comment\n", "! Trailing\n! comment\n");
+        assertEquals(1, parser.getFullParseCount());
+        assertEquals(3, parser.getIncrementalParseCount());
+    }
+
+    public void testEditsSpanningProgramUnits() throws Exception
+    {
+        edit("end module m\n\nprogram p\n", "end module m\n\nsubroutine t\nend subroutine t\n\nprogram p\n");
+        assertEquals(1, parser.getFullParseCount());
+        assertEquals(1, parser.getIncrementalParseCount());
+    }
+
+    public void testStructuralEditsFallBackToFullParse() throws Exception
+    {
+        // Adding a CONTAINS statement to a module subprogram is fine...
+        edit("    x = 1\n", "    x = 1\n  contains\n    subroutine inner1\n    end subroutine inner1\n");
+        assertEquals(1, parser.getIncrementalParseCount());
+
+        // ...but an internal subprogram cannot contain one, so this requires a full parse
+        edit("      print *, x\n", "      print *, x\n    contains\n      subroutine innermost\n      end subroutine innermost\n");
+        assertEquals(2, parser.getFullParseCount());
+    }
+
+    public void testSyntaxError() throws Exception
+    {
+        String original = text;
+        text = text.replace("  end subroutine s1\n", "");
+        try
+        {
+            parser.parse(text, null, "<stdin>", new UnpreprocessedFreeSourceForm());
+            fail();
+        }
+        catch (SyntaxException e)
+        {
+            // Expected
+        }
+
+        // The next edit is compared with the last text that parsed successfully
+        text = original;
+        edit("    x = 2\n", "    x = 22\n");
+        assertEquals(1, parser.getIncrementalParseCount());
+    }
+
+    private void edit(String oldSubstring, String newSubstring) throws Exception
+    {
+        int index = text.indexOf(oldSubstring);
+        assertTrue(index >= 0);
+        text = text.substring(0, index) + newSubstring + text.substring(index + oldSubstring.length());
+        check();
+    }
+
+    private void check() throws Exception
+    {
+        ASTExecutableProgramNode ast = parser.parse(text, null, "<stdin>", new UnpreprocessedFreeSourceForm());
+
+        IAccumulatingLexer lexer = new ASTLexerFactory().createLexer(new StringReader(text), null, "<stdin>", new UnpreprocessedFreeSourceForm());
+        ASTExecutableProgramNode expected = new Parser().parse(lexer);
+
+        assertEquals(describe(expected), describe(ast));
+        assertEquals(describe(lexer.getTokenList()), describe(parser.getTokenList()));
+        assertEquals(text, ast.toString());
+    }
+
+    private static String describe(IASTNode ast)
+    {
+        final StringBuilder sb = new StringBuilder();
+        ast.accept(new GenericASTVisitor()
+        {
+            @Override public void visitASTNode(IASTNode node)
+            {
+                sb.append(node.getClass().getSimpleName());
+                sb.append('(');
+                traverseChildren(node);
+                sb.append(')');
+            }
+
+            @Override public void visitToken(Token token)
+            {
+                describe(token, sb);
+            }
+        });
+        return sb.toString();
+    }
+
+    private static String describe(TokenList tokens)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (Token token : tokens)
+            describe(token, sb);
+        return sb.toString();
+    }
+
+    private static void describe(Token token, StringBuilder sb)
+    {
+        sb.append(token.getTerminal());
+        sb.append(" \"");
+        sb.append(token.getText());
+        sb.append("\" offset=");
+        sb.append(token.getStreamOffset());
+        sb.append(" line=");
+        sb.append(token.getLine());
+        sb.append(" col=");
+        sb.append(token.getCol());
+        sb.append('\n');
+    }
+}
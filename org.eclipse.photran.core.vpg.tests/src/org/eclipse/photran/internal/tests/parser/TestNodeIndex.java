@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.parser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.eclipse.photran.internal.core.analysis.binding.ScopingNode;
+import org.eclipse.photran.internal.core.lexer.Token;
+import org.eclipse.photran.internal.core.parser.ASTAssignmentStmtNode;
+import org.eclipse.photran.internal.core.parser.ASTCallStmtNode;
+import org.eclipse.photran.internal.core.parser.ASTExecutableProgramNode;
+import org.eclipse.photran.internal.core.parser.ASTSubroutineSubprogramNode;
+import org.eclipse.photran.internal.core.parser.GenericASTVisitor;
+import org.eclipse.photran.internal.core.parser.IASTNode;
+import org.eclipse.photran.internal.core.parser.IActionStmt;
+import org.eclipse.photran.internal.tests.PhotranTestCase;
+
+/**
+ * Unit tests for {@link IASTNode#findAll(Class)}, {@link IASTNode#findFirst(Class)}, and
+ * {@link IASTNode#findLast(Class)}, which use an index of the nodes in the AST once a search has
+ * been performed from its root.
+ */
+public class TestNodeIndex extends PhotranTestCase
+{
+    private static final String PROGRAM =
+        "program p\n" +
+        "  x = 1\n" +
+        "  call s(x)\n" +
+        "contains\n" +
+        "  subroutine s(y)\n" +
+        "    y = 2\n" +
+        "    call t\n" +
+        "    y = 3\n" +
+        "  end subroutine\n" +
+        "end program p\n" +
+        "subroutine t\n" +
+        "  z = 4\n" +
+        "end subroutine\n";
+
+    @SuppressWarnings("unchecked")
+    private static final Class<? extends IASTNode>[] CLASSES = new Class[] {
+        ASTAssignmentStmtNode.class, ASTCallStmtNode.class, IActionStmt.class,
+        ScopingNode.class, ASTSubroutineSubprogramNode.class, IASTNode.class };
+
+    public void testNodeIndex() throws Exception
+    {
+        ASTExecutableProgramNode ast = parse(PROGRAM);
+        assertEquals(4, ast.findAll(ASTAssignmentStmtNode.class).size()); // Builds the index
+        assertSearchesCorrect(ast);
+
+        ASTSubroutineSubprogramNode s = ast.findFirst(ASTSubroutineSubprogramNode.class);
+        assertEquals("s", s.getName());
+        assertEquals("t", ast.findLast(ASTSubroutineSubprogramNode.class).getName());
+        assertEquals(2, s.findAll(ASTAssignmentStmtNode.class).size());
+        assertEquals("3", s.findLast(ASTAssignmentStmtNode.class).getRhs().toString().trim());
+
+        s.getBody().remove(s.findLast(ASTAssignmentStmtNode.class));
+        assertEquals(1, s.findAll(ASTAssignmentStmtNode.class).size());
+        assertEquals(3, ast.findAll(ASTAssignmentStmtNode.class).size());
+        assertSearchesCorrect(ast);
+    }
+
+    public void testSuccessiveChanges() throws Exception
+    {
+        ASTExecutableProgramNode ast = parse(PROGRAM);
+        assertEquals(4, ast.findAll(ASTAssignmentStmtNode.class).size()); // Builds the index
+
+        // Invalidation stops at the first node with no cached tokens, so the second removal does
+        // not reach the root; the index must already have been discarded by the first
+        ASTSubroutineSubprogramNode s = ast.findFirst(ASTSubroutineSubprogramNode.class);
+        ASTSubroutineSubprogramNode t = ast.findLast(ASTSubroutineSubprogramNode.class);
+        s.getBody().remove(s.findFirst(ASTAssignmentStmtNode.class));
+        t.getBody().remove(t.findFirst(ASTAssignmentStmtNode.class));
+        assertEquals(2, ast.findAll(ASTAssignmentStmtNode.class).size());
+        assertSearchesCorrect(ast);
+
+        s.getBody().remove(s.findFirst(ASTAssignmentStmtNode.class));
+        assertEquals(1, ast.findAll(ASTAssignmentStmtNode.class).size());
+        assertSearchesCorrect(ast);
+    }
+
+    private void assertSearchesCorrect(final ASTExecutableProgramNode ast)
+    {
+        ast.accept(new GenericASTVisitor()
+        {
+            @Override public void visitASTNode(IASTNode node)
+            {
+                for (Class<? extends IASTNode> clazz : CLASSES)
+                {
+                    List<IASTNode> expected = nodesIn(node, clazz);
+                    assertEquals(new HashSet<IASTNode>(expected), node.findAll(clazz));
+                    assertSame(expected.isEmpty() ? null : expected.get(0), node.findFirst(clazz));
+                    assertSame(expected.isEmpty() ? null : expected.get(expected.size()-1), node.findLast(clazz));
+                }
+                traverseChildren(node);
+            }
+        });
+    }
+
+    private List<IASTNode> nodesIn(IASTNode node, final Class<? extends IASTNode> clazz)
+    {
+        final List<IASTNode> result = new ArrayList<IASTNode>();
+        node.accept(new GenericASTVisitor()
+        {
+            @Override public void visitASTNode(IASTNode node)
+            {
+                if (clazz.isInstance(node)) result.add(node);
+                traverseChildren(node);
+            }
+
+            @Override public void visitToken(Token token)
+            {
+                if (clazz.isInstance(token)) result.add(token);
+            }
+        });
+        return result;
+    }
+}
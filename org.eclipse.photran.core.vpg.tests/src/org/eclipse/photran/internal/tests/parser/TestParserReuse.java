@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.parser;
+
+import java.io.StringReader;
+
+import junit.framework.TestCase;
+
+import org.eclipse.photran.internal.core.SyntaxException;
+import org.eclipse.photran.internal.core.lexer.ASTLexerFactory;
+import org.eclipse.photran.internal.core.lexer.IAccumulatingLexer;
+import org.eclipse.photran.internal.core.lexer.sourceform.UnpreprocessedFreeSourceForm;
+import org.eclipse.photran.internal.core.parser.ASTExecutableProgramNode;
+import org.eclipse.photran.internal.core.parser.ASTMainProgramNode;
+import org.eclipse.photran.internal.core.parser.ASTModuleNode;
+import org.eclipse.photran.internal.core.parser.Parser;
+
+/**
+ * Tests that a {@link Parser} produces the same results when it is reused, including after a
+ * syntax error, and that {@link Parser#getThreadLocalParser()} returns one parser per thread.
+ */
+public class TestParserReuse extends TestCase
+{
+    private static final String PROGRAM = "program p\n  x = 1\n  print *, x\nend program p\n";
+    private static final String MODULE = "module m\n  integer :: y\ncontains\n  subroutine s\n  end subroutine\nend module m\n";
+    private static final String SYNTAX_ERROR = "program q\n  x = 1\n"; // No END statement
+
+    public void testReuse() throws Exception
+    {
+        Parser parser = new Parser();
+
+        ASTExecutableProgramNode ast = parser.parse(lexer(PROGRAM));
+        assertTrue(ast.getProgramUnitList().get(0) instanceof ASTMainProgramNode);
+        assertEquals(PROGRAM, ast.toString());
+
+        ast = parser.parse(lexer(MODULE));
+        assertEquals(1, ast.getProgramUnitList().size());
+        assertTrue(ast.getProgramUnitList().get(0) instanceof ASTModuleNode);
+        assertEquals(MODULE, ast.toString());
+
+        try
+        {
+            parser.parse(lexer(SYNTAX_ERROR));
+            fail();
+        }
+        catch (SyntaxException e)
+        {
+            // Expected
+        }
+
+        ast = parser.parse(lexer(PROGRAM));
+        assertEquals(1, ast.getProgramUnitList().size());
+        assertEquals(PROGRAM, ast.toString());
+        assertEquals(new Parser().parse(lexer(PROGRAM)).toString(), ast.toString());
+    }
+
+    public void testThreadLocalParser() throws Exception
+    {
+        final Parser parser = Parser.getThreadLocalParser();
+        assertSame(parser, Parser.getThreadLocalParser());
+        assertEquals(PROGRAM, parser.parse(lexer(PROGRAM)).toString());
+
+        final Parser[] otherParser = new Parser[1];
+        final String[] otherResult = new String[1];
+        Thread thread = new Thread()
+        {
+            @Override public void run()
+            {
+                try
+                {
+                    otherParser[0] = Parser.getThreadLocalParser();
+                    otherResult[0] = otherParser[0].parse(lexer(MODULE)).toString();
+                }
+                catch (Exception e)
+                {
+                    otherResult[0] = e.toString();
+                }
+            }
+        };
+        thread.start();
+        thread.join();
+
+        assertNotNull(otherParser[0]);
+        assertNotSame(parser, otherParser[0]);
+        assertEquals(MODULE, otherResult[0]);
+    }
+
+    private static IAccumulatingLexer lexer(String text) throws Exception
+    {
+        return new ASTLexerFactory().createLexer(new StringReader(text), null, "<stdin>", new UnpreprocessedFreeSourceForm());
+    }
+}
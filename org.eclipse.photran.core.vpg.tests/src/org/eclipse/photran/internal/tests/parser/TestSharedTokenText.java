@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.photran.internal.core.lexer.FileOrIFile;
+import org.eclipse.photran.internal.core.lexer.Terminal;
+import org.eclipse.photran.internal.core.lexer.Token;
+import org.eclipse.photran.internal.core.lexer.sourceform.UnpreprocessedFixedSourceForm;
+import org.eclipse.photran.internal.core.parser.ASTExecutableProgramNode;
+import org.eclipse.photran.internal.core.parser.GenericASTVisitor;
+import org.eclipse.photran.internal.tests.PhotranTestCase;
+
+/**
+ * Checks that the tokens produced by the lexers share their text and whitetext, and that
+ * the source code can still be reproduced exactly.
+ */
+public class TestSharedTokenText extends PhotranTestCase
+{
+    private static final String FREE_FORM =
+        "program p\n" +
+        "  integer :: x\n" +
+        "  x = 1\n" +
+        "  x = x + 1 ! Increment\n" +
+        "end program p\n";
+
+    private static final String FIXED_FORM =
+        "      program p\n" +
+        "      integer x\n" +
+        "      x = 1\n" +
+        "      x = x + 1\n" +
+        "      end\n";
+
+    public void testFreeForm() throws Exception
+    {
+        ASTExecutableProgramNode ast = parse(FREE_FORM);
+        checkShared(tokensIn(ast));
+        assertEquals(FREE_FORM, print(ast));
+    }
+
+    public void testFixedForm() throws Exception
+    {
+        ASTExecutableProgramNode ast = parse(FIXED_FORM, new UnpreprocessedFixedSourceForm());
+        checkShared(tokensIn(ast));
+        assertEquals(FIXED_FORM, print(ast));
+    }
+
+    private void checkShared(List<Token> tokens)
+    {
+        Map<String, String> strings = new HashMap<String, String>();
+        int xs = 0;
+        for (Token token : tokens)
+        {
+            checkShared(token.getText(), strings);
+            checkShared(token.getWhiteBefore(), strings);
+            if (token.getText().equals("x")) xs++;
+        }
+        assertEquals(4, xs);
+    }
+
+    private void checkShared(String string, Map<String, String> strings)
+    {
+        if (strings.containsKey(string))
+            assertSame(strings.get(string), string);
+        else
+            strings.put(string, string);
+    }
+
+    public void testFiles()
+    {
+        FileOrIFile file = new FileOrIFile((IFile)null);
+
+        Token a = new Token(Terminal.T_IDENT, "a");
+        Token b = new Token(Terminal.T_IDENT, "b");
+        assertNull(a.getPhysicalFile());
+        assertNull(a.getLogicalFile());
+
+        a.setPhysicalFile(file);
+        b.setPhysicalFile(file);
+        assertSame(file, a.getPhysicalFile());
+        assertSame(file, b.getPhysicalFile());
+        assertNull(b.getLogicalFile());
+        assertEquals("", a.getTokenRef().getFilename());
+
+        Token copy = (Token)a.clone();
+        assertSame(file, copy.getPhysicalFile());
+        copy.setPhysicalFile(null);
+        assertNull(copy.getPhysicalFile());
+        assertSame(file, a.getPhysicalFile());
+    }
+
+    private List<Token> tokensIn(ASTExecutableProgramNode ast)
+    {
+        final List<Token> result = new ArrayList<Token>();
+        ast.accept(new GenericASTVisitor()
+        {
+            @Override public void visitToken(Token token)
+            {
+                result.add(token);
+            }
+        });
+        return result;
+    }
+
+    private String print(ASTExecutableProgramNode ast)
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ast.printOn(new PrintStream(out), null);
+        return out.toString();
+    }
+}
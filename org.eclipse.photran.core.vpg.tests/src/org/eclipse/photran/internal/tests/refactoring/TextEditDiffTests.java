@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.refactoring;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.photran.internal.core.vpg.refactoring.TextEditDiff;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+
+/**
+ * Tests for {@link TextEditDiff}.
+ */
+public class TextEditDiffTests extends TestCase
+{
+    public void testEqual() throws Exception
+    {
+        assertEquals(0, check("program p\nend program p\n", "program p\nend program p\n").getChildrenSize());
+        assertEquals(0, check("", "").getChildrenSize());
+    }
+
+    public void testRename() throws Exception
+    {
+        String oldText = "program p\n  integer :: x\n  x = 1\n  print *, x\nend program p\n";
+        String newText = "program p\n  integer :: count\n  count = 1\n  print *, count\nend program p\n";
+        MultiTextEdit edits = check(oldText, newText);
+        assertEquals(3, edits.getChildrenSize());
+        for (TextEdit edit : edits.getChildren())
+        {
+            assertEquals(1, edit.getLength());
+            assertEquals("count", ((ReplaceEdit)edit).getText());
+        }
+    }
+
+    public void testInsertAndDelete() throws Exception
+    {
+        check("a\nb\nc\n", "a\nc\nd\n");
+        check("a\nb\nc\n", "x\na\nb\nc");
+        check("a\r\nb\r\n", "a\r\nb\r\nc\r\n");
+        check("abc", "");
+        check("", "abc\ndef\n");
+    }
+
+    public void testLargeFile() throws Exception
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++)
+            sb.append("      x" + i + " = y + " + i + "\n");
+        String oldText = sb.toString();
+        String newText = oldText.replace("x123 = y", "x123 = z").replace("x9999 = y + 9999\n", "");
+        assertEquals(2, check(oldText, newText).getChildrenSize());
+    }
+
+    private MultiTextEdit check(String oldText, String newText) throws Exception
+    {
+        MultiTextEdit edits = TextEditDiff.computeEdits(oldText, newText);
+        Document document = new Document(oldText);
+        edits.copy().apply(document);
+        assertEquals(newText, document.get());
+        return edits;
+    }
+}
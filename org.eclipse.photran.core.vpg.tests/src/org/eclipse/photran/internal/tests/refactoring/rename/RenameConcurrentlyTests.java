@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.refactoring.rename;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jface.text.TextSelection;
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+import org.eclipse.photran.internal.core.preferences.FortranPreferences;
+import org.eclipse.photran.internal.core.refactoring.RenameRefactoring;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.tests.PhotranWorkspaceTestCase;
+
+/**
+ * Checks that a rename affecting many files produces the same result when the changes are
+ * computed on several worker threads.
+ */
+public class RenameConcurrentlyTests extends PhotranWorkspaceTestCase
+{
+    private static final int NUM_FILES = 12;
+
+    public void testSequential() throws Exception
+    {
+        renameUsingThreads(1);
+    }
+
+    public void testConcurrent() throws Exception
+    {
+        renameUsingThreads(4);
+    }
+
+    private void renameUsingThreads(int numThreads) throws Exception
+    {
+        int originalNumThreads = FortranPreferences.VPG_INDEXER_THREADS.getValue();
+        try
+        {
+            FortranPreferences.VPG_INDEXER_THREADS.setValue(numThreads);
+
+            PhotranVPG.getInstance().clearDatabase();
+            String module = "module m\n  integer :: counter\nend module m\n";
+            IFile moduleFile = importFile("m.f90", module);
+            for (int i = 0; i < NUM_FILES; i++)
+                importFile("s" + i + ".f90", subroutine(i, "counter"));
+            PhotranVPG.getInstance().ensureVPGIsUpToDate(new NullProgressMonitor());
+
+            NullProgressMonitor pm = new NullProgressMonitor();
+            RenameRefactoring refactoring = new RenameRefactoring();
+            refactoring.initialize(moduleFile, new TextSelection(module.indexOf("counter"), 0));
+            RefactoringStatus status = refactoring.checkInitialConditions(pm);
+            assertFalse(status.toString(), status.hasError());
+            refactoring.setNewNameForIdentifier("total");
+            status = refactoring.checkFinalConditions(pm);
+            assertFalse(status.toString(), status.hasError());
+
+            Change change = refactoring.createChange(pm);
+            assertTrue(change.isValid(pm).isOK());
+            change.perform(pm);
+            project.refreshLocal(IResource.DEPTH_INFINITE, new NullProgressMonitor());
+
+            assertEquals("module m\n  integer :: total\nend module m\n", readWorkspaceFile("m.f90"));
+            for (int i = 0; i < NUM_FILES; i++)
+                assertEquals(subroutine(i, "total"), readWorkspaceFile("s" + i + ".f90"));
+        }
+        finally
+        {
+            FortranPreferences.VPG_INDEXER_THREADS.setValue(originalNumThreads);
+        }
+    }
+
+    private static String subroutine(int i, String name)
+    {
+        return "subroutine s" + i + "\n"
+             + "  use m\n"
+             + "  " + name + " = " + name + " + " + i + "\n"
+             + "end subroutine s" + i + "\n";
+    }
+}
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.photran.core.IFortranAST;
+import org.eclipse.photran.internal.core.preferences.FortranPreferences;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.tests.PhotranWorkspaceTestCase;
+
+/**
+ * Tests for the VPG's AST cache.
+ * <p>
+ * The eviction tests set the cache size to its minimum (1 MB) and use files whose ASTs are
+ * estimated to be larger than that, so only the most recent two ASTs (the minimum number that
+ * {@link PhotranVPG} keeps) and the pinned AST are retained.
+ */
+public class ASTCacheTests extends PhotranWorkspaceTestCase
+{
+    public void testCache() throws Exception
+    {
+        PhotranVPG vpg = PhotranVPG.getInstance();
+        String a = PhotranVPG.getFilenameForIFile(importFile("a.f90", "program a\nend program a\n"));
+        String b = PhotranVPG.getFilenameForIFile(importFile("b.f90", "program b\nend program b\n"));
+        vpg.ensureVPGIsUpToDate(new NullProgressMonitor());
+        vpg.releaseAllASTs();
+
+        IFortranAST astA = vpg.acquireTransientAST(a);
+        IFortranAST astB = vpg.acquireTransientAST(b);
+        assertNotNull(astA);
+        assertNotSame(astA, astB);
+        assertSame(astA, vpg.acquireTransientAST(a));
+        assertEquals(a, vpg.getFilenameCorrespondingTo(astA));
+        assertEquals(b, vpg.getFilenameCorrespondingTo(astB));
+
+        assertSame(astB, vpg.makeTransientASTPermanent(b));
+        assertEquals(b, vpg.getFilenameCorrespondingTo(astB));
+
+        vpg.releaseAST(a);
+        assertNull(vpg.getFilenameCorrespondingTo(astA));
+        assertNotSame(astA, vpg.acquireTransientAST(a));
+
+        vpg.releaseAllASTs();
+        assertNull(vpg.getFilenameCorrespondingTo(astB));
+    }
+
+    public void testStatistics() throws Exception
+    {
+        PhotranVPG vpg = PhotranVPG.getInstance();
+        String a = PhotranVPG.getFilenameForIFile(importFile("a.f90", "program a\nend program a\n"));
+        vpg.ensureVPGIsUpToDate(new NullProgressMonitor());
+        vpg.releaseAllASTs();
+        vpg.resetDatabaseStatistics();
+
+        vpg.setPinnedAST(a);
+        vpg.acquireTransientAST(a);
+        vpg.acquireTransientAST(a);
+        vpg.setPinnedAST(null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        vpg.printDatabaseStatisticsOn(new PrintStream(out));
+        String stats = out.toString();
+        assertTrue(stats.contains("Hits (recent ASTs):   1"));
+        assertTrue(stats.contains("Misses (parsed):      1"));
+    }
+
+    public void testSmallASTsFitInBudget() throws Exception
+    {
+        int originalSize = FortranPreferences.VPG_AST_CACHE_SIZE_MB.getValue();
+        try
+        {
+            FortranPreferences.VPG_AST_CACHE_SIZE_MB.setValue(1);
+
+            PhotranVPG vpg = PhotranVPG.getInstance();
+            String[] files = new String[4];
+            for (int i = 0; i < files.length; i++)
+                files[i] = PhotranVPG.getFilenameForIFile(importFile("small" + i + ".f90", "program small" + i + "\nend program\n"));
+            vpg.ensureVPGIsUpToDate(new NullProgressMonitor());
+            vpg.releaseAllASTs();
+            vpg.resetDatabaseStatistics();
+
+            for (String file : files)
+                vpg.acquireTransientAST(file);
+
+            // The budget is in bytes, so more than the minimum number of small ASTs are retained
+            assertStatistic("Recent ASTs:", files.length);
+            assertStatistic("Evictions:", 0);
+        }
+        finally
+        {
+            FortranPreferences.VPG_AST_CACHE_SIZE_MB.setValue(originalSize);
+        }
+    }
+
+    public void testEvictionAndSoftReferences() throws Exception
+    {
+        int originalSize = FortranPreferences.VPG_AST_CACHE_SIZE_MB.getValue();
+        try
+        {
+            FortranPreferences.VPG_AST_CACHE_SIZE_MB.setValue(1);
+
+            PhotranVPG vpg = PhotranVPG.getInstance();
+            String a = importLargeFile("a");
+            String b = importLargeFile("b");
+            String c = importLargeFile("c");
+            vpg.ensureVPGIsUpToDate(new NullProgressMonitor());
+            vpg.releaseAllASTs();
+            vpg.resetDatabaseStatistics();
+
+            IFortranAST astA = vpg.acquireTransientAST(a);
+            vpg.acquireTransientAST(b);
+            vpg.acquireTransientAST(c);
+
+            // Every AST exceeds the budget, but the two most recent are kept
+            assertStatistic("Recent ASTs:", 2);
+            assertStatistic("Evictions:", 1);
+            assertStatistic("Misses (parsed):", 3);
+
+            // The evicted AST is still referenced here, so it is reused from the soft tier
+            assertSame(astA, vpg.acquireTransientAST(a));
+            assertEquals(a, vpg.getFilenameCorrespondingTo(astA));
+            assertStatistic("Hits (soft refs):", 1);
+            assertStatistic("Misses (parsed):", 3);
+            assertStatistic("Recent ASTs:", 2);
+            assertStatistic("Evictions:", 2);
+        }
+        finally
+        {
+            FortranPreferences.VPG_AST_CACHE_SIZE_MB.setValue(originalSize);
+        }
+    }
+
+    public void testPinnedASTIsNotEvicted() throws Exception
+    {
+        int originalSize = FortranPreferences.VPG_AST_CACHE_SIZE_MB.getValue();
+        PhotranVPG vpg = PhotranVPG.getInstance();
+        try
+        {
+            FortranPreferences.VPG_AST_CACHE_SIZE_MB.setValue(1);
+
+            String a = importLargeFile("a");
+            String b = importLargeFile("b");
+            String c = importLargeFile("c");
+            String d = importLargeFile("d");
+            vpg.ensureVPGIsUpToDate(new NullProgressMonitor());
+            vpg.releaseAllASTs();
+            vpg.resetDatabaseStatistics();
+
+            vpg.setPinnedAST(a);
+            vpg.acquireTransientAST(a);
+            vpg.acquireTransientAST(b);
+            vpg.acquireTransientAST(c);
+            vpg.acquireTransientAST(d);
+            assertStatistic("Evictions:", 2);
+
+            // The pinned AST is still one of the recent ASTs, even though it is the least recently used
+            vpg.acquireTransientAST(a);
+            assertStatistic("Hits (recent ASTs):", 1);
+            assertStatistic("Hits (soft refs):", 0);
+        }
+        finally
+        {
+            vpg.setPinnedAST(null);
+            FortranPreferences.VPG_AST_CACHE_SIZE_MB.setValue(originalSize);
+        }
+    }
+
+    /** Imports a program whose AST is estimated to be larger than 1 MB */
+    private String importLargeFile(String name) throws Exception
+    {
+        StringBuilder program = new StringBuilder();
+        program.append("program " + name + "\n");
+        for (int i = 0; i < 1000; i++)
+            program.append("  x = x + 1\n");
+        program.append("end program " + name + "\n");
+        return PhotranVPG.getFilenameForIFile(importFile(name + ".f90", program.toString()));
+    }
+
+    /** Checks the value of the given statistic printed by {@link PhotranVPG#printDatabaseStatisticsOn(PrintStream)} */
+    private static void assertStatistic(String label, long expected)
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PhotranVPG.getInstance().printDatabaseStatisticsOn(new PrintStream(out));
+        for (String line : out.toString().split("\r?\n"))
+        {
+            line = line.trim();
+            if (line.startsWith(label))
+            {
+                String value = line.substring(label.length()).trim().split(" ")[0];
+                assertEquals(label, String.valueOf(expected), value);
+                return;
+            }
+        }
+        fail("No statistic " + label);
+    }
+}
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.PrintStream;
+
+import junit.framework.TestCase;
+
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+import org.eclipse.photran.internal.core.vpg.db.caching.CachingDB;
+import org.eclipse.photran.internal.core.vpg.db.ram.RAMDB;
+
+/**
+ * Checks that a {@link CachingDB} evicts the least recently used entries, stays within its memory
+ * budgets, and evicts only the entries which refer to a file when that file's entries are deleted.
+ * <p>
+ * Every token <i>i</i> in A.txt has an edge to token <i>i</i> in B.txt and an annotation, so all of
+ * the cached edge lists (and all of the cached annotations) have the same estimated size.
+ */
+@SuppressWarnings(value={"unchecked", "rawtypes"})
+public class CachingDBTests extends TestCase
+{
+    private static class MyRAMDB extends RAMDB
+    {
+        public MyRAMDB() throws IOException
+        {
+            super(null, createTempFile());
+        }
+
+        private static File createTempFile() throws IOException
+        {
+            File tempFile = File.createTempFile("rephraser", "cachingdb");
+            tempFile.deleteOnExit();
+            return tempFile;
+        }
+
+        @Override
+        public long getModificationStamp(String filename)
+        {
+            return 0L;
+        }
+
+        @Override protected Object readObject(ObjectInputStream in) throws IOException, ClassNotFoundException { return in.readObject(); }
+    }
+
+    private static final int NUM_TOKENS = 20;
+
+    private MyRAMDB ramdb;
+    private CachingDB db;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+
+        this.ramdb = new MyRAMDB();
+        for (int i = 0; i < NUM_TOKENS; i++)
+        {
+            ramdb.ensure(new VPGEdge(token("A.txt", i), token("B.txt", i), 0));
+            ramdb.setAnnotation(token("A.txt", i), 0, "annotation");
+        }
+    }
+
+    private TestTokenRef token(String filename, int offset)
+    {
+        return new TestTokenRef(ramdb, filename, offset, 1);
+    }
+
+    /** @return the estimated size of a cached edge list containing one edge */
+    private long edgeListSize()
+    {
+        CachingDB probe = new CachingDB(ramdb);
+        probe.getOutgoingEdgesFrom(token("A.txt", 0), 0);
+        return probe.getEdgeCacheSize();
+    }
+
+    /** @return the estimated size of a cached annotation */
+    private long annotationSize()
+    {
+        CachingDB probe = new CachingDB(ramdb);
+        probe.getAnnotation(token("A.txt", 0), 0);
+        return probe.getAnnotationCacheSize();
+    }
+
+    private String statistics()
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        db.printStatisticsOn(new PrintStream(out));
+        return out.toString();
+    }
+
+    private void assertEdgeHits(int hits, int total)
+    {
+        String stats = statistics();
+        assertTrue(stats, stats.contains("Edge Cache Hit Ratio:        " + hits + "/" + total + " ("));
+    }
+
+    private void assertAnnotationHits(int hits, int total)
+    {
+        String stats = statistics();
+        assertTrue(stats, stats.contains("Annotation Cache Hit Ratio: " + hits + "/" + total + " ("));
+    }
+
+    public void testLeastRecentlyUsedEntriesAreEvicted()
+    {
+        // Room for two outgoing edge lists (half of the edge budget) and two annotations
+        long edgeListSize = edgeListSize(), annotationSize = annotationSize();
+        db = new CachingDB(ramdb, 2 * (2 * edgeListSize + edgeListSize / 2), 2 * annotationSize + annotationSize / 2);
+
+        db.getOutgoingEdgesFrom(token("A.txt", 0), 0);
+        db.getOutgoingEdgesFrom(token("A.txt", 1), 0);
+        db.getOutgoingEdgesFrom(token("A.txt", 0), 0); // Hit; 1 is now the least recently used
+        db.getOutgoingEdgesFrom(token("A.txt", 2), 0); // Evicts 1
+        assertEdgeHits(1, 4);
+        db.getOutgoingEdgesFrom(token("A.txt", 0), 0);
+        assertEdgeHits(2, 5);
+        db.getOutgoingEdgesFrom(token("A.txt", 1), 0);
+        assertEdgeHits(2, 6);
+
+        db.getAnnotation(token("A.txt", 0), 0);
+        db.getAnnotation(token("A.txt", 1), 0);
+        db.getAnnotation(token("A.txt", 0), 0); // Hit; 1 is now the least recently used
+        db.getAnnotation(token("A.txt", 2), 0); // Evicts 1
+        assertAnnotationHits(1, 4);
+        db.getAnnotation(token("A.txt", 0), 0);
+        assertAnnotationHits(2, 5);
+        db.getAnnotation(token("A.txt", 1), 0);
+        assertAnnotationHits(2, 6);
+    }
+
+    public void testEstimatedSizeStaysWithinBudget()
+    {
+        // Room for three incoming and three outgoing edge lists and three annotations
+        long edgeListSize = edgeListSize(), annotationSize = annotationSize();
+        long maxEdgeCacheBytes = 7 * edgeListSize, maxAnnotationCacheBytes = 3 * annotationSize + annotationSize / 2;
+        db = new CachingDB(ramdb, maxEdgeCacheBytes, maxAnnotationCacheBytes);
+
+        for (int i = 0; i < NUM_TOKENS; i++)
+        {
+            assertEquals(1, count(db.getOutgoingEdgesFrom(token("A.txt", i), 0)));
+            assertEquals(1, count(db.getIncomingEdgesTo(token("B.txt", i), 0)));
+            assertEquals("annotation", db.getAnnotation(token("A.txt", i), 0));
+
+            assertTrue(db.getEdgeCacheSize() <= maxEdgeCacheBytes);
+            assertTrue(db.getAnnotationCacheSize() <= maxAnnotationCacheBytes);
+        }
+
+        assertEquals(6 * edgeListSize, db.getEdgeCacheSize());
+        assertEquals(3 * annotationSize, db.getAnnotationCacheSize());
+        String stats = statistics();
+        assertTrue(stats, stats.contains("3 entries, " + (NUM_TOKENS - 3) + " evicted"));
+    }
+
+    public void testDeleteAllEntriesForEvictsOnlyThatFile()
+    {
+        ramdb.ensure(new VPGEdge(token("B.txt", 100), token("C.txt", 100), 0));
+        ramdb.setAnnotation(token("B.txt", 100), 0, "annotation");
+        db = new CachingDB(ramdb);
+
+        db.getOutgoingEdgesFrom(token("A.txt", 0), 0);
+        db.getIncomingEdgesTo(token("B.txt", 0), 0);
+        db.getOutgoingEdgesFrom(token("B.txt", 100), 0);
+        db.getIncomingEdgesTo(token("C.txt", 100), 0);
+        db.getAnnotation(token("A.txt", 0), 0);
+        db.getAnnotation(token("B.txt", 100), 0);
+        assertEdgeHits(0, 4);
+        assertAnnotationHits(0, 2);
+
+        db.deleteAllEntriesFor("A.txt");
+
+        // The edge lists whose source or sink is in A.txt are evicted; the others are still cached
+        assertEquals(0, count(db.getOutgoingEdgesFrom(token("A.txt", 0), 0)));
+        assertEdgeHits(0, 5);
+        db.getIncomingEdgesTo(token("B.txt", 0), 0);
+        assertEdgeHits(0, 6);
+        assertEquals(1, count(db.getOutgoingEdgesFrom(token("B.txt", 100), 0)));
+        assertEquals(1, count(db.getIncomingEdgesTo(token("C.txt", 100), 0)));
+        assertEdgeHits(2, 8);
+
+        assertNull(db.getAnnotation(token("A.txt", 0), 0));
+        assertAnnotationHits(0, 3);
+        assertEquals("annotation", db.getAnnotation(token("B.txt", 100), 0));
+        assertAnnotationHits(1, 4);
+    }
+
+    private static int count(Iterable<?> iterable)
+    {
+        int result = 0;
+        for (Object o : iterable)
+            result++;
+        return result;
+    }
+}
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+import junit.framework.TestCase;
+
+import org.eclipse.photran.internal.core.vpg.IVPGComponentFactory;
+import org.eclipse.photran.internal.core.vpg.VPGDB;
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+import org.eclipse.photran.internal.core.vpg.VPGLog;
+import org.eclipse.photran.internal.core.vpg.VPGWriter;
+import org.eclipse.photran.internal.core.vpg.db.columnar.ColumnarEdgeDB;
+import org.eclipse.photran.internal.core.vpg.db.hypothetical.HypotheticalDB;
+import org.eclipse.photran.internal.core.vpg.db.ram.RAMDB;
+
+/**
+ * Checks that a {@link ColumnarEdgeDB} stores, deletes, and persists edges.
+ */
+@SuppressWarnings(value={"unchecked", "rawtypes"})
+public class ColumnarEdgeDBTests extends TestCase
+{
+    private static class MyRAMDB extends RAMDB
+    {
+        public MyRAMDB(IVPGComponentFactory factory, File file)
+        {
+            super(factory, file);
+        }
+
+        @Override
+        public long getModificationStamp(String filename)
+        {
+            return 0L;
+        }
+
+        @Override protected Object readObject(ObjectInputStream in) throws IOException, ClassNotFoundException { return in.readObject(); }
+    }
+
+    private class MyFactory implements IVPGComponentFactory
+    {
+        public VPGLog createLog() { throw new UnsupportedOperationException(); }
+        public VPGDB createDatabase(VPGLog log) { throw new UnsupportedOperationException(); }
+        public VPGWriter createVPGWriter(VPGDB db, VPGLog log) { throw new UnsupportedOperationException(); }
+        public Object getVPGNode(String filename, int offset, int length) { return new TestTokenRef(db, filename, offset, length); }
+    }
+
+    private File ramFile;
+    private File directory;
+    private ColumnarEdgeDB db;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+
+        this.ramFile = File.createTempFile("rephraser", "columnardb");
+        this.ramFile.deleteOnExit();
+        this.directory = new File(ramFile.getPath() + ".edges");
+        this.db = open();
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        File[] files = directory.listFiles();
+        if (files != null)
+            for (File file : files)
+                file.delete();
+        directory.delete();
+
+        super.tearDown();
+    }
+
+    private ColumnarEdgeDB open()
+    {
+        return new ColumnarEdgeDB(new MyRAMDB(new MyFactory(), ramFile), directory, null);
+    }
+
+    private TestTokenRef token(String filename, int offset)
+    {
+        return new TestTokenRef(db, filename, offset, 1);
+    }
+
+    private static String str(Iterable<?> iterable)
+    {
+        TreeSet result = new TreeSet();
+        for (Object o : iterable)
+            result.add(o);
+        return result.toString();
+    }
+
+    private static List toList(Iterable<?> iterable)
+    {
+        List result = new ArrayList();
+        for (Object o : iterable)
+            result.add(o);
+        return result;
+    }
+
+    public void testEdges()
+    {
+        VPGEdge e1 = new VPGEdge(token("A.txt", 1), token("B.txt", 1), 0);
+        VPGEdge e2 = new VPGEdge(token("A.txt", 1), token("A.txt", 5), 1);
+        VPGEdge e3 = new VPGEdge(token("C.txt", 2), token("A.txt", 1), 0);
+        db.ensure(e1);
+        db.ensure(e2);
+        db.ensure(e3);
+        db.ensure(e1);
+
+        assertEquals("[" + e1 + ", " + e2 + "]", str(db.getOutgoingEdgesFrom(token("A.txt", 1), VPGDB.ALL_EDGES)));
+        assertEquals("[" + e2 + "]", str(db.getOutgoingEdgesFrom(token("A.txt", 1), 1)));
+        assertEquals("[" + e3 + "]", str(db.getIncomingEdgesTo(token("A.txt", 1), VPGDB.ALL_EDGES)));
+        assertEquals("[]", str(db.getIncomingEdgesTo(token("A.txt", 1), 1)));
+        assertEquals(1, toList(db.getIncomingEdgesTo(token("B.txt", 1), 0)).size());
+
+        db.delete(e1);
+        db.delete(e1);
+        assertEquals("[" + e2 + "]", str(db.getOutgoingEdgesFrom(token("A.txt", 1), VPGDB.ALL_EDGES)));
+        assertEquals("[]", str(db.getAllEdgesFor("B.txt")));
+    }
+
+    public void testDeleteAllEdgesFor()
+    {
+        VPGEdge e1 = new VPGEdge(token("A.txt", 1), token("B.txt", 1), 0);
+        VPGEdge e2 = new VPGEdge(token("B.txt", 2), token("C.txt", 2), 0);
+        VPGEdge e3 = new VPGEdge(token("C.txt", 3), token("A.txt", 3), 0);
+        db.ensure(e1);
+        db.ensure(e2);
+        db.ensure(e3);
+
+        db.deleteAllEdgesAndAnnotationsFor("A.txt");
+        assertEquals("[]", str(db.getIncomingEdgesTo(token("B.txt", 1), VPGDB.ALL_EDGES)));
+        assertEquals("[]", str(db.getOutgoingEdgesFrom(token("C.txt", 3), VPGDB.ALL_EDGES)));
+        assertEquals("[" + e2 + "]", str(db.getAllEdgesFor("B.txt")));
+        assertEquals("[" + e2 + "]", str(db.getAllEdgesFor("C.txt")));
+    }
+
+    public void testBatch()
+    {
+        VPGEdge e1 = new VPGEdge(token("A.txt", 1), token("B.txt", 1), 0);
+        VPGEdge e2 = new VPGEdge(token("A.txt", 9), token("B.txt", 5), 1);
+        VPGEdge e3 = new VPGEdge(token("C.txt", 2), token("A.txt", 1), 0);
+        db.ensure(e1);
+
+        db.beginBatch("A.txt");
+        db.ensure(e3);
+        db.ensure(e2);
+        db.ensure(e1);
+        assertEquals("[" + e1 + "]", str(db.getOutgoingEdgesFrom(token("A.txt", 1), VPGDB.ALL_EDGES)));
+        db.ensure(e2);
+        db.commitBatch("A.txt");
+
+        assertEquals(3, toList(db.getAllEdgesFor("A.txt")).size());
+        assertEquals("[" + e2 + "]", str(db.getOutgoingEdgesFrom(token("A.txt", 9), VPGDB.ALL_EDGES)));
+        assertEquals("[" + e3 + "]", str(db.getIncomingEdgesTo(token("A.txt", 1), VPGDB.ALL_EDGES)));
+        assertEquals("[" + e3 + "]", str(db.getAllEdgesFor("C.txt")));
+    }
+
+    public void testPersistence() throws IOException
+    {
+        VPGEdge e1 = new VPGEdge(token("A.txt", 1), token("B.txt", 1), 0);
+        VPGEdge e2 = new VPGEdge(token("B.txt", 2), token("C.txt", 2), 3);
+        db.ensure(e1);
+        db.ensure(e2);
+        db.close();
+
+        db = open();
+        assertEquals("[" + e1 + "]", str(db.getOutgoingEdgesFrom(token("A.txt", 1), VPGDB.ALL_EDGES)));
+        assertEquals("[" + e2 + "]", str(db.getIncomingEdgesTo(token("C.txt", 2), 3)));
+
+        // Modifying a mapped table
+        VPGEdge e3 = new VPGEdge(token("A.txt", 1), token("B.txt", 7), 0);
+        db.ensure(e3);
+        assertEquals("[" + e1 + ", " + e3 + "]", str(db.getOutgoingEdgesFrom(token("A.txt", 1), VPGDB.ALL_EDGES)));
+
+        // Changes made in hypothetical mode (by a HypotheticalDB, as in PhotranVPGDB1) are discarded
+        HypotheticalDB hypotheticalDB = new HypotheticalDB(db);
+        hypotheticalDB.enterHypotheticalMode();
+        hypotheticalDB.deleteAllEdgesAndAnnotationsFor("B.txt");
+        assertEquals("[]", str(hypotheticalDB.getAllEdgesFor("A.txt")));
+        hypotheticalDB.leaveHypotheticalMode();
+        assertEquals("[" + e1 + ", " + e3 + "]", str(db.getOutgoingEdgesFrom(token("A.txt", 1), VPGDB.ALL_EDGES)));
+    }
+
+    public void testHypotheticalMode() throws IOException
+    {
+        VPGEdge e1 = new VPGEdge(token("A.txt", 1), token("B.txt", 1), 0);
+        VPGEdge e2 = new VPGEdge(token("B.txt", 2), token("C.txt", 2), 0);
+        db.ensure(e1);
+        db.ensure(e2);
+        db.flush();
+
+        db.enterHypotheticalMode();
+        assertTrue(db.isInHypotheticalMode());
+        VPGEdge e3 = new VPGEdge(token("D.txt", 1), token("A.txt", 1), 0);
+        db.ensure(e3);
+        db.delete(e1);
+        db.deleteAllEntriesFor("C.txt");
+        db.flush();
+        assertEquals("[" + e3 + "]", str(db.getAllEdgesFor("A.txt")));
+        assertEquals("[]", str(db.getAllEdgesFor("B.txt")));
+        db.leaveHypotheticalMode();
+
+        assertFalse(db.isInHypotheticalMode());
+        assertEquals("[" + e1 + "]", str(db.getAllEdgesFor("A.txt")));
+        assertEquals(str(Arrays.asList(e1, e2)), str(db.getAllEdgesFor("B.txt")));
+        assertEquals("[]", str(db.getAllEdgesFor("D.txt")));
+
+        // Nothing was written to disk in hypothetical mode
+        db.close();
+        db = open();
+        assertEquals("[" + e1 + "]", str(db.getAllEdgesFor("A.txt")));
+        assertEquals("[" + e2 + "]", str(db.getAllEdgesFor("C.txt")));
+        assertEquals("[]", str(db.getAllEdgesFor("D.txt")));
+    }
+
+    public void testFileIDsAreReused() throws IOException
+    {
+        VPGEdge e1 = new VPGEdge(token("A.txt", 1), token("B.txt", 1), 0);
+        VPGEdge e2 = new VPGEdge(token("B.txt", 2), token("C.txt", 2), 0);
+        db.ensure(e1);
+        db.ensure(e2);
+        db.flush();
+        assertEquals("[0, 1, 2]", segmentIDs().toString());
+
+        db.deleteAllEntriesFor("A.txt");
+        db.flush();
+        assertEquals("[1, 2]", segmentIDs().toString());
+
+        // D.txt is given A.txt's ID
+        VPGEdge e3 = new VPGEdge(token("D.txt", 1), token("B.txt", 1), 0);
+        db.ensure(e3);
+        db.close();
+        assertEquals("[0, 1, 2]", segmentIDs().toString());
+
+        db = open();
+        assertEquals("[]", str(db.getAllEdgesFor("A.txt")));
+        assertEquals("[" + e3 + "]", str(db.getAllEdgesFor("D.txt")));
+        assertEquals(str(Arrays.asList(e2, e3)), str(db.getAllEdgesFor("B.txt")));
+    }
+
+    public void testClearDatabase() throws IOException
+    {
+        VPGEdge e1 = new VPGEdge(token("A.txt", 1), token("B.txt", 1), 0);
+        db.ensure(e1);
+        db.flush();
+        assertTrue(countSegments() > 0);
+
+        // Maps the segments, which must be released before they can be deleted
+        assertEquals("[" + e1 + "]", str(db.getAllEdgesFor("A.txt")));
+
+        db.clearDatabase();
+        assertEquals(0, countSegments());
+        assertEquals("[]", str(db.getAllEdgesFor("A.txt")));
+        assertFalse(db.isInHypotheticalMode());
+    }
+
+    /** @return the file IDs of the segments in the directory */
+    private TreeSet<String> segmentIDs()
+    {
+        TreeSet<String> result = new TreeSet<String>();
+        for (File file : directory.listFiles())
+            if (file.getName().endsWith(".edges"))
+                result.add(file.getName().substring(0, file.getName().indexOf('.')));
+        return result;
+    }
+
+    private int countSegments()
+    {
+        int result = 0;
+        for (File file : directory.listFiles())
+            if (file.getName().endsWith(".edges"))
+                result++;
+        return result;
+    }
+}
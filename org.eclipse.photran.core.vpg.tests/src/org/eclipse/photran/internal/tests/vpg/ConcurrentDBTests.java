@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.eclipse.photran.internal.core.vpg.VPGDB;
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+import org.eclipse.photran.internal.core.vpg.db.concurrent.ConcurrentDB;
+import org.eclipse.photran.internal.core.vpg.db.ram.RAMDB;
+
+/**
+ * Checks that a {@link ConcurrentDB} returns results which are not affected by later updates, and
+ * that its write lock excludes readers.
+ */
+@SuppressWarnings(value={"unchecked", "rawtypes"})
+public class ConcurrentDBTests extends TestCase
+{
+    private static class MyRAMDB extends RAMDB
+    {
+        public MyRAMDB() throws IOException
+        {
+            super(null, createTempFile());
+        }
+
+        private static File createTempFile() throws IOException
+        {
+            File tempFile = File.createTempFile("rephraser", "concurrentdb");
+            tempFile.deleteOnExit();
+            return tempFile;
+        }
+
+        @Override
+        public long getModificationStamp(String filename)
+        {
+            return 0L;
+        }
+
+        @Override protected Object readObject(ObjectInputStream in) throws IOException, ClassNotFoundException { return in.readObject(); }
+    }
+
+    private ConcurrentDB db;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+
+        this.db = new ConcurrentDB(new MyRAMDB());
+    }
+
+    private TestTokenRef token(String filename, int offset)
+    {
+        return new TestTokenRef(db, filename, offset, 1);
+    }
+
+    private static List toList(Iterable<?> iterable)
+    {
+        List result = new ArrayList();
+        for (Object o : iterable)
+            result.add(o);
+        return result;
+    }
+
+    public void testResultsAreCopied()
+    {
+        VPGEdge e1 = new VPGEdge(token("A.txt", 1), token("B.txt", 1), 0);
+        VPGEdge e2 = new VPGEdge(token("A.txt", 1), token("B.txt", 2), 0);
+        db.ensure(e1);
+
+        Iterable edges = db.getOutgoingEdgesFrom(token("A.txt", 1), VPGDB.ALL_EDGES);
+        db.ensure(e2);
+        assertEquals(1, toList(edges).size());
+        assertEquals(2, toList(db.getOutgoingEdgesFrom(token("A.txt", 1), VPGDB.ALL_EDGES)).size());
+
+        Iterable annotations = db.getAllAnnotationsFor("A.txt");
+        db.setAnnotation(token("A.txt", 1), 0, "a1");
+        assertEquals(0, toList(annotations).size());
+    }
+
+    public void testWriteLockExcludesReaders() throws InterruptedException
+    {
+        db.setAnnotation(token("A.txt", 1), 0, "a1");
+
+        final Object[] result = new Object[1];
+        Thread reader = new Thread()
+        {
+            @Override public void run()
+            {
+                result[0] = db.getAnnotation(token("A.txt", 1), 0);
+            }
+        };
+
+        db.getLock().writeLock().lock();
+        try
+        {
+            reader.start();
+            reader.join(200);
+            assertTrue(reader.isAlive());
+            db.setAnnotation(token("A.txt", 1), 0, "a2");
+        }
+        finally
+        {
+            db.getLock().writeLock().unlock();
+        }
+
+        reader.join();
+        assertEquals("a2", result[0]);
+    }
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.photran.internal.core.analysis.binding.Definition;
+import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.tests.PhotranWorkspaceTestCase;
+
+/**
+ * Checks that declarations of external subprograms in INTERFACE blocks and EXTERNAL statements
+ * are recorded in the VPG when files are indexed.
+ */
+public class ExternalSubprogramDeclarationTests extends PhotranWorkspaceTestCase
+{
+    private static final String SUBROUTINE =
+        "subroutine swap(a, b)\n" +
+        "  integer :: a, b, t\n" +
+        "  t = a; a = b; b = t\n" +
+        "end subroutine swap\n";
+
+    private static final String INTERFACE =
+        "program p\n" +
+        "  interface\n" +
+        "    subroutine swap(a, b)\n" +
+        "      integer :: a, b\n" +
+        "    end subroutine swap\n" +
+        "  end interface\n" +
+        "  call swap(1, 2)\n" +
+        "end program p\n";
+
+    private static final String EXTERNAL =
+        "subroutine q(f)\n" +
+        "  external swap\n" +
+        "  external f\n" +
+        "  call swap(3, 4)\n" +
+        "end subroutine q\n";
+
+    public void testDeclarations() throws Exception
+    {
+        importFile("swap.f90", SUBROUTINE);
+        importFile("interface.f90", INTERFACE);
+        importFile("external.f90", EXTERNAL);
+        PhotranVPG vpg = PhotranVPG.getInstance();
+        vpg.ensureVPGIsUpToDate(new NullProgressMonitor());
+
+        List<Definition> interfaces = vpg.findAllDeclarationsInInterfacesForExternalSubprogram("swap");
+        assertEquals(1, interfaces.size());
+        assertTrue(interfaces.get(0).getTokenRef().getFilename().endsWith("interface.f90"));
+
+        List<Definition> externals = vpg.findAllDeclarationsInExternalStmts("swap");
+        assertEquals(1, externals.size());
+        assertTrue(externals.get(0).getTokenRef().getFilename().endsWith("external.f90"));
+
+        List<Definition> subprograms = vpg.findAllExternalSubprogramsNamed("swap");
+        assertEquals(1, subprograms.size());
+        Set<PhotranTokenRef> references = subprograms.get(0).findAllReferences(true);
+        assertTrue(references.contains(interfaces.get(0).getTokenRef()));
+        assertTrue(references.contains(externals.get(0).getTokenRef()));
+    }
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.util.TreeSet;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.photran.internal.core.analysis.binding.Binder;
+import org.eclipse.photran.internal.core.util.Pair;
+import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+import org.eclipse.photran.internal.tests.PhotranWorkspaceTestCase;
+
+/**
+ * Checks that binding a file with the fused binding engine produces the same edges and
+ * annotations as running each collector in a separate traversal.
+ *
+ * @see Binder#setFusedEngineEnabled(boolean)
+ */
+public class FusedBinderTests extends PhotranWorkspaceTestCase
+{
+    private static final String MODULE =
+        "module shapes\n" +
+        "  implicit none\n" +
+        "  private\n" +
+        "  public :: circle, area, pi\n" +
+        "  real, parameter :: pi = 3.14159\n" +
+        "  type circle\n" +
+        "    private\n" +
+        "    real :: radius\n" +
+        "  contains\n" +
+        "    procedure :: get_area => area\n" +
+        "  end type circle\n" +
+        "  interface\n" +
+        "    subroutine draw(c)\n" +
+        "      import circle\n" +
+        "      type(circle), intent(in) :: c\n" +
+        "    end subroutine draw\n" +
+        "  end interface\n" +
+        "contains\n" +
+        "  real function area(c)\n" +
+        "    class(circle), intent(in) :: c\n" +
+        "    area = pi * c%radius ** 2\n" +
+        "  end function area\n" +
+        "end module shapes\n";
+
+    private static final String PROGRAM =
+        "program p\n" +
+        "  use shapes\n" +
+        "  implicit integer (a-h)\n" +
+        "  dimension v(10)\n" +
+        "  real :: v\n" +
+        "  save v\n" +
+        "  external ext\n" +
+        "  common /block/ b, e\n" +
+        "  v = pi\n" +
+        "  b = f(2)\n" +
+        "  call ext(v)\n" +
+        "contains\n" +
+        "  integer function f(n)\n" +
+        "    implicit none\n" +
+        "    integer, intent(in) :: n\n" +
+        "    f = n * 2\n" +
+        "  end function f\n" +
+        "end program p\n" +
+        "subroutine ext(x)\n" +
+        "  dimension x(10)\n" +
+        "  x(1) = i\n" +
+        "end subroutine ext\n";
+
+    public void testSameBindings() throws Exception
+    {
+        IFile module = importFile("shapes.f90", MODULE);
+        IFile program = importFile("program.f90", PROGRAM);
+        PhotranVPG.getInstance().ensureVPGIsUpToDate(new NullProgressMonitor());
+
+        boolean wasEnabled = Binder.isFusedEngineEnabled();
+        try
+        {
+            for (IFile file : new IFile[] { module, program })
+            {
+                String filename = PhotranVPG.getFilenameForIFile(file);
+                assertEquals(bind(filename, false), bind(filename, true));
+            }
+        }
+        finally
+        {
+            Binder.setFusedEngineEnabled(wasEnabled);
+        }
+    }
+
+    private String bind(String filename, boolean useFusedEngine)
+    {
+        PhotranVPG vpg = PhotranVPG.getInstance();
+
+        Binder.setFusedEngineEnabled(useFusedEngine);
+        vpg.deleteAllEntriesFor(filename);
+        vpg.forceRecomputationOfEdgesAndAnnotations(filename);
+
+        TreeSet<String> result = new TreeSet<String>();
+        for (VPGEdge<?,?,?> edge : vpg.getAllEdgesFor(filename))
+            result.add(edge.toString());
+        for (Pair<PhotranTokenRef, Integer> pair : vpg.getAllAnnotationsFor(filename))
+            result.add(pair.fst + " " + vpg.describeAnnotationType(pair.snd) + ": " + pair.fst.getAnnotation(pair.snd));
+
+        StringBuilder sb = new StringBuilder();
+        for (String line : result)
+            sb.append(line).append('\n');
+        assertTrue(sb.length() > 0);
+        return sb.toString();
+    }
+}
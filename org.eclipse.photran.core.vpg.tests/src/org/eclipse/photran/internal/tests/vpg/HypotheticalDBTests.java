@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import junit.framework.TestCase;
+
+import org.eclipse.photran.internal.core.vpg.VPGDB;
+import org.eclipse.photran.internal.core.vpg.VPGDependency;
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+import org.eclipse.photran.internal.core.vpg.db.hypothetical.HypotheticalDB;
+import org.eclipse.photran.internal.core.vpg.db.ram.RAMDB;
+
+/**
+ * Checks that changes made to a {@link HypotheticalDB} in hypothetical mode are visible until
+ * hypothetical mode is exited, and that they never reach the wrapped database.
+ */
+@SuppressWarnings(value={"unchecked", "rawtypes"})
+public class HypotheticalDBTests extends TestCase
+{
+    private static class MyRAMDB extends RAMDB
+    {
+        public MyRAMDB() throws IOException
+        {
+            super(null, createTempFile());
+        }
+
+        private static File createTempFile() throws IOException
+        {
+            File tempFile = File.createTempFile("rephraser", "hypotheticaldb");
+            tempFile.deleteOnExit();
+            return tempFile;
+        }
+
+        @Override
+        public long getModificationStamp(String filename)
+        {
+            return 0L;
+        }
+
+        @Override protected Object readObject(ObjectInputStream in) throws IOException, ClassNotFoundException { return in.readObject(); }
+    }
+
+    private MyRAMDB base;
+    private HypotheticalDB db;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+
+        this.base = new MyRAMDB();
+        this.db = new HypotheticalDB(base);
+    }
+
+    private TestTokenRef token(String filename, int offset)
+    {
+        return new TestTokenRef(db, filename, offset, 1);
+    }
+
+    private static String str(Iterable<?> iterable)
+    {
+        return new TreeSet(toList(iterable)).toString();
+    }
+
+    private static List toList(Iterable<?> iterable)
+    {
+        List result = new ArrayList();
+        for (Object o : iterable)
+            result.add(o);
+        return result;
+    }
+
+    public void testDependencies() throws IOException
+    {
+        db.ensure(new VPGDependency("A.txt", "B.txt"));
+        db.ensure(new VPGDependency("C.txt", "B.txt"));
+
+        db.enterHypotheticalMode();
+        assertTrue(db.isInHypotheticalMode());
+
+        db.deleteAllOutgoingDependenciesFor("A.txt");
+        db.ensure(new VPGDependency("A.txt", "D.txt"));
+        db.delete(new VPGDependency("C.txt", "B.txt"));
+        assertEquals("[D.txt]", str(db.getOutgoingDependenciesFrom("A.txt")));
+        assertEquals("[]", str(db.getIncomingDependenciesTo("B.txt")));
+        assertEquals("[A.txt]", str(db.getIncomingDependenciesTo("D.txt")));
+        assertEquals("[D.txt]", str(db.listAllFilenamesWithDependents()));
+        assertEquals("[A.txt]", str(db.listAllDependentFilenames()));
+
+        // The wrapped database must not change
+        assertEquals("[B.txt]", str(base.getOutgoingDependenciesFrom("A.txt")));
+        assertEquals("[A.txt, C.txt]", str(base.getIncomingDependenciesTo("B.txt")));
+
+        db.leaveHypotheticalMode();
+        assertFalse(db.isInHypotheticalMode());
+        assertEquals("[B.txt]", str(db.getOutgoingDependenciesFrom("A.txt")));
+        assertEquals("[A.txt, C.txt]", str(db.getIncomingDependenciesTo("B.txt")));
+    }
+
+    public void testEdges() throws IOException
+    {
+        VPGEdge e1 = new VPGEdge(token("A.txt", 1), token("B.txt", 1), 0);
+        VPGEdge e2 = new VPGEdge(token("B.txt", 2), token("C.txt", 2), 0);
+        VPGEdge e3 = new VPGEdge(token("B.txt", 2), token("C.txt", 3), 1);
+        db.ensure(e1);
+        db.ensure(e2);
+
+        db.enterHypotheticalMode();
+
+        db.deleteAllEdgesAndAnnotationsFor("A.txt");
+        db.delete(e2);
+        db.ensure(e3);
+        assertEquals("[]", str(db.getIncomingEdgesTo(token("B.txt", 1), VPGDB.ALL_EDGES)));
+        assertEquals("[" + e3 + "]", str(db.getOutgoingEdgesFrom(token("B.txt", 2), VPGDB.ALL_EDGES)));
+        assertEquals("[]", str(db.getOutgoingEdgesFrom(token("B.txt", 2), 0)));
+        assertEquals("[" + e3 + "]", str(db.getAllEdgesFor("C.txt")));
+
+        // Re-adding an edge after its file was cleared makes it visible again
+        db.ensure(e1);
+        assertEquals("[" + e1 + "]", str(db.getAllEdgesFor("A.txt")));
+
+        db.leaveHypotheticalMode();
+        assertEquals("[" + e1 + "]", str(db.getIncomingEdgesTo(token("B.txt", 1), VPGDB.ALL_EDGES)));
+        assertEquals("[" + e2 + "]", str(db.getOutgoingEdgesFrom(token("B.txt", 2), VPGDB.ALL_EDGES)));
+        assertEquals("[]", str(db.getOutgoingEdgesFrom(token("B.txt", 2), 1)));
+    }
+
+    public void testAnnotations() throws IOException
+    {
+        db.setAnnotation(token("A.txt", 1), 0, "a1");
+        db.setAnnotation(token("A.txt", 2), 0, "a2");
+        db.setAnnotation(token("B.txt", 1), 0, "b1");
+
+        db.enterHypotheticalMode();
+
+        db.setAnnotation(token("A.txt", 1), 0, "changed");
+        db.deleteAnnotation(token("A.txt", 2), 0);
+        db.deleteAllEdgesAndAnnotationsFor("B.txt");
+        db.setAnnotation(token("B.txt", 5), 0, "b5");
+        assertEquals("changed", db.getAnnotation(token("A.txt", 1), 0));
+        assertNull(db.getAnnotation(token("A.txt", 2), 0));
+        assertNull(db.getAnnotation(token("B.txt", 1), 0));
+        assertEquals(1, toList(db.getAllAnnotationsFor("A.txt")).size());
+        assertEquals(1, toList(db.getAllAnnotationsFor("B.txt")).size());
+        assertEquals("a1", base.getAnnotation(token("A.txt", 1), 0));
+
+        db.leaveHypotheticalMode();
+        assertEquals("a1", db.getAnnotation(token("A.txt", 1), 0));
+        assertEquals("a2", db.getAnnotation(token("A.txt", 2), 0));
+        assertEquals("b1", db.getAnnotation(token("B.txt", 1), 0));
+        assertNull(db.getAnnotation(token("B.txt", 5), 0));
+    }
+
+    public void testFiles() throws IOException
+    {
+        db.ensure(new VPGDependency("A.txt", "B.txt"));
+        db.updateModificationStamp("A.txt");
+        db.updateModificationStamp("B.txt");
+
+        db.enterHypotheticalMode();
+
+        db.deleteAllEntriesFor("B.txt");
+        db.updateModificationStamp("C.txt");
+        assertEquals("[A.txt, C.txt]", str(db.listAllFilenames()));
+        assertTrue(db.isOutOfDate("B.txt"));
+        assertFalse(db.isOutOfDate("C.txt"));
+
+        db.clearDatabase();
+        assertEquals("[]", str(db.listAllFilenames()));
+        assertEquals("[]", str(db.getOutgoingDependenciesFrom("A.txt")));
+
+        db.leaveHypotheticalMode();
+        assertEquals("[A.txt, B.txt]", str(db.listAllFilenames()));
+        assertEquals("[B.txt]", str(db.getOutgoingDependenciesFrom("A.txt")));
+    }
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.photran.internal.core.lexer.preprocessor.fortran_include.IncludeLoaderCallback;
+import org.eclipse.photran.internal.tests.PhotranWorkspaceTestCase;
+
+/**
+ * Checks that INCLUDE lines are resolved using the include file index, and that the index and the
+ * cached contents of included files are updated when the workspace changes.
+ */
+public class IncludeFileIndexTests extends PhotranWorkspaceTestCase
+{
+    public void testResolution() throws Exception
+    {
+        project.getFolder("a").create(true, true, new NullProgressMonitor());
+        project.getFolder("b").create(true, true, new NullProgressMonitor());
+        IFile first = importFile("a/common.h", "integer :: a\n");
+        importFile("b/common.h", "integer :: b\n");
+
+        assertEquals("integer :: a\n", include("common.h"));
+
+        // The index must be updated when files are changed, removed, or added
+        importFile("a/common.h", "integer :: a2\n");
+        assertEquals("integer :: a2\n", include("common.h"));
+
+        first.delete(true, new NullProgressMonitor());
+        assertEquals("integer :: b\n", include("common.h"));
+
+        try
+        {
+            include("new.h");
+            fail();
+        }
+        catch (FileNotFoundException e)
+        {
+            // Expected
+        }
+
+        importFile("b/new.h", "integer :: c\n");
+        assertEquals("integer :: c\n", include("new.h"));
+    }
+
+    public void testNewFolder() throws Exception
+    {
+        importFile("x.h", "integer :: x\n");
+        assertEquals("integer :: x\n", include("x.h"));
+
+        project.getFolder("c").create(true, true, new NullProgressMonitor());
+        project.getFile("c/y.h").create(new ByteArrayInputStream("integer :: y\n".getBytes()), true, new NullProgressMonitor());
+        assertEquals("integer :: y\n", include("y.h"));
+    }
+
+    private String include(String filename) throws IOException
+    {
+        Reader in = new IncludeLoaderCallback(project).getIncludedFileAsStream(filename);
+        StringBuilder sb = new StringBuilder();
+        for (int c = in.read(); c >= 0; c = in.read())
+            sb.append((char)c);
+        return sb.toString();
+    }
+}
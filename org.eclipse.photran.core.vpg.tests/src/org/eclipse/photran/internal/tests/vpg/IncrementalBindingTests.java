@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.util.TreeSet;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.photran.internal.core.analysis.binding.Binder;
+import org.eclipse.photran.internal.core.util.Pair;
+import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+import org.eclipse.photran.internal.tests.PhotranWorkspaceTestCase;
+
+/**
+ * Checks that rebinding a file with {@link Binder#rebind(org.eclipse.photran.core.IFortranAST, IFile)}
+ * produces the same edges, annotations, and dependencies as binding it from scratch.
+ */
+public class IncrementalBindingTests extends PhotranWorkspaceTestCase
+{
+    private static final String FILENAME = "incremental.f90";
+
+    private static final String PROGRAM =
+        "module m\n" +
+        "  implicit none\n" +
+        "  integer :: x\n" +
+        "  private :: s1\n" +
+        "contains\n" +
+        "  subroutine s1\n" +
+        "    x = 1\n" +
+        "  end subroutine s1\n" +
+        "  subroutine s2\n" +
+        "    integer :: y\n" +
+        "    y = x\n" +
+        "    call s1\n" +
+        "  end subroutine s2\n" +
+        "  subroutine s3\n" +
+        "    call s2\n" +
+        "  end subroutine s3\n" +
+        "end module m\n" +
+        "program p\n" +
+        "  use m\n" +
+        "  call s3\n" +
+        "end program p\n";
+
+    public void testEditWithinSubprogram() throws Exception
+    {
+        check(PROGRAM, PROGRAM.replace("y = x\n", "y = x + 1\n"));
+    }
+
+    public void testEditPreservingOffsets() throws Exception
+    {
+        check(PROGRAM, PROGRAM.replace("x = 1\n", "x = 2\n"));
+    }
+
+    public void testEditInSpecificationPart() throws Exception
+    {
+        check(PROGRAM, PROGRAM.replace("integer :: x\n", "integer :: x, z\n"));
+    }
+
+    public void testRenameSubprogram() throws Exception
+    {
+        check(PROGRAM, PROGRAM.replace("s1", "t1"));
+    }
+
+    public void testDeleteUseStmt() throws Exception
+    {
+        check(PROGRAM, PROGRAM.replace("  use m\n", "").replace("call s3", "print *, 3"));
+    }
+
+    public void testRenameExternalSubprogram() throws Exception
+    {
+        String external = "subroutine q\n  common /c/ i\nend subroutine q\n";
+        check(PROGRAM + external, PROGRAM + external.replace("q", "r").replace("/c/", "/d/"));
+    }
+
+    public void testRenameExternalSubprogramToCalledName() throws Exception
+    {
+        // Renaming c to b does not move any units, but the unchanged call in a now binds to b
+        String externals = "subroutine a\n  call b\nend subroutine a\nsubroutine c\nend subroutine c\n";
+        check(PROGRAM + externals, PROGRAM + externals.replace("subroutine c", "subroutine b"));
+    }
+
+    public void testRenameModuleSubprogramToCalledName() throws Exception
+    {
+        String module =
+            "module n\n" +
+            "contains\n" +
+            "  subroutine u1\n" +
+            "    call u2\n" +
+            "  end subroutine u1\n" +
+            "  subroutine u3\n" +
+            "  end subroutine u3\n" +
+            "end module n\n";
+        check(PROGRAM + module, PROGRAM + module.replace("subroutine u3", "subroutine u2"));
+    }
+
+    public void testNewProgramUnit() throws Exception
+    {
+        check(PROGRAM, PROGRAM + "subroutine q\nend subroutine q\n");
+    }
+
+    private void check(String before, String after) throws Exception
+    {
+        PhotranVPG vpg = PhotranVPG.getInstance();
+
+        importFile(FILENAME, before);
+        vpg.ensureVPGIsUpToDate(new NullProgressMonitor());
+
+        IFile file = importFile(FILENAME, after);
+        String filename = PhotranVPG.getFilenameForIFile(file);
+        vpg.forceRecomputationOfEdgesAndAnnotations(filename);
+        String incremental = describe(filename);
+
+        vpg.deleteAllEntriesFor(filename);
+        vpg.forceRecomputationOfEdgesAndAnnotations(filename);
+        String full = describe(filename);
+
+        assertEquals(full, incremental);
+    }
+
+    private String describe(String filename)
+    {
+        PhotranVPG vpg = PhotranVPG.getInstance();
+
+        TreeSet<String> result = new TreeSet<String>();
+        for (VPGEdge<?,?,?> edge : vpg.getAllEdgesFor(filename))
+            result.add(edge.toString());
+        for (Pair<PhotranTokenRef, Integer> pair : vpg.getAllAnnotationsFor(filename))
+            result.add(pair.fst + " " + vpg.describeAnnotationType(pair.snd) + ": " + pair.fst.getAnnotation(pair.snd));
+        for (String dependency : vpg.getOutgoingDependenciesFrom(filename))
+            result.add("depends on " + dependency);
+        for (String dependent : vpg.getIncomingDependenciesTo(filename))
+            result.add("depended on by " + dependent);
+
+        StringBuilder sb = new StringBuilder();
+        for (String line : result)
+            sb.append(line).append('\n');
+        return sb.toString();
+    }
+}
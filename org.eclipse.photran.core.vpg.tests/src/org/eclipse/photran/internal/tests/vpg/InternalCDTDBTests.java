@@ -10,21 +10,74 @@
  *******************************************************************************/
 package org.eclipse.photran.internal.tests.vpg;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.TreeSet;
 
 import junit.framework.TestCase;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.photran.internal.core.util.Pair;
+import org.eclipse.photran.internal.core.vpg.IVPGComponentFactory;
+import org.eclipse.photran.internal.core.vpg.VPGDB;
+import org.eclipse.photran.internal.core.vpg.VPGLog;
+import org.eclipse.photran.internal.core.vpg.VPGWriter;
+import org.eclipse.photran.internal.core.vpg.db.cdt.CDTDB;
 import org.eclipse.photran.internal.core.vpg.db.cdt.InternalCDTDB;
 import org.eclipse.photran.internal.core.vpg.db.cdt.InternalCDTDB.Annotations;
 import org.eclipse.photran.internal.core.vpg.db.cdt.InternalCDTDB.Dependencies;
 import org.eclipse.photran.internal.core.vpg.db.cdt.InternalCDTDB.Edges;
 import org.eclipse.photran.internal.core.vpg.db.cdt.InternalCDTDB.Files;
 
+@SuppressWarnings(value={"unchecked", "rawtypes"})
 public class InternalCDTDBTests extends TestCase
 {
+    private static class MyCDTDB extends CDTDB
+    {
+        public MyCDTDB(File file, IVPGComponentFactory factory)
+        {
+            super(file, factory, new VPGLog(null, factory));
+        }
+
+        @Override
+        protected long getModificationStamp(String filename)
+        {
+            return 0L;
+        }
+
+        @Override protected byte[] serialize(Serializable annotation) throws IOException
+        {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ObjectOutputStream objectOut = new ObjectOutputStream(out);
+            objectOut.writeObject(annotation);
+            objectOut.close();
+            return out.toByteArray();
+        }
+
+        @Override protected Serializable deserialize(InputStream binaryStream) throws IOException, ClassNotFoundException
+        {
+            return (Serializable)new ObjectInputStream(binaryStream).readObject();
+        }
+    }
+
+    private class MyFactory implements IVPGComponentFactory
+    {
+        public VPGLog createLog() { throw new UnsupportedOperationException(); }
+        public VPGDB createDatabase(VPGLog log) { throw new UnsupportedOperationException(); }
+        public VPGWriter createVPGWriter(VPGDB db, VPGLog log) { throw new UnsupportedOperationException(); }
+        public Object getVPGNode(String filename, int offset, int length) { return new TestTokenRef(cdtdb, filename, offset, length); }
+    }
+
     private InternalCDTDB db = null;
 
+    private File cdtdbFile = null;
+    private MyCDTDB cdtdb = null;
+
     @Override
     protected void setUp() throws Exception
     {
@@ -32,6 +85,17 @@ public class InternalCDTDBTests extends TestCase
         dbFile.deleteOnExit();
 
         db = new InternalCDTDB(dbFile);
+
+        cdtdbFile = File.createTempFile("vpg", null);
+        cdtdbFile.deleteOnExit();
+        cdtdb = new MyCDTDB(cdtdbFile, new MyFactory());
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        cdtdb.close();
+        super.tearDown();
     }
 
     public void testFiles() throws CoreException
@@ -239,4 +303,81 @@ public class InternalCDTDBTests extends TestCase
         assertEquals(numA, db.annotations.findAllAnnotationRecordsFor("a").size());
         assertEquals(numB, db.annotations.findAllAnnotationRecordsFor("b").size());
     }
+
+    private TestTokenRef token(String filename, int offset)
+    {
+        return new TestTokenRef(cdtdb, filename, offset, 1);
+    }
+
+    private String describeAnnotations(String filename)
+    {
+        TreeSet<String> result = new TreeSet<String>();
+        for (Object o : cdtdb.getAllAnnotationsFor(filename))
+        {
+            Pair<TestTokenRef, Integer> pair = (Pair<TestTokenRef, Integer>)o;
+            result.add(pair.fst.getOffset() + ":" + pair.snd + "=" + cdtdb.getAnnotation(pair.fst, pair.snd.intValue()));
+        }
+        return result.toString();
+    }
+
+    /** Sets annotations on tokens 1 and 2 in the given file, then replaces 1, adds 3, and deletes 2 in a batch */
+    private void updateInBatch(String filename)
+    {
+        cdtdb.setAnnotation(token(filename, 1), 0, "stored");
+        cdtdb.setAnnotation(token(filename, 2), 0, "deleted");
+
+        cdtdb.beginBatch(filename);
+        cdtdb.setAnnotation(token(filename, 1), 0, "replaced");
+        cdtdb.setAnnotation(token(filename, 3), 0, "added");
+        cdtdb.deleteAnnotation(token(filename, 2), 0);
+    }
+
+    public void testReadsDuringBatchSeeBufferedAnnotations()
+    {
+        updateInBatch("a");
+
+        assertEquals("replaced", cdtdb.getAnnotation(token("a", 1), 0));
+        assertNull(cdtdb.getAnnotation(token("a", 2), 0));
+        assertEquals("added", cdtdb.getAnnotation(token("a", 3), 0));
+        assertEquals("[1:0=replaced, 3:0=added]", describeAnnotations("a"));
+
+        cdtdb.deleteAnnotation(token("a", 3), 0);
+        assertNull(cdtdb.getAnnotation(token("a", 3), 0));
+        assertEquals("[1:0=replaced]", describeAnnotations("a"));
+    }
+
+    public void testCommitBatchWritesAnnotations()
+    {
+        updateInBatch("a");
+        cdtdb.commitBatch("a");
+
+        assertEquals("replaced", cdtdb.getAnnotation(token("a", 1), 0));
+        assertNull(cdtdb.getAnnotation(token("a", 2), 0));
+        assertEquals("added", cdtdb.getAnnotation(token("a", 3), 0));
+        assertEquals("[1:0=replaced, 3:0=added]", describeAnnotations("a"));
+
+        // The annotations were written to the database, not just buffered
+        cdtdb.close();
+        cdtdb = new MyCDTDB(cdtdbFile, new MyFactory());
+        assertEquals("[1:0=replaced, 3:0=added]", describeAnnotations("a"));
+    }
+
+    public void testDeletingAnnotationsDuringBatchDiscardsPendingAnnotations()
+    {
+        updateInBatch("a");
+        cdtdb.deleteAllEdgesAndAnnotationsFor("a");
+        assertNull(cdtdb.getAnnotation(token("a", 1), 0));
+        assertNull(cdtdb.getAnnotation(token("a", 3), 0));
+        assertEquals("[]", describeAnnotations("a"));
+
+        // The batch is still open
+        cdtdb.setAnnotation(token("a", 4), 0, "after");
+        cdtdb.commitBatch("a");
+        assertEquals("[4:0=after]", describeAnnotations("a"));
+
+        updateInBatch("b");
+        cdtdb.deleteAllEntriesFor("b");
+        cdtdb.commitBatch("b");
+        assertEquals("[]", describeAnnotations("b"));
+    }
 }
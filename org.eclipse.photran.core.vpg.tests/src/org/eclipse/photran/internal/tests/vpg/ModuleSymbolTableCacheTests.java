@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.eclipse.photran.internal.core.analysis.binding.Definition;
+import org.eclipse.photran.internal.core.analysis.types.Type;
+import org.eclipse.photran.internal.core.vpg.ModuleSymbolTableCache;
+import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
+
+/**
+ * Checks that a {@link ModuleSymbolTableCache} stores symbol tables in memory and on disk, keyed
+ * by module name and fingerprint.
+ */
+public class ModuleSymbolTableCacheTests extends TestCase
+{
+    private File directory;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+
+        File file = File.createTempFile("photran", "symtabs");
+        file.delete();
+        this.directory = file;
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        File[] files = directory.listFiles();
+        if (files != null)
+            for (File file : files)
+                file.delete();
+        directory.delete();
+
+        super.tearDown();
+    }
+
+    private static List<Definition> symbolTable(String... names)
+    {
+        List<Definition> result = new ArrayList<Definition>();
+        for (int i = 0; i < names.length; i++)
+            result.add(new Definition(names[i], new PhotranTokenRef("m.f90", 10*i, 1), Definition.Classification.VARIABLE_DECLARATION, Type.INTEGER));
+        return result;
+    }
+
+    public void testMemory()
+    {
+        ModuleSymbolTableCache cache = new ModuleSymbolTableCache(null, 1024 * 1024);
+        List<Definition> symtab = symbolTable("a", "b");
+
+        assertNull(cache.get("m", "1"));
+        cache.put("m", "1", symtab, true);
+        assertSame(symtab, cache.get("m", "1"));
+        assertNull(cache.get("m", "2"));
+        assertNull(cache.get("n", "1"));
+
+        cache.remove("m");
+        assertNull(cache.get("m", "1"));
+    }
+
+    public void testEviction()
+    {
+        ModuleSymbolTableCache measure = new ModuleSymbolTableCache(directory, 1024 * 1024);
+        measure.put("m", "1", symbolTable("a"), true);
+        long entrySize = new File(directory, "m.symtab").length();
+
+        // Room for two symbol tables (stored on disk, so entries are sized by their files)
+        ModuleSymbolTableCache cache = new ModuleSymbolTableCache(directory, 2 * entrySize + entrySize / 2);
+        List<Definition> m = symbolTable("a");
+        List<Definition> n = symbolTable("b");
+        cache.put("m", "1", m, true);
+        cache.put("n", "1", n, true);
+        assertSame(m, cache.get("m", "1"));
+        cache.put("o", "1", symbolTable("c"), true);
+
+        // n was least recently used, so it was evicted from memory, but it can be read from disk
+        assertSame(m, cache.get("m", "1"));
+        List<Definition> fromDisk = cache.get("n", "1");
+        assertNotSame(n, fromDisk);
+        assertEquals(n, fromDisk);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        cache.printStatisticsOn(new PrintStream(bytes));
+        assertTrue(bytes.toString().contains("Disk Hits:        1/"));
+    }
+
+    public void testDisk()
+    {
+        ModuleSymbolTableCache cache = new ModuleSymbolTableCache(directory, 1024 * 1024);
+        cache.put("m", "1", symbolTable("a", "b", "c"), true);
+
+        ModuleSymbolTableCache restarted = new ModuleSymbolTableCache(directory, 1024 * 1024);
+        assertEquals(symbolTable("a", "b", "c"), restarted.get("m", "1"));
+        assertNull(restarted.get("m", "2"));
+
+        cache.put("m", "2", symbolTable("d"), true);
+        restarted.clear();
+        assertNull(restarted.get("m", "1"));
+        assertEquals(symbolTable("d"), restarted.get("m", "2"));
+    }
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.util.TreeSet;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+import org.eclipse.photran.internal.tests.PhotranWorkspaceTestCase;
+
+/**
+ * Checks that files which USE a module are reindexed only when the module's symbol table
+ * changes, and that their bindings into the module survive reindexing the module otherwise.
+ */
+public class ModuleSymbolTableFingerprintTests extends PhotranWorkspaceTestCase
+{
+    private static final String MODULE =
+        "module constants\n" +
+        "  implicit none\n" +
+        "  real, parameter :: pi = 3.14159\n" +
+        "contains\n" +
+        "  subroutine show\n" +
+        "    print *, pi\n" +
+        "  end subroutine show\n" +
+        "end module constants\n";
+
+    private static final String PROGRAM =
+        "program p\n" +
+        "  use constants\n" +
+        "  print *, pi\n" +
+        "  call show\n" +
+        "end program p\n";
+
+    public void testCommentDoesNotChangeFingerprint() throws Exception
+    {
+        String before = setUpFiles();
+        String fingerprint = PhotranVPG.getProvider().getModuleSymbolTableFingerprint("constants");
+
+        reindexModule(MODULE.replace("    print *, pi\n", "    ! Comment\n    print *, pi\n"));
+
+        assertFalse(PhotranVPG.getProvider().hasModuleSymbolTableChanged("constants"));
+        assertFalse(PhotranVPG.getInstance().dependentsMustBeReindexed("module:constants"));
+        assertEquals(fingerprint, PhotranVPG.getProvider().getModuleSymbolTableFingerprint("constants"));
+        assertEquals(before, describeProgram());
+    }
+
+    public void testCommentAboveDeclarationsRelocatesEdges() throws Exception
+    {
+        setUpFiles();
+        String fingerprint = PhotranVPG.getProvider().getModuleSymbolTableFingerprint("constants");
+
+        reindexModule("! Header\n" + MODULE.replace("  real, parameter :: pi", "  ! Comment\n  real, parameter :: pi"));
+
+        assertFalse(PhotranVPG.getProvider().hasModuleSymbolTableChanged("constants"));
+        assertFalse(PhotranVPG.getInstance().dependentsMustBeReindexed("module:constants"));
+        assertFalse(fingerprint.equals(PhotranVPG.getProvider().getModuleSymbolTableFingerprint("constants")));
+
+        // The program's edges into the module must have moved with the module's definitions
+        String relocated = describeProgram();
+        PhotranVPG.getInstance().forceRecomputationOfEdgesAndAnnotations(PhotranVPG.getFilenameForIFile(project.getFile("program.f90")));
+        assertEquals(describeProgram(), relocated);
+    }
+
+    public void testNewDeclarationChangesFingerprint() throws Exception
+    {
+        setUpFiles();
+        String fingerprint = PhotranVPG.getProvider().getModuleSymbolTableFingerprint("constants");
+
+        reindexModule(MODULE.replace("  real, parameter :: pi", "  real, parameter :: e = 2.71828\n  real, parameter :: pi"));
+
+        assertTrue(PhotranVPG.getProvider().hasModuleSymbolTableChanged("constants"));
+        assertTrue(PhotranVPG.getInstance().dependentsMustBeReindexed("module:constants"));
+        assertFalse(fingerprint.equals(PhotranVPG.getProvider().getModuleSymbolTableFingerprint("constants")));
+    }
+
+    public void testDeletedModuleEdgesAreNotRestored() throws Exception
+    {
+        setUpFiles();
+        String module = PhotranVPG.getFilenameForIFile(project.getFile("constants.f90"));
+
+        reindexModule("subroutine unrelated\nend subroutine unrelated\n");
+
+        PhotranVPG vpg = PhotranVPG.getInstance();
+        for (VPGEdge<?,?,?> edge : vpg.getAllEdgesFor(PhotranVPG.getFilenameForIFile(project.getFile("program.f90"))))
+            assertFalse(edge.toString(), edge.getSink().getFilename().equals(module));
+    }
+
+    private String setUpFiles() throws Exception
+    {
+        importFile("constants.f90", MODULE);
+        importFile("program.f90", PROGRAM);
+        PhotranVPG.getInstance().ensureVPGIsUpToDate(new NullProgressMonitor());
+        return describeProgram();
+    }
+
+    private void reindexModule(String contents) throws Exception
+    {
+        IFile file = importFile("constants.f90", contents);
+        PhotranVPG.getInstance().forceRecomputationOfEdgesAndAnnotations(PhotranVPG.getFilenameForIFile(file));
+    }
+
+    private String describeProgram()
+    {
+        PhotranVPG vpg = PhotranVPG.getInstance();
+
+        TreeSet<String> result = new TreeSet<String>();
+        for (VPGEdge<?,?,?> edge : vpg.getAllEdgesFor(PhotranVPG.getFilenameForIFile(project.getFile("program.f90"))))
+            result.add(edge.toString());
+        return result.toString();
+    }
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.photran.internal.core.analysis.binding.Definition;
+import org.eclipse.photran.internal.core.analysis.binding.Definition.Classification;
+import org.eclipse.photran.internal.core.vpg.NameIndex;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.tests.PhotranWorkspaceTestCase;
+
+/**
+ * Checks that the {@link NameIndex} records the definitions in each file when it is indexed.
+ */
+public class NameIndexTests extends PhotranWorkspaceTestCase
+{
+    private static final String MODULE =
+        "module constants\n" +
+        "  implicit none\n" +
+        "  real, parameter :: pi = 3.14159\n" +
+        "contains\n" +
+        "  subroutine print_pi\n" +
+        "    integer :: digits\n" +
+        "    print *, pi\n" +
+        "  end subroutine print_pi\n" +
+        "end module constants\n";
+
+    private static final String PROGRAM =
+        "program p\n" +
+        "  use constants\n" +
+        "  call print_pi\n" +
+        "  call plot\n" +
+        "end program p\n" +
+        "subroutine plot\n" +
+        "end subroutine plot\n";
+
+    public void testQueries() throws Exception
+    {
+        setUpFiles();
+        NameIndex index = PhotranVPG.getInstance().getNameIndex();
+
+        assertEquals("[constants (Module)]", describe(index.findExact("Constants")));
+        assertEquals("[constants.pi (Local variable)]", describe(index.findExact("pi")));
+        assertEquals("[constants.print_pi.digits (Local variable)]", describe(index.findExact("digits")));
+        String prefix = describe(index.findPrefix("p"));
+        assertTrue(prefix.contains("constants.pi (Local variable)"));
+        assertTrue(prefix.contains("constants.print_pi (Subroutine)"));
+        assertTrue(prefix.contains("p (Main program)"));
+        assertTrue(prefix.contains("plot (Subroutine)"));
+        assertFalse(prefix.contains("digits"));
+
+        assertEquals(prefix, describe(index.findMatchingGlob("p*")));
+        assertEquals(prefix, describe(index.findMatching(Pattern.compile("p.*"))));
+        assertEquals("[]", describe(index.findMatchingGlob("p.*")));
+    }
+
+    public void testFindDefinitions() throws Exception
+    {
+        setUpFiles();
+        PhotranVPG vpg = PhotranVPG.getInstance();
+
+        List<Definition> modules = vpg.findAllModulesNamed("constants");
+        assertEquals(1, modules.size());
+        assertEquals(Classification.MODULE, modules.get(0).getClassification());
+
+        assertEquals(1, vpg.findAllExternalSubprogramsNamed("plot").size());
+        assertEquals(0, vpg.findAllExternalSubprogramsNamed("print_pi").size());
+    }
+
+    public void testReindex() throws Exception
+    {
+        setUpFiles();
+
+        IFile file = importFile("constants.f90", MODULE.replace("pi =", "tau = 6.28318, pi ="));
+        PhotranVPG.getInstance().forceRecomputationOfEdgesAndAnnotations(PhotranVPG.getFilenameForIFile(file));
+
+        NameIndex index = PhotranVPG.getInstance().getNameIndex();
+        assertEquals("[constants.tau (Local variable)]", describe(index.findExact("tau")));
+        assertEquals(1, index.findExact("pi").size());
+    }
+
+    private void setUpFiles() throws Exception
+    {
+        importFile("constants.f90", MODULE);
+        importFile("program.f90", PROGRAM);
+        PhotranVPG.getInstance().ensureVPGIsUpToDate(new NullProgressMonitor());
+    }
+
+    private String describe(List<NameIndex.Entry> entries)
+    {
+        TreeSet<String> result = new TreeSet<String>();
+        for (NameIndex.Entry entry : entries)
+            result.add((entry.isInGlobalScope() ? "" : entry.getScopeQualifier() + ".")
+                + entry.getCanonicalizedName()
+                + " (" + entry.getClassification() + ")");
+        return result.toString();
+    }
+}
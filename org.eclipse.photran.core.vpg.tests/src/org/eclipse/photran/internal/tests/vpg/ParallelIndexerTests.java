@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.photran.internal.core.preferences.FortranPreferences;
+import org.eclipse.photran.internal.core.util.Pair;
+import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+import org.eclipse.photran.internal.tests.PhotranWorkspaceTestCase;
+
+/**
+ * Checks that indexing a project on several threads produces the same edges, annotations, and
+ * dependencies as indexing it sequentially.
+ */
+public class ParallelIndexerTests extends PhotranWorkspaceTestCase
+{
+    private static final int NUM_PROGRAMS = 8;
+
+    public void testParallelIndexMatchesSequentialIndex() throws Exception
+    {
+        String sequential = indexUsingThreads(1);
+        assertTrue(sequential.contains("Edge of type"));
+
+        String parallel = indexUsingThreads(4);
+        assertEquals(sequential, parallel);
+    }
+
+    private String indexUsingThreads(int numThreads) throws Exception
+    {
+        int originalNumThreads = FortranPreferences.VPG_INDEXER_THREADS.getValue();
+        try
+        {
+            FortranPreferences.VPG_INDEXER_THREADS.setValue(numThreads);
+
+            PhotranVPG.getInstance().clearDatabase();
+            importFiles();
+            PhotranVPG.getInstance().ensureVPGIsUpToDate(new NullProgressMonitor());
+
+            return describeDatabase();
+        }
+        finally
+        {
+            FortranPreferences.VPG_INDEXER_THREADS.setValue(originalNumThreads);
+        }
+    }
+
+    /**
+     * Imports a module dependency graph (module c uses a and b, b uses a), programs which use the
+     * modules, and an external subprogram which the programs call.
+     */
+    private void importFiles() throws Exception
+    {
+        importFile("a.f90",
+            "module a\n" +
+            "  integer :: x\n" +
+            "contains\n" +
+            "  subroutine incr\n" +
+            "    x = x + 1\n" +
+            "  end subroutine incr\n" +
+            "end module a\n");
+        importFile("b.f90",
+            "module b\n" +
+            "  use a\n" +
+            "  integer :: y\n" +
+            "end module b\n");
+        importFile("c.f90",
+            "module c\n" +
+            "  use a\n" +
+            "  use b, only: y\n" +
+            "  integer :: z\n" +
+            "end module c\n");
+        importFile("ext.f90",
+            "subroutine ext(n)\n" +
+            "  integer :: n\n" +
+            "  print *, n\n" +
+            "end subroutine ext\n");
+        for (int i = 0; i < NUM_PROGRAMS; i++)
+            importFile("p" + i + ".f90",
+                "program p" + i + "\n" +
+                "  use " + (i % 2 == 0 ? "c" : "b") + "\n" +
+                "  call incr\n" +
+                "  call ext(x + y + " + i + ")\n" +
+                "end program p" + i + "\n");
+    }
+
+    private String describeDatabase()
+    {
+        PhotranVPG vpg = PhotranVPG.getInstance();
+
+        TreeSet<String> result = new TreeSet<String>();
+        for (String filename : vpg.listAllFilenames())
+        {
+            for (VPGEdge<?,?,?> edge : vpg.getAllEdgesFor(filename))
+                result.add(edge.toString());
+            for (Pair<PhotranTokenRef, Integer> pair : vpg.getAllAnnotationsFor(filename))
+                result.add(pair.fst + " " + vpg.describeAnnotationType(pair.snd) + ": " + pair.fst.getAnnotation(pair.snd));
+            for (String dependency : vpg.getOutgoingDependenciesFrom(filename))
+                result.add(filename + " depends on " + dependency);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (String line : result)
+            sb.append(line).append('\n');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.util.List;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.photran.internal.core.analysis.binding.ScopingNode;
+import org.eclipse.photran.internal.core.analysis.binding.UseSite;
+import org.eclipse.photran.internal.core.parser.ASTModuleNode;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.tests.PhotranWorkspaceTestCase;
+
+/**
+ * Checks that USE statements are recorded in the VPG when files are indexed, and that
+ * {@link ScopingNode#findImportingScopes(String)} uses them to skip scopes whose ONLY lists
+ * exclude an entity.
+ */
+public class UseSiteTests extends PhotranWorkspaceTestCase
+{
+    private static final String MODULE =
+        "module m\n" +
+        "  integer :: x, y\n" +
+        "end module m\n";
+
+    private static final String ONLY =
+        "program p\n" +
+        "  use m, only: y\n" +
+        "  print *, y\n" +
+        "end program p\n";
+
+    private static final String ALL =
+        "subroutine s\n" +
+        "  use m, z => x\n" +
+        "  print *, z\n" +
+        "end subroutine s\n";
+
+    public void testUseSites() throws Exception
+    {
+        setUpFiles();
+
+        List<UseSite> useSites = PhotranVPG.getInstance().findUseSites("M");
+        assertEquals(2, useSites.size());
+
+        TreeSet<String> description = new TreeSet<String>();
+        for (UseSite useSite : useSites)
+            description.add(useSite.getOnlyList() + " " + useSite.getRenameList());
+        assertEquals("[[y] [], null [x]]", description.toString());
+    }
+
+    public void testFindImportingScopes() throws Exception
+    {
+        setUpFiles();
+
+        ScopingNode module = PhotranVPG.getInstance().findAllModulesNamed("m").get(0).getTokenRef().findToken().findNearestAncestor(ASTModuleNode.class);
+        assertEquals("[p, s]", describe(module.findImportingScopes()));
+        assertEquals("[p, s]", describe(module.findImportingScopes("y")));
+        assertEquals("[s]", describe(module.findImportingScopes("x")));
+    }
+
+    private void setUpFiles() throws Exception
+    {
+        importFile("m.f90", MODULE);
+        importFile("only.f90", ONLY);
+        importFile("all.f90", ALL);
+        PhotranVPG.getInstance().ensureVPGIsUpToDate(new NullProgressMonitor());
+    }
+
+    private String describe(Iterable<ScopingNode> scopes)
+    {
+        TreeSet<String> result = new TreeSet<String>();
+        for (ScopingNode scope : scopes)
+            result.add(scope.getName());
+        return result.toString();
+    }
+}
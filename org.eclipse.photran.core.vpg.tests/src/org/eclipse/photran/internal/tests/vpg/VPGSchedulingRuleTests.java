@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.tests.vpg;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.core.vpg.eclipse.VPGSchedulingRule;
+import org.eclipse.photran.internal.tests.PhotranWorkspaceTestCase;
+
+/**
+ * Checks that jobs with a read-only {@link VPGSchedulingRule} can acquire ASTs while a job with the
+ * exclusive rule (e.g., the indexer) is running.
+ */
+public class VPGSchedulingRuleTests extends PhotranWorkspaceTestCase
+{
+    private static final long TIMEOUT_SECONDS = 60;
+
+    public void testRules()
+    {
+        VPGSchedulingRule exclusive = VPGSchedulingRule.getInstance();
+        VPGSchedulingRule readOnly1 = VPGSchedulingRule.createReadOnlyRule();
+        VPGSchedulingRule readOnly2 = VPGSchedulingRule.createReadOnlyRule();
+
+        assertTrue(exclusive.isConflicting(exclusive));
+        assertTrue(readOnly1.isConflicting(readOnly1));
+
+        assertFalse(readOnly1.isConflicting(exclusive));
+        assertFalse(exclusive.isConflicting(readOnly1));
+        assertFalse(readOnly1.isConflicting(readOnly2));
+
+        assertTrue(exclusive.contains(readOnly1));
+        assertFalse(readOnly1.contains(exclusive));
+        assertFalse(readOnly1.contains(readOnly2));
+    }
+
+    public void testReadOnlyJobRunsDuringIndexing() throws Exception
+    {
+        final PhotranVPG vpg = PhotranVPG.getInstance();
+        final String a = PhotranVPG.getFilenameForIFile(importFile("a.f90", "module a\n  integer :: x\nend module a\n"));
+        final String b = PhotranVPG.getFilenameForIFile(importFile("b.f90", "program b\n  use a\n  x = 1\nend program b\n"));
+        vpg.ensureVPGIsUpToDate(new NullProgressMonitor());
+
+        final CountDownLatch indexerStarted = new CountDownLatch(1);
+        final CountDownLatch readerFinished = new CountDownLatch(1);
+        final Throwable[] failure = new Throwable[1];
+
+        // Reindexes b.f90 repeatedly until the reader has finished
+        Job indexer = new Job("Indexer")
+        {
+            @Override protected IStatus run(IProgressMonitor monitor)
+            {
+                indexerStarted.countDown();
+                try
+                {
+                    while (!monitor.isCanceled() && !readerFinished.await(0, TimeUnit.MILLISECONDS))
+                        vpg.forceRecomputationOfEdgesAndAnnotations(b);
+                }
+                catch (Throwable e)
+                {
+                    failure[0] = e;
+                }
+                return Status.OK_STATUS;
+            }
+        };
+        indexer.setRule(MultiRule.combine(VPGSchedulingRule.getInstance(), ResourcesPlugin.getWorkspace().getRoot()));
+
+        // Parses and reads a.f90 repeatedly (the AST is released each time, so it is reparsed)
+        Job reader = new Job("Reader")
+        {
+            @Override protected IStatus run(IProgressMonitor monitor)
+            {
+                try
+                {
+                    for (int i = 0; i < 20; i++)
+                    {
+                        vpg.releaseAST(a);
+                        assertNotNull(vpg.acquireTransientAST(a));
+                        assertTrue(contains(vpg.listAllModules(), "a"));
+                    }
+                }
+                catch (Throwable e)
+                {
+                    failure[0] = e;
+                }
+                finally
+                {
+                    readerFinished.countDown();
+                }
+                return Status.OK_STATUS;
+            }
+        };
+        reader.setRule(VPGSchedulingRule.createReadOnlyRule());
+
+        indexer.schedule();
+        assertTrue(indexerStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        reader.schedule();
+
+        // If the reader's rule conflicted with the indexer's, the reader would wait for the indexer,
+        // which runs until the reader has finished
+        boolean finished = readerFinished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        indexer.cancel();
+        assertTrue("Read-only job was blocked by the indexer", finished);
+        indexer.join();
+        reader.join();
+
+        if (failure[0] != null) throw new Exception(failure[0]);
+    }
+
+    private static boolean contains(Iterable<String> iterable, String string)
+    {
+        for (String s : iterable)
+            if (s.equals(string))
+                return true;
+        return false;
+    }
+}
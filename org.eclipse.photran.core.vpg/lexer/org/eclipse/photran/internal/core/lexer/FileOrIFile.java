@@ -35,6 +35,9 @@ public class FileOrIFile
     protected IFile ifile;
     protected java.io.File javaFile;
 
+    /** The {@link TokenFiles} most recently created for this physical file (see {@link TokenFiles#get(FileOrIFile, IFile)}) */
+    TokenFiles lastTokenFiles = null;
+
     public FileOrIFile(IFile file)
     {
         this.ifile = file;
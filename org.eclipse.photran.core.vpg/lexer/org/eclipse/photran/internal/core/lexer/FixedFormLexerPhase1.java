@@ -1083,6 +1083,7 @@ class FixedFormLexerPhase1 implements ILexer {
     }
 
     protected FileOrIFile lastTokenFile = null;
+    protected TokenTextPool textPool = new TokenTextPool();
     protected int lastTokenLine = 1, lastTokenCol = 1, lastTokenFileOffset = 0, lastTokenStreamOffset = 0, lastTokenLength = 0;
 
     private static final Pattern eol = Pattern.compile("(\\r|\\n)+");
@@ -1152,14 +1153,14 @@ class FixedFormLexerPhase1 implements ILexer {
             tokenText = prepass.getTokenText(lastTokenFileOffset, lastTokenLength);
 
         prevToken = new Token(terminal,
-                              prepass.getWhitespaceBefore(tokLine, tokCol, tokOff),
-                              tokenText,
+                              textPool.intern(prepass.getWhitespaceBefore(tokLine, tokCol, tokOff)),
+                              textPool.intern(tokenText),
                               "");
 
         if(!tokenText.equals(yytext()) && terminal != Terminal.T_EOS)
         {
             prevToken.setPreprocessorDirective(new FixedFormReplacement(tokenText));
-            prevToken.setText(yytext());
+            prevToken.setText(textPool.intern(yytext()));
         }
 
         return prevToken;
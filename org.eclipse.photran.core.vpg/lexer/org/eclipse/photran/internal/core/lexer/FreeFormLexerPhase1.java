@@ -3668,6 +3668,7 @@ public class FreeFormLexerPhase1 implements ILexer {
     protected int lastTokenLine = 1, lastTokenCol = 1, lastTokenFileOffset = 0, lastTokenStreamOffset = 0, lastTokenLength = 0;
     protected IToken lastToken = null;
     protected StringBuffer whiteAfterSB = new StringBuffer();
+    protected TokenTextPool textPool = new TokenTextPool();
 
     protected void storeNonTreeToken()
     {
@@ -3709,16 +3710,16 @@ public class FreeFormLexerPhase1 implements ILexer {
         if (accumulateWhitetext)
         {
             lastToken = new Token(terminal,
-                                  whiteBeforeSB.toString(),
-                                  terminal == Terminal.T_SCON ? stringBuffer.toString() : yytext(),
-                                  whiteAfterSB.toString());
+                                  textPool.intern(whiteBeforeSB.toString()),
+                                  textPool.intern(terminal == Terminal.T_SCON ? stringBuffer.toString() : yytext()),
+                                  textPool.intern(whiteAfterSB.toString()));
             whiteBeforeSB = new StringBuffer();
             whiteAfterSB = new StringBuffer();
         }
         else
         {
             lastToken = new Token(terminal,
-                                  terminal == Terminal.T_SCON ? stringBuffer.toString() : yytext());
+                                  textPool.intern(terminal == Terminal.T_SCON ? stringBuffer.toString() : yytext()));
         }
         return lastToken;
     }
@@ -75,8 +75,8 @@ public class Token implements IToken, IASTNode
      */
     protected IPreprocessorReplacement preprocessorDirective = null;
     
-    protected FileOrIFile physicalFile = null;
-    protected IFile logicalFile = null;
+    /** The physical and logical files, which are shared with the other tokens in the same file */
+    private TokenFiles files = TokenFiles.NONE;
     
     protected int line = -1, col = -1, fileOffset = -1, streamOffset = -1, length = -1;
     
@@ -109,8 +109,7 @@ public class Token implements IToken, IASTNode
         this.text                  = copyFrom.text;
         this.whiteAfter            = copyFrom.whiteAfter;
         this.preprocessorDirective = copyFrom.preprocessorDirective;
-        this.physicalFile          = copyFrom.physicalFile;
-        this.logicalFile           = copyFrom.logicalFile;
+        this.files                 = copyFrom.files;
         this.line                  = copyFrom.line;
         this.col                   = copyFrom.col;
         this.fileOffset            = copyFrom.fileOffset;
@@ -195,22 +194,22 @@ public class Token implements IToken, IASTNode
 
     public FileOrIFile getPhysicalFile()
     {
-        return physicalFile;
+        return files.physicalFile;
     }
     
     public void setPhysicalFile(FileOrIFile file)
     {
-        this.physicalFile = file;
+        this.files = TokenFiles.get(file, files.logicalFile);
     }
 
     public IFile getLogicalFile()
     {
-        return logicalFile;
+        return files.logicalFile;
     }
     
     public void setLogicalFile(IFile file)
     {
-        this.logicalFile = file;
+        this.files = TokenFiles.get(files.physicalFile, file);
     }
 
     public int getFileOffset()
@@ -231,6 +230,7 @@ public class Token implements IToken, IASTNode
     public void setStreamOffset(int streamOffset)
     {
         this.streamOffset = streamOffset;
+        this.tokenRef = null;
     }
 
     public int getLength()
@@ -241,6 +241,7 @@ public class Token implements IToken, IASTNode
     public void setLength(int length)
     {
         this.length = length;
+        this.tokenRef = null;
     }
 
     public boolean containsFileOffset(int offset)
@@ -509,7 +510,7 @@ public class Token implements IToken, IASTNode
 
     public PhotranTokenRef getTokenRef()
     {
-    	if (tokenRef == null) tokenRef = new PhotranTokenRef(logicalFile, streamOffset, length);
+    	if (tokenRef == null) tokenRef = new PhotranTokenRef(files.getLogicalFilename(), streamOffset, length);
     	
     	return tokenRef;
     }
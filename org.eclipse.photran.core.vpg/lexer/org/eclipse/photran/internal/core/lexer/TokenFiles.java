@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.lexer;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+
+/**
+ * The physical and logical file of a {@link Token}.
+ * <p>
+ * Nearly all of the tokens in a file have the same physical and logical file, so rather than
+ * storing both references, each token stores a reference to an instance of this class, which is
+ * shared with the other tokens in the same files (see {@link #get(FileOrIFile, IFile)}).  It also
+ * caches the VPG filename of the logical file, so that the {@link PhotranTokenRef}s for the tokens
+ * in a file share a single filename.
+ * <p>
+ * Instances are immutable (except for the cached filename).
+ */
+final class TokenFiles
+{
+    /** Files for a token that has neither a physical nor a logical file */
+    static final TokenFiles NONE = new TokenFiles(null, null);
+
+    final FileOrIFile physicalFile;
+    final IFile logicalFile;
+
+    /** The VPG filename of {@link #logicalFile}; <code>null</code> until it is first needed */
+    private volatile String logicalFilename = null;
+
+    private TokenFiles(FileOrIFile physicalFile, IFile logicalFile)
+    {
+        this.physicalFile = physicalFile;
+        this.logicalFile = logicalFile;
+    }
+
+    /**
+     * @return a <code>TokenFiles</code> with the given physical and logical files; the instance
+     *         most recently returned for the same physical file is reused if possible, which is
+     *         almost always the case, since tokens are assigned their files in order
+     */
+    static TokenFiles get(FileOrIFile physicalFile, IFile logicalFile)
+    {
+        if (physicalFile == null)
+            return logicalFile == null ? NONE : new TokenFiles(null, logicalFile);
+
+        TokenFiles last = physicalFile.lastTokenFiles;
+        if (last != null && last.logicalFile == logicalFile)
+            return last;
+
+        TokenFiles result = new TokenFiles(physicalFile, logicalFile);
+        physicalFile.lastTokenFiles = result;
+        return result;
+    }
+
+    /** @return the VPG filename of the logical file, or the empty string if there is none */
+    String getLogicalFilename()
+    {
+        if (logicalFile == null) return ""; //$NON-NLS-1$
+
+        if (logicalFilename == null)
+            logicalFilename = PhotranVPG.getFilenameForIFile(logicalFile);
+        return logicalFilename;
+    }
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.lexer;
+
+import java.util.HashMap;
+
+/**
+ * Used by a lexer to share the text and whitetext of the {@link Token}s it creates.
+ * <p>
+ * Most of the strings in a token stream are repeated many times: keywords, identifiers,
+ * operators, and short runs of whitespace such as a newline followed by indentation.  When each
+ * token's strings are passed through {@link #intern(String)}, all of the tokens in a file with
+ * the same text point to the same <code>String</code>.  Unlike {@link String#intern()}, the pool
+ * is discarded along with the lexer, so strings from files that are no longer in memory are not
+ * retained.
+ */
+public final class TokenTextPool
+{
+    /** Strings longer than this (e.g., comments) are unlikely to be repeated and are not pooled */
+    private static final int MAX_POOLED_LENGTH = 80;
+
+    private final HashMap<String, String> strings = new HashMap<String, String>();
+
+    /**
+     * @return a string equal to the given string, which is shared with any equal string
+     *         previously passed to this method (or the argument itself if it is
+     *         <code>null</code> or too long to be pooled)
+     */
+    public String intern(String string)
+    {
+        if (string == null || string.length() > MAX_POOLED_LENGTH)
+            return string;
+        else if (string.length() == 0)
+            return ""; //$NON-NLS-1$
+
+        String result = strings.get(string);
+        if (result == null)
+        {
+            result = string;
+            strings.put(result, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.lexer.preprocessor.fortran_include;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.IResourceProxy;
+import org.eclipse.core.resources.IResourceProxyVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * A workspace-wide index of the files in include folders, which is used to resolve INCLUDE lines
+ * (see {@link IncludeLoaderCallback}).
+ * <p>
+ * The first time an include folder is searched, every file under it is recorded by name; after
+ * that, the index is kept up to date from resource deltas, so resolving an INCLUDE line does not
+ * require traversing the folder.  The contents of included files are also cached (up to a fixed
+ * number of characters) so that a header included by many files is read only once; a cached copy
+ * is only reused if the file's modification stamp has not changed.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see #getInstance()
+ */
+public final class IncludeFileIndex implements IResourceChangeListener
+{
+    /** Maximum total number of characters of included files to keep in memory */
+    private static final int MAX_CACHED_CHARACTERS = 4 * 1024 * 1024;
+
+    private static IncludeFileIndex instance = null;
+
+    /** @return the include file index, which is created (and starts listening for resource
+     *          changes) the first time this method is called */
+    public static synchronized IncludeFileIndex getInstance()
+    {
+        if (instance == null)
+        {
+            instance = new IncludeFileIndex();
+            ResourcesPlugin.getWorkspace().addResourceChangeListener(instance, IResourceChangeEvent.POST_CHANGE);
+        }
+        return instance;
+    }
+
+    /** For each include folder that has been searched, the files under it, indexed by name */
+    private final HashMap<IPath, FolderIndex> folders = new HashMap<IPath, FolderIndex>();
+
+    /** The contents of recently included files, least recently used first */
+    private final LinkedHashMap<IFile, CachedContents> contents = new LinkedHashMap<IFile, CachedContents>(16, 0.75f, true);
+
+    /** The total length of the strings in {@link #contents} */
+    private int cachedCharacters = 0;
+
+    private IncludeFileIndex()
+    {
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Include File Resolution
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Searches the given include folder for a file with the given name.
+     * <p>
+     * If several files under the folder have that name, this returns the first one that would be
+     * encountered in a depth-first traversal of the folder.
+     *
+     * @param fileToInclude the name of the file to include (non-null)
+     * @param folder an include folder (non-null)
+     * @return the included file, or <code>null</code> if the folder does not contain a file with
+     *         the given name (or the folder is not accessible)
+     */
+    public synchronized IFile findIncludedFile(String fileToInclude, IContainer folder)
+    {
+        FolderIndex index = folders.get(folder.getFullPath());
+        if (index == null)
+        {
+            if (!folder.isAccessible()) return null;
+
+            index = new FolderIndex(folder);
+            folders.put(folder.getFullPath(), index);
+        }
+        return index.find(fileToInclude);
+    }
+
+    private static final class FolderIndex
+    {
+        private final IPath folderPath;
+        private final HashMap<String, List<IFile>> filesByName;
+
+        public FolderIndex(IContainer folder)
+        {
+            this.folderPath = folder.getFullPath();
+            this.filesByName = new HashMap<String, List<IFile>>();
+
+            try
+            {
+                folder.accept(new IResourceProxyVisitor()
+                {
+                    public boolean visit(IResourceProxy proxy)
+                    {
+                        if (proxy.getType() == IResource.FILE)
+                            add((IFile)proxy.requestResource());
+                        return true;
+                    }
+                }, IResource.NONE);
+            }
+            catch (CoreException e)
+            {
+                throw new Error(e);
+            }
+        }
+
+        public void add(IFile file)
+        {
+            List<IFile> files = filesByName.get(file.getName());
+            if (files == null)
+            {
+                files = new ArrayList<IFile>(1);
+                filesByName.put(file.getName(), files);
+            }
+            if (!files.contains(file))
+                files.add(file);
+        }
+
+        public void remove(IFile file)
+        {
+            List<IFile> files = filesByName.get(file.getName());
+            if (files != null && files.remove(file) && files.isEmpty())
+                filesByName.remove(file.getName());
+        }
+
+        public IFile find(String name)
+        {
+            List<IFile> files = filesByName.get(name);
+            if (files == null) return null;
+
+            IFile result = null;
+            for (IFile file : files)
+                if (file.isAccessible() && (result == null || precedes(file, result)))
+                    result = file;
+            return result;
+        }
+
+        /** @return true iff a depth-first traversal of the folder would visit <code>a</code>
+         *          before <code>b</code> (children are visited in order by name) */
+        private static boolean precedes(IFile a, IFile b)
+        {
+            IPath pathA = a.getFullPath(), pathB = b.getFullPath();
+            int length = Math.min(pathA.segmentCount(), pathB.segmentCount());
+            for (int i = 0; i < length; i++)
+            {
+                int comparison = pathA.segment(i).compareTo(pathB.segment(i));
+                if (comparison != 0) return comparison < 0;
+            }
+            return pathA.segmentCount() < pathB.segmentCount();
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Included File Contents
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @return the contents of the given file, which may have been read when it was previously
+     *         included
+     */
+    public String getContents(IFile file) throws CoreException, IOException
+    {
+        long stamp = file.getModificationStamp();
+        synchronized (this)
+        {
+            CachedContents cached = contents.get(file);
+            if (cached != null && cached.modificationStamp == stamp)
+                return cached.text;
+        }
+
+        String text = read(file);
+
+        synchronized (this)
+        {
+            removeContents(file);
+            if (text.length() <= MAX_CACHED_CHARACTERS / 4)
+            {
+                contents.put(file, new CachedContents(stamp, text));
+                cachedCharacters += text.length();
+
+                for (Iterator<CachedContents> it = contents.values().iterator();
+                     cachedCharacters > MAX_CACHED_CHARACTERS && it.hasNext(); )
+                {
+                    cachedCharacters -= it.next().text.length();
+                    it.remove();
+                }
+            }
+        }
+        return text;
+    }
+
+    private static String read(IFile file) throws CoreException, IOException
+    {
+        Reader in;
+        try
+        {
+            in = new InputStreamReader(file.getContents(true), file.getCharset());
+        }
+        catch (UnsupportedEncodingException e)
+        {
+            in = new InputStreamReader(file.getContents(true));
+        }
+
+        try
+        {
+            StringBuilder sb = new StringBuilder(4096);
+            char[] buffer = new char[4096];
+            for (int count = in.read(buffer); count >= 0; count = in.read(buffer))
+                sb.append(buffer, 0, count);
+            return sb.toString();
+        }
+        finally
+        {
+            in.close();
+        }
+    }
+
+    private void removeContents(IFile file)
+    {
+        CachedContents cached = contents.remove(file);
+        if (cached != null)
+            cachedCharacters -= cached.text.length();
+    }
+
+    private static final class CachedContents
+    {
+        public final long modificationStamp;
+        public final String text;
+
+        public CachedContents(long modificationStamp, String text)
+        {
+            this.modificationStamp = modificationStamp;
+            this.text = text;
+        }
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Resource Change Listener
+    ///////////////////////////////////////////////////////////////////////////
+
+    public void resourceChanged(IResourceChangeEvent event)
+    {
+        IResourceDelta delta = event.getDelta();
+        if (delta == null) return;
+
+        synchronized (this)
+        {
+            if (folders.isEmpty() && contents.isEmpty()) return;
+
+            try
+            {
+                delta.accept(new IResourceDeltaVisitor()
+                {
+                    public boolean visit(IResourceDelta delta)
+                    {
+                        return update(delta);
+                    }
+                });
+            }
+            catch (CoreException e)
+            {
+                // Rebuild the index on demand
+                folders.clear();
+                contents.clear();
+                cachedCharacters = 0;
+            }
+        }
+    }
+
+    private boolean update(IResourceDelta delta)
+    {
+        IResource resource = delta.getResource();
+
+        if (resource instanceof IFile)
+        {
+            IFile file = (IFile)resource;
+            switch (delta.getKind())
+            {
+                case IResourceDelta.ADDED:
+                    for (FolderIndex index : folders.values())
+                        if (index.folderPath.isPrefixOf(file.getFullPath()))
+                            index.add(file);
+                    break;
+
+                case IResourceDelta.REMOVED:
+                    for (FolderIndex index : folders.values())
+                        if (index.folderPath.isPrefixOf(file.getFullPath()))
+                            index.remove(file);
+                    removeContents(file);
+                    break;
+
+                case IResourceDelta.CHANGED:
+                    if ((delta.getFlags() & (IResourceDelta.CONTENT|IResourceDelta.REPLACED|IResourceDelta.ENCODING)) != 0)
+                        removeContents(file);
+                    break;
+            }
+            return false;
+        }
+        else
+        {
+            if (delta.getKind() != IResourceDelta.CHANGED || (delta.getFlags() & IResourceDelta.OPEN) != 0)
+            {
+                // A folder was added or removed, or a project was opened or closed; deltas may not
+                // be reported for the files under it, so discard any indices that may be affected
+                IPath path = resource.getFullPath();
+                for (Iterator<IPath> it = folders.keySet().iterator(); it.hasNext(); )
+                {
+                    IPath folderPath = it.next();
+                    if (folderPath.isPrefixOf(path) || path.isPrefixOf(folderPath))
+                        it.remove();
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -10,17 +10,17 @@
  *******************************************************************************/
 package org.eclipse.photran.internal.core.lexer.preprocessor.fortran_include;
 
-import java.io.BufferedReader;
 import java.io.FileNotFoundException;
-import java.io.InputStreamReader;
+import java.io.IOException;
 import java.io.Reader;
-import java.io.UnsupportedEncodingException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
-import org.eclipse.core.resources.IResourceVisitor;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.photran.internal.core.properties.SearchPathProperties;
@@ -34,6 +34,8 @@ public class IncludeLoaderCallback
 {
     protected IProject project;
     
+    private List<IContainer> includeFolders = null;
+    
     public IncludeLoaderCallback(IProject project)
     {
         this.project = project;
@@ -51,63 +53,46 @@ public class IncludeLoaderCallback
     {
         try
         {
-        	IFile file = getIncludedFile(fileToInclude);
-            try
-            {
-                return new BufferedReader(new InputStreamReader(file.getContents(true), file.getCharset()));
-            }
-            catch (UnsupportedEncodingException e)
-            {
-                return new BufferedReader(new InputStreamReader(file.getContents(true)));
-            }
+            return new StringReader(IncludeFileIndex.getInstance().getContents(getIncludedFile(fileToInclude)));
         }
         catch (CoreException e)
         {
         	throw new FileNotFoundException(fileToInclude + " - " + e.getMessage()); //$NON-NLS-1$
         }
+        catch (IOException e)
+        {
+            throw new FileNotFoundException(fileToInclude + " - " + e.getMessage()); //$NON-NLS-1$
+        }
     }
     
     protected IFile getIncludedFile(String fileToInclude) throws FileNotFoundException
     {
-        String[] paths = new SearchPathProperties().getListProperty(project, SearchPathProperties.INCLUDE_PATHS_PROPERTY_NAME);
-    	for (int i = 0; i < paths.length; i++)
+        for (IContainer folder : getIncludeFolders())
         {
-    	    IResource folder = ResourcesPlugin.getWorkspace().getRoot().findMember(paths[i]);
-            if (folder != null && folder.isAccessible())
-            {
-                IFile result = getIncludedFile(fileToInclude, folder);
-                if (result != null)
-                    return (IFile)result;
-            }
+            IFile result = IncludeFileIndex.getInstance().findIncludedFile(fileToInclude, folder);
+            if (result != null)
+                return result;
         }
         throw new FileNotFoundException(fileToInclude);
     }
 
-    private IFile getIncludedFile(final String fileToInclude, IResource folder)
+    /** @return the include folders for the project, in search order; these are determined the
+     *  first time this method is called, so a single callback uses the same search path for
+     *  every INCLUDE line in a file */
+    private List<IContainer> getIncludeFolders()
     {
-        class Visitor implements IResourceVisitor
+        if (includeFolders == null)
         {
-            private IFile result = null;
-            
-            public boolean visit(IResource resource) throws CoreException
+            includeFolders = new ArrayList<IContainer>();
+            String[] paths = new SearchPathProperties().getListProperty(project, SearchPathProperties.INCLUDE_PATHS_PROPERTY_NAME);
+            for (int i = 0; i < paths.length; i++)
             {
-                if (resource instanceof IFile
-                                && resource.isAccessible()
-                                && resource.getName().equals(fileToInclude))
-                {
-                    result = (IFile)resource;
-                    return false;
-                }
-                else
-                {
-                    return true;
-                }
+                IResource folder = ResourcesPlugin.getWorkspace().getRoot().findMember(paths[i]);
+                if (folder instanceof IContainer && folder.isAccessible())
+                    includeFolders.add((IContainer)folder);
             }
-        };
-        
-        Visitor visitor = new Visitor();
-        try { ((IContainer)folder).accept(visitor); } catch (CoreException e) { throw new Error(e); }
-        return visitor.result;
+        }
+        return includeFolders;
     }
 
     /**
@@ -40,6 +40,7 @@ public class ASTAccessSpecNode extends ASTNode
     {
         this.isPrivate = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTAccessSpecNode extends ASTNode
     {
         this.isPublic = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTAccessStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTAccessStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.accessSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTAccessStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.accessIdList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -46,6 +46,7 @@ public class ASTAllStopStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTAllStopStmtNode extends ASTNode implements IActionStmt
     {
         this.intConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTAllStopStmtNode extends ASTNode implements IActionStmt
     {
         this.stringConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +85,7 @@ public class ASTAllStopStmtNode extends ASTNode implements IActionStmt
     {
         this.paramVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTAllocatableStmtNode extends ASTNode implements ISpecificationStm
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTAllocatableStmtNode extends ASTNode implements ISpecificationStm
     {
         this.arrayAllocationList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTAllocateCoarraySpecNode extends ASTNode
     {
         this.sectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTAllocateCoarraySpecNode extends ASTNode
     {
         this.lb = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTAllocateCoarraySpecNode extends ASTNode
     {
         this.isAsterisk = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTAllocateObjectNode extends ASTNode
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTAllocateObjectNode extends ASTNode
     {
         this.fieldSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
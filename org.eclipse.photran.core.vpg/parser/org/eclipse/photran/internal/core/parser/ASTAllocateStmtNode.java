@@ -47,6 +47,7 @@ public class ASTAllocateStmtNode extends ASTNodeWithErrorRecoverySymbols impleme
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -59,6 +60,7 @@ public class ASTAllocateStmtNode extends ASTNodeWithErrorRecoverySymbols impleme
     {
         this.allocationList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -71,6 +73,7 @@ public class ASTAllocateStmtNode extends ASTNodeWithErrorRecoverySymbols impleme
     {
         this.statusVariable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTAllocatedShapeNode extends ASTNode
     {
         this.hasAllocatedShape = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTAllocatedShapeNode extends ASTNode
     {
         this.sectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTAllocatedShapeNode extends ASTNode
     {
         this.allocateCoarraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -45,6 +45,7 @@ public class ASTAllocationNode extends ASTNode
     {
         this.allocateObject = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTAllocationNode extends ASTNode
     {
         this.hasAllocatedShape = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTAllocationNode extends ASTNode
     {
         this.sectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -81,6 +84,7 @@ public class ASTAllocationNode extends ASTNode
     {
         this.allocateCoarraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
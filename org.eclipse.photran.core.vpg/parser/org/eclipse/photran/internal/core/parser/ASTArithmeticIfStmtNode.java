@@ -49,6 +49,7 @@ public class ASTArithmeticIfStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -61,6 +62,7 @@ public class ASTArithmeticIfStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.expr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -73,6 +75,7 @@ public class ASTArithmeticIfStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.first = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -85,6 +88,7 @@ public class ASTArithmeticIfStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.second = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -97,6 +101,7 @@ public class ASTArithmeticIfStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.third = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
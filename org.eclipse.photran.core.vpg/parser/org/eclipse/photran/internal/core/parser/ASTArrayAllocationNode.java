@@ -42,6 +42,7 @@ public class ASTArrayAllocationNode extends ASTNode
     {
         this.arrayName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTArrayAllocationNode extends ASTNode
     {
         this.deferredShapeSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
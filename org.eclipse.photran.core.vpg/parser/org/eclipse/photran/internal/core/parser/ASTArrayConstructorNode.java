@@ -43,6 +43,7 @@ public class ASTArrayConstructorNode extends ASTNode implements IExpr
     {
         this.acValueList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTArrayDeclaratorNode extends ASTNode
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTArrayDeclaratorNode extends ASTNode
     {
         this.arraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTArrayElementNode extends ASTNode implements IDataIDoObject
     {
         this.structureComponent = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTArrayElementNode extends ASTNode implements IDataIDoObject
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTArrayElementNode extends ASTNode implements IDataIDoObject
     {
         this.sectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -80,6 +83,7 @@ public class ASTArrayElementNode extends ASTNode implements IDataIDoObject
     {
         this.imageSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
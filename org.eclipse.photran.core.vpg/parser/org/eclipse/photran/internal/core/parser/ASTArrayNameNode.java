@@ -39,6 +39,7 @@ public class ASTArrayNameNode extends ASTNode
     {
         this.arrayName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
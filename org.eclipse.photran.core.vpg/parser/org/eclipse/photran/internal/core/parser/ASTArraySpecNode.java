@@ -42,6 +42,7 @@ public class ASTArraySpecNode extends ASTNode
     {
         this.assumedShapeSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTArraySpecNode extends ASTNode
     {
         this.assumedSizeSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTArraySpecNode extends ASTNode
     {
         this.explicitShapeSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -78,6 +81,7 @@ public class ASTArraySpecNode extends ASTNode
     {
         this.deferredShapeSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTAssignStmtNode extends ASTNode implements IActionStmt, IObsolete
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTAssignStmtNode extends ASTNode implements IActionStmt, IObsolete
     {
         this.assignedLblRef = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTAssignStmtNode extends ASTNode implements IActionStmt, IObsolete
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
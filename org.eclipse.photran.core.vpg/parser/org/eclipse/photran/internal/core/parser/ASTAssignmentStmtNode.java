@@ -56,6 +56,7 @@ public class ASTAssignmentStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +69,7 @@ public class ASTAssignmentStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.lhsVariable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -80,6 +82,7 @@ public class ASTAssignmentStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.lhsNameList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -92,6 +95,7 @@ public class ASTAssignmentStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.lhsExprList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -104,6 +108,7 @@ public class ASTAssignmentStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.imageSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -116,6 +121,7 @@ public class ASTAssignmentStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.derivedTypeComponentRef = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -128,6 +134,7 @@ public class ASTAssignmentStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.componentSectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -140,6 +147,7 @@ public class ASTAssignmentStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.substringRange = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -152,6 +160,7 @@ public class ASTAssignmentStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.isPointerAssignment = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -164,6 +173,7 @@ public class ASTAssignmentStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.target = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -176,6 +186,7 @@ public class ASTAssignmentStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.rhs = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
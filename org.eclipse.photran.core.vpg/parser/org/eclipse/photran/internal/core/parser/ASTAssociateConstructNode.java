@@ -41,6 +41,7 @@ public class ASTAssociateConstructNode extends ASTNode implements IExecutableCon
     {
         this.associateStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTAssociateConstructNode extends ASTNode implements IExecutableCon
     {
         this.associateBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTAssociateConstructNode extends ASTNode implements IExecutableCon
     {
         this.endAssociateStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
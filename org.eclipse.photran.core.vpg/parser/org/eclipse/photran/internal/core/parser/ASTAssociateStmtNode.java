@@ -46,6 +46,7 @@ public class ASTAssociateStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTAssociateStmtNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTAssociateStmtNode extends ASTNode
     {
         this.associationList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTAssociationNode extends ASTNode
     {
         this.associateName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTAssociationNode extends ASTNode
     {
         this.selector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTAssumedShapeSpecNode extends ASTNode
     {
         this.lb = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTAsynchronousStmtNode extends ASTNode implements ISpecificationSt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTAsynchronousStmtNode extends ASTNode implements ISpecificationSt
     {
         this.objectList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -63,6 +63,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isSave = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -75,6 +76,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isPointer = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -87,6 +89,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isValue = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -99,6 +102,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isExternal = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -111,6 +115,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isDimension = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -123,6 +128,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isVolatile = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -135,6 +141,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isAsync = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -147,6 +154,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isContiguous = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -159,6 +167,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isProtected = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -171,6 +180,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isCodimension = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -183,6 +193,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.coarraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -195,6 +206,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.accessSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -207,6 +219,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isIntrinsic = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -219,6 +232,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.languageBindingSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -231,6 +245,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isAllocatable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -243,6 +258,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isOptional = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -255,6 +271,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isTarget = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -267,6 +284,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isIntent = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -279,6 +297,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.arraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -291,6 +310,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.intentSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -303,6 +323,7 @@ public class ASTAttrSpecNode extends ASTNode
     {
         this.isParameter = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTAttrSpecSeqNode extends ASTNode
     {
         this.attrSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
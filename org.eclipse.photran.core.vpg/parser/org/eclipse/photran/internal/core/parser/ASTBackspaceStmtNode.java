@@ -45,6 +45,7 @@ public class ASTBackspaceStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTBackspaceStmtNode extends ASTNode implements IActionStmt
     {
         this.unitIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTBackspaceStmtNode extends ASTNode implements IActionStmt
     {
         this.positionSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTBinaryExprNode extends ASTNode implements IExpr, ISelector
     {
         this.lhsExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTBinaryExprNode extends ASTNode implements IExpr, ISelector
     {
         this.operator = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTBinaryExprNode extends ASTNode implements IExpr, ISelector
     {
         this.rhsExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
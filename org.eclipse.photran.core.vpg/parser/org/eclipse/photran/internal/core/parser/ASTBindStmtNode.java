@@ -44,6 +44,7 @@ public class ASTBindStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTBindStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.languageBindingSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTBindStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.bindEntityList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
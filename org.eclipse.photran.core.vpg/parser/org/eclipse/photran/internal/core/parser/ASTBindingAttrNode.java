@@ -46,6 +46,7 @@ public class ASTBindingAttrNode extends ASTNode
     {
         this.isDeferred = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTBindingAttrNode extends ASTNode
     {
         this.accessSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTBindingAttrNode extends ASTNode
     {
         this.isNonOverridable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +85,7 @@ public class ASTBindingAttrNode extends ASTNode
     {
         this.isNoPass = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -94,6 +98,7 @@ public class ASTBindingAttrNode extends ASTNode
     {
         this.isPass = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -106,6 +111,7 @@ public class ASTBindingAttrNode extends ASTNode
     {
         this.argName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTBindingPrivateStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTBindingPrivateStmtNode extends ASTNode
     {
         this.privateToken = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTBindingPrivateStmtNode extends ASTNode
     {
         this.isPrivate = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
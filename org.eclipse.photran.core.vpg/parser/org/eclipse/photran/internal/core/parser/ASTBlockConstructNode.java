@@ -41,6 +41,7 @@ public class ASTBlockConstructNode extends ScopingNode implements IExecutableCon
     {
         this.blockStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTBlockConstructNode extends ScopingNode implements IExecutableCon
     {
         this.body = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTBlockConstructNode extends ScopingNode implements IExecutableCon
     {
         this.endBlockStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTBlockDataNameNode extends ASTNode
     {
         this.blockDataName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
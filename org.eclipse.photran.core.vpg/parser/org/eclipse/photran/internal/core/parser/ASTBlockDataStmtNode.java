@@ -43,6 +43,7 @@ public class ASTBlockDataStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTBlockDataStmtNode extends ASTNode
     {
         this.blockDataToken = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTBlockDataStmtNode extends ASTNode
     {
         this.blockDataName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTBlockDataSubprogramNode extends ScopingNode implements IProgramU
     {
         this.blockDataStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTBlockDataSubprogramNode extends ScopingNode implements IProgramU
     {
         this.blockDataBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTBlockDataSubprogramNode extends ScopingNode implements IProgramU
     {
         this.endBlockDataStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
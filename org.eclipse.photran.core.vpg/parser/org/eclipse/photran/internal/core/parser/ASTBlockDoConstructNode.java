@@ -39,6 +39,7 @@ public class ASTBlockDoConstructNode extends ASTNode
     {
         this.labelDoStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTBodyPlusInternalsNode extends ASTNode
     {
         this.body = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTBodyPlusInternalsNode extends ASTNode
     {
         this.containsStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTBodyPlusInternalsNode extends ASTNode
     {
         this.internalSubprograms = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
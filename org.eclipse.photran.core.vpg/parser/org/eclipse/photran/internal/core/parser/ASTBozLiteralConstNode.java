@@ -41,6 +41,7 @@ public class ASTBozLiteralConstNode extends ASTNode
     {
         this.binaryConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTBozLiteralConstNode extends ASTNode
     {
         this.octalConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTBozLiteralConstNode extends ASTNode
     {
         this.hexConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTCExprNode extends ASTNode
     {
         this.lhsExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTCExprNode extends ASTNode
     {
         this.concatOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTCExprNode extends ASTNode
     {
         this.rhsPrimary = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -50,6 +50,7 @@ public class ASTCOperandNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -62,6 +63,7 @@ public class ASTCOperandNode extends ASTNode
     {
         this.functionArgList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -74,6 +76,7 @@ public class ASTCOperandNode extends ASTNode
     {
         this.stringConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -86,6 +89,7 @@ public class ASTCOperandNode extends ASTNode
     {
         this.primarySectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -98,6 +102,7 @@ public class ASTCOperandNode extends ASTNode
     {
         this.imageSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -110,6 +115,7 @@ public class ASTCOperandNode extends ASTNode
     {
         this.derivedTypeComponentRef = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -122,6 +128,7 @@ public class ASTCOperandNode extends ASTNode
     {
         this.componentSectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -51,6 +51,7 @@ public class ASTCPrimaryNode extends ASTNode
     {
         this.stringConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -63,6 +64,7 @@ public class ASTCPrimaryNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -75,6 +77,7 @@ public class ASTCPrimaryNode extends ASTNode
     {
         this.nestedExpression = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -87,6 +90,7 @@ public class ASTCPrimaryNode extends ASTNode
     {
         this.functionArgList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -99,6 +103,7 @@ public class ASTCPrimaryNode extends ASTNode
     {
         this.primarySectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -111,6 +116,7 @@ public class ASTCPrimaryNode extends ASTNode
     {
         this.imageSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -123,6 +129,7 @@ public class ASTCPrimaryNode extends ASTNode
     {
         this.derivedTypeComponentRef = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -135,6 +142,7 @@ public class ASTCPrimaryNode extends ASTNode
     {
         this.componentSectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -46,6 +46,7 @@ public class ASTCallStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTCallStmtNode extends ASTNode implements IActionStmt
     {
         this.subroutineName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTCallStmtNode extends ASTNode implements IActionStmt
     {
         this.derivedTypeQualifiers = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +85,7 @@ public class ASTCallStmtNode extends ASTNode implements IActionStmt
     {
         this.argList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
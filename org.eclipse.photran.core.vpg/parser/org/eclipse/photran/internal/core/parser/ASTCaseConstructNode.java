@@ -41,6 +41,7 @@ public class ASTCaseConstructNode extends ASTNode implements IExecutableConstruc
     {
         this.selectCaseStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTCaseConstructNode extends ASTNode implements IExecutableConstruc
     {
         this.selectCaseBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTCaseConstructNode extends ASTNode implements IExecutableConstruc
     {
         this.endSelectStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
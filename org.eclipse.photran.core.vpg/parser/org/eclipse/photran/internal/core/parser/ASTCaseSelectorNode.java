@@ -42,6 +42,7 @@ public class ASTCaseSelectorNode extends ASTNode
     {
         this.hasDefaultSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTCaseSelectorNode extends ASTNode
     {
         this.caseValueRangeListSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
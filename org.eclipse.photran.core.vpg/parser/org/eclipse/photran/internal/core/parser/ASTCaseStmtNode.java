@@ -46,6 +46,7 @@ public class ASTCaseStmtNode extends ASTNodeWithErrorRecoverySymbols implements
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTCaseStmtNode extends ASTNodeWithErrorRecoverySymbols implements
     {
         this.caseValueRangeListSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTCaseStmtNode extends ASTNodeWithErrorRecoverySymbols implements
     {
         this.hasDefaultSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +85,7 @@ public class ASTCaseStmtNode extends ASTNodeWithErrorRecoverySymbols implements
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
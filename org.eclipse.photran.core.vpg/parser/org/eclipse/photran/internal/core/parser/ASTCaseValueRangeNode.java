@@ -41,6 +41,7 @@ public class ASTCaseValueRangeNode extends ASTNode
     {
         this.lb = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTCaseValueRangeNode extends ASTNode
     {
         this.ub = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTCharLenParamValueNode extends ASTNode
     {
         this.isAssumedLength = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTCharLenParamValueNode extends ASTNode
     {
         this.lengthExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTCharLenParamValueNode extends ASTNode
     {
         this.isColon = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
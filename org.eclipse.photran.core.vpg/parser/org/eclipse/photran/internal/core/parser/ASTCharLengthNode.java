@@ -45,6 +45,7 @@ public class ASTCharLengthNode extends ASTNode
     {
         this.constIntLength = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTCharLengthNode extends ASTNode
     {
         this.isAssumedLength = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTCharLengthNode extends ASTNode
     {
         this.isColon = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -81,6 +84,7 @@ public class ASTCharLengthNode extends ASTNode
     {
         this.lengthExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -93,6 +97,7 @@ public class ASTCharLengthNode extends ASTNode
     {
         this.constNameLength = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +54,7 @@ public class ASTCharSelectorNode extends ASTNode
     {
         this.constIntLength = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +67,7 @@ public class ASTCharSelectorNode extends ASTNode
     {
         this.constNameLength = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -78,6 +80,7 @@ public class ASTCharSelectorNode extends ASTNode
     {
         this.kindExpr2 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -90,6 +93,7 @@ public class ASTCharSelectorNode extends ASTNode
     {
         this.isColon = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -102,6 +106,7 @@ public class ASTCharSelectorNode extends ASTNode
     {
         this.isAssumedLength = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -114,6 +119,7 @@ public class ASTCharSelectorNode extends ASTNode
     {
         this.lengthExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -126,6 +132,7 @@ public class ASTCharSelectorNode extends ASTNode
     {
         this.kindExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
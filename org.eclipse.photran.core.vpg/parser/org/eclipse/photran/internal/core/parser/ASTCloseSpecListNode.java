@@ -41,6 +41,7 @@ public class ASTCloseSpecListNode extends ASTNode
     {
         this.closeSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTCloseSpecListNode extends ASTNode
     {
         this.unitIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
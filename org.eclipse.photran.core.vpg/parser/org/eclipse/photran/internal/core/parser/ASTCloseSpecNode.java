@@ -48,6 +48,7 @@ public class ASTCloseSpecNode extends ASTNode
     {
         this.statusExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -60,6 +61,7 @@ public class ASTCloseSpecNode extends ASTNode
     {
         this.unitIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -72,6 +74,7 @@ public class ASTCloseSpecNode extends ASTNode
     {
         this.errLbl = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -84,6 +87,7 @@ public class ASTCloseSpecNode extends ASTNode
     {
         this.ioStatVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -96,6 +100,7 @@ public class ASTCloseSpecNode extends ASTNode
     {
         this.ioMsgVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTCloseStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTCloseStmtNode extends ASTNode implements IActionStmt
     {
         this.closeSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
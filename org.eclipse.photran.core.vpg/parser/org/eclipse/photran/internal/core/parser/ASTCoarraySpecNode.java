@@ -40,6 +40,7 @@ public class ASTCoarraySpecNode extends ASTNode
     {
         this.deferredCoshapeSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTCoarraySpecNode extends ASTNode
     {
         this.explicitCoshapeSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTCodimensionStmtNode extends ASTNode implements ISpecificationStm
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTCodimensionStmtNode extends ASTNode implements ISpecificationStm
     {
         this.codimensionDeclList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTCommaExpNode extends ASTNode
     {
         this.expr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTCommaLoopControlNode extends ASTNode
     {
         this.loopControl = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
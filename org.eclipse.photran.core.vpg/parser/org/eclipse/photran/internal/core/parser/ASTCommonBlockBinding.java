@@ -41,6 +41,7 @@ public class ASTCommonBlockBinding extends ASTNode implements IBindEntity
     {
         this.commonBlockName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
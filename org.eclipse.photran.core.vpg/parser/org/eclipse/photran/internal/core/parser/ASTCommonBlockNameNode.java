@@ -39,6 +39,7 @@ public class ASTCommonBlockNameNode extends ASTNode
     {
         this.commonBlockName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
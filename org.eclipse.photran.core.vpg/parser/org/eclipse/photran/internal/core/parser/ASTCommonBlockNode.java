@@ -42,6 +42,7 @@ public class ASTCommonBlockNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTCommonBlockNode extends ASTNode
     {
         this.commonBlockObjectList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTCommonBlockObjectNode extends ASTNode
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTCommonBlockObjectNode extends ASTNode
     {
         this.arraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
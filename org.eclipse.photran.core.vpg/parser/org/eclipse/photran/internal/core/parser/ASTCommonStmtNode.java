@@ -42,6 +42,7 @@ public class ASTCommonStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTCommonStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.commonBlockList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
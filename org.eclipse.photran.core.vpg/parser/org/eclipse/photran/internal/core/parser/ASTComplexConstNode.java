@@ -43,6 +43,7 @@ public class ASTComplexConstNode extends ASTNode implements IUnsignedArithmeticC
     {
         this.realPart = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTComplexConstNode extends ASTNode implements IUnsignedArithmeticC
     {
         this.complexPart = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTComponentArraySpecNode extends ASTNode
     {
         this.deferredShapeSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTComponentArraySpecNode extends ASTNode
     {
         this.explicitShapeSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
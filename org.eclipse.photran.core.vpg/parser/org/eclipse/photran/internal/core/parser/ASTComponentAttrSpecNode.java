@@ -50,6 +50,7 @@ public class ASTComponentAttrSpecNode extends ASTNode
     {
         this.codimension = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -62,6 +63,7 @@ public class ASTComponentAttrSpecNode extends ASTNode
     {
         this.dimension = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -74,6 +76,7 @@ public class ASTComponentAttrSpecNode extends ASTNode
     {
         this.allocatable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -86,6 +89,7 @@ public class ASTComponentAttrSpecNode extends ASTNode
     {
         this.pointer = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -98,6 +102,7 @@ public class ASTComponentAttrSpecNode extends ASTNode
     {
         this.coarraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -110,6 +115,7 @@ public class ASTComponentAttrSpecNode extends ASTNode
     {
         this.componentArraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -122,6 +128,7 @@ public class ASTComponentAttrSpecNode extends ASTNode
     {
         this.accessSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -134,6 +141,7 @@ public class ASTComponentAttrSpecNode extends ASTNode
     {
         this.contiguous = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -48,6 +48,7 @@ public class ASTComponentDeclNode extends ASTNode
     {
         this.componentName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -60,6 +61,7 @@ public class ASTComponentDeclNode extends ASTNode
     {
         this.componentArraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -72,6 +74,7 @@ public class ASTComponentDeclNode extends ASTNode
     {
         this.coarraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -84,6 +87,7 @@ public class ASTComponentDeclNode extends ASTNode
     {
         this.charLength = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -96,6 +100,7 @@ public class ASTComponentDeclNode extends ASTNode
     {
         this.componentInitialization = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTComponentInitializationNode extends ASTNode
     {
         this.assignsNull = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTComponentInitializationNode extends ASTNode
     {
         this.assignsExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTComponentInitializationNode extends ASTNode
     {
         this.assignedExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTComponentNameNode extends ASTNode
     {
         this.componentName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -48,6 +48,7 @@ public class ASTComputedGotoStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -60,6 +61,7 @@ public class ASTComputedGotoStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.lblRefList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -72,6 +74,7 @@ public class ASTComputedGotoStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.expr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -81,6 +81,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.roundExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -93,6 +94,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.encodingExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -105,6 +107,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.filename = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -117,6 +120,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.signExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -129,6 +133,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.positionExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -141,6 +146,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.actionExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -153,6 +159,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.decimalExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -165,6 +172,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.accessExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -177,6 +185,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.convertExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -189,6 +198,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.fileExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -201,6 +211,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.delimExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -213,6 +224,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.statusExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -225,6 +237,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.iomsgExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -237,6 +250,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.blankExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -249,6 +263,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.padExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -261,6 +276,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.asyncExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -273,6 +289,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.ioStatVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -285,6 +302,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.newunitExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -297,6 +315,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.unitIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -309,6 +328,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.errLbl = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -321,6 +341,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.formExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -333,6 +354,7 @@ public class ASTConnectSpecNode extends ASTNode
     {
         this.reclExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -50,6 +50,7 @@ public class ASTConstantNode extends ASTNode
     {
         this.logicalConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -62,6 +63,7 @@ public class ASTConstantNode extends ASTNode
     {
         this.namedConstantKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -74,6 +76,7 @@ public class ASTConstantNode extends ASTNode
     {
         this.hasPlus = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -86,6 +89,7 @@ public class ASTConstantNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -98,6 +102,7 @@ public class ASTConstantNode extends ASTNode
     {
         this.bozLiteralConstant = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -110,6 +115,7 @@ public class ASTConstantNode extends ASTNode
     {
         this.hollerithConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -122,6 +128,7 @@ public class ASTConstantNode extends ASTNode
     {
         this.hasIntKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -134,6 +141,7 @@ public class ASTConstantNode extends ASTNode
     {
         this.stringConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -146,6 +154,7 @@ public class ASTConstantNode extends ASTNode
     {
         this.hasMinus = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -158,6 +167,7 @@ public class ASTConstantNode extends ASTNode
     {
         this.unsignedArithmeticConstant = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -170,6 +180,7 @@ public class ASTConstantNode extends ASTNode
     {
         this.structureConstructor = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
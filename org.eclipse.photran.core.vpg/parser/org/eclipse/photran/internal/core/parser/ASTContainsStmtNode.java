@@ -41,6 +41,7 @@ public class ASTContainsStmtNode extends ASTNode implements IModuleSubprogramPar
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTCrayPointerStmtObjectNode extends ASTNode
     {
         this.pointerName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTCrayPointerStmtObjectNode extends ASTNode
     {
         this.targetObject = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTCriticalConstructNode extends ASTNode implements IExecutableCons
     {
         this.criticalStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTCriticalConstructNode extends ASTNode implements IExecutableCons
     {
         this.body = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTCriticalConstructNode extends ASTNode implements IExecutableCons
     {
         this.endCriticalStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
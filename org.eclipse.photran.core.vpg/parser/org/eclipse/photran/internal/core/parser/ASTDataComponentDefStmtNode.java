@@ -46,6 +46,7 @@ public class ASTDataComponentDefStmtNode extends ASTNode implements IComponentDe
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTDataComponentDefStmtNode extends ASTNode implements IComponentDe
     {
         this.typeSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTDataComponentDefStmtNode extends ASTNode implements IComponentDe
     {
         this.componentAttrSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +85,7 @@ public class ASTDataComponentDefStmtNode extends ASTNode implements IComponentDe
     {
         this.componentDeclList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
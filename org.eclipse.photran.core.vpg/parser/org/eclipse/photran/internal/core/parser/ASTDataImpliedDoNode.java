@@ -49,6 +49,7 @@ public class ASTDataImpliedDoNode extends ASTNode implements IDataIDoObject, IDa
     {
         this.dataIDoObjectList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -61,6 +62,7 @@ public class ASTDataImpliedDoNode extends ASTNode implements IDataIDoObject, IDa
     {
         this.impliedDoVariable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -73,6 +75,7 @@ public class ASTDataImpliedDoNode extends ASTNode implements IDataIDoObject, IDa
     {
         this.lb = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -85,6 +88,7 @@ public class ASTDataImpliedDoNode extends ASTNode implements IDataIDoObject, IDa
     {
         this.ub = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -97,6 +101,7 @@ public class ASTDataImpliedDoNode extends ASTNode implements IDataIDoObject, IDa
     {
         this.step = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -45,6 +45,7 @@ public class ASTDataRefNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTDataRefNode extends ASTNode
     {
         this.primarySectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTDataRefNode extends ASTNode
     {
         this.imageSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -81,6 +84,7 @@ public class ASTDataRefNode extends ASTNode
     {
         this.hasDerivedTypeComponentName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -93,6 +97,7 @@ public class ASTDataRefNode extends ASTNode
     {
         this.componentName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
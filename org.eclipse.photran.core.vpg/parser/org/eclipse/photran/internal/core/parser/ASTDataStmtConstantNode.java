@@ -42,6 +42,7 @@ public class ASTDataStmtConstantNode extends ASTNode
     {
         this.constant = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTDataStmtConstantNode extends ASTNode
     {
         this.isNull = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
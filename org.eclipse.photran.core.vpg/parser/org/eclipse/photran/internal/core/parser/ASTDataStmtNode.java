@@ -42,6 +42,7 @@ public class ASTDataStmtNode extends ASTNodeWithErrorRecoverySymbols implements
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTDataStmtNode extends ASTNodeWithErrorRecoverySymbols implements
     {
         this.datalist = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTDataStmtSetNode extends ASTNode
     {
         this.dataStmtObjectList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTDataStmtSetNode extends ASTNode
     {
         this.dataStmtValueList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -45,6 +45,7 @@ public class ASTDataStmtValueNode extends ASTNode
     {
         this.namedConstKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTDataStmtValueNode extends ASTNode
     {
         this.hasConstIntKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTDataStmtValueNode extends ASTNode
     {
         this.constant = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -81,6 +84,7 @@ public class ASTDataStmtValueNode extends ASTNode
     {
         this.isNull = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTDatalistNode extends ASTNode
     {
         this.dataStmtSet = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
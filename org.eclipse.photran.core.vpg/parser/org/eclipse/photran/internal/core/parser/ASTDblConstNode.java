@@ -42,6 +42,7 @@ public class ASTDblConstNode extends ASTNode implements IExpr, ISelector, IUnsig
     {
         this.dblConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTDblConstNode extends ASTNode implements IExpr, ISelector, IUnsig
     {
         this.namedConstKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTDblConstNode extends ASTNode implements IExpr, ISelector, IUnsig
     {
         this.intKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
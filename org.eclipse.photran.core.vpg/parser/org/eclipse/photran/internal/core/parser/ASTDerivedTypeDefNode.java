@@ -43,6 +43,7 @@ public class ASTDerivedTypeDefNode extends ScopingNode implements IDeclarationCo
     {
         this.derivedTypeStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTDerivedTypeDefNode extends ScopingNode implements IDeclarationCo
     {
         this.typeParamDefStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTDerivedTypeDefNode extends ScopingNode implements IDeclarationCo
     {
         this.derivedTypeBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTDerivedTypeDefNode extends ScopingNode implements IDeclarationCo
     {
         this.typeBoundProcedurePart = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +95,7 @@ public class ASTDerivedTypeDefNode extends ScopingNode implements IDeclarationCo
     {
         this.endTypeStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
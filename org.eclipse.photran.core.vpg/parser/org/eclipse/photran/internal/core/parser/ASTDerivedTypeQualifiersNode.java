@@ -43,6 +43,7 @@ public class ASTDerivedTypeQualifiersNode extends ASTNode
     {
         this.argList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTDerivedTypeQualifiersNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTDerivedTypeSpecNode extends ASTNode
     {
         this.typeName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTDerivedTypeSpecNode extends ASTNode
     {
         this.typeParamSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
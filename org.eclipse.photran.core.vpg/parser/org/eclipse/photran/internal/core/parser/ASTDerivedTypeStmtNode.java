@@ -49,6 +49,7 @@ public class ASTDerivedTypeStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -61,6 +62,7 @@ public class ASTDerivedTypeStmtNode extends ASTNode
     {
         this.typeAttrSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -73,6 +75,7 @@ public class ASTDerivedTypeStmtNode extends ASTNode
     {
         this.typeName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -85,6 +88,7 @@ public class ASTDerivedTypeStmtNode extends ASTNode
     {
         this.typeParamNameList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
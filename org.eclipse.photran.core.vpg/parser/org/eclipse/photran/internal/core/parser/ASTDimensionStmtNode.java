@@ -44,6 +44,7 @@ public class ASTDimensionStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTDimensionStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.arrayDeclaratorList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
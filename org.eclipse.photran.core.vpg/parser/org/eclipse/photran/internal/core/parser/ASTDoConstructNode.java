@@ -39,6 +39,7 @@ public class ASTDoConstructNode extends ASTNode implements IExecutableConstruct
     {
         this.labelDoStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -45,6 +45,7 @@ public class ASTEditElementNode extends ASTNode
     {
         this.identifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTEditElementNode extends ASTNode
     {
         this.hollerith = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTEditElementNode extends ASTNode
     {
         this.fmtSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -81,6 +84,7 @@ public class ASTEditElementNode extends ASTNode
     {
         this.floatConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -93,6 +97,7 @@ public class ASTEditElementNode extends ASTNode
     {
         this.stringConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTElseConstructNode extends ASTNode
     {
         this.elseStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTElseConstructNode extends ASTNode
     {
         this.conditionalBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTElseConstructNode extends ASTNode
     {
         this.endIfStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTElseIfConstructNode extends ASTNode
     {
         this.elseIfStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTElseIfConstructNode extends ASTNode
     {
         this.conditionalBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTElseIfConstructNode extends ASTNode
     {
         this.endIfStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTElseIfConstructNode extends ASTNode
     {
         this.elseIfConstruct = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +95,7 @@ public class ASTElseIfConstructNode extends ASTNode
     {
         this.elseConstruct = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
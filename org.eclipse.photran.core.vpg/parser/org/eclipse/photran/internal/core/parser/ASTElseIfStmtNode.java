@@ -48,6 +48,7 @@ public class ASTElseIfStmtNode extends ASTNodeWithErrorRecoverySymbols implement
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -60,6 +61,7 @@ public class ASTElseIfStmtNode extends ASTNodeWithErrorRecoverySymbols implement
     {
         this.guardingExpression = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -72,6 +74,7 @@ public class ASTElseIfStmtNode extends ASTNodeWithErrorRecoverySymbols implement
     {
         this.endName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTElsePartNode extends ASTNode
     {
         this.conditionalBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTElsePartNode extends ASTNode
     {
         this.endIfStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTElseStmtNode extends ASTNodeWithErrorRecoverySymbols implements
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTElseStmtNode extends ASTNodeWithErrorRecoverySymbols implements
     {
         this.endName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
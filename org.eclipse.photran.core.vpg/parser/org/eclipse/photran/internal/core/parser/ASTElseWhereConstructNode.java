@@ -41,6 +41,7 @@ public class ASTElseWhereConstructNode extends ASTNode
     {
         this.elseWhereStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTElseWhereConstructNode extends ASTNode
     {
         this.whereBodyConstructBlock = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTElseWhereConstructNode extends ASTNode
     {
         this.endWhereStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTElseWherePartNode extends ASTNode
     {
         this.whereBodyConstructBlock = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTElseWherePartNode extends ASTNode
     {
         this.endWhereStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -47,6 +47,7 @@ public class ASTEndBlockDataStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -59,6 +60,7 @@ public class ASTEndBlockDataStmtNode extends ASTNode
     {
         this.endName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTEndEnumStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTEndSelectTypeStmtNode extends ASTNode
     {
         this.selectConstructName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
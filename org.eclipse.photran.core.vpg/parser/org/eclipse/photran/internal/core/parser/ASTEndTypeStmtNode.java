@@ -44,6 +44,7 @@ public class ASTEndTypeStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTEndTypeStmtNode extends ASTNode
     {
         this.typeName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
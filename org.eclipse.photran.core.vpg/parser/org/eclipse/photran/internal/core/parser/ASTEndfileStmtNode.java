@@ -47,6 +47,7 @@ public class ASTEndfileStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -59,6 +60,7 @@ public class ASTEndfileStmtNode extends ASTNode implements IActionStmt
     {
         this.positionSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -71,6 +73,7 @@ public class ASTEndfileStmtNode extends ASTNode implements IActionStmt
     {
         this.unitIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
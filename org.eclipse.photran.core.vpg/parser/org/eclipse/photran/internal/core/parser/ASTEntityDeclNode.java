@@ -55,6 +55,7 @@ public class ASTEntityDeclNode extends ASTNode
     {
         this.objectName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +68,7 @@ public class ASTEntityDeclNode extends ASTNode
     {
         this.initialCharLength = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +81,7 @@ public class ASTEntityDeclNode extends ASTNode
     {
         this.arraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +94,7 @@ public class ASTEntityDeclNode extends ASTNode
     {
         this.coarraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -103,6 +107,7 @@ public class ASTEntityDeclNode extends ASTNode
     {
         this.charLength = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -115,6 +120,7 @@ public class ASTEntityDeclNode extends ASTNode
     {
         this.dataStmtValueList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -127,6 +133,7 @@ public class ASTEntityDeclNode extends ASTNode
     {
         this.initialization = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
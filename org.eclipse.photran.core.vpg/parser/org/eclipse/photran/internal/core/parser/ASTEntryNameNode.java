@@ -39,6 +39,7 @@ public class ASTEntryNameNode extends ASTNode
     {
         this.entryName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -45,6 +45,7 @@ public class ASTEntryStmtNode extends ASTNode implements IBlockDataBodyConstruct
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTEntryStmtNode extends ASTNode implements IBlockDataBodyConstruct
     {
         this.entryName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTEntryStmtNode extends ASTNode implements IBlockDataBodyConstruct
     {
         this.subroutinePars = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTEnumDefNode extends ASTNode implements IDeclarationConstruct
     {
         this.enumDefStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTEnumDefNode extends ASTNode implements IDeclarationConstruct
     {
         this.enumeratorDefStmts = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTEnumDefNode extends ASTNode implements IDeclarationConstruct
     {
         this.endEnumStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -46,6 +46,7 @@ public class ASTEnumDefStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
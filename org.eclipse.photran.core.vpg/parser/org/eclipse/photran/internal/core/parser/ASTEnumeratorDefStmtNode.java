@@ -44,6 +44,7 @@ public class ASTEnumeratorDefStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTEnumeratorDefStmtNode extends ASTNode
     {
         this.enumeratorList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
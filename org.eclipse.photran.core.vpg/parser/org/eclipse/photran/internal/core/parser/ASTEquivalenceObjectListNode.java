@@ -40,6 +40,7 @@ public class ASTEquivalenceObjectListNode extends ASTNode
     {
         this.variable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
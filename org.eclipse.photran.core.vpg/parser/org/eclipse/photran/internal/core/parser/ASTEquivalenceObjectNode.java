@@ -39,6 +39,7 @@ public class ASTEquivalenceObjectNode extends ASTNode
     {
         this.variable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
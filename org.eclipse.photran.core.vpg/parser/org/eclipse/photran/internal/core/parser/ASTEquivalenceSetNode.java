@@ -43,6 +43,7 @@ public class ASTEquivalenceSetNode extends ASTNode
     {
         this.variable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTEquivalenceSetNode extends ASTNode
     {
         this.equivalentObjects = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
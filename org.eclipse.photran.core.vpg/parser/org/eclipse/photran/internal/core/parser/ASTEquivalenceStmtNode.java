@@ -42,6 +42,7 @@ public class ASTEquivalenceStmtNode extends ASTNode implements ISpecificationStm
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTEquivalenceStmtNode extends ASTNode implements ISpecificationStm
     {
         this.equivalenceSetList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTExecutableProgramNode extends ScopingNode
     {
         this.emptyProgram = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTExecutableProgramNode extends ScopingNode
     {
         this.programUnitList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
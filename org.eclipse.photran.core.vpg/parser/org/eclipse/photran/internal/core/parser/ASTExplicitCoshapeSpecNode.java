@@ -43,6 +43,7 @@ public class ASTExplicitCoshapeSpecNode extends ASTNode
     {
         this.explicitShapeSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTExplicitCoshapeSpecNode extends ASTNode
     {
         this.lb = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
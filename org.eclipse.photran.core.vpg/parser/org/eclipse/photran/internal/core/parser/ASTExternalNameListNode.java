@@ -40,6 +40,7 @@ public class ASTExternalNameListNode extends ASTNode
     {
         this.externalName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
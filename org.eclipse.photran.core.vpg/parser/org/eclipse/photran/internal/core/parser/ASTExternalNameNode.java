@@ -39,6 +39,7 @@ public class ASTExternalNameNode extends ASTNode
     {
         this.externalName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTFieldSelectorNode extends ASTNode
     {
         this.sectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTFieldSelectorNode extends ASTNode
     {
         this.imageSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTFieldSelectorNode extends ASTNode
     {
         this.hasDerivedTypeComponentRef = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -80,6 +83,7 @@ public class ASTFieldSelectorNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTFinalBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTFinalBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.finalSubroutineNameList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
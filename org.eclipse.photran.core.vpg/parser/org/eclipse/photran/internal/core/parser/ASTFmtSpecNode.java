@@ -42,6 +42,7 @@ public class ASTFmtSpecNode extends ASTNode
     {
         this.colonFormatSep = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTFmtSpecNode extends ASTNode
     {
         this.slashFormatSep = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTFmtSpecNode extends ASTNode
     {
         this.formatEdit = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTForallConstructNode extends ASTNode implements IBodyConstruct, I
     {
         this.forallConstructStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTForallConstructNode extends ASTNode implements IBodyConstruct, I
     {
         this.forallBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTForallConstructNode extends ASTNode implements IBodyConstruct, I
     {
         this.endForallStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -48,6 +48,7 @@ public class ASTForallConstructStmtNode extends ASTNodeWithErrorRecoverySymbols
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -60,6 +61,7 @@ public class ASTForallConstructStmtNode extends ASTNodeWithErrorRecoverySymbols
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -72,6 +74,7 @@ public class ASTForallConstructStmtNode extends ASTNodeWithErrorRecoverySymbols
     {
         this.forallTripletSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -84,6 +87,7 @@ public class ASTForallConstructStmtNode extends ASTNodeWithErrorRecoverySymbols
     {
         this.scalarMaskExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
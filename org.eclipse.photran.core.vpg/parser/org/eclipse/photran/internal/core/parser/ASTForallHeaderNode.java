@@ -43,6 +43,7 @@ public class ASTForallHeaderNode extends ASTNode
     {
         this.forallTripletSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTForallHeaderNode extends ASTNode
     {
         this.scalarMaskExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
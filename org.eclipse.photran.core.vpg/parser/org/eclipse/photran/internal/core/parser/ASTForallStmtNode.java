@@ -46,6 +46,7 @@ public class ASTForallStmtNode extends ASTNode implements IActionStmt, IBodyCons
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTForallStmtNode extends ASTNode implements IActionStmt, IBodyCons
     {
         this.forallTripletSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTForallStmtNode extends ASTNode implements IActionStmt, IBodyCons
     {
         this.scalarMaskExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +85,7 @@ public class ASTForallStmtNode extends ASTNode implements IActionStmt, IBodyCons
     {
         this.assignment = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
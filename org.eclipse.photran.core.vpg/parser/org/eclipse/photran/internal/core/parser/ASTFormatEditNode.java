@@ -42,6 +42,7 @@ public class ASTFormatEditNode extends ASTNode
     {
         this.hexConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTFormatEditNode extends ASTNode
     {
         this.pConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTFormatEditNode extends ASTNode
     {
         this.intConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -78,6 +81,7 @@ public class ASTFormatEditNode extends ASTNode
     {
         this.editElement = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
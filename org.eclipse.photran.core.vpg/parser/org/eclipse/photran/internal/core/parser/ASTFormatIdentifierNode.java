@@ -41,6 +41,7 @@ public class ASTFormatIdentifierNode extends ASTNode
     {
         this.formatExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTFormatIdentifierNode extends ASTNode
     {
         this.formatIsAsterisk = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTFormatIdentifierNode extends ASTNode
     {
         this.formatLbl = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTFormatStmtNode extends ASTNodeWithErrorRecoverySymbols implement
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTFormatStmtNode extends ASTNodeWithErrorRecoverySymbols implement
     {
         this.fmtSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
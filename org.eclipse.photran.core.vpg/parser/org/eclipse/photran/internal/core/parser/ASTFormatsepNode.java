@@ -40,6 +40,7 @@ public class ASTFormatsepNode extends ASTNode
     {
         this.slashFormatSep = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTFormatsepNode extends ASTNode
     {
         this.colonFormatSep = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
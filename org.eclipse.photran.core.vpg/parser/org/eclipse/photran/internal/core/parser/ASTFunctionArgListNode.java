@@ -41,6 +41,7 @@ public class ASTFunctionArgListNode extends ASTNode
     {
         this.sectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTFunctionArgListNode extends ASTNode
     {
         this.functionArg = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
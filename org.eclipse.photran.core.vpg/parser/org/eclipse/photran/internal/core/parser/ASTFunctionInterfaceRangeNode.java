@@ -40,6 +40,7 @@ public class ASTFunctionInterfaceRangeNode extends ASTNode
     {
         this.subprogramInterfaceBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTFunctionInterfaceRangeNode extends ASTNode
     {
         this.endFunctionStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTFunctionNameNode extends ASTNode
     {
         this.functionName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTFunctionRangeNode extends ASTNode
     {
         this.body = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTFunctionRangeNode extends ASTNode
     {
         this.containsStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTFunctionRangeNode extends ASTNode
     {
         this.internalSubprograms = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -78,6 +81,7 @@ public class ASTFunctionRangeNode extends ASTNode
     {
         this.endFunctionStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
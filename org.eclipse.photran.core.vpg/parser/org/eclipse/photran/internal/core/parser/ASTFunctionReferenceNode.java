@@ -42,6 +42,7 @@ public class ASTFunctionReferenceNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTFunctionReferenceNode extends ASTNode
     {
         this.functionArgList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
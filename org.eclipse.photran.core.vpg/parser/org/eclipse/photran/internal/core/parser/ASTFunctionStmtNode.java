@@ -58,6 +58,7 @@ public class ASTFunctionStmtNode extends ASTNodeWithErrorRecoverySymbols impleme
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +71,7 @@ public class ASTFunctionStmtNode extends ASTNodeWithErrorRecoverySymbols impleme
     {
         this.prefixSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +84,7 @@ public class ASTFunctionStmtNode extends ASTNodeWithErrorRecoverySymbols impleme
     {
         this.functionName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -94,6 +97,7 @@ public class ASTFunctionStmtNode extends ASTNodeWithErrorRecoverySymbols impleme
     {
         this.functionPars = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -106,6 +110,7 @@ public class ASTFunctionStmtNode extends ASTNodeWithErrorRecoverySymbols impleme
     {
         this.hasResultClause = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -118,6 +123,7 @@ public class ASTFunctionStmtNode extends ASTNodeWithErrorRecoverySymbols impleme
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTFunctionSubprogramNode extends ScopingNode implements IInternalS
     {
         this.functionStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTFunctionSubprogramNode extends ScopingNode implements IInternalS
     {
         this.body = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTFunctionSubprogramNode extends ScopingNode implements IInternalS
     {
         this.containsStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTFunctionSubprogramNode extends ScopingNode implements IInternalS
     {
         this.internalSubprograms = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +95,7 @@ public class ASTFunctionSubprogramNode extends ScopingNode implements IInternalS
     {
         this.endFunctionStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
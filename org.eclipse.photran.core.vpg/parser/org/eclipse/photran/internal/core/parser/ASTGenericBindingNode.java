@@ -49,6 +49,7 @@ public class ASTGenericBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -61,6 +62,7 @@ public class ASTGenericBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.accessSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -73,6 +75,7 @@ public class ASTGenericBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.genericName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -85,6 +88,7 @@ public class ASTGenericBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.genericSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -97,6 +101,7 @@ public class ASTGenericBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.bindingNameList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTGenericNameNode extends ASTNode implements IAccessId
     {
         this.genericName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
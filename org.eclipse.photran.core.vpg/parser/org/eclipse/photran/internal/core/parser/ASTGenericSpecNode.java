@@ -46,6 +46,7 @@ public class ASTGenericSpecNode extends ASTNode implements IAccessId
     {
         this.isDerivedTypeIO = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTGenericSpecNode extends ASTNode implements IAccessId
     {
         this.isDefinedOperator = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTGenericSpecNode extends ASTNode implements IAccessId
     {
         this.isAssignmentOperator = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +85,7 @@ public class ASTGenericSpecNode extends ASTNode implements IAccessId
     {
         this.definedOperator = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -94,6 +98,7 @@ public class ASTGenericSpecNode extends ASTNode implements IAccessId
     {
         this.formattingSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -106,6 +111,7 @@ public class ASTGenericSpecNode extends ASTNode implements IAccessId
     {
         this.equalsToken = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
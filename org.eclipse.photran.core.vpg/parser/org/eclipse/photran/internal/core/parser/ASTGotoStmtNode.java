@@ -44,6 +44,7 @@ public class ASTGotoStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTGotoStmtNode extends ASTNode implements IActionStmt
     {
         this.gotoLblRef = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTHPEndMapStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTHPEndStructureStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
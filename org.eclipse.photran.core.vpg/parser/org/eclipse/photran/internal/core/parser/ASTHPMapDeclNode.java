@@ -41,6 +41,7 @@ public class ASTHPMapDeclNode extends ASTNode
     {
         this.fields = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTHPRecordDeclNode extends ASTNode
     {
         this.structureName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTHPRecordDeclNode extends ASTNode
     {
         this.recordNamelist = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
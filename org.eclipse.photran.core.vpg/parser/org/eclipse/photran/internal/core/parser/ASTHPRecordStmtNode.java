@@ -42,6 +42,7 @@ public class ASTHPRecordStmtNode extends ASTNode implements IBlockDataBodyConstr
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTHPRecordStmtNode extends ASTNode implements IBlockDataBodyConstr
     {
         this.HPRecordDecl = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -47,6 +47,7 @@ public class ASTHPStructureDeclNode extends ASTNode implements IBlockDataBodyCon
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -59,6 +60,7 @@ public class ASTHPStructureDeclNode extends ASTNode implements IBlockDataBodyCon
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -71,6 +73,7 @@ public class ASTHPStructureDeclNode extends ASTNode implements IBlockDataBodyCon
     {
         this.fieldNamelist = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -83,6 +86,7 @@ public class ASTHPStructureDeclNode extends ASTNode implements IBlockDataBodyCon
     {
         this.fields = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
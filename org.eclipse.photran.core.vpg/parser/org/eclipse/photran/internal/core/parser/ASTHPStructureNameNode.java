@@ -41,6 +41,7 @@ public class ASTHPStructureNameNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -45,6 +45,7 @@ public class ASTHPStructureStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTHPStructureStmtNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTHPStructureStmtNode extends ASTNode
     {
         this.fieldNamelist = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
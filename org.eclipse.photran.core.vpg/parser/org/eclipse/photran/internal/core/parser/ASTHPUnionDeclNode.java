@@ -41,6 +41,7 @@ public class ASTHPUnionDeclNode extends ASTNode implements IHPField
     {
         this.maps = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
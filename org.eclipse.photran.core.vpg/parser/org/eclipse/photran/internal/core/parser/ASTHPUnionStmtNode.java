@@ -41,6 +41,7 @@ public class ASTHPUnionStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTIfConstructNode extends ASTNode implements IExecutableConstruct
     {
         this.ifThenStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTIfConstructNode extends ASTNode implements IExecutableConstruct
     {
         this.conditionalBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTIfConstructNode extends ASTNode implements IExecutableConstruct
     {
         this.elseConstruct = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTIfConstructNode extends ASTNode implements IExecutableConstruct
     {
         this.endIfStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +95,7 @@ public class ASTIfConstructNode extends ASTNode implements IExecutableConstruct
     {
         this.elseIfConstruct = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
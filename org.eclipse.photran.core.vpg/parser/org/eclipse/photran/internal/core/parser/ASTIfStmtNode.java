@@ -44,6 +44,7 @@ public class ASTIfStmtNode extends ASTNodeWithErrorRecoverySymbols implements IA
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTIfStmtNode extends ASTNodeWithErrorRecoverySymbols implements IA
     {
         this.tIf = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTIfStmtNode extends ASTNodeWithErrorRecoverySymbols implements IA
     {
         this.guardingExpression = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -80,6 +83,7 @@ public class ASTIfStmtNode extends ASTNodeWithErrorRecoverySymbols implements IA
     {
         this.actionStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -48,6 +48,7 @@ public class ASTIfThenStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -60,6 +61,7 @@ public class ASTIfThenStmtNode extends ASTNode implements IActionStmt
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -72,6 +74,7 @@ public class ASTIfThenStmtNode extends ASTNode implements IActionStmt
     {
         this.guardingExpression = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -84,6 +87,7 @@ public class ASTIfThenStmtNode extends ASTNode implements IActionStmt
     {
         this.ifThenError = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTImageSetNode extends ASTNode
     {
         this.isExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTImageSetNode extends ASTNode
     {
         this.isStar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTImplicitStmtNode extends ASTNode implements ISpecificationPartCo
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTImplicitStmtNode extends ASTNode implements ISpecificationPartCo
     {
         this.implicitToken = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTImplicitStmtNode extends ASTNode implements ISpecificationPartCo
     {
         this.implicitSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTImplicitStmtNode extends ASTNode implements ISpecificationPartCo
     {
         this.isImplicitNone = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
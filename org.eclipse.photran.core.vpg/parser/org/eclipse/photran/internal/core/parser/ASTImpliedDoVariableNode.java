@@ -39,6 +39,7 @@ public class ASTImpliedDoVariableNode extends ASTNode
     {
         this.impliedDoVariable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTImportStmtNode extends ASTNode implements ISpecificationPartCons
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTImportStmtNode extends ASTNode implements ISpecificationPartCons
     {
         this.importList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -49,6 +49,7 @@ public class ASTInputImpliedDoNode extends ASTNode implements IInputItem
     {
         this.inputItemList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -61,6 +62,7 @@ public class ASTInputImpliedDoNode extends ASTNode implements IInputItem
     {
         this.impliedDoVariable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -73,6 +75,7 @@ public class ASTInputImpliedDoNode extends ASTNode implements IInputItem
     {
         this.lb = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -85,6 +88,7 @@ public class ASTInputImpliedDoNode extends ASTNode implements IInputItem
     {
         this.ub = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -97,6 +101,7 @@ public class ASTInputImpliedDoNode extends ASTNode implements IInputItem
     {
         this.step = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTInquireSpecListNode extends ASTNode
     {
         this.unitIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTInquireSpecListNode extends ASTNode
     {
         this.inquireSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
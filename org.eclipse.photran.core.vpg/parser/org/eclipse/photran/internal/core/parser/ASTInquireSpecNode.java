@@ -110,6 +110,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.reclExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -122,6 +123,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.existVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -134,6 +136,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.formattedVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -146,6 +149,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.ioStatVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -158,6 +162,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.streamVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -170,6 +175,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.roundExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -182,6 +188,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.asyncExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -194,6 +201,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.decimalExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -206,6 +214,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.iomsgExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -218,6 +227,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.encodingExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -230,6 +240,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.sequentialVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -242,6 +253,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.positionVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -254,6 +266,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.directVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -266,6 +279,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.numberVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -278,6 +292,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.sizeVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -290,6 +305,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.nextRecVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -302,6 +318,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.fileExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -314,6 +331,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.errVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -326,6 +344,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.signExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -338,6 +357,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.blankVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -350,6 +370,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.posVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -362,6 +383,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.idVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -374,6 +396,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.unformattedVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -386,6 +409,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.actionVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -398,6 +422,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.unitIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -410,6 +435,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.formVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -422,6 +448,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.nameVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -434,6 +461,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.readVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -446,6 +474,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.namedVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -458,6 +487,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.pendingVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -470,6 +500,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.delimVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -482,6 +513,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.accessVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -494,6 +526,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.readWriteVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -506,6 +539,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.padVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -518,6 +552,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.openedVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -530,6 +565,7 @@ public class ASTInquireSpecNode extends ASTNode
     {
         this.writeVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
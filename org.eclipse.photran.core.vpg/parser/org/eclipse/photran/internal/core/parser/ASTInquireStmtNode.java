@@ -47,6 +47,7 @@ public class ASTInquireStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -59,6 +60,7 @@ public class ASTInquireStmtNode extends ASTNode implements IActionStmt
     {
         this.ioLengthVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -71,6 +73,7 @@ public class ASTInquireStmtNode extends ASTNode implements IActionStmt
     {
         this.inquireSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -83,6 +86,7 @@ public class ASTInquireStmtNode extends ASTNode implements IActionStmt
     {
         this.outputItemList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
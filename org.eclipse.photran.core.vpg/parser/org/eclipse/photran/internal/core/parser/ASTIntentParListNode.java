@@ -40,6 +40,7 @@ public class ASTIntentParListNode extends ASTNode
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTIntentSpecNode extends ASTNode
     {
         this.isIntentOut = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTIntentSpecNode extends ASTNode
     {
         this.isIntentInOut = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTIntentSpecNode extends ASTNode
     {
         this.isIntentIn = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -47,6 +47,7 @@ public class ASTIntentStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -59,6 +60,7 @@ public class ASTIntentStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.intentSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -71,6 +73,7 @@ public class ASTIntentStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.variableList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTInterfaceBlockNode extends ScopingNode implements IDeclarationCo
     {
         this.interfaceStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTInterfaceBlockNode extends ScopingNode implements IDeclarationCo
     {
         this.interfaceBlockBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTInterfaceBlockNode extends ScopingNode implements IDeclarationCo
     {
         this.endInterfaceStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
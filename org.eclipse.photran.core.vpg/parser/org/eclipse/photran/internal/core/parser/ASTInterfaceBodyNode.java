@@ -43,6 +43,7 @@ public class ASTInterfaceBodyNode extends ASTNode implements IInterfaceSpecifica
     {
         this.functionStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTInterfaceBodyNode extends ASTNode implements IInterfaceSpecifica
     {
         this.subroutineStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTInterfaceBodyNode extends ASTNode implements IInterfaceSpecifica
     {
         this.subprogramInterfaceBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTInterfaceBodyNode extends ASTNode implements IInterfaceSpecifica
     {
         this.endFunctionStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +95,7 @@ public class ASTInterfaceBodyNode extends ASTNode implements IInterfaceSpecifica
     {
         this.endSubroutineStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
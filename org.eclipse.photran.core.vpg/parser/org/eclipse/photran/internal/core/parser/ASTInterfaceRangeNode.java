@@ -40,6 +40,7 @@ public class ASTInterfaceRangeNode extends ASTNode
     {
         this.interfaceBlockBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTInterfaceRangeNode extends ASTNode
     {
         this.endInterfaceStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
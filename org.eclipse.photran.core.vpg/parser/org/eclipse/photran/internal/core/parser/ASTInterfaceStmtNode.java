@@ -44,6 +44,7 @@ public class ASTInterfaceStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTInterfaceStmtNode extends ASTNode
     {
         this.isAbstract = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTInterfaceStmtNode extends ASTNode
     {
         this.interfaceToken = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -80,6 +83,7 @@ public class ASTInterfaceStmtNode extends ASTNode
     {
         this.genericName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -92,6 +96,7 @@ public class ASTInterfaceStmtNode extends ASTNode
     {
         this.genericSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTIntrinsicListNode extends ASTNode
     {
         this.intrinsicProcedureName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTIntrinsicProcedureNameNode extends ASTNode
     {
         this.intrinsicProcedureName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
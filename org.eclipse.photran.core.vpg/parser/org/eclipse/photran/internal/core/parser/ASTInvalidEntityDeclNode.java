@@ -45,6 +45,7 @@ public class ASTInvalidEntityDeclNode extends ASTNode
     {
         this.objectName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTInvalidEntityDeclNode extends ASTNode
     {
         this.initialCharLength = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTInvalidEntityDeclNode extends ASTNode
     {
         this.arraySpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -81,6 +84,7 @@ public class ASTInvalidEntityDeclNode extends ASTNode
     {
         this.initialization = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -72,6 +72,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.posExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -84,6 +85,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.eorLbl = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -96,6 +98,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.advanceExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -108,6 +111,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.asyncExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -120,6 +124,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.endExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -132,6 +137,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.errLbl = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -144,6 +150,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.unitIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -156,6 +163,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.ioStatVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -168,6 +176,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.roundExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -180,6 +189,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.decimalExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -192,6 +202,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.iomsgExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -204,6 +215,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.formatIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -216,6 +228,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.recExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -228,6 +241,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.sizeVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -240,6 +254,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.idVar = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -252,6 +267,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.signExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -264,6 +280,7 @@ public class ASTIoControlSpecNode extends ASTNode
     {
         this.namelistGroupName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
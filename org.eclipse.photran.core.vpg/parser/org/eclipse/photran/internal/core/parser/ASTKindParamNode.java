@@ -40,6 +40,7 @@ public class ASTKindParamNode extends ASTNode
     {
         this.namedConstKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTKindParamNode extends ASTNode
     {
         this.intKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTKindSelectorNode extends ASTNode
     {
         this.kindExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
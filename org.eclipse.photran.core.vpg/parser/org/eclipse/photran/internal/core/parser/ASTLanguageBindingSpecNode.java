@@ -46,6 +46,7 @@ public class ASTLanguageBindingSpecNode extends ASTNode
     {
         this.isBind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTLanguageBindingSpecNode extends ASTNode
     {
         this.language = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTLanguageBindingSpecNode extends ASTNode
     {
         this.expr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
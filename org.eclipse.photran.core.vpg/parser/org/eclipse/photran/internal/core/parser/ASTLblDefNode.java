@@ -39,6 +39,7 @@ public class ASTLblDefNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTLblRefListNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
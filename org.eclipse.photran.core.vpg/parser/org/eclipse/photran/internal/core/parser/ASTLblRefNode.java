@@ -39,6 +39,7 @@ public class ASTLblRefNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -25,6 +25,10 @@ public class ASTListNode<T extends IASTNode> extends ArrayList<T> implements IAS
 {
     private IASTNode parent = null;
 
+    /** Cached results of {@link #findFirstToken()} and {@link #findLastToken()} */
+    private Token firstToken = null, lastToken = null;
+    private boolean isFirstTokenCached = false, isLastTokenCached = false;
+
     ///////////////////////////////////////////////////////////////////////////
     // Constructors
     ///////////////////////////////////////////////////////////////////////////
@@ -158,12 +162,37 @@ public class ASTListNode<T extends IASTNode> extends ArrayList<T> implements IAS
 
     public Token findFirstToken()
     {
-        return ASTNodeUtil.findFirstToken(this);
+        if (!isFirstTokenCached)
+        {
+            firstToken = null;
+            for (int i = 0; i < size() && firstToken == null; i++)
+                if (get(i) != null)
+                    firstToken = get(i).findFirstToken();
+            isFirstTokenCached = true;
+        }
+        return firstToken;
     }
 
     public Token findLastToken()
     {
-        return ASTNodeUtil.findLastToken(this);
+        if (!isLastTokenCached)
+        {
+            lastToken = null;
+            for (int i = size() - 1; i >= 0 && lastToken == null; i--)
+                if (get(i) != null)
+                    lastToken = get(i).findLastToken();
+            isLastTokenCached = true;
+        }
+        return lastToken;
+    }
+
+    /** @return true iff this node had cached its first or last token */
+    boolean clearCachedTokens()
+    {
+        boolean wasCached = isFirstTokenCached || isLastTokenCached;
+        firstToken = lastToken = null;
+        isFirstTokenCached = isLastTokenCached = false;
+        return wasCached;
     }
 
     public boolean isFirstChildInList()
@@ -176,11 +205,19 @@ public class ASTListNode<T extends IASTNode> extends ArrayList<T> implements IAS
     ///////////////////////////////////////////////////////////////////////////
 
     // These methods are all inherited from ArrayList but are overridden to call #setParent
-    @Override public T set(int index, T element) { if (element != null) element.setParent(this); return super.set(index, element); }
-    @Override public boolean add(T element) { if (element != null) element.setParent(this); return super.add(element); }
-    @Override public void add(int index, T element) { if (element != null) element.setParent(this); super.add(index, element); }
-    @Override public boolean addAll(Collection<? extends T> c) { for (T element : c) if (element != null) element.setParent(this); return super.addAll(c); }
-    @Override public boolean addAll(int index, Collection<? extends T> c) { for (T element : c) if (element != null) element.setParent(this); return super.addAll(index, c); }
+    @Override public T set(int index, T element) { if (element != null) element.setParent(this); ASTNodeUtil.invalidateCaches(this); return super.set(index, element); }
+    @Override public boolean add(T element) { if (element != null) element.setParent(this); ASTNodeUtil.invalidateCaches(this); return super.add(element); }
+    @Override public void add(int index, T element) { if (element != null) element.setParent(this); ASTNodeUtil.invalidateCaches(this); super.add(index, element); }
+    @Override public boolean addAll(Collection<? extends T> c) { for (T element : c) if (element != null) element.setParent(this); ASTNodeUtil.invalidateCaches(this); return super.addAll(c); }
+    @Override public boolean addAll(int index, Collection<? extends T> c) { for (T element : c) if (element != null) element.setParent(this); ASTNodeUtil.invalidateCaches(this); return super.addAll(index, c); }
+
+    // These are overridden so that removing elements invalidates the cached first and last tokens
+    @Override public T remove(int index) { ASTNodeUtil.invalidateCaches(this); return super.remove(index); }
+    @Override public boolean remove(Object o) { ASTNodeUtil.invalidateCaches(this); return super.remove(o); }
+    @Override public boolean removeAll(Collection<?> c) { ASTNodeUtil.invalidateCaches(this); return super.removeAll(c); }
+    @Override public boolean retainAll(Collection<?> c) { ASTNodeUtil.invalidateCaches(this); return super.retainAll(c); }
+    @Override protected void removeRange(int fromIndex, int toIndex) { ASTNodeUtil.invalidateCaches(this); super.removeRange(fromIndex, toIndex); }
+    @Override public void clear() { ASTNodeUtil.invalidateCaches(this); super.clear(); }
 
     @SuppressWarnings("unchecked")
     public void replaceChild(IASTNode node, IASTNode withNode)
@@ -43,6 +43,7 @@ public class ASTLogicalConstNode extends ASTNode implements IExpr
     {
         this.isTrue = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTLogicalConstNode extends ASTNode implements IExpr
     {
         this.isFalse = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTLogicalConstNode extends ASTNode implements IExpr
     {
         this.namedConstKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTLogicalConstNode extends ASTNode implements IExpr
     {
         this.intKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
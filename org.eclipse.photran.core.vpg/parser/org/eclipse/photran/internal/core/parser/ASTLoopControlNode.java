@@ -52,6 +52,7 @@ public class ASTLoopControlNode extends ASTNode
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -64,6 +65,7 @@ public class ASTLoopControlNode extends ASTNode
     {
         this.lb = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -76,6 +78,7 @@ public class ASTLoopControlNode extends ASTNode
     {
         this.forallTripletSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -88,6 +91,7 @@ public class ASTLoopControlNode extends ASTNode
     {
         this.ub = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -100,6 +104,7 @@ public class ASTLoopControlNode extends ASTNode
     {
         this.step = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -112,6 +117,7 @@ public class ASTLoopControlNode extends ASTNode
     {
         this.whileExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -124,6 +130,7 @@ public class ASTLoopControlNode extends ASTNode
     {
         this.scalarMaskExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTLowerBoundNode extends ASTNode
     {
         this.lb = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
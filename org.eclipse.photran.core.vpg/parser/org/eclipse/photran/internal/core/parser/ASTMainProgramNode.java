@@ -43,6 +43,7 @@ public class ASTMainProgramNode extends ScopingNode implements IProgramUnit
     {
         this.programStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTMainProgramNode extends ScopingNode implements IProgramUnit
     {
         this.body = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTMainProgramNode extends ScopingNode implements IProgramUnit
     {
         this.containsStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTMainProgramNode extends ScopingNode implements IProgramUnit
     {
         this.internalSubprograms = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +95,7 @@ public class ASTMainProgramNode extends ScopingNode implements IProgramUnit
     {
         this.endProgramStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTMaskExprNode extends ASTNode
     {
         this.maskExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTModuleBlockNode extends ASTNode
     {
         this.moduleBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTModuleBlockNode extends ASTNode
     {
         this.endModuleStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
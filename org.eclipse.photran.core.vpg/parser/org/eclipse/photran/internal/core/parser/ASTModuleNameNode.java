@@ -39,6 +39,7 @@ public class ASTModuleNameNode extends ASTNode
     {
         this.moduleName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTModuleNatureNode extends ASTNode
     {
         this.isNonIntrinsic = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTModuleNatureNode extends ASTNode
     {
         this.isIntrinsic = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTModuleNode extends ScopingNode implements IProgramUnit
     {
         this.moduleStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTModuleNode extends ScopingNode implements IProgramUnit
     {
         this.moduleBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTModuleNode extends ScopingNode implements IProgramUnit
     {
         this.endModuleStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTModuleProcedureStmtNode extends ASTNode implements IInterfaceSpe
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTModuleProcedureStmtNode extends ASTNode implements IInterfaceSpe
     {
         this.procedureNameList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTModuleStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTModuleStmtNode extends ASTNode
     {
         this.moduleName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
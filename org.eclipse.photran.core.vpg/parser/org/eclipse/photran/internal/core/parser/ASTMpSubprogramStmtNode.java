@@ -43,6 +43,7 @@ public class ASTMpSubprogramStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTMpSubprogramStmtNode extends ASTNode
     {
         this.procedureName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
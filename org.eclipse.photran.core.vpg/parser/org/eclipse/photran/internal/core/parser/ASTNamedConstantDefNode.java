@@ -41,6 +41,7 @@ public class ASTNamedConstantDefNode extends ASTNode
     {
         this.namedConstant = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTNamedConstantDefNode extends ASTNode
     {
         this.initializationExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTNamedConstantNode extends ASTNode
     {
         this.namedConstant = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
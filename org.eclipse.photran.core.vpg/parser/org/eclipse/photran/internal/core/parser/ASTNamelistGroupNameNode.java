@@ -39,6 +39,7 @@ public class ASTNamelistGroupNameNode extends ASTNode
     {
         this.namelistGroupName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTNamelistGroupObjectNode extends ASTNode
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
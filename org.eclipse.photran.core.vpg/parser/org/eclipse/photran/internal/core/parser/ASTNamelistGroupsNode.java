@@ -43,6 +43,7 @@ public class ASTNamelistGroupsNode extends ASTNode
     {
         this.namelistGroupName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTNamelistGroupsNode extends ASTNode
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTNamelistStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTNamelistStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.tNamelist = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTNamelistStmtNode extends ASTNode implements ISpecificationStmt
     {
         this.namelistGroups = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTNestedExprNode extends ASTNode implements IExpr
     {
         this.expr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -23,6 +23,13 @@ public abstract class ASTNode implements IASTNode
 {
     private IASTNode parent = null;
 
+    /** Cached results of {@link #findFirstToken()} and {@link #findLastToken()} */
+    private Token firstToken = null, lastToken = null;
+    private boolean isFirstTokenCached = false, isLastTokenCached = false;
+
+    /** Index of the nodes in this tree, by class; only stored in the root node (see {@link ASTNodeIndex}) */
+    ASTNodeIndex nodeIndex = null;
+
     ///////////////////////////////////////////////////////////////////////////
     // Traversal and Visitor Support
     ///////////////////////////////////////////////////////////////////////////
@@ -35,6 +42,7 @@ public abstract class ASTNode implements IASTNode
     public void setParent(IASTNode parent)
     {
         this.parent = parent;
+        if (parent != null) this.nodeIndex = null;
     }
 
     public Iterable<? extends IASTNode> getChildren()
@@ -87,6 +95,7 @@ public abstract class ASTNode implements IASTNode
                 setASTField(i, withNode);
                 if (withNode != null) withNode.setParent(this);
                 // if (node != null) node.setParent(null);
+                invalidateCaches();
                 return;
             }
         }
@@ -114,6 +123,8 @@ public abstract class ASTNode implements IASTNode
         try
         {
             ASTNode copy = (ASTNode)super.clone();
+            copy.clearCachedTokens();
+            copy.nodeIndex = null;
             for (int i = 0; i < getNumASTFields(); i++)
             {
                 if (getASTField(i) != null)
@@ -157,12 +168,66 @@ public abstract class ASTNode implements IASTNode
 
     public Token findFirstToken()
     {
-        return ASTNodeUtil.findFirstToken(this);
+        if (!isFirstTokenCached)
+        {
+            firstToken = computeFirstToken();
+            isFirstTokenCached = true;
+        }
+        return firstToken;
     }
 
     public Token findLastToken()
     {
-        return ASTNodeUtil.findLastToken(this);
+        if (!isLastTokenCached)
+        {
+            lastToken = computeLastToken();
+            isLastTokenCached = true;
+        }
+        return lastToken;
+    }
+
+    /** @return the first token in this subtree, computed from the children's (cached) first tokens */
+    protected Token computeFirstToken()
+    {
+        for (int i = 0; i < getNumASTFields(); i++)
+        {
+            IASTNode child = getASTField(i);
+            Token result = child == null ? null : child.findFirstToken();
+            if (result != null) return result;
+        }
+        return null;
+    }
+
+    /** @return the last token in this subtree, computed from the children's (cached) last tokens */
+    protected Token computeLastToken()
+    {
+        for (int i = getNumASTFields() - 1; i >= 0; i--)
+        {
+            IASTNode child = getASTField(i);
+            Token result = child == null ? null : child.findLastToken();
+            if (result != null) return result;
+        }
+        return null;
+    }
+
+    /**
+     * Must be called whenever a child of this node is added, removed, or replaced, so that this
+     * node and its ancestors will not return stale results from {@link #findFirstToken()},
+     * {@link #findLastToken()}, {@link #findAll(Class)}, {@link #findFirst(Class)}, and
+     * {@link #findLast(Class)}.
+     */
+    protected void invalidateCaches()
+    {
+        ASTNodeUtil.invalidateCaches(this);
+    }
+
+    /** @return true iff this node had cached its first or last token */
+    boolean clearCachedTokens()
+    {
+        boolean wasCached = isFirstTokenCached || isLastTokenCached;
+        firstToken = lastToken = null;
+        isFirstTokenCached = isLastTokenCached = false;
+        return wasCached;
     }
 
     public boolean isFirstChildInList()
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.photran.internal.core.lexer.Token;
+
+/**
+ * An index of the nodes in an AST by class, used to speed up
+ * {@link ASTNodeUtil#findAll(IASTNode, Class)}, {@link ASTNodeUtil#findFirst(IASTNode, Class)},
+ * and {@link ASTNodeUtil#findLast(IASTNode, Class)}.
+ * <p>
+ * The index is built the first time one of those methods is invoked on the root of an AST, and it
+ * is stored in the root node until the tree is modified (see
+ * {@link ASTNodeUtil#invalidateCaches(IASTNode)}).  While it exists, searching the root or any
+ * of its descendants takes time proportional to the number of results (plus a binary search),
+ * rather than the size of the subtree.
+ * <p>
+ * The nodes are numbered in preorder, i.e., in the order in which a {@link GenericASTVisitor}
+ * visits them, so the nodes in any subtree have consecutive numbers, and the results of a search
+ * are a contiguous range of the (sorted) numbers of the nodes of the target class.
+ */
+final class ASTNodeIndex
+{
+    /** All nodes in the tree, including tokens, in preorder */
+    private final IASTNode[] nodes;
+
+    /** The position (in {@link #nodes}) of each node other than a token */
+    private final IdentityHashMap<IASTNode, Integer> positions = new IdentityHashMap<IASTNode, Integer>();
+
+    /** For each node, the position following the last node in its subtree */
+    private final int[] subtreeEnds;
+
+    /** The (sorted) positions of the nodes of each class occurring in the tree */
+    private final Map<Class<?>, int[]> positionsByClass = new HashMap<Class<?>, int[]>();
+
+    /** The (sorted) positions of the nodes assignable to each class that has been searched for */
+    private final Map<Class<?>, int[]> positionsByTargetClass = new HashMap<Class<?>, int[]>();
+
+    ASTNodeIndex(IASTNode root)
+    {
+        List<IASTNode> preorder = new ArrayList<IASTNode>();
+        List<Integer> ends = new ArrayList<Integer>();
+        number(root, preorder, ends);
+
+        this.nodes = preorder.toArray(new IASTNode[preorder.size()]);
+        this.subtreeEnds = new int[ends.size()];
+        for (int i = 0; i < subtreeEnds.length; i++)
+            subtreeEnds[i] = ends.get(i).intValue();
+
+        Map<Class<?>, Integer> counts = new HashMap<Class<?>, Integer>();
+        for (IASTNode node : nodes)
+        {
+            Integer count = counts.get(node.getClass());
+            counts.put(node.getClass(), count == null ? 1 : count.intValue() + 1);
+        }
+        for (Class<?> clazz : counts.keySet())
+            positionsByClass.put(clazz, new int[counts.get(clazz).intValue()]);
+        Map<Class<?>, Integer> filled = new HashMap<Class<?>, Integer>();
+        for (int i = 0; i < nodes.length; i++)
+        {
+            Class<?> clazz = nodes[i].getClass();
+            Integer count = filled.get(clazz);
+            int index = count == null ? 0 : count.intValue();
+            positionsByClass.get(clazz)[index] = i;
+            filled.put(clazz, index + 1);
+        }
+    }
+
+    private void number(IASTNode node, List<IASTNode> preorder, List<Integer> ends)
+    {
+        int position = preorder.size();
+        preorder.add(node);
+        ends.add(null);
+        if (!(node instanceof Token))
+        {
+            positions.put(node, position);
+            for (IASTNode child : node.getChildren())
+                number(child, preorder, ends);
+
+            // Cache every node's tokens (in postorder, so this is linear), so that invalidating any
+            // part of the tree will reach the root and discard this index
+            node.findFirstToken();
+            node.findLastToken();
+        }
+        ends.set(position, preorder.size());
+    }
+
+    /** @return true iff the given node was in the tree when this index was built */
+    boolean contains(IASTNode node)
+    {
+        return positions.containsKey(node);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends IASTNode> Set<T> findAll(IASTNode node, Class<T> clazz)
+    {
+        int[] targets = positionsOf(clazz);
+        int start = positions.get(node).intValue(), end = subtreeEnds[start];
+
+        Set<T> result = new HashSet<T>();
+        for (int i = firstIndexAtOrAfter(targets, start); i < targets.length && targets[i] < end; i++)
+            result.add((T)nodes[targets[i]]);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends IASTNode> T findFirst(IASTNode node, Class<T> clazz)
+    {
+        int[] targets = positionsOf(clazz);
+        int start = positions.get(node).intValue(), end = subtreeEnds[start];
+
+        int i = firstIndexAtOrAfter(targets, start);
+        return i < targets.length && targets[i] < end ? (T)nodes[targets[i]] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends IASTNode> T findLast(IASTNode node, Class<T> clazz)
+    {
+        int[] targets = positionsOf(clazz);
+        int start = positions.get(node).intValue(), end = subtreeEnds[start];
+
+        int i = firstIndexAtOrAfter(targets, end) - 1;
+        return i >= 0 && targets[i] >= start ? (T)nodes[targets[i]] : null;
+    }
+
+    /** @return the index of the first element of the given sorted array that is at least <i>n</i> */
+    private static int firstIndexAtOrAfter(int[] sortedArray, int n)
+    {
+        int index = Arrays.binarySearch(sortedArray, n);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    private synchronized int[] positionsOf(Class<?> targetClass)
+    {
+        int[] result = positionsByTargetClass.get(targetClass);
+        if (result == null)
+        {
+            int size = 0;
+            for (Class<?> clazz : positionsByClass.keySet())
+                if (targetClass.isAssignableFrom(clazz))
+                    size += positionsByClass.get(clazz).length;
+
+            result = new int[size];
+            int index = 0;
+            for (Class<?> clazz : positionsByClass.keySet())
+            {
+                if (targetClass.isAssignableFrom(clazz))
+                {
+                    int[] classPositions = positionsByClass.get(clazz);
+                    System.arraycopy(classPositions, 0, result, index, classPositions.length);
+                    index += classPositions.length;
+                }
+            }
+            Arrays.sort(result);
+
+            positionsByTargetClass.put(targetClass, result);
+        }
+        return result;
+    }
+}
@@ -40,6 +40,10 @@ public final class ASTNodeUtil
     @SuppressWarnings("unchecked")
     public static <T extends IASTNode> Set<T> findAll(IASTNode node, final Class<T> clazz)
     {
+        ASTNodeIndex index = getNodeIndex(node);
+        if (index != null && index.contains(node))
+            return index.findAll(node, clazz);
+
         class V extends GenericASTVisitor
         {
             Set<T> result = new HashSet<T>();
@@ -79,11 +83,20 @@ public final class ASTNodeUtil
         public Notification(Object result) { this.result = result; }
 
         public Object getResult() { return result; }
+
+        // Notifications are only used for control flow, so there is no need to fill in a stack trace
+        @Override public Throwable fillInStackTrace() { return this; }
     }
 
     @SuppressWarnings("unchecked")
     public static <T extends IASTNode> T findFirst(IASTNode node, final Class<T> clazz)
     {
+        if (clazz == Token.class) return (T)node.findFirstToken();
+
+        ASTNodeIndex index = getNodeIndex(node);
+        if (index != null && index.contains(node))
+            return index.findFirst(node, clazz);
+
         try
         {
             node.accept(new GenericASTVisitor()
@@ -113,6 +126,12 @@ public final class ASTNodeUtil
     @SuppressWarnings("unchecked")
     public static <T extends IASTNode> T findLast(IASTNode node, final Class<T> clazz)
     {
+        if (clazz == Token.class) return (T)node.findLastToken();
+
+        ASTNodeIndex index = getNodeIndex(node);
+        if (index != null && index.contains(node))
+            return index.findLast(node, clazz);
+
         class V extends GenericASTVisitor
         {
             T result = null;
@@ -138,12 +157,67 @@ public final class ASTNodeUtil
 
     public static Token findFirstToken(IASTNode node)
     {
-        return findFirst(node, Token.class);
+        return node.findFirstToken();
     }
 
     public static Token findLastToken(IASTNode node)
     {
-        return findLast(node, Token.class);
+        return node.findLastToken();
+    }
+
+    /**
+     * Discards the first and last tokens cached by the given node and its ancestors, as well as
+     * the {@link ASTNodeIndex} for the tree containing it.
+     * <p>
+     * AST nodes cache the results of {@link IASTNode#findFirstToken()} and
+     * {@link IASTNode#findLastToken()}, and the root of an AST may cache an index of its nodes, so
+     * this must be called whenever a child of the given node is added, removed, or replaced.
+     * <p>
+     * A node's cached tokens are computed from its children's, so if a node has nothing cached,
+     * none of its ancestors can depend on it, and the traversal stops there.  This does not leave
+     * a stale index behind, since building an index caches the first and last tokens of every
+     * node in the tree (see {@link ASTNodeIndex}); the first invalidation after that reaches the
+     * root and discards the index.
+     */
+    public static void invalidateCaches(IASTNode node)
+    {
+        for (IASTNode n = node; n != null; n = n.getParent())
+        {
+            boolean wasCached;
+            if (n instanceof ASTNode)
+            {
+                wasCached = ((ASTNode)n).clearCachedTokens();
+                if (n.getParent() == null) ((ASTNode)n).nodeIndex = null;
+            }
+            else if (n instanceof ASTListNode)
+                wasCached = ((ASTListNode<?>)n).clearCachedTokens();
+            else if (n instanceof ASTSeparatedListNode)
+                wasCached = ((ASTSeparatedListNode<?>)n).clearCachedTokens();
+            else
+                wasCached = true;
+
+            if (!wasCached) return;
+        }
+    }
+
+    /**
+     * @return the index for the tree containing the given node, or <code>null</code> if the tree
+     *         has not been indexed and the given node is not its root.  (The index is built on the
+     *         first search from the root, since building it requires traversing the entire tree.)
+     */
+    private static ASTNodeIndex getNodeIndex(IASTNode node)
+    {
+        if (node instanceof Token) return null;
+
+        IASTNode root = node;
+        while (root.getParent() != null)
+            root = root.getParent();
+        if (!(root instanceof ASTNode)) return null;
+
+        ASTNode rootNode = (ASTNode)root;
+        if (rootNode.nodeIndex == null && node == root)
+            rootNode.nodeIndex = new ASTNodeIndex(root);
+        return rootNode.nodeIndex;
     }
 
     public static boolean isFirstChildInList(IASTNode node)
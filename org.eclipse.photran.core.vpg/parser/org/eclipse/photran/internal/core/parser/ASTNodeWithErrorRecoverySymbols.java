@@ -57,6 +57,30 @@ public abstract class ASTNodeWithErrorRecoverySymbols extends ASTNode
         };
     }
 
+    @Override protected Token computeFirstToken()
+    {
+        Token result = super.computeFirstToken();
+        if (result == null && errorInfo != null)
+            for (IASTNode symbol : errorInfo.<IASTNode>getDiscardedSymbols())
+                if (result == null && symbol != null)
+                    result = symbol.findFirstToken();
+        return result;
+    }
+
+    @Override protected Token computeLastToken()
+    {
+        if (errorInfo != null)
+        {
+            for (Iterator<IASTNode> it = errorInfo.<IASTNode>getDiscardedSymbols().descendingIterator(); it.hasNext(); )
+            {
+                IASTNode symbol = it.next();
+                Token result = symbol == null ? null : symbol.findLastToken();
+                if (result != null) return result;
+            }
+        }
+        return super.computeLastToken();
+    }
+
     public Token getErrorToken()
     {
         return errorInfo == null ? null : errorInfo.errorLookahead;
@@ -39,6 +39,7 @@ public class ASTObjectNameNode extends ASTNode
     {
         this.objectName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -50,6 +50,7 @@ public class ASTOnlyNode extends ASTNode
     {
         this.newName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -62,6 +63,7 @@ public class ASTOnlyNode extends ASTNode
     {
         this.genericSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -74,6 +76,7 @@ public class ASTOnlyNode extends ASTNode
     {
         this.isOperator = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -86,6 +89,7 @@ public class ASTOnlyNode extends ASTNode
     {
         this.newOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -98,6 +102,7 @@ public class ASTOnlyNode extends ASTNode
     {
         this.isRenamed = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -110,6 +115,7 @@ public class ASTOnlyNode extends ASTNode
     {
         this.oldOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -122,6 +128,7 @@ public class ASTOnlyNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -60,6 +60,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasLeOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -72,6 +73,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasConcatOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -84,6 +86,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasTimesOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -96,6 +99,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.definedUnaryOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -108,6 +112,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasPlusOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -120,6 +125,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasDivideOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -132,6 +138,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasLtOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -144,6 +151,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasPowerOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -156,6 +164,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasEqOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -168,6 +177,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasSlashEqOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -180,6 +190,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasEqEqOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -192,6 +203,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasGtOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -204,6 +216,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasNeOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -216,6 +229,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasNotOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -228,6 +242,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasEqvOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -240,6 +255,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.customDefinedOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -252,6 +268,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasAndOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -264,6 +281,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasMinusOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -276,6 +294,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasNeqvOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -288,6 +307,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.definedBinaryOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -300,6 +320,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasGeOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -312,6 +333,7 @@ public class ASTOperatorNode extends ASTNode implements IDefinedOperator
     {
         this.hasOrOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
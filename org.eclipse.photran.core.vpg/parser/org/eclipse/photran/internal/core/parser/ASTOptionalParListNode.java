@@ -40,6 +40,7 @@ public class ASTOptionalParListNode extends ASTNode
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
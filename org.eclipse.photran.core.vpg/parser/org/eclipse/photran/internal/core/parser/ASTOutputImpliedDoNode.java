@@ -50,6 +50,7 @@ public class ASTOutputImpliedDoNode extends ASTNode
     {
         this.expr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -62,6 +63,7 @@ public class ASTOutputImpliedDoNode extends ASTNode
     {
         this.outputItemList1 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -74,6 +76,7 @@ public class ASTOutputImpliedDoNode extends ASTNode
     {
         this.impliedDoVariable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -86,6 +89,7 @@ public class ASTOutputImpliedDoNode extends ASTNode
     {
         this.lb = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -98,6 +102,7 @@ public class ASTOutputImpliedDoNode extends ASTNode
     {
         this.ub = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -110,6 +115,7 @@ public class ASTOutputImpliedDoNode extends ASTNode
     {
         this.step = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
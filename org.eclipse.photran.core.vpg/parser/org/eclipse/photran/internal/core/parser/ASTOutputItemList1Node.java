@@ -43,6 +43,7 @@ public class ASTOutputItemList1Node extends ASTNode
     {
         this.outputItemList1 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTOutputItemList1Node extends ASTNode
     {
         this.expr1 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTOutputItemList1Node extends ASTNode
     {
         this.expr2 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTOutputItemList1Node extends ASTNode
     {
         this.outputImpliedDo = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTOutputItemListNode extends ASTNode
     {
         this.singleExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTOutputItemListNode extends ASTNode
     {
         this.expr1 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTOutputItemListNode extends ASTNode
     {
         this.outputItemList1 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -80,6 +83,7 @@ public class ASTOutputItemListNode extends ASTNode
     {
         this.outputImpliedDo = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -92,6 +96,7 @@ public class ASTOutputItemListNode extends ASTNode
     {
         this.expr2 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTParameterStmtNode extends ASTNode implements IBlockDataBodyConst
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTParameterStmtNode extends ASTNode implements IBlockDataBodyConst
     {
         this.namedConstantDefList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTParentIdentifierNode extends ASTNode
     {
         this.ancestorModuleName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTParentIdentifierNode extends ASTNode
     {
         this.parentSubmoduleName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
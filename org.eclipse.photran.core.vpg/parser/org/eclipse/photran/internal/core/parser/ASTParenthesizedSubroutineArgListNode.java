@@ -41,6 +41,7 @@ public class ASTParenthesizedSubroutineArgListNode extends ASTNode
     {
         this.argList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTPauseStmtNode extends ASTNode implements IActionStmt, IObsoleteA
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTPauseStmtNode extends ASTNode implements IActionStmt, IObsoleteA
     {
         this.intConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTPauseStmtNode extends ASTNode implements IActionStmt, IObsoleteA
     {
         this.stringConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
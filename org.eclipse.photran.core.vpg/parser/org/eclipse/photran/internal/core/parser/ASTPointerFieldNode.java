@@ -47,6 +47,7 @@ public class ASTPointerFieldNode extends ASTNode
     {
         this.fieldSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -59,6 +60,7 @@ public class ASTPointerFieldNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -71,6 +73,7 @@ public class ASTPointerFieldNode extends ASTNode
     {
         this.SFExprList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -83,6 +86,7 @@ public class ASTPointerFieldNode extends ASTNode
     {
         this.SFDummyArgNameList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -95,6 +99,7 @@ public class ASTPointerFieldNode extends ASTNode
     {
         this.imageSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -107,6 +112,7 @@ public class ASTPointerFieldNode extends ASTNode
     {
         this.hasDerivedTypeComponentRef = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -119,6 +125,7 @@ public class ASTPointerFieldNode extends ASTNode
     {
         this.componentName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
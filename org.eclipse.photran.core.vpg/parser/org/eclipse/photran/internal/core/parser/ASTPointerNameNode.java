@@ -39,6 +39,7 @@ public class ASTPointerNameNode extends ASTNode
     {
         this.pointerName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTPointerObjectNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTPointerObjectNode extends ASTNode
     {
         this.pointerField = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTPrefixSpecNode extends ASTNode
     {
         this.isRecursive = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTPrefixSpecNode extends ASTNode
     {
         this.isImpure = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTPrefixSpecNode extends ASTNode
     {
         this.typeSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -80,6 +83,7 @@ public class ASTPrefixSpecNode extends ASTNode
     {
         this.isElemental = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -92,6 +96,7 @@ public class ASTPrefixSpecNode extends ASTNode
     {
         this.isModule = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -104,6 +109,7 @@ public class ASTPrefixSpecNode extends ASTNode
     {
         this.isPure = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
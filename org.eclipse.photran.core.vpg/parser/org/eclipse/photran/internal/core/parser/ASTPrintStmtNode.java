@@ -44,6 +44,7 @@ public class ASTPrintStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTPrintStmtNode extends ASTNode implements IActionStmt
     {
         this.formatIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTPrintStmtNode extends ASTNode implements IActionStmt
     {
         this.outputItemList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTPrivateSequenceStmtNode extends ASTNode implements IDerivedTypeB
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTPrivateSequenceStmtNode extends ASTNode implements IDerivedTypeB
     {
         this.sequenceToken = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTPrivateSequenceStmtNode extends ASTNode implements IDerivedTypeB
     {
         this.isSequence = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTPrivateSequenceStmtNode extends ASTNode implements IDerivedTypeB
     {
         this.privateToken = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +95,7 @@ public class ASTPrivateSequenceStmtNode extends ASTNode implements IDerivedTypeB
     {
         this.isPrivate = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
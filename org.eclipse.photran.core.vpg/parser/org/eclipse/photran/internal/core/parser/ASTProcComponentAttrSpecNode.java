@@ -45,6 +45,7 @@ public class ASTProcComponentAttrSpecNode extends ASTNode
     {
         this.isNoPass = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTProcComponentAttrSpecNode extends ASTNode
     {
         this.accessSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTProcComponentAttrSpecNode extends ASTNode
     {
         this.isPointer = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -81,6 +84,7 @@ public class ASTProcComponentAttrSpecNode extends ASTNode
     {
         this.isPass = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -93,6 +97,7 @@ public class ASTProcComponentAttrSpecNode extends ASTNode
     {
         this.argName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -49,6 +49,7 @@ public class ASTProcComponentDefStmtNode extends ASTNode implements IComponentDe
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -61,6 +62,7 @@ public class ASTProcComponentDefStmtNode extends ASTNode implements IComponentDe
     {
         this.procInterface = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -73,6 +75,7 @@ public class ASTProcComponentDefStmtNode extends ASTNode implements IComponentDe
     {
         this.procComponentAttrSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -85,6 +88,7 @@ public class ASTProcComponentDefStmtNode extends ASTNode implements IComponentDe
     {
         this.procDeclList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
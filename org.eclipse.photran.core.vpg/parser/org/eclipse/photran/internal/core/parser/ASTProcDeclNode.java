@@ -43,6 +43,7 @@ public class ASTProcDeclNode extends ASTNode
     {
         this.procedureEntityName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTProcDeclNode extends ASTNode
     {
         this.assignsNull = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
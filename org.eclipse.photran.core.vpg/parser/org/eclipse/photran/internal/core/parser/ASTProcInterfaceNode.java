@@ -40,6 +40,7 @@ public class ASTProcInterfaceNode extends ASTNode
     {
         this.typeSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTProcInterfaceNode extends ASTNode
     {
         this.interfaceName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
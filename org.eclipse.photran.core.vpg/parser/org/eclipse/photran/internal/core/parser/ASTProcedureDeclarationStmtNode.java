@@ -49,6 +49,7 @@ public class ASTProcedureDeclarationStmtNode extends ASTNode implements IDeclara
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -61,6 +62,7 @@ public class ASTProcedureDeclarationStmtNode extends ASTNode implements IDeclara
     {
         this.procInterface = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -73,6 +75,7 @@ public class ASTProcedureDeclarationStmtNode extends ASTNode implements IDeclara
     {
         this.procAttrSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -85,6 +88,7 @@ public class ASTProcedureDeclarationStmtNode extends ASTNode implements IDeclara
     {
         this.procDeclList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
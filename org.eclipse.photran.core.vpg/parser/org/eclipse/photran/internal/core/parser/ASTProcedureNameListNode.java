@@ -40,6 +40,7 @@ public class ASTProcedureNameListNode extends ASTNode
     {
         this.procedureName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
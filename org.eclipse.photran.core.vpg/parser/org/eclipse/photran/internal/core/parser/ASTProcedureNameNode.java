@@ -39,6 +39,7 @@ public class ASTProcedureNameNode extends ASTNode
     {
         this.procedureName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTProgramNameNode extends ASTNode
     {
         this.programName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
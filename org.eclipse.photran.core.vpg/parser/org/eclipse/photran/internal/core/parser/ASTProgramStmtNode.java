@@ -42,6 +42,7 @@ public class ASTProgramStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTProgramStmtNode extends ASTNode
     {
         this.programToken = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTProgramStmtNode extends ASTNode
     {
         this.programName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
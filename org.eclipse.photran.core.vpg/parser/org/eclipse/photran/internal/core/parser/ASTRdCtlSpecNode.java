@@ -43,6 +43,7 @@ public class ASTRdCtlSpecNode extends ASTNode
     {
         this.rdIoCtlSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTRdCtlSpecNode extends ASTNode
     {
         this.readUnitExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTRdCtlSpecNode extends ASTNode
     {
         this.readUnitIsAsterisk = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
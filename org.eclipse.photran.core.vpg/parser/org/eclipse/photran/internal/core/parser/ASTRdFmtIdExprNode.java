@@ -41,6 +41,7 @@ public class ASTRdFmtIdExprNode extends ASTNode
     {
         this.formatIdExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +67,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasSlashEqOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +80,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasNeOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +93,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasGtOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -103,6 +106,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasEqvOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -115,6 +119,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.definedBinaryOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -127,6 +132,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasEqEqOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -139,6 +145,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasPlusOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -151,6 +158,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasOrOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -163,6 +171,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasLeOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -175,6 +184,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasEqOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -187,6 +197,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.customDefinedOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -199,6 +210,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasAndOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -211,6 +223,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasLtOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -223,6 +236,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.formatIsAsterisk = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -235,6 +249,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasNeqvOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -247,6 +262,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasGeOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -259,6 +275,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasPowerOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -271,6 +288,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasMinusOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -283,6 +301,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.primary1 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -295,6 +314,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasDivideOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -307,6 +327,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasTimesOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -319,6 +340,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasNotOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -331,6 +353,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.definedUnaryOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -343,6 +366,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -355,6 +379,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.formatIdExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -367,6 +392,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.hasConcatOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -379,6 +405,7 @@ public class ASTRdFmtIdNode extends ASTNode
     {
         this.primary2 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTRdIoCtlSpecListNode extends ASTNode
     {
         this.unitIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTRdIoCtlSpecListNode extends ASTNode
     {
         this.formatIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTRdIoCtlSpecListNode extends ASTNode
     {
         this.ioControlSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
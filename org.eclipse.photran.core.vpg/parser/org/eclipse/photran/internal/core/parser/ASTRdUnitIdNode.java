@@ -42,6 +42,7 @@ public class ASTRdUnitIdNode extends ASTNode
     {
         this.readUnitExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTRdUnitIdNode extends ASTNode
     {
         this.readUnitIsAsterisk = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -45,6 +45,7 @@ public class ASTReadStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTReadStmtNode extends ASTNode implements IActionStmt
     {
         this.rdFmtId = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTReadStmtNode extends ASTNode implements IActionStmt
     {
         this.rdCtlSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -81,6 +84,7 @@ public class ASTReadStmtNode extends ASTNode implements IActionStmt
     {
         this.inputItemList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
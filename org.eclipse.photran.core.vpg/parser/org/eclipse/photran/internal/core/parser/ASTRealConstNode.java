@@ -42,6 +42,7 @@ public class ASTRealConstNode extends ASTNode implements IExpr, ISelector, IUnsi
     {
         this.realConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTRealConstNode extends ASTNode implements IExpr, ISelector, IUnsi
     {
         this.intKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTRealConstNode extends ASTNode implements IExpr, ISelector, IUnsi
     {
         this.namedConstKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
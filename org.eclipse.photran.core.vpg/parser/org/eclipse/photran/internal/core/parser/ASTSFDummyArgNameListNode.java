@@ -40,6 +40,7 @@ public class ASTSFDummyArgNameListNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
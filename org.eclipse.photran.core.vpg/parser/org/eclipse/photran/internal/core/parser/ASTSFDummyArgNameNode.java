@@ -39,6 +39,7 @@ public class ASTSFDummyArgNameNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTSFExprNode extends ASTNode
     {
         this.SFTerm = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTSFExprNode extends ASTNode
     {
         this.rhs = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTSFExprNode extends ASTNode
     {
         this.lhsExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTSFExprNode extends ASTNode
     {
         this.addOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +95,7 @@ public class ASTSFExprNode extends ASTNode
     {
         this.rhsExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -46,6 +46,7 @@ public class ASTSFPrimaryNode extends ASTNode
     {
         this.SFDataRef = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTSFPrimaryNode extends ASTNode
     {
         this.functionReference = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTSFPrimaryNode extends ASTNode
     {
         this.expr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +85,7 @@ public class ASTSFPrimaryNode extends ASTNode
     {
         this.intConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -94,6 +98,7 @@ public class ASTSFPrimaryNode extends ASTNode
     {
         this.SFVarName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -106,6 +111,7 @@ public class ASTSFPrimaryNode extends ASTNode
     {
         this.arrayConstructor = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTSFTermNode extends ASTNode
     {
         this.lhsExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTSFTermNode extends ASTNode
     {
         this.SFFactor = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTSFTermNode extends ASTNode
     {
         this.multOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -78,6 +81,7 @@ public class ASTSFTermNode extends ASTNode
     {
         this.rhsExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTSFVarNameNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
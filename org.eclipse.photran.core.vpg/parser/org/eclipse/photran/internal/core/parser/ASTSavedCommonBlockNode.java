@@ -41,6 +41,7 @@ public class ASTSavedCommonBlockNode extends ASTNode
     {
         this.commonBlockName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTSectionSubscriptNode extends ASTNode
     {
         this.subscriptTriplet = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTSectionSubscriptNode extends ASTNode
     {
         this.expr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
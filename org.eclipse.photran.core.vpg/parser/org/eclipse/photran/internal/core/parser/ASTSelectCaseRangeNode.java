@@ -40,6 +40,7 @@ public class ASTSelectCaseRangeNode extends ASTNode
     {
         this.selectCaseBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTSelectCaseRangeNode extends ASTNode
     {
         this.endSelectStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
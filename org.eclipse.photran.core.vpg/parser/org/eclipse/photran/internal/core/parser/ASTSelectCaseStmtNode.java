@@ -48,6 +48,7 @@ public class ASTSelectCaseStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -60,6 +61,7 @@ public class ASTSelectCaseStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -72,6 +74,7 @@ public class ASTSelectCaseStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.selectionExpression = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTSelectTypeBodyNode extends ASTNode
     {
         this.typeGuardStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTSelectTypeBodyNode extends ASTNode
     {
         this.typeGuardBlock = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTSelectTypeConstructNode extends ASTNode implements IExecutableCo
     {
         this.selectTypeStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTSelectTypeConstructNode extends ASTNode implements IExecutableCo
     {
         this.selectTypeBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTSelectTypeConstructNode extends ASTNode implements IExecutableCo
     {
         this.endSelectTypeStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
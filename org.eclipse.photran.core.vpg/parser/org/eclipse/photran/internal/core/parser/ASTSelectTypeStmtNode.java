@@ -49,6 +49,7 @@ public class ASTSelectTypeStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -61,6 +62,7 @@ public class ASTSelectTypeStmtNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -73,6 +75,7 @@ public class ASTSelectTypeStmtNode extends ASTNode
     {
         this.associateName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -85,6 +88,7 @@ public class ASTSelectTypeStmtNode extends ASTNode
     {
         this.selector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
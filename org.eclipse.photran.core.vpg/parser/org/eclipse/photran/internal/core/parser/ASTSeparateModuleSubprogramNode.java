@@ -43,6 +43,7 @@ public class ASTSeparateModuleSubprogramNode extends ScopingNode implements IMod
     {
         this.mpSubprogramStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTSeparateModuleSubprogramNode extends ScopingNode implements IMod
     {
         this.body = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTSeparateModuleSubprogramNode extends ScopingNode implements IMod
     {
         this.containsStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTSeparateModuleSubprogramNode extends ScopingNode implements IMod
     {
         this.internalSubprograms = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +95,7 @@ public class ASTSeparateModuleSubprogramNode extends ScopingNode implements IMod
     {
         this.endMpSubprogramStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -28,6 +28,10 @@ public class ASTSeparatedListNode<T extends IASTNode> extends AbstractList<T> im
     private ArrayList<Token> separators = new ArrayList<Token>();
     private ArrayList<T> entries = new ArrayList<T>();
 
+    /** Cached results of {@link #findFirstToken()} and {@link #findLastToken()} */
+    private Token firstToken = null, lastToken = null;
+    private boolean isFirstTokenCached = false, isLastTokenCached = false;
+
     public ASTSeparatedListNode() {}
 
     public ASTSeparatedListNode(Token separator, List<T> entries)
@@ -69,6 +73,7 @@ public class ASTSeparatedListNode<T extends IASTNode> extends AbstractList<T> im
         this.entries.add(entry);
         if (separator != null) separator.setParent(this);
         if (entry != null) entry.setParent(this);
+        ASTNodeUtil.invalidateCaches(this);
     }
 
     @Override public T remove(int index)
@@ -79,6 +84,7 @@ public class ASTSeparatedListNode<T extends IASTNode> extends AbstractList<T> im
             this.separators.set(0, null);
         // if (separator != null) separator.setParent(null);
         // if (result != null) result.setParent(null);
+        ASTNodeUtil.invalidateCaches(this);
         return result;
     }
 
@@ -197,12 +203,45 @@ public class ASTSeparatedListNode<T extends IASTNode> extends AbstractList<T> im
 
     public Token findFirstToken()
     {
-        return ASTNodeUtil.findFirstToken(this);
+        if (!isFirstTokenCached)
+        {
+            firstToken = null;
+            for (int i = 0; i < entries.size() && firstToken == null; i++)
+            {
+                if (separators.get(i) != null)
+                    firstToken = separators.get(i);
+                else if (entries.get(i) != null)
+                    firstToken = entries.get(i).findFirstToken();
+            }
+            isFirstTokenCached = true;
+        }
+        return firstToken;
     }
 
     public Token findLastToken()
     {
-        return ASTNodeUtil.findLastToken(this);
+        if (!isLastTokenCached)
+        {
+            lastToken = null;
+            for (int i = entries.size() - 1; i >= 0 && lastToken == null; i--)
+            {
+                if (entries.get(i) != null)
+                    lastToken = entries.get(i).findLastToken();
+                if (lastToken == null && separators.get(i) != null)
+                    lastToken = separators.get(i);
+            }
+            isLastTokenCached = true;
+        }
+        return lastToken;
+    }
+
+    /** @return true iff this node had cached its first or last token */
+    boolean clearCachedTokens()
+    {
+        boolean wasCached = isFirstTokenCached || isLastTokenCached;
+        firstToken = lastToken = null;
+        isFirstTokenCached = isLastTokenCached = false;
+        return wasCached;
     }
 
     public boolean isFirstChildInList()
@@ -235,6 +274,7 @@ public class ASTSeparatedListNode<T extends IASTNode> extends AbstractList<T> im
         {
             entries.set(i, (T)withNode);
             if (withNode != null) withNode.setParent(this);
+            ASTNodeUtil.invalidateCaches(this);
             return;
         }
 
@@ -243,6 +283,7 @@ public class ASTSeparatedListNode<T extends IASTNode> extends AbstractList<T> im
         {
             separators.set(i, (Token)withNode);
             if (withNode != null) withNode.setParent(this);
+            ASTNodeUtil.invalidateCaches(this);
             return;
         }
 
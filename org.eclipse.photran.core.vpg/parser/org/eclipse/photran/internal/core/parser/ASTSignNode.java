@@ -40,6 +40,7 @@ public class ASTSignNode extends ASTNode
     {
         this.hasPlusSign = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTSignNode extends ASTNode
     {
         this.hasMinusSign = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -51,6 +51,7 @@ public class ASTSpecificBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -63,6 +64,7 @@ public class ASTSpecificBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.interfaceName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -75,6 +77,7 @@ public class ASTSpecificBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.bindingAttrList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -87,6 +90,7 @@ public class ASTSpecificBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.bindingName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -99,6 +103,7 @@ public class ASTSpecificBindingNode extends ASTNode implements IProcBindingStmt
     {
         this.procedureName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
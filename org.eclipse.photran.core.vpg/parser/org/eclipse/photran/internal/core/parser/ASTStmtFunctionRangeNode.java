@@ -44,6 +44,7 @@ public class ASTStmtFunctionRangeNode extends ASTNode
     {
         this.SFDummyArgNameList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTStmtFunctionRangeNode extends ASTNode
     {
         this.expr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
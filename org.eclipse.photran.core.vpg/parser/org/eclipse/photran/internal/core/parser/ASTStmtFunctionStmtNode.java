@@ -46,6 +46,7 @@ public class ASTStmtFunctionStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTStmtFunctionStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTStmtFunctionStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.SFDummyArgNameList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +85,7 @@ public class ASTStmtFunctionStmtNode extends ASTNode implements IObsoleteActionS
     {
         this.expr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTStringConstNode extends ASTNode implements IExpr, ISelector
     {
         this.stringConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTStringConstNode extends ASTNode implements IExpr, ISelector
     {
         this.substringRange = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTStructureComponentNode extends ASTNode implements IDataIDoObject
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTStructureComponentNode extends ASTNode implements IDataIDoObject
     {
         this.fieldSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
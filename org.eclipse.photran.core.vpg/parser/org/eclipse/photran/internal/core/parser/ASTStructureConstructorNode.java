@@ -45,6 +45,7 @@ public class ASTStructureConstructorNode extends ASTNode
     {
         this.typeName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTStructureConstructorNode extends ASTNode
     {
         this.typeParamSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTStructureConstructorNode extends ASTNode
     {
         this.typeParamSpecList2 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTSubmoduleBlockNode extends ASTNode
     {
         this.moduleBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTSubmoduleBlockNode extends ASTNode
     {
         this.endSubmoduleStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
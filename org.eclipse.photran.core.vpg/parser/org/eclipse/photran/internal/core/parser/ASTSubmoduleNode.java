@@ -41,6 +41,7 @@ public class ASTSubmoduleNode extends ScopingNode implements IProgramUnit
     {
         this.submoduleStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTSubmoduleNode extends ScopingNode implements IProgramUnit
     {
         this.moduleBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTSubmoduleNode extends ScopingNode implements IProgramUnit
     {
         this.endSubmoduleStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
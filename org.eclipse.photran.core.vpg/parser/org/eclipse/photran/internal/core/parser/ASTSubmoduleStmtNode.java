@@ -45,6 +45,7 @@ public class ASTSubmoduleStmtNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTSubmoduleStmtNode extends ASTNode
     {
         this.parentIdentifier = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTSubmoduleStmtNode extends ASTNode
     {
         this.submoduleName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -61,6 +61,7 @@ public class ASTSubroutineArgNode extends ASTNode
     {
         this.hollerith = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -73,6 +74,7 @@ public class ASTSubroutineArgNode extends ASTNode
     {
         this.expr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -85,6 +87,7 @@ public class ASTSubroutineArgNode extends ASTNode
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
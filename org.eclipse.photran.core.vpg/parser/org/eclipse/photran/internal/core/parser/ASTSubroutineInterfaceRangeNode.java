@@ -40,6 +40,7 @@ public class ASTSubroutineInterfaceRangeNode extends ASTNode
     {
         this.subprogramInterfaceBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTSubroutineInterfaceRangeNode extends ASTNode
     {
         this.endSubroutineStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTSubroutineNameUseNode extends ASTNode
     {
         this.subroutineName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTSubroutinePrefixNode extends ASTNode
     {
         this.prefixSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
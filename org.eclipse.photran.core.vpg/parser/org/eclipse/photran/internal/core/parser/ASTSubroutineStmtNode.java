@@ -50,6 +50,7 @@ public class ASTSubroutineStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -62,6 +63,7 @@ public class ASTSubroutineStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.prefixSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -74,6 +76,7 @@ public class ASTSubroutineStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.subroutineName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -86,6 +89,7 @@ public class ASTSubroutineStmtNode extends ASTNodeWithErrorRecoverySymbols imple
     {
         this.subroutinePars = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -43,6 +43,7 @@ public class ASTSubroutineSubprogramNode extends ScopingNode implements IInterna
     {
         this.subroutineStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTSubroutineSubprogramNode extends ScopingNode implements IInterna
     {
         this.body = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTSubroutineSubprogramNode extends ScopingNode implements IInterna
     {
         this.containsStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTSubroutineSubprogramNode extends ScopingNode implements IInterna
     {
         this.internalSubprograms = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +95,7 @@ public class ASTSubroutineSubprogramNode extends ScopingNode implements IInterna
     {
         this.endSubroutineStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
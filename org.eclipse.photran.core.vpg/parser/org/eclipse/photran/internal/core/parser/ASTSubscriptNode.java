@@ -39,6 +39,7 @@ public class ASTSubscriptNode extends ASTNode
     {
         this.subscriptExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTSubstrConstNode extends ASTNode
     {
         this.stringConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTSubstrConstNode extends ASTNode
     {
         this.substringRange = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
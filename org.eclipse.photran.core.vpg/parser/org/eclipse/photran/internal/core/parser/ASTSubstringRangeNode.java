@@ -41,6 +41,7 @@ public class ASTSubstringRangeNode extends ASTNode
     {
         this.subscriptTriplet = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
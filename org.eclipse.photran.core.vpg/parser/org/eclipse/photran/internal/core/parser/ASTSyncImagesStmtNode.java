@@ -48,6 +48,7 @@ public class ASTSyncImagesStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -60,6 +61,7 @@ public class ASTSyncImagesStmtNode extends ASTNode implements IActionStmt
     {
         this.imageSet = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -72,6 +74,7 @@ public class ASTSyncImagesStmtNode extends ASTNode implements IActionStmt
     {
         this.syncStatList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTTargetNameNode extends ASTNode
     {
         this.targetName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -42,6 +42,7 @@ public class ASTThenPartNode extends ASTNode
     {
         this.conditionalBody = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTThenPartNode extends ASTNode
     {
         this.elseConstruct = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTThenPartNode extends ASTNode
     {
         this.elseIfConstruct = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -78,6 +81,7 @@ public class ASTThenPartNode extends ASTNode
     {
         this.endIfStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
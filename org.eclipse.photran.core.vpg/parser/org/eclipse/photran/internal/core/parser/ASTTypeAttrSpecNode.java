@@ -46,6 +46,7 @@ public class ASTTypeAttrSpecNode extends ASTNode
     {
         this.isBind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTTypeAttrSpecNode extends ASTNode
     {
         this.isAbstract = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTTypeAttrSpecNode extends ASTNode
     {
         this.accessSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +85,7 @@ public class ASTTypeAttrSpecNode extends ASTNode
     {
         this.isExtends = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -94,6 +98,7 @@ public class ASTTypeAttrSpecNode extends ASTNode
     {
         this.parentTypeName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -106,6 +111,7 @@ public class ASTTypeAttrSpecNode extends ASTNode
     {
         this.language = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTTypeBoundProcedurePartNode extends ASTNode
     {
         this.containsStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTTypeBoundProcedurePartNode extends ASTNode
     {
         this.bindingPrivateStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +67,7 @@ public class ASTTypeBoundProcedurePartNode extends ASTNode
     {
         this.procBindingStmts = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
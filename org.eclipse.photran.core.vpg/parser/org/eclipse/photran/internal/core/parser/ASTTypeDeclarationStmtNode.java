@@ -46,6 +46,7 @@ public class ASTTypeDeclarationStmtNode extends ASTNodeWithErrorRecoverySymbols
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTTypeDeclarationStmtNode extends ASTNodeWithErrorRecoverySymbols
     {
         this.typeSpec = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTTypeDeclarationStmtNode extends ASTNodeWithErrorRecoverySymbols
     {
         this.attrSpecSeq = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +85,7 @@ public class ASTTypeDeclarationStmtNode extends ASTNodeWithErrorRecoverySymbols
     {
         this.entityDeclList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -48,6 +48,7 @@ public class ASTTypeGuardStmtNode extends ASTNode
     {
         this.isClass = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -60,6 +61,7 @@ public class ASTTypeGuardStmtNode extends ASTNode
     {
         this.isType = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -72,6 +74,7 @@ public class ASTTypeGuardStmtNode extends ASTNode
     {
         this.isDefault = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -84,6 +87,7 @@ public class ASTTypeGuardStmtNode extends ASTNode
     {
         this.typeSpecNoPrefix = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -96,6 +100,7 @@ public class ASTTypeGuardStmtNode extends ASTNode
     {
         this.selectConstructName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
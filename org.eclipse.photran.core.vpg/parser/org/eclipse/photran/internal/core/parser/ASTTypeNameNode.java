@@ -39,6 +39,7 @@ public class ASTTypeNameNode extends ASTNode
     {
         this.typeName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
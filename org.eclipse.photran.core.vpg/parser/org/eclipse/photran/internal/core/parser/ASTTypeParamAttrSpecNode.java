@@ -40,6 +40,7 @@ public class ASTTypeParamAttrSpecNode extends ASTNode
     {
         this.isKind = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTTypeParamAttrSpecNode extends ASTNode
     {
         this.isLen = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTTypeParamNameNode extends ASTNode
     {
         this.typeParamName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -41,6 +41,7 @@ public class ASTTypeParamSpecNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -53,6 +54,7 @@ public class ASTTypeParamSpecNode extends ASTNode
     {
         this.typeParamValue = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
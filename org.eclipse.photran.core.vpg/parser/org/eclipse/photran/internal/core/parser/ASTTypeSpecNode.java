@@ -58,6 +58,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.isCharacter = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +71,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.isDouble = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -82,6 +84,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.isReal = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -94,6 +97,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.isDblComplex = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -106,6 +110,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.isComplex = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -118,6 +123,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.isInteger = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -130,6 +136,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.isDerivedType = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -142,6 +149,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.isLogical = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -154,6 +162,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.kindSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -166,6 +175,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.isAsterisk = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -178,6 +188,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.typeName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -190,6 +201,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.typeParamSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -202,6 +214,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.charSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -214,6 +227,7 @@ public class ASTTypeSpecNode extends ASTNode
     {
         this.isByte = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
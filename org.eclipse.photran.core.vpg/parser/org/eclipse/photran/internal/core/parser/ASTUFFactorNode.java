@@ -42,6 +42,7 @@ public class ASTUFFactorNode extends ASTNode
     {
         this.lhsPrimary = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTUFFactorNode extends ASTNode
     {
         this.powerOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTUFFactorNode extends ASTNode
     {
         this.rhsExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -78,6 +81,7 @@ public class ASTUFFactorNode extends ASTNode
     {
         this.UFPrimary = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
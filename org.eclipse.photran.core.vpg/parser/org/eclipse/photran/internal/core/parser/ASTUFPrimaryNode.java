@@ -53,6 +53,7 @@ public class ASTUFPrimaryNode extends ASTNode
     {
         this.intConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -65,6 +66,7 @@ public class ASTUFPrimaryNode extends ASTNode
     {
         this.stringConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -77,6 +79,7 @@ public class ASTUFPrimaryNode extends ASTNode
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -89,6 +92,7 @@ public class ASTUFPrimaryNode extends ASTNode
     {
         this.primarySectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -101,6 +105,7 @@ public class ASTUFPrimaryNode extends ASTNode
     {
         this.nestedExpression = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -113,6 +118,7 @@ public class ASTUFPrimaryNode extends ASTNode
     {
         this.functionArgList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -125,6 +131,7 @@ public class ASTUFPrimaryNode extends ASTNode
     {
         this.imageSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -137,6 +144,7 @@ public class ASTUFPrimaryNode extends ASTNode
     {
         this.derivedTypeComponentRef = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -149,6 +157,7 @@ public class ASTUFPrimaryNode extends ASTNode
     {
         this.componentSectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -161,6 +170,7 @@ public class ASTUFPrimaryNode extends ASTNode
     {
         this.substringRange = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTUFTermNode extends ASTNode
     {
         this.lhsExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTUFTermNode extends ASTNode
     {
         this.multOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTUFTermNode extends ASTNode
     {
         this.concatOp = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -80,6 +83,7 @@ public class ASTUFTermNode extends ASTNode
     {
         this.rhsPrimary = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -92,6 +96,7 @@ public class ASTUFTermNode extends ASTNode
     {
         this.rhsExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -104,6 +109,7 @@ public class ASTUFTermNode extends ASTNode
     {
         this.UFFactor = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTUnitIdentifierNode extends ASTNode
     {
         this.expression = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -52,6 +53,7 @@ public class ASTUnitIdentifierNode extends ASTNode
     {
         this.hasAsterisk = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
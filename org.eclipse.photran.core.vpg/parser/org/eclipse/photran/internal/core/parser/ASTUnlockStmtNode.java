@@ -46,6 +46,7 @@ public class ASTUnlockStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTUnlockStmtNode extends ASTNode implements IActionStmt
     {
         this.lockVariable = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTUnlockStmtNode extends ASTNode implements IActionStmt
     {
         this.syncStatList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
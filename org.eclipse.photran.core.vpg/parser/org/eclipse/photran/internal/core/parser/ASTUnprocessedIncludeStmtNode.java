@@ -42,6 +42,7 @@ public class ASTUnprocessedIncludeStmtNode extends ASTNode implements ISpecifica
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTUnprocessedIncludeStmtNode extends ASTNode implements ISpecifica
     {
         this.tIdent = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTUnprocessedIncludeStmtNode extends ASTNode implements ISpecifica
     {
         this.tScon = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -78,6 +81,7 @@ public class ASTUnprocessedIncludeStmtNode extends ASTNode implements ISpecifica
     {
         this.tEos = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -39,6 +39,7 @@ public class ASTUpperBoundNode extends ASTNode
     {
         this.ub = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
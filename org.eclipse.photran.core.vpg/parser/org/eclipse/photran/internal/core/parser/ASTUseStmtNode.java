@@ -51,6 +51,7 @@ public class ASTUseStmtNode extends ASTNode implements ISpecificationPartConstru
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -63,6 +64,7 @@ public class ASTUseStmtNode extends ASTNode implements ISpecificationPartConstru
     {
         this.useToken = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -75,6 +77,7 @@ public class ASTUseStmtNode extends ASTNode implements ISpecificationPartConstru
     {
         this.moduleNature = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -87,6 +90,7 @@ public class ASTUseStmtNode extends ASTNode implements ISpecificationPartConstru
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -99,6 +103,7 @@ public class ASTUseStmtNode extends ASTNode implements ISpecificationPartConstru
     {
         this.renameList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -111,6 +116,7 @@ public class ASTUseStmtNode extends ASTNode implements ISpecificationPartConstru
     {
         this.onlyList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
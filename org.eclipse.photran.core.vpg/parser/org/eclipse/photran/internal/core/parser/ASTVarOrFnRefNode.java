@@ -52,6 +52,7 @@ public class ASTVarOrFnRefNode extends ASTNode implements IExpr, ISelector
     {
         this.name = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -64,6 +65,7 @@ public class ASTVarOrFnRefNode extends ASTNode implements IExpr, ISelector
     {
         this.primarySectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -76,6 +78,7 @@ public class ASTVarOrFnRefNode extends ASTNode implements IExpr, ISelector
     {
         this.functionArgList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -88,6 +91,7 @@ public class ASTVarOrFnRefNode extends ASTNode implements IExpr, ISelector
     {
         this.substringRange = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -100,6 +104,7 @@ public class ASTVarOrFnRefNode extends ASTNode implements IExpr, ISelector
     {
         this.imageSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -112,6 +117,7 @@ public class ASTVarOrFnRefNode extends ASTNode implements IExpr, ISelector
     {
         this.derivedTypeComponentRef = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -124,6 +130,7 @@ public class ASTVarOrFnRefNode extends ASTNode implements IExpr, ISelector
     {
         this.componentSectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -136,6 +143,7 @@ public class ASTVarOrFnRefNode extends ASTNode implements IExpr, ISelector
     {
         this.substringRange2 = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -40,6 +40,7 @@ public class ASTVariableCommaNode extends ASTNode
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
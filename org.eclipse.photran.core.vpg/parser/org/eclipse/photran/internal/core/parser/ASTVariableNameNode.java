@@ -39,6 +39,7 @@ public class ASTVariableNameNode extends ASTNode implements IBindEntity
     {
         this.variableName = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -45,6 +45,7 @@ public class ASTVariableNode extends ASTNode implements IDataStmtObject, IInputI
     {
         this.dataRef = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -57,6 +58,7 @@ public class ASTVariableNode extends ASTNode implements IDataStmtObject, IInputI
     {
         this.stringConst = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -69,6 +71,7 @@ public class ASTVariableNode extends ASTNode implements IDataStmtObject, IInputI
     {
         this.sectionSubscriptList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -81,6 +84,7 @@ public class ASTVariableNode extends ASTNode implements IDataStmtObject, IInputI
     {
         this.imageSelector = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -93,6 +97,7 @@ public class ASTVariableNode extends ASTNode implements IDataStmtObject, IInputI
     {
         this.substringRange = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
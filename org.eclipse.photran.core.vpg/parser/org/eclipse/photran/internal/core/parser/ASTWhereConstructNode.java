@@ -43,6 +43,7 @@ public class ASTWhereConstructNode extends ASTNode implements IBodyConstruct, IC
     {
         this.whereConstructStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -55,6 +56,7 @@ public class ASTWhereConstructNode extends ASTNode implements IBodyConstruct, IC
     {
         this.whereBodyConstructBlock = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -67,6 +69,7 @@ public class ASTWhereConstructNode extends ASTNode implements IBodyConstruct, IC
     {
         this.elseWhereConstruct = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -79,6 +82,7 @@ public class ASTWhereConstructNode extends ASTNode implements IBodyConstruct, IC
     {
         this.maskedElseWhereConstruct = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -91,6 +95,7 @@ public class ASTWhereConstructNode extends ASTNode implements IBodyConstruct, IC
     {
         this.endWhereStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
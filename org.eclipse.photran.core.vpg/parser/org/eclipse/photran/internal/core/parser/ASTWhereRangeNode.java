@@ -42,6 +42,7 @@ public class ASTWhereRangeNode extends ASTNode
     {
         this.whereBodyConstructBlock = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -54,6 +55,7 @@ public class ASTWhereRangeNode extends ASTNode
     {
         this.endWhereStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -66,6 +68,7 @@ public class ASTWhereRangeNode extends ASTNode
     {
         this.elseWhereConstruct = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -78,6 +81,7 @@ public class ASTWhereRangeNode extends ASTNode
     {
         this.maskedElseWhereConstruct = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -44,6 +44,7 @@ public class ASTWhereStmtNode extends ASTNode implements IActionStmt, IBodyConst
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -56,6 +57,7 @@ public class ASTWhereStmtNode extends ASTNode implements IActionStmt, IBodyConst
     {
         this.maskExpr = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -68,6 +70,7 @@ public class ASTWhereStmtNode extends ASTNode implements IActionStmt, IBodyConst
     {
         this.assignmentStmt = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
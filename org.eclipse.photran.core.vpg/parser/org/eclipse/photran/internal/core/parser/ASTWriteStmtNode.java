@@ -46,6 +46,7 @@ public class ASTWriteStmtNode extends ASTNode implements IActionStmt
     {
         this.label = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -58,6 +59,7 @@ public class ASTWriteStmtNode extends ASTNode implements IActionStmt
     {
         this.ioControlSpecList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -70,6 +72,7 @@ public class ASTWriteStmtNode extends ASTNode implements IActionStmt
     {
         this.outputItemList = newValue;
         if (newValue != null) newValue.setParent(this);
+        invalidateCaches();
     }
 
 
@@ -32,11 +32,15 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Stack;
+import java.util.RandomAccess;
 import org.eclipse.photran.internal.core.parser.ParsingTables.*;
 
 /**
  * An LALR(1) parser for Fortran 2008
+ * <p>
+ * A parser may be reused for any number of parses, but it can only perform one parse at a time,
+ * so it must not be shared between threads.  {@link #getThreadLocalParser()} returns a parser
+ * which is reused for all parses on the current thread.
  */
 @SuppressWarnings("all")
 public class Parser
@@ -149,7 +153,30 @@ public class Parser
     /**
      * Semantic actions to invoke after reduce actions.
      */
-    protected SemanticActions semanticActions;
+    protected SemanticActions semanticActions = new SemanticActions();
+
+    /** One parser per thread (see {@link #getThreadLocalParser()}) */
+    private static final ThreadLocal<Parser> threadLocalParser = new ThreadLocal<Parser>()
+    {
+        @Override protected Parser initialValue()
+        {
+            return new Parser();
+        }
+    };
+
+    /**
+     * Returns a parser which is reused by every caller on the current thread, so that parsing a
+     * large number of files does not allocate a new parser (and new parser stacks) for each one.
+     * <p>
+     * The parser is not reentrant: it must not be used from within another parse on the same
+     * thread, and it must not be passed to other threads.
+     *
+     * @return a parser for the current thread (non-<code>null</code>)
+     */
+    public static Parser getThreadLocalParser()
+    {
+        return threadLocalParser.get();
+    }
 
     /**
      * Parses a file using the given lexical analyzer (tokenizer).
@@ -185,14 +212,33 @@ public class Parser
     {
         if (lexicalAnalyzer == null)
             throw new IllegalArgumentException("Lexer cannot be null");
+        if (this.lexer != null)
+            throw new IllegalStateException("The parser is already in use");
 
-        this.lexer = lexicalAnalyzer;
-        this.parsingTables = parsingTables;
-        this.semanticActions = new SemanticActions();
+        try
+        {
+            this.lexer = lexicalAnalyzer;
+            this.parsingTables = parsingTables;
 
-        this.parserStack = new ParserStack();
-        this.errorInfo = null;
+            if (this.parserStack == null)
+                this.parserStack = new ParserStack();
+            else
+                this.parserStack.reset();
+            this.errorInfo = null;
 
+            return runParser();
+        }
+        finally
+        {
+            // Release the lexer and the parsed values so that a reused parser does not retain them
+            this.lexer = null;
+            if (this.parserStack != null) this.parserStack.reset();
+            this.errorInfo = null;
+        }
+    }
+
+    private Object runParser() throws IOException, LexerException, SyntaxException
+    {
         semanticActions.initialize();
 
         readNextToken();
@@ -281,7 +327,7 @@ public class Parser
 
         assert parserStack.numValues() >= symbolsToPop;
 
-        Stack<Object> valueStack = parserStack.getValueStack();
+        ObjectStack valueStack = parserStack.getValueStack();
         int valueStackSize = valueStack.size();
         int valueStackOffset = valueStackSize - symbolsToPop;
         Object reduceToObject = semanticActions.handle(productionIndex,
@@ -511,7 +557,7 @@ public class Parser
          * made and the user's code, perhaps <code>return lhs + rhs</code>, is run,
          * this is where that result is stored.
          */
-        protected Stack<Object> valueStack;
+        protected ObjectStack valueStack;
 
         /** Class invariants */
         public boolean invariants() { return stateStack.size() == valueStack.size() + 1; }
@@ -519,7 +565,7 @@ public class Parser
         public ParserStack()
         {
             this.stateStack = new IntStack();
-            this.valueStack = new Stack<Object>();
+            this.valueStack = new ObjectStack();
 
             // The parser starts in state 0
             stateStack.push(0);
@@ -528,9 +574,20 @@ public class Parser
         public ParserStack(ParserStack copyFrom)
         {
             this.stateStack = new IntStack(copyFrom.stateStack);
+            this.valueStack = new ObjectStack(copyFrom.valueStack);
+        }
 
-            this.valueStack = new Stack<Object>();
-            this.valueStack.addAll(copyFrom.valueStack);
+        /**
+         * Empties the stack (keeping its capacity) so that it can be used for another parse.
+         */
+        public void reset()
+        {
+            stateStack.clear();
+            valueStack.clear();
+            lookahead = null;
+
+            // The parser starts in state 0
+            stateStack.push(0);
         }
 
         public void push(int state, Object lookahead)
@@ -539,7 +596,7 @@ public class Parser
             valueStack.push(lookahead);
         }
 
-        public Stack<Object> getValueStack()
+        public ObjectStack getValueStack()
         {
             return valueStack;
         }
@@ -571,7 +628,7 @@ public class Parser
         {
             assert !valueStack.isEmpty();
 
-            return valueStack.peek();
+            return valueStack.top();
         }
 
         public void setLookahead(org.eclipse.photran.internal.core.lexer.Token lookahead)
@@ -6704,4 +6761,111 @@ public class Parser
             return Arrays.equals(stack, other.stack);
         }
     }
+
+    /**
+     * A stack of objects that will grow automatically as necessary.
+     * <p>
+     * Unlike <code>java.util.Stack</code>, this is not synchronized.  It is a
+     * <code>List</code> so that semantic actions can index into it directly.
+     */
+    protected static class ObjectStack extends AbstractList<Object> implements RandomAccess
+    {
+        /** The contents of the stack. */
+        protected Object[] stack;
+
+        /**
+         * The number of elements on the stack.
+         * <p>
+         * It is always the case that <code>size <= stack.length</code>.
+         */
+        protected int size;
+
+        /**
+         * Constructor.  Creates a stack with a reasonable initial capacity,
+         * which will grow as necessary.
+         */
+        public ObjectStack()
+        {
+            this.stack = new Object[64]; // Heuristic
+            this.size = 0;
+        }
+
+        /**
+         * Copy construct.  Creates a stack which is a copy of the given
+         * <code>ObjectStack</code>, but which may be modified separately.
+         */
+        public ObjectStack(ObjectStack copyFrom)
+        {
+            this.stack = new Object[copyFrom.stack.length];
+            this.size = copyFrom.size;
+            System.arraycopy(copyFrom.stack, 0, this.stack, 0, size);
+        }
+
+        /**
+         * Pushes the given value onto the top of the stack.
+         *
+         * @param value the value to push
+         */
+        public void push(Object value)
+        {
+            if (this.size == this.stack.length)
+                this.stack = Arrays.copyOf(this.stack, (this.stack.length * 3) / 2 + 1);
+            this.stack[this.size++] = value;
+        }
+
+        /**
+         * Returns the value on the top of the stack, but leaves that value
+         * on the stack.
+         *
+         * @return the value on the top of the stack
+         *
+         * @throws IllegalStateException if the stack is empty
+         */
+        public Object top()
+        {
+            if (this.size == 0)
+                throw new IllegalStateException("Stack is empty");
+
+            return this.stack[this.size - 1];
+        }
+
+        /**
+         * Removes the value on the top of the stack and returns it.
+         *
+         * @return the value that has been removed from the stack
+         *
+         * @throws IllegalStateException if the stack is empty
+         */
+        public Object pop()
+        {
+            if (this.size == 0)
+                throw new IllegalStateException("Stack is empty");
+
+            Object result = this.stack[--this.size];
+            this.stack[this.size] = null;
+            return result;
+        }
+
+        /**
+         * Removes all elements from this stack, settings its size to 0.
+         */
+        @Override public void clear()
+        {
+            Arrays.fill(this.stack, 0, this.size, null);
+            this.size = 0;
+        }
+
+        @Override public Object get(int index)
+        {
+            if (index < 0 || index >= this.size)
+                throw new IndexOutOfBoundsException("index out of range");
+
+            return this.stack[index];
+        }
+
+        @Override public int size()
+        {
+            return this.size;
+        }
+    }
 }
@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (c) 2007 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.parser;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.photran.internal.core.parser.Parser.Nonterminal;
+
+/**
+ * The ACTION, GOTO, and error recovery tables for one start symbol of the parser.
+ * <p>
+ * The tables for all start symbols are stored in a single binary resource,
+ * {@value #RESOURCE}, which is written by the build-parsing-tables script in the parser
+ * directory.  Each table is read into primitive arrays the first time it is used, so the
+ * tables for start symbols that are never parsed (and the recovery tables, if there are no
+ * syntax errors) are never loaded.
+ */
+abstract class ParsingTables
+{
+    // Constants used for accessing both the ACTION table and the error recovery table
+    public static final int ACTION_MASK   = 0xC000;  // 1100 0000 0000 0000
+    public static final int VALUE_MASK    = 0x3FFF;  // 0011 1111 1111 1111
+
+    // Constants used for accessing the ACTION table
+    public static final int SHIFT_ACTION  = 0x8000;  // 1000 0000 0000 0000
+    public static final int REDUCE_ACTION = 0x4000;  // 0100 0000 0000 0000
+    public static final int ACCEPT_ACTION = 0xC000;  // 1100 0000 0000 0000
+
+    // Constants used for accessing the error recovery table
+    public static final int DISCARD_STATE_ACTION    = 0x0000;  // 0000 0000 0000 0000
+    public static final int DISCARD_TERMINAL_ACTION = 0x8000;  // 1000 0000 0000 0000
+    public static final int RECOVER_ACTION          = 0x4000;  // 0100 0000 0000 0000
+
+    /** Name of the resource (in this package) containing the tables */
+    public static final String RESOURCE = "parsingtables.dat"; //$NON-NLS-1$
+
+    /** First four bytes of {@link #RESOURCE} (&quot;PTBL&quot;) */
+    private static final int MAGIC = 0x5054424C;
+
+    /** Version of the format of {@link #RESOURCE}; must match build-parsing-tables */
+    private static final int VERSION = 1;
+
+    /**
+     * The ACTION table maps a state and an input symbol to one of four
+     * actions: shift, reduce, accept, or error.
+     */
+    private final Table actionTable;
+
+    /**
+     * The GOTO table maps a state and a nonterminal to a new state.
+     * It is used when the parser reduces.
+     */
+    private final Table goToTable;
+
+    /**
+     * The error recovery table takes the state on top of the stack and the
+     * current lookahead symbol and returns what action should be taken
+     * (see {@link #getRecoveryCode(int, org.eclipse.photran.internal.core.lexer.Token)}).
+     */
+    private final Table recoveryTable;
+
+    protected ParsingTables(String startSymbol)
+    {
+        this.actionTable = new Table(startSymbol + "/action", 0); //$NON-NLS-1$
+        this.goToTable = new Table(startSymbol + "/goto", -1); //$NON-NLS-1$
+        this.recoveryTable = new Table(startSymbol + "/recovery", 0); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the action the parser should take if it is in the given state
+     * and has the given symbol as its lookahead.
+     * <p>
+     * The result value should be interpreted as follows:
+     * <ul>
+     *   <li> If <code>result & ACTION_MASK == SHIFT_ACTION</code>,
+     *        shift the terminal and go to state number
+     *        <code>result & VALUE_MASK</code>.
+     *   <li> If <code>result & ACTION_MASK == REDUCE_ACTION</code>,
+     *        reduce by production number <code>result & VALUE_MASK</code>.
+     *   <li> If <code>result & ACTION_MASK == ACCEPT_ACTION</code>,
+     *        parsing has completed successfully.
+     *   <li> Otherwise, a syntax error has been found.
+     * </ul>
+     *
+     * @return a code for the action to take (see above)
+     */
+    public int getActionCode(int state, org.eclipse.photran.internal.core.lexer.Token lookahead)
+    {
+        assert 0 <= state && state < Parser.NUM_STATES;
+        assert lookahead != null;
+
+        Integer index = Parser.terminalIndices.get(lookahead.getTerminal());
+        if (index == null)
+            return 0;
+        else
+            return actionTable.get(state, index);
+    }
+
+    public int getActionCode(int state, int lookaheadTokenIndex)
+    {
+        return actionTable.get(state, lookaheadTokenIndex);
+    }
+
+    /**
+     * Returns the state the parser should transition to if the given
+     * state is on top of the <code>stateStack</code> after popping
+     * symbols corresponding to the right-hand side of the given production.
+     *
+     * @return the state to transition to (0 <= result < Parser.NUM_STATES)
+     */
+    public int getGoTo(int state, Nonterminal nonterminal)
+    {
+        assert 0 <= state && state < Parser.NUM_STATES;
+        assert nonterminal != null;
+
+        return goToTable.get(state, nonterminal.getIndex());
+    }
+
+    /**
+     * Returns the action to take during error recovery.
+     * <p>
+     * The result value should be interpreted as follows:
+     * <ul>
+     *   <li> If <code>result & ACTION_MASK == DISCARD_STATE_ACTION</code>,
+     *        pop a symbol from the parser stacks; a &quot;known&quot; sequence
+     *        of symbols has not been found.
+     *   <li> If <code>result & ACTION_MASK == DISCARD_TERMINAL_ACTION</code>,
+     *        a &quot;known&quot; sequence of symbols has been found, and we
+     *        are looking for the error lookahead symbol.  Shift the terminal.
+     *   <li> If <code>result & ACTION_MASK == RECOVER_ACTION</code>, we have
+     *        matched the error recovery production
+     *        <code>Production.values[result & VALUE_MASK]</code>, so reduce
+     *        by that production (including the lookahead symbol), and then
+     *        continue with normal parsing.
+     * </ul>
+     * If it is not possible to recover from a syntax error, either the state
+     * stack will be emptied or the end of input will be reached before a
+     * RECOVER_ACTION is found.
+     *
+     * @return a code for the action to take (see above)
+     */
+    public int getRecoveryCode(int state, org.eclipse.photran.internal.core.lexer.Token lookahead)
+    {
+        assert 0 <= state && state < Parser.NUM_STATES;
+        assert lookahead != null;
+
+        Integer index = Parser.terminalIndices.get(lookahead.getTerminal());
+        if (index == null)
+            return 0;
+        else
+            return recoveryTable.get(state, index);
+    }
+
+    /**
+     * A compressed table, which is read from {@link ParsingTables#RESOURCE} on first use.
+     * <p>
+     * Bit <i>col</i> of row <i>row</i> of the <code>sigmap</code> is set iff the entry is not an
+     * error entry.  Otherwise, its value is one half of the entry in the <code>value</code> table
+     * selected by the <code>rowmap</code> and <code>columnmap</code> (identical rows and columns
+     * of the original table share entries).
+     */
+    private static final class Table
+    {
+        private final String name;
+        private final int errorValue;
+
+        /** Set (last) when the table has been loaded, so the fields below are visible to all threads */
+        private volatile boolean loaded = false;
+
+        private int[] rowmap, columnmap, sigmap, value;
+        private int sigmapCols, valueCols;
+
+        public Table(String name, int errorValue)
+        {
+            this.name = name;
+            this.errorValue = errorValue;
+        }
+
+        public int get(int row, int col)
+        {
+            if (!loaded) load();
+
+            final int INT_BITS = 32;
+            int sigmapMask = 0x1 << (INT_BITS - (col % INT_BITS) - 1);
+            if ((sigmap[row * sigmapCols + col / INT_BITS] & sigmapMask) == 0)
+                return errorValue;
+
+            int entry = value[rowmap[row] * valueCols + columnmap[col] / 2];
+            if (columnmap[col] % 2 == 0)
+                return entry >>> 16;
+            else
+                return entry & 0xFFFF;
+        }
+
+        private synchronized void load()
+        {
+            if (loaded) return;
+
+            IntBuffer data = Resource.read(name);
+            rowmap = read(data, data.get());
+            columnmap = read(data, data.get());
+            int sigmapRows = data.get();
+            sigmapCols = data.get();
+            sigmap = read(data, sigmapRows * sigmapCols);
+            int valueRows = data.get();
+            valueCols = data.get();
+            value = read(data, valueRows * valueCols);
+
+            loaded = true;
+        }
+
+        private static int[] read(IntBuffer data, int length)
+        {
+            int[] result = new int[length];
+            data.get(result);
+            return result;
+        }
+    }
+
+    /**
+     * The index of {@link ParsingTables#RESOURCE}, which is read when the first table is loaded.
+     */
+    private static final class Resource
+    {
+        /** Maps each table's name to its offset and length in the resource */
+        private static final Map<String, int[]> regions = readIndex();
+
+        private static Map<String, int[]> readIndex()
+        {
+            DataInputStream in = open();
+            try
+            {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != Parser.NUM_STATES)
+                    throw new Error(RESOURCE + " is not compatible with this version of the parser"); //$NON-NLS-1$
+
+                int numRegions = in.readInt();
+                Map<String, int[]> result = new HashMap<String, int[]>(numRegions * 2);
+                for (int i = 0; i < numRegions; i++)
+                {
+                    String name = in.readUTF();
+                    result.put(name, new int[] { in.readInt(), in.readInt() });
+                }
+                return result;
+            }
+            catch (IOException e)
+            {
+                throw new Error(e);
+            }
+            finally
+            {
+                close(in);
+            }
+        }
+
+        public static IntBuffer read(String name)
+        {
+            int[] region = regions.get(name);
+            if (region == null) throw new Error(RESOURCE + " does not contain " + name); //$NON-NLS-1$
+
+            DataInputStream in = open();
+            try
+            {
+                int offset = region[0], length = region[1];
+                for (int skipped = 0; skipped < offset; )
+                {
+                    int n = in.skipBytes(offset - skipped);
+                    if (n <= 0) throw new IOException("Unexpected end of " + RESOURCE); //$NON-NLS-1$
+                    skipped += n;
+                }
+
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                return ByteBuffer.wrap(bytes).asIntBuffer(); // Big-endian
+            }
+            catch (IOException e)
+            {
+                throw new Error(e);
+            }
+            finally
+            {
+                close(in);
+            }
+        }
+
+        private static DataInputStream open()
+        {
+            InputStream in = ParsingTables.class.getResourceAsStream(RESOURCE);
+            if (in == null) throw new Error("Unable to find " + RESOURCE); //$NON-NLS-1$
+            return new DataInputStream(in);
+        }
+
+        private static void close(InputStream in)
+        {
+            try
+            {
+                in.close();
+            }
+            catch (IOException e)
+            {
+                // Ignore
+            }
+        }
+    }
+}
@@ -12,8 +12,8 @@
 package org.eclipse.photran.internal.core.analysis.binding;
 
 import java.io.PrintStream;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.photran.core.IFortranAST;
@@ -34,11 +34,33 @@ public class Binder
 {
     private Binder() {}
 
-    private static Map<Class<?>, Long> avgTimes = new HashMap<Class<?>, Long>();
-    private static Map<Class<?>, Long> counts = new HashMap<Class<?>, Long>();
+    private static Map<String, Long> avgTimes = new TreeMap<String, Long>();
+    private static Map<String, Long> counts = new TreeMap<String, Long>();
 
-    private static Map<Class<?>, Long> maxTimes = new HashMap<Class<?>, Long>();
-    private static Map<Class<?>, String> maxFiles = new HashMap<Class<?>, String>();
+    private static Map<String, Long> maxTimes = new TreeMap<String, Long>();
+    private static Map<String, String> maxFiles = new TreeMap<String, String>();
+
+    private static final String SEPARATE_TRAVERSALS = "Phases 1-6 (separate traversals)"; //$NON-NLS-1$
+    private static final String FUSED_TRAVERSAL = "Phases 1-6 (FusedBinder)"; //$NON-NLS-1$
+
+    private static volatile boolean fusedEngineEnabled = true;
+
+    /**
+     * Sets whether phases 1-6 of name-binding analysis are performed by a {@link FusedBinder},
+     * which traverses the AST once (the default), or by running each collector over the entire
+     * AST in turn.  Both produce the same bindings; the total time taken by each is recorded
+     * separately in the statistics (see {@link #printStatisticsOn(PrintStream)}), so the two can
+     * be compared.
+     */
+    public static void setFusedEngineEnabled(boolean enabled)
+    {
+        fusedEngineEnabled = enabled;
+    }
+
+    public static boolean isFusedEngineEnabled()
+    {
+        return fusedEngineEnabled;
+    }
 
     public static void bind(IFortranAST ast, IFile file)
     {
@@ -46,7 +68,33 @@ public class Binder
         // =======================================  ===========================================================
         PhotranVPGWriter vpg = PhotranVPG.getProvider();  String filename = file.getName();
                                                     StringBuilder sb = new StringBuilder("  - Binder#bind: "); //$NON-NLS-1$
-        
+
+                                                    long start = System.currentTimeMillis();
+        if (fusedEngineEnabled)
+        {
+            new FusedBinder(file).bind(ast.getRoot(), filename);
+                                                    logTime(start, FUSED_TRAVERSAL, filename);
+        }
+        else
+        {
+            collectInSeparateTraversals(ast, file, filename);
+                                                    logTime(start, SEPARATE_TRAVERSALS, filename);
+        }
+
+                                                    start = System.currentTimeMillis();
+        ast.accept(new ModuleLoader(file));         logTime(start, ModuleLoader.class, filename);
+        // TODO: Type check here so derived type components can be resolved
+                                                    start = System.currentTimeMillis();
+        vpg.enableDefinitionCaching();
+        ast.accept(new ReferenceCollector());
+        vpg.disableDefinitionCaching();             logTime(start, ReferenceCollector.class, filename);
+                                                    PhotranVPG.getInstance().debug(sb.toString(), ""); //$NON-NLS-1$
+
+        new IncrementalBinder(ast, file).storeFingerprints();
+    }
+
+    private static void collectInSeparateTraversals(IFortranAST ast, IFile file, String filename)
+    {
                                                     long start = System.currentTimeMillis();
         ast.accept(new ImplicitSpecCollector());    logTime(start, ImplicitSpecCollector.class, filename);
         
@@ -64,15 +112,27 @@ public class Binder
         
                                                     start = System.currentTimeMillis();
         ast.accept(new DerivedTypeCollector());     logTime(start, DerivedTypeCollector.class, filename);    
+    }
 
-                                                    start = System.currentTimeMillis();
-        ast.accept(new ModuleLoader(file));         logTime(start, ModuleLoader.class, filename);
-        // TODO: Type check here so derived type components can be resolved
-                                                    start = System.currentTimeMillis();
-        vpg.enableDefinitionCaching();
-        ast.accept(new ReferenceCollector());
-        vpg.disableDefinitionCaching();             logTime(start, ReferenceCollector.class, filename);
-                                                    PhotranVPG.getInstance().debug(sb.toString(), ""); //$NON-NLS-1$
+    /**
+     * Rebinds only the program units (and module subprograms) in the given file that have changed
+     * since it was last bound, reusing the edges and annotations stored for the others.
+     * <p>
+     * Unlike {@link #bind(IFortranAST, IFile)}, this must be called <i>without</i> first deleting
+     * the file's edges and annotations.
+     *
+     * @return true iff the file was rebound, or false if it could not be rebound incrementally, in
+     *         which case its edges and annotations must be deleted and it must be bound with
+     *         {@link #bind(IFortranAST, IFile)}
+     *
+     * @see IncrementalBinder
+     */
+    public static boolean rebind(IFortranAST ast, IFile file)
+    {
+        long start = System.currentTimeMillis();
+        boolean result = new IncrementalBinder(ast, file).rebind();
+        logTime(start, IncrementalBinder.class, file.getName());
+        return result;
     }
 
 //    public static void bindLazy(IFortranAST ast, IFile file)
@@ -93,57 +153,82 @@ public class Binder
 //    }
 
     private static void logTime(long start, Class<?> clazz, String filename)
+    {
+        logTime(start, clazz.getSimpleName(), filename);
+    }
+
+    static void logTime(long start, String label, String filename)
     {
         long elapsed = System.currentTimeMillis() - start;
         
-        long oldCount = counts.containsKey(clazz) ? counts.get(clazz) : 0L;
-        long oldAvgTime = avgTimes.containsKey(clazz) ? avgTimes.get(clazz) : 0L;
-        
-        /*              a + b
-         * oldAvgTime = -----
-         *                2
-         *                          ( a + b )
-         *                         (  -----  ) * 2 + c
-         *              a + b + c   (   2   )
-         * newAvgTime = --------- = ------------------
-         *                  3                3
-         */
-        long newAvgTime = (oldAvgTime * oldCount + elapsed) / (oldCount + 1);
-        
-        counts.put(clazz, oldCount+1);
-        avgTimes.put(clazz, newAvgTime);
-        
-        long oldMaxTime = maxTimes.containsKey(clazz) ? maxTimes.get(clazz) : 0L;
-        if (elapsed > oldMaxTime)
+        synchronized (Binder.class)
         {
-            maxTimes.put(clazz, elapsed);
-            maxFiles.put(clazz, filename);
+            long oldCount = counts.containsKey(label) ? counts.get(label) : 0L;
+            long oldAvgTime = avgTimes.containsKey(label) ? avgTimes.get(label) : 0L;
+            
+            /*              a + b
+             * oldAvgTime = -----
+             *                2
+             *                          ( a + b )
+             *                         (  -----  ) * 2 + c
+             *              a + b + c   (   2   )
+             * newAvgTime = --------- = ------------------
+             *                  3                3
+             */
+            long newAvgTime = (oldAvgTime * oldCount + elapsed) / (oldCount + 1);
+            
+            counts.put(label, oldCount+1);
+            avgTimes.put(label, newAvgTime);
+            
+            long oldMaxTime = maxTimes.containsKey(label) ? maxTimes.get(label) : 0L;
+            if (elapsed > oldMaxTime)
+            {
+                maxTimes.put(label, elapsed);
+                maxFiles.put(label, filename);
+            }
         }
     }
     
     public static long getAvgTime(Class<?> clazz)
     {
-        return avgTimes.containsKey(clazz) ? avgTimes.get(clazz) : 0L;
+        return getAvgTime(clazz.getSimpleName());
+    }
+
+    public static synchronized long getAvgTime(String label)
+    {
+        return avgTimes.containsKey(label) ? avgTimes.get(label) : 0L;
     }
 
-    public static void printStatisticsOn(PrintStream ps)
+    public static synchronized void printStatisticsOn(PrintStream ps)
     {
         ps.println("Name Binding Analysis Statistics:"); //$NON-NLS-1$
         
         ps.println();
         ps.println("    Average Times:"); //$NON-NLS-1$
-        for (Class<?> clazz : avgTimes.keySet())
-            ps.println("        " + clazz.getSimpleName() + ": " + avgTimes.get(clazz) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        for (String label : avgTimes.keySet())
+            ps.println("        " + label + ": " + avgTimes.get(label) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
         ps.println();
         ps.println("    Maximum Times:"); //$NON-NLS-1$
-        for (Class<?> clazz : maxTimes.keySet())
-            ps.println("        " + clazz.getSimpleName() + ": " + maxTimes.get(clazz) + " ms (" + maxFiles.get(clazz) + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        for (String label : maxTimes.keySet())
+            ps.println("        " + label + ": " + maxTimes.get(label) + " ms (" + maxFiles.get(label) + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+        ps.println();
+        ps.println("    Phases 1-6, Separate Traversals vs. FusedBinder:"); //$NON-NLS-1$
+        for (String label : new String[] { SEPARATE_TRAVERSALS, FUSED_TRAVERSAL })
+        {
+            if (counts.containsKey(label))
+                ps.println("        " + label + ": " + avgTimes.get(label) + " ms average, " + maxTimes.get(label) + " ms maximum, " + counts.get(label) + " files"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+            else
+                ps.println("        " + label + ": (not run)"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
     }
 
-    public static void resetStatistics()
+    public static synchronized void resetStatistics()
     {
         counts.clear();
         avgTimes.clear();
+        maxTimes.clear();
+        maxFiles.clear();
     }
 }
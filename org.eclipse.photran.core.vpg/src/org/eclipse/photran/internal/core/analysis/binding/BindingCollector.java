@@ -17,6 +17,7 @@ import org.eclipse.photran.internal.core.analysis.binding.Definition.Visibility;
 import org.eclipse.photran.internal.core.analysis.loops.ASTVisitorWithLoops;
 import org.eclipse.photran.internal.core.analysis.types.Type;
 import org.eclipse.photran.internal.core.lexer.Token;
+import org.eclipse.photran.internal.core.parser.IASTNode;
 import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
 import org.eclipse.photran.internal.core.vpg.PhotranVPG;
 import org.eclipse.photran.internal.core.vpg.PhotranVPGWriter;
@@ -33,6 +34,24 @@ public abstract class BindingCollector extends ASTVisitorWithLoops
     protected PhotranVPG vpg = PhotranVPG.getInstance();
 	protected PhotranVPGWriter vpgProvider = PhotranVPG.getProvider();
 
+    /**
+     * False iff the visitor methods should not descend into the children of the node being
+     * visited; set by {@link FusedBinder}, which traverses the AST itself and dispatches
+     * individual nodes to each collector.
+     */
+    private boolean shouldTraverseChildren = true;
+
+    void setShouldTraverseChildren(boolean shouldTraverseChildren)
+    {
+        this.shouldTraverseChildren = shouldTraverseChildren;
+    }
+
+    @Override protected void traverseChildren(IASTNode node)
+    {
+        if (shouldTraverseChildren)
+            super.traverseChildren(node);
+    }
+
     protected void markSubprogramExport(IFile file, Token subprogramName)
     {
         vpgProvider.markFileAsExportingSubprogram(file, subprogramName.getText());
@@ -1165,9 +1165,23 @@ public class Definition implements IPhotranSerializable, Comparable<Definition>
     }
 
     public void writeTo(OutputStream out) throws IOException
+    {
+        writeTo(out, true);
+    }
+
+    /**
+     * Writes this definition as {@link #writeTo(OutputStream)} does, but without the location of
+     * its token, so the result does not change when text is inserted before the definition.
+     */
+    public void writeLocationIndependentFormTo(OutputStream out) throws IOException
+    {
+        writeTo(out, false);
+    }
+
+    private void writeTo(OutputStream out, boolean includeTokenRef) throws IOException
     {
         PhotranVPGSerializer.serialize(classification.ordinal(), out);
-        PhotranVPGSerializer.serialize(tokenRef, out);
+        if (includeTokenRef) PhotranVPGSerializer.serialize(tokenRef, out);
         PhotranVPGSerializer.serialize(declaredName, out);
         PhotranVPGSerializer.serialize(type, out);
         PhotranVPGSerializer.serialize(arraySpec, out);
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.analysis.binding;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.photran.internal.core.analysis.loops.ASTVisitorWithLoops;
+import org.eclipse.photran.internal.core.lexer.Token;
+import org.eclipse.photran.internal.core.parser.IASTNode;
+
+/**
+ * Performs phases 1-6 of name-binding analysis (implicit specs, default visibilities, definitions,
+ * specifications, subprogram types, and derived types) using a single traversal of the AST,
+ * rather than one traversal per collector.
+ * <p>
+ * Each of these collectors handles only a few kinds of nodes, and each of its visitor methods
+ * visits the node's children before processing the node itself.  So, during the traversal,
+ * <ul>
+ * <li>the {@link ImplicitSpecCollector}, which must run top-down, is applied to each node before
+ *     its children are visited;
+ * <li>the {@link PrivateCollector} is applied to each node after its children are visited; and
+ * <li>nodes handled by the remaining collectors are appended to a worklist for each collector,
+ *     in the order the collector would have visited them.
+ * </ul>
+ * After the traversal, each worklist is processed in turn.  The collectors must still run one
+ * after another (e.g., a DIMENSION statement can precede the declaration it modifies, so every
+ * definition must be collected before any specification), so the worklists are kept per
+ * collector rather than per scope.  The collectors are told not to traverse children, since the
+ * traversal has already reached every node they handle.
+ * <p>
+ * {@link ModuleLoader} and {@link ReferenceCollector} depend on the results of all of these
+ * phases and are still run separately by {@link Binder}.
+ *
+ * @see Binder#setFusedEngineEnabled(boolean)
+ */
+class FusedBinder
+{
+    /**
+     * For each node class, which of {@link #collectors} have visitor methods accepting that class
+     * (shared by all instances, since it depends only on the classes)
+     */
+    private static final Map<Class<?>, boolean[]> sharedDispatchTable = new HashMap<Class<?>, boolean[]>();
+
+    private final ImplicitSpecCollector implicitSpecCollector;
+    private final PrivateCollector privateCollector;
+
+    /** The collectors that are applied to a worklist after the traversal, in order */
+    private final BindingCollector[] worklistCollectors;
+
+    /** All of the collectors: {@link #implicitSpecCollector}, {@link #privateCollector}, then {@link #worklistCollectors} */
+    private final BindingCollector[] collectors;
+
+    private final List<List<IASTNode>> worklists;
+
+    /** A local copy of entries in the {@link #sharedDispatchTable}, so it can be read without locking */
+    private final Map<Class<?>, boolean[]> dispatchTable = new HashMap<Class<?>, boolean[]>();
+
+    FusedBinder(IFile file)
+    {
+        this.implicitSpecCollector = new ImplicitSpecCollector();
+        this.privateCollector = new PrivateCollector();
+        this.worklistCollectors = new BindingCollector[] {
+            new DefinitionCollector(file),
+            new SpecificationCollector(),
+            new SubprogramTypeCollector(),
+            new DerivedTypeCollector()
+        };
+
+        this.collectors = new BindingCollector[worklistCollectors.length + 2];
+        this.collectors[0] = implicitSpecCollector;
+        this.collectors[1] = privateCollector;
+        System.arraycopy(worklistCollectors, 0, collectors, 2, worklistCollectors.length);
+
+        for (BindingCollector collector : collectors)
+            collector.setShouldTraverseChildren(false);
+
+        this.worklists = new ArrayList<List<IASTNode>>(worklistCollectors.length);
+        for (int i = 0; i < worklistCollectors.length; i++)
+            worklists.add(new ArrayList<IASTNode>());
+    }
+
+    /**
+     * Runs phases 1-6 of name-binding analysis on the given AST, recording the time taken by the
+     * traversal and by each worklist in the {@link Binder}'s statistics.
+     */
+    void bind(IASTNode root, String filename)
+    {
+        long start = System.currentTimeMillis();
+        traverse(root);
+        Binder.logTime(start, "FusedBinder: traversal", filename); //$NON-NLS-1$
+
+        for (int i = 0; i < worklistCollectors.length; i++)
+        {
+            start = System.currentTimeMillis();
+            for (IASTNode node : worklists.get(i))
+                node.accept(worklistCollectors[i]);
+            Binder.logTime(start, "FusedBinder: " + worklistCollectors[i].getClass().getSimpleName(), filename); //$NON-NLS-1$
+            worklists.get(i).clear();
+        }
+    }
+
+    private void traverse(IASTNode node)
+    {
+        boolean[] dispatch = getDispatchTableEntry(node.getClass());
+
+        if (dispatch[0]) node.accept(implicitSpecCollector);
+
+        if (!(node instanceof Token))
+            for (IASTNode child : node.getChildren())
+                traverse(child);
+
+        if (dispatch[1]) node.accept(privateCollector);
+
+        for (int i = 0; i < worklistCollectors.length; i++)
+            if (dispatch[i+2])
+                worklists.get(i).add(node);
+    }
+
+    private boolean[] getDispatchTableEntry(Class<?> nodeClass)
+    {
+        boolean[] result = dispatchTable.get(nodeClass);
+        if (result == null)
+        {
+            result = getSharedDispatchTableEntry(nodeClass, collectors);
+            dispatchTable.put(nodeClass, result);
+        }
+        return result;
+    }
+
+    private static boolean[] getSharedDispatchTableEntry(Class<?> nodeClass, BindingCollector[] collectors)
+    {
+        synchronized (sharedDispatchTable)
+        {
+            boolean[] result = sharedDispatchTable.get(nodeClass);
+            if (result == null)
+            {
+                result = new boolean[collectors.length];
+                for (int i = 0; i < collectors.length; i++)
+                    result[i] = hasVisitorMethodFor(collectors[i].getClass(), nodeClass);
+                sharedDispatchTable.put(nodeClass, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * @return true iff the given collector class (or one of its superclasses below
+     *         {@link ASTVisitorWithLoops}) declares a visitor method that could be invoked when a
+     *         node of the given class accepts it, i.e., a <code>visit...</code> method whose
+     *         parameter type is the node's class, one of its interfaces, or
+     *         {@link IASTNode}
+     */
+    private static boolean hasVisitorMethodFor(Class<?> collectorClass, Class<?> nodeClass)
+    {
+        for (Class<?> c = collectorClass; c != ASTVisitorWithLoops.class; c = c.getSuperclass())
+        {
+            for (Method method : c.getDeclaredMethods())
+            {
+                Class<?>[] params = method.getParameterTypes();
+                if (method.getName().startsWith("visit") //$NON-NLS-1$
+                    && params.length == 1
+                    && params[0].isAssignableFrom(nodeClass))
+                    return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,556 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.analysis.binding;
+
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.photran.core.IFortranAST;
+import org.eclipse.photran.internal.core.lexer.Token;
+import org.eclipse.photran.internal.core.parser.ASTAccessStmtNode;
+import org.eclipse.photran.internal.core.parser.ASTCommonBlockNode;
+import org.eclipse.photran.internal.core.parser.ASTCommonStmtNode;
+import org.eclipse.photran.internal.core.parser.ASTEntryStmtNode;
+import org.eclipse.photran.internal.core.parser.ASTExternalNameListNode;
+import org.eclipse.photran.internal.core.parser.ASTExternalStmtNode;
+import org.eclipse.photran.internal.core.parser.ASTFunctionSubprogramNode;
+import org.eclipse.photran.internal.core.parser.ASTModuleNode;
+import org.eclipse.photran.internal.core.parser.ASTModuleStmtNode;
+import org.eclipse.photran.internal.core.parser.ASTSubroutineSubprogramNode;
+import org.eclipse.photran.internal.core.parser.ASTUseStmtNode;
+import org.eclipse.photran.internal.core.parser.IASTNode;
+import org.eclipse.photran.internal.core.parser.IModuleBodyConstruct;
+import org.eclipse.photran.internal.core.parser.IProgramUnit;
+import org.eclipse.photran.internal.core.util.OffsetLength;
+import org.eclipse.photran.internal.core.util.Pair;
+import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.core.vpg.PhotranVPGWriter;
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+
+/**
+ * Rebinds only the parts of a file that have changed since it was last bound.
+ * <p>
+ * A file is divided into <i>binding units</i>.  Each top-level program unit is a binding unit,
+ * except that a module with module subprograms is divided into one binding unit per module
+ * subprogram, one for its END MODULE statement, and one for the rest of the module (its
+ * <i>specification part</i>).  After a file is bound, a fingerprint of each binding unit is
+ * stored in the VPG, keyed by the unit's span in the file.  The fingerprint is a digest of the
+ * unit's tokens, their offsets relative to the start of the unit, and the symbol tables of the
+ * modules it USEs.  Since edges and annotations are keyed by offset, a unit is also rebound if it
+ * has moved, but a change in one unit does not change the fingerprints of the units after it.
+ * <p>
+ * When the file is rebound, a unit is rebound if its fingerprint has changed, if it contains an
+ * edge into a unit that is being rebound, or if it is part of a module whose specification part
+ * is being rebound.  The fingerprint also records the names that a subprogram declares in its
+ * enclosing scope (its own name and its ENTRY names).  If these change, every unit in that scope
+ * (the module, or the entire file for an external subprogram) is rebound, since a reference which
+ * did not bind before (e.g., a CALL to a subprogram that did not exist) may bind now.  The edges
+ * and annotations for every other unit are reused.  If the file's
+ * binding units do not correspond to the stored fingerprints (e.g., because a program unit was
+ * added), the entire file must be rebound by {@link Binder#bind(IFortranAST, IFile)}.
+ * <p>
+ * Before the changed units are rebound, the file's dependencies on (and of) modules, subprograms,
+ * and common blocks are deleted, except for those that the other units still declare; the
+ * changed units' dependencies are then recorded again as they are rebound.
+ *
+ * @see Binder#rebind(IFortranAST, IFile)
+ */
+final class IncrementalBinder
+{
+    private static final class BindingUnit
+    {
+        /** The node to traverse when this unit is rebound */
+        final IASTNode node;
+
+        /** The module containing this unit, if the module is divided into several units */
+        final ASTModuleNode module;
+
+        /** True iff this unit is the specification part of {@link #module} */
+        final boolean isSpecificationPart;
+
+        final OffsetLength span;
+        final String header;
+
+        final List<Token> tokens;
+        final Set<String> usedModules;
+
+        /** The (canonicalized) names this unit declares in its enclosing scope, if it is a subprogram */
+        final Set<String> declaredNames;
+
+        /** Dependencies of the file declared by this unit (see {@link PhotranVPGWriter#deleteBindingDependenciesExcept(String, Set, Set)}) */
+        final Set<String> imports, exports;
+
+        OffsetLength storedSpan = null;
+        String fingerprint = null;
+        boolean rebind = false;
+
+        BindingUnit(IASTNode node, ASTModuleNode module, boolean isSpecificationPart, Set<IASTNode> excluded)
+        {
+            this.node = node;
+            this.module = module;
+            this.isSpecificationPart = isSpecificationPart;
+            this.header = (isSpecificationPart ? "spec " : "") + node.getClass().getSimpleName(); //$NON-NLS-1$ //$NON-NLS-2$
+            this.tokens = new ArrayList<Token>();
+            this.usedModules = new LinkedHashSet<String>();
+            this.declaredNames = new TreeSet<String>();
+            this.imports = new HashSet<String>();
+            this.exports = new HashSet<String>();
+            collect(node, excluded);
+
+            Token subprogramName = subprogramName(node);
+            if (subprogramName != null)
+                declaredNames.add(canonicalize(subprogramName));
+            else
+                declaredNames.clear(); // ENTRY statements can only appear in subprograms
+
+            if (subprogramName != null && module == null)
+                exports.add("subprogram:" + canonicalize(subprogramName)); //$NON-NLS-1$
+
+            if (tokens.isEmpty())
+                this.span = null;
+            else
+            {
+                Token first = tokens.get(0), last = tokens.get(tokens.size()-1);
+                this.span = new OffsetLength(first.getFileOffset(), last.getFileOffset() + last.getLength() - first.getFileOffset());
+            }
+        }
+
+        private void collect(IASTNode node, Set<IASTNode> excluded)
+        {
+            if (excluded.contains(node)) return;
+
+            if (node instanceof Token)
+                tokens.add((Token)node);
+            else if (node instanceof ASTUseStmtNode)
+            {
+                String moduleName = canonicalize(((ASTUseStmtNode)node).getName());
+                usedModules.add(moduleName);
+                imports.add("module:" + moduleName); //$NON-NLS-1$
+            }
+            else if (node instanceof ASTModuleStmtNode)
+                exports.add("module:" + canonicalize(((ASTModuleStmtNode)node).getModuleName().getModuleName())); //$NON-NLS-1$
+            else if (node instanceof ASTCommonStmtNode)
+            {
+                for (ASTCommonBlockNode block : ((ASTCommonStmtNode)node).getCommonBlockList())
+                    if (block.getName() != null)
+                        imports.add("common:" + canonicalize(block.getName().getCommonBlockName())); //$NON-NLS-1$
+            }
+            else if (node instanceof ASTEntryStmtNode)
+                declaredNames.add(canonicalize(((ASTEntryStmtNode)node).getEntryName()));
+            else if (node instanceof ASTExternalStmtNode)
+            {
+                for (ASTExternalNameListNode name : ((ASTExternalStmtNode)node).getExternalNameList())
+                    imports.add("subprogram:" + canonicalize(name.getExternalName())); //$NON-NLS-1$
+            }
+
+            for (IASTNode child : node.getChildren())
+                collect(child, excluded);
+        }
+
+        private static String canonicalize(Token name)
+        {
+            return PhotranVPG.canonicalizeIdentifier(name.getText());
+        }
+    }
+
+    private final IFortranAST ast;
+    private final IFile file;
+    private final String filename;
+    private final PhotranVPGWriter vpg;
+
+    /** Used to compute fingerprints; null if unavailable, in which case the file must be bound in full */
+    private final MessageDigest digest;
+
+    private final List<BindingUnit> units;
+
+    IncrementalBinder(IFortranAST ast, IFile file)
+    {
+        this.ast = ast;
+        this.file = file;
+        this.filename = PhotranVPG.getFilenameForIFile(file);
+        this.vpg = PhotranVPG.getProvider();
+        this.digest = createDigest();
+        this.units = digest == null ? null : divideIntoBindingUnits();
+    }
+
+    private static MessageDigest createDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance("MD5"); //$NON-NLS-1$
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            PhotranVPG.getInstance().getLog().logError(e);
+            return null;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // BINDING UNITS
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** @return the binding units in the file, or <code>null</code> if it cannot be rebound incrementally */
+    private List<BindingUnit> divideIntoBindingUnits()
+    {
+        List<BindingUnit> result = new ArrayList<BindingUnit>();
+        Set<IASTNode> none = Collections.emptySet();
+
+        for (IProgramUnit pu : ast.getRoot().getProgramUnitList())
+        {
+            List<IASTNode> subprograms = pu instanceof ASTModuleNode ? findModuleSubprograms((ASTModuleNode)pu) : null;
+            if (subprograms == null || subprograms.isEmpty())
+            {
+                result.add(new BindingUnit(pu, null, false, none));
+            }
+            else
+            {
+                ASTModuleNode module = (ASTModuleNode)pu;
+                Set<IASTNode> excluded = new HashSet<IASTNode>(subprograms);
+                excluded.add(module.getEndModuleStmt());
+                result.add(new BindingUnit(module, module, true, excluded));
+                for (IASTNode subprogram : subprograms)
+                    result.add(new BindingUnit(subprogram, module, false, none));
+                result.add(new BindingUnit(module.getEndModuleStmt(), module, false, none));
+            }
+        }
+
+        for (BindingUnit unit : result)
+        {
+            if (unit.span == null) return null;
+
+            // Edges and annotations for tokens in INCLUDEd files are stored under the included file
+            for (Token token : unit.tokens)
+                if (!file.equals(token.getLogicalFile()))
+                    return null;
+        }
+
+        return result;
+    }
+
+    private static List<IASTNode> findModuleSubprograms(ASTModuleNode module)
+    {
+        List<IASTNode> result = new ArrayList<IASTNode>();
+        if (module.getModuleBody() != null)
+            for (IModuleBodyConstruct construct : module.getModuleBody())
+                if (construct instanceof ASTSubroutineSubprogramNode || construct instanceof ASTFunctionSubprogramNode)
+                    result.add(construct);
+        return result;
+    }
+
+    /** @return the name of the given node if it is a subroutine or function, or null */
+    private static Token subprogramName(IASTNode node)
+    {
+        if (node instanceof ASTSubroutineSubprogramNode)
+            return ((ASTSubroutineSubprogramNode)node).getSubroutineStmt().getSubroutineName().getSubroutineName();
+        else if (node instanceof ASTFunctionSubprogramNode)
+            return ((ASTFunctionSubprogramNode)node).getFunctionStmt().getFunctionName().getFunctionName();
+        else
+            return null;
+    }
+
+    private static final Charset UTF8 = Charset.forName("UTF-8"); //$NON-NLS-1$
+
+    private String computeFingerprint(BindingUnit unit)
+    {
+        digest.reset();
+        for (Token token : unit.tokens)
+        {
+            update(digest, token.getFileOffset() - unit.span.getOffset());
+            update(digest, token.getLength());
+            digest.update(token.getText().getBytes(UTF8));
+        }
+        for (String moduleName : unit.usedModules)
+        {
+            digest.update(moduleName.getBytes(UTF8));
+            digest.update(vpg.getModuleSymbolTableFingerprint(moduleName).getBytes(UTF8));
+        }
+        return unit.header + "|" + describeDeclaredNames(unit) + "|" + new BigInteger(1, digest.digest()).toString(16); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private static String describeDeclaredNames(BindingUnit unit)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (String name : unit.declaredNames)
+        {
+            if (sb.length() > 0) sb.append(',');
+            sb.append(name);
+        }
+        return sb.toString();
+    }
+
+    /** @return true iff the names the given unit declares are not those recorded in its stored fingerprint */
+    private static boolean declaredNamesChanged(BindingUnit unit)
+    {
+        int start = unit.fingerprint.indexOf('|'), end = unit.fingerprint.lastIndexOf('|');
+        return start >= end || !unit.fingerprint.substring(start + 1, end).equals(describeDeclaredNames(unit));
+    }
+
+    private static void update(MessageDigest digest, int value)
+    {
+        digest.update((byte)(value >>> 24));
+        digest.update((byte)(value >>> 16));
+        digest.update((byte)(value >>> 8));
+        digest.update((byte)value);
+    }
+
+    private PhotranTokenRef tokenRefFor(OffsetLength span)
+    {
+        return new PhotranTokenRef(filename, span.getOffset(), span.getLength());
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // API
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Stores the fingerprint of every binding unit in the file (after it has been bound in full) */
+    void storeFingerprints()
+    {
+        if (units == null) return;
+
+        for (BindingUnit unit : units)
+            vpg.setBindingUnitFingerprint(tokenRefFor(unit.span), computeFingerprint(unit));
+    }
+
+    /**
+     * Rebinds the binding units that have changed since the file was last bound.
+     *
+     * @return true iff the file was rebound, or false if it must be rebound in full
+     */
+    boolean rebind()
+    {
+        if (units == null) return false;
+
+        List<Pair<PhotranTokenRef, String>> stored = vpg.getBindingUnitFingerprints(filename);
+        if (stored.size() != units.size()) return false;
+
+        for (int i = 0; i < units.size(); i++)
+        {
+            BindingUnit unit = units.get(i);
+            PhotranTokenRef storedUnit = stored.get(i).fst;
+            String storedFingerprint = stored.get(i).snd;
+
+            if (!storedFingerprint.startsWith(unit.header + "|")) return false; //$NON-NLS-1$
+
+            unit.storedSpan = new OffsetLength(storedUnit.getOffset(), storedUnit.getLength());
+            unit.fingerprint = storedFingerprint;
+        }
+
+        List<BindingUnit> changed = findChangedUnits();
+        while (!changed.isEmpty())
+        {
+            rebind(changed);
+
+            // If a module in this file was rebound, the units that USE it may need to be rebound too
+            changed = findChangedUnits();
+        }
+        return true;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // INCREMENTAL REBINDING
+    ////////////////////////////////////////////////////////////////////////////
+
+    private List<BindingUnit> findChangedUnits()
+    {
+        List<BindingUnit> result = new ArrayList<BindingUnit>();
+        for (BindingUnit unit : units)
+        {
+            if (unit.rebind) continue;
+
+            String fingerprint = computeFingerprint(unit);
+            if (!unit.span.equals(unit.storedSpan) || !fingerprint.equals(unit.fingerprint))
+            {
+                unit.rebind = true;
+                result.add(unit);
+            }
+        }
+        return result;
+    }
+
+    private void rebind(List<BindingUnit> changed)
+    {
+        // Determine which other units must be rebound, and which ranges of the file to clear
+        List<OffsetLength> ranges = new ArrayList<OffsetLength>();
+        int next = 0;
+        while (next < changed.size())
+        {
+            while (next < changed.size())
+            {
+                BindingUnit unit = changed.get(next++);
+                ranges.add(unit.span);
+                if (!unit.storedSpan.equals(unit.span))
+                    ranges.add(unit.storedSpan);
+
+                if (unit.isSpecificationPart)
+                    for (BindingUnit other : units)
+                        if (other.module == unit.module)
+                            markForRebinding(other, changed);
+
+                // References in the same scope may bind differently (see the class comment)
+                if (declaredNamesChanged(unit))
+                    for (BindingUnit other : units)
+                        if (unit.module == null || other.module == unit.module)
+                            markForRebinding(other, changed);
+            }
+
+            for (BindingUnit other : findUnitsWithEdgesInto(ranges))
+                markForRebinding(other, changed);
+        }
+
+        vpg.deleteEdgesAndAnnotationsIn(filename, ranges);
+        deleteDependenciesOf(changed);
+
+        List<IASTNode> nodes = new ArrayList<IASTNode>();
+        Set<ASTModuleNode> modulesToUpdate = new LinkedHashSet<ASTModuleNode>();
+        Set<ASTModuleNode> modulesToRebind = new HashSet<ASTModuleNode>();
+        for (BindingUnit unit : changed)
+            if (unit.isSpecificationPart)
+                modulesToRebind.add(unit.module);
+        for (BindingUnit unit : changed)
+        {
+            if (unit.module == null || unit.isSpecificationPart)
+                nodes.add(unit.node);
+            else if (!modulesToRebind.contains(unit.module))
+            {
+                nodes.add(unit.node);
+                modulesToUpdate.add(unit.module);
+            }
+        }
+
+        bind(nodes);
+
+        // Binder#bind marks external subprograms as exported when it visits the root of the AST
+        for (BindingUnit unit : changed)
+        {
+            Token subprogramName = unit.module == null ? subprogramName(unit.node) : null;
+            if (subprogramName != null)
+                vpg.markFileAsExportingSubprogram(file, subprogramName.getText());
+        }
+
+        for (ASTModuleNode module : modulesToUpdate)
+            updateModule(module);
+
+        for (BindingUnit unit : changed)
+        {
+            unit.storedSpan = unit.span;
+            unit.fingerprint = computeFingerprint(unit);
+            vpg.setBindingUnitFingerprint(tokenRefFor(unit.span), unit.fingerprint);
+        }
+    }
+
+    /**
+     * Deletes the dependencies that were recorded for the units being rebound (so that, e.g., a
+     * file will no longer depend on a module whose USE statement was deleted), keeping those that
+     * are still declared by the units that are not being rebound.
+     */
+    private void deleteDependenciesOf(List<BindingUnit> changed)
+    {
+        Set<String> imports = new HashSet<String>();
+        Set<String> exports = new HashSet<String>();
+        for (BindingUnit unit : units)
+        {
+            if (!changed.contains(unit))
+            {
+                imports.addAll(unit.imports);
+                exports.addAll(unit.exports);
+            }
+        }
+        vpg.deleteBindingDependenciesExcept(filename, imports, exports);
+    }
+
+    private void markForRebinding(BindingUnit unit, List<BindingUnit> changed)
+    {
+        if (!unit.rebind)
+        {
+            unit.rebind = true;
+            changed.add(unit);
+        }
+    }
+
+    /** @return the units containing edges into the given ranges (which will have to be recreated) */
+    private Set<BindingUnit> findUnitsWithEdgesInto(List<OffsetLength> ranges)
+    {
+        Set<BindingUnit> result = new LinkedHashSet<BindingUnit>();
+        for (VPGEdge<IFortranAST, Token, PhotranTokenRef> edge : PhotranVPG.getInstance().getAllEdgesFor(filename))
+        {
+            PhotranTokenRef source = edge.getSource(), sink = edge.getSink();
+            if (source.getFilename().equals(filename) && sink.getFilename().equals(filename) && isInRanges(sink, ranges))
+                for (BindingUnit unit : units)
+                    if (!unit.rebind && isInRange(source, unit.span))
+                        result.add(unit);
+        }
+        return result;
+    }
+
+    private static boolean isInRanges(PhotranTokenRef tokenRef, List<OffsetLength> ranges)
+    {
+        for (OffsetLength range : ranges)
+            if (isInRange(tokenRef, range))
+                return true;
+        return false;
+    }
+
+    private static boolean isInRange(PhotranTokenRef tokenRef, OffsetLength range)
+    {
+        return tokenRef.getOffset() >= range.getOffset() && tokenRef.getOffset() < range.getPositionPastEnd();
+    }
+
+    /** Runs each of the binder's collectors (in the same order as {@link Binder#bind(IFortranAST, IFile)}) over the given nodes */
+    private void bind(List<IASTNode> nodes)
+    {
+        accept(nodes, new ImplicitSpecCollector());
+        accept(nodes, new PrivateCollector());
+        accept(nodes, new DefinitionCollector(file));
+        accept(nodes, new SpecificationCollector());
+        accept(nodes, new SubprogramTypeCollector());
+        accept(nodes, new DerivedTypeCollector());
+        accept(nodes, new ModuleLoader(file));
+        vpg.enableDefinitionCaching();
+        accept(nodes, new ReferenceCollector());
+        vpg.disableDefinitionCaching();
+    }
+
+    private static void accept(List<IASTNode> nodes, BindingCollector collector)
+    {
+        for (IASTNode node : nodes)
+            node.accept(collector);
+    }
+
+    /**
+     * After some of a module's subprograms have been rebound, reapplies the access statements in
+     * the module's specification part (which change the visibility of the subprograms' definitions)
+     * and updates the module's symbol table.
+     */
+    private void updateModule(ASTModuleNode module)
+    {
+        List<IASTNode> accessStmts = new ArrayList<IASTNode>();
+        for (IModuleBodyConstruct construct : module.getModuleBody())
+            if (construct instanceof ASTAccessStmtNode)
+                accessStmts.add(construct);
+
+        accept(accessStmts, new SpecificationCollector());
+        accept(accessStmts, new ModuleLoader(file));
+
+        vpg.setModuleSymbolTable(module.getModuleStmt().getModuleName().getModuleName(), module.getAllPublicDefinitions());
+    }
+}
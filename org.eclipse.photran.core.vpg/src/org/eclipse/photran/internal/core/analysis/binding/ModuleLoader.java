@@ -112,6 +112,7 @@ public class ModuleLoader extends VisibilityCollector
         try
         {
         	vpgProvider.markFileAsImportingModule(fileContainingUseStmt, node.getName().getText());
+        	vpgProvider.markUseSite(node);
 
 	        if (this.shouldImportModules)
 	        	loadModule(node);
@@ -10,12 +10,14 @@
  *******************************************************************************/
 package org.eclipse.photran.internal.core.analysis.binding;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
@@ -600,6 +602,21 @@ public abstract class ScopingNode extends ASTNode
 	}
 
 	public Iterable<ScopingNode> findImportingScopes()
+	{
+	    return findImportingScopes(null);
+	}
+
+	/**
+	 * If this is a module, returns the scopes that import it via a USE statement that may import
+	 * the given module entity.  USE statements whose ONLY list does not include the entity are
+	 * skipped, and, for files whose USE statements were recorded in the VPG when they were indexed
+	 * (see {@link UseSite}), files containing no other USE statements for this module are not
+	 * parsed.
+	 *
+	 * @param canonicalizedEntityName the canonicalized name of a module entity, or
+	 *        <code>null</code> to find all scopes that import this module
+	 */
+	public Iterable<ScopingNode> findImportingScopes(final String canonicalizedEntityName)
 	{
 	    if (this instanceof ASTModuleNode)
 	    {
@@ -608,7 +625,7 @@ public abstract class ScopingNode extends ASTNode
                 public Iterator<ScopingNode> iterator()
                 {
                     String moduleName = getName();
-                    return new ModuleIterator(moduleName);
+                    return new ModuleIterator(moduleName, canonicalizedEntityName);
                 }
             };
 	    }
@@ -621,16 +638,33 @@ public abstract class ScopingNode extends ASTNode
 	private static class ModuleIterator implements Iterator<ScopingNode>
 	{
 	    private String moduleName;
+	    private String canonicalizedEntityName;
+	    private Map<String, List<UseSite>> useSitesByFile;
 	    private Iterator<IFile> files;
         private Iterator<ScopingNode> scopesInFile;
 
-        public ModuleIterator(String moduleName)
+        public ModuleIterator(String moduleName, String canonicalizedEntityName)
         {
             this.moduleName = moduleName;
+            this.canonicalizedEntityName = canonicalizedEntityName;
+            this.useSitesByFile = findUseSites(moduleName);
             this.files = PhotranVPG.getInstance().findFilesThatImportModule(moduleName).iterator();
             this.scopesInFile = Collections.<ScopingNode>emptyList().iterator();
         }
 
+        private static Map<String, List<UseSite>> findUseSites(String moduleName)
+        {
+            Map<String, List<UseSite>> result = new HashMap<String, List<UseSite>>();
+            for (UseSite useSite : PhotranVPG.getInstance().findUseSites(moduleName))
+            {
+                String filename = useSite.getScope().getFilename();
+                if (!result.containsKey(filename))
+                    result.put(filename, new ArrayList<UseSite>());
+                result.get(filename).add(useSite);
+            }
+            return result;
+        }
+
         public boolean hasNext()
         {
             if (scopesInFile.hasNext())
@@ -650,16 +684,42 @@ public abstract class ScopingNode extends ASTNode
         private ScopingNode firstScopeInNextFile()
         {
             if (!files.hasNext()) return null;
-            
-            IFortranAST ast = PhotranVPG.getInstance().acquireTransientAST(files.next());
-            if (ast == null) return firstScopeInNextFile();
-            
-            scopesInFile = collectImportingScopingNodes(ast).iterator();
+
+            IFile file = files.next();
+            if (PhotranVPG.getInstance().isInNameIndex(file))
+            {
+                scopesInFile = collectImportingScopingNodes(file).iterator();
+            }
+            else
+            {
+                IFortranAST ast = PhotranVPG.getInstance().acquireTransientAST(file);
+                if (ast == null) return firstScopeInNextFile();
+
+                scopesInFile = collectImportingScopingNodes(ast).iterator();
+            }
             if (!scopesInFile.hasNext()) return firstScopeInNextFile();
-            
+
             return scopesInFile.next();
         }
 
+        private Set<ScopingNode> collectImportingScopingNodes(IFile file)
+        {
+            Set<ScopingNode> importingScopes = new HashSet<ScopingNode>();
+            List<UseSite> useSites = useSitesByFile.get(PhotranVPG.getFilenameForIFile(file));
+            if (useSites != null)
+            {
+                for (UseSite useSite : useSites)
+                {
+                    if (canonicalizedEntityName == null || useSite.mayImport(canonicalizedEntityName))
+                    {
+                        ScopingNode scope = findScopingNodeForRepresentativeToken(useSite.getScope());
+                        if (scope != null) importingScopes.add(scope);
+                    }
+                }
+            }
+            return importingScopes;
+        }
+
         private Set<ScopingNode> collectImportingScopingNodes(IFortranAST ast)
         {
             final Set<ScopingNode> importingScopes = new HashSet<ScopingNode>();
@@ -668,7 +728,11 @@ public abstract class ScopingNode extends ASTNode
                 @Override public void visitASTUseStmtNode(ASTUseStmtNode node)
                 {
                     if (node.getName().getText().equalsIgnoreCase(moduleName))
-                        importingScopes.add(node.findFirstToken().getEnclosingScope());
+                    {
+                        ScopingNode scope = node.findFirstToken().getEnclosingScope();
+                        if (canonicalizedEntityName == null || new UseSite(node, scope).mayImport(canonicalizedEntityName))
+                            importingScopes.add(scope);
+                    }
                 }
             });
             return importingScopes;
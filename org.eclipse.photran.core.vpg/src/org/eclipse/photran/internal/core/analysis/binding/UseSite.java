@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.analysis.binding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.photran.internal.core.parser.ASTOnlyNode;
+import org.eclipse.photran.internal.core.parser.ASTRenameNode;
+import org.eclipse.photran.internal.core.parser.ASTUseStmtNode;
+import org.eclipse.photran.internal.core.parser.IASTListNode;
+import org.eclipse.photran.internal.core.vpg.IPhotranSerializable;
+import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
+import org.eclipse.photran.internal.core.vpg.PhotranVPGSerializer;
+
+/**
+ * A USE statement, as recorded in the VPG when the file containing it is bound: the scope
+ * containing the USE statement and the module entities named in its ONLY and rename lists.
+ * <p>
+ * Use sites allow the scopes importing a module to be found without parsing every file that
+ * imports the module.
+ *
+ * @see ScopingNode#findImportingScopes(String)
+ */
+public class UseSite implements IPhotranSerializable
+{
+    private static final long serialVersionUID = 1L;
+
+    // ***WARNING*** If any fields change, the serialization methods (below) must also change!
+
+    private PhotranTokenRef scope;
+    private List<String> onlyList;
+    private List<String> renameList;
+
+    private UseSite(PhotranTokenRef scope, List<String> onlyList, List<String> renameList)
+    {
+        this.scope = scope;
+        this.onlyList = onlyList;
+        this.renameList = renameList;
+    }
+
+    public UseSite(ASTUseStmtNode useStmt, ScopingNode scope)
+    {
+        this(scope.getRepresentativeToken(), collectOnlyList(useStmt), collectRenameList(useStmt));
+    }
+
+    private static List<String> collectOnlyList(ASTUseStmtNode useStmt)
+    {
+        if (useStmt.getOnlyList() == null) return null;
+
+        List<String> result = new ArrayList<String>();
+        IASTListNode<ASTOnlyNode> onlyList = useStmt.getOnlyList();
+        for (int i = 0; i < onlyList.size(); i++)
+            if (onlyList.get(i).getName() != null)
+                result.add(PhotranVPG.canonicalizeIdentifier(onlyList.get(i).getName().getText()));
+        return result;
+    }
+
+    private static List<String> collectRenameList(ASTUseStmtNode useStmt)
+    {
+        List<String> result = new ArrayList<String>();
+
+        IASTListNode<ASTRenameNode> renameList = useStmt.getRenameList();
+        if (renameList != null)
+            for (int i = 0; i < renameList.size(); i++)
+                if (renameList.get(i).getName() != null)
+                    result.add(PhotranVPG.canonicalizeIdentifier(renameList.get(i).getName().getText()));
+
+        IASTListNode<ASTOnlyNode> onlyList = useStmt.getOnlyList();
+        if (onlyList != null)
+            for (int i = 0; i < onlyList.size(); i++)
+                if (onlyList.get(i).isRenamed() && onlyList.get(i).getName() != null)
+                    result.add(PhotranVPG.canonicalizeIdentifier(onlyList.get(i).getName().getText()));
+
+        return result;
+    }
+
+    /** @return the representative token of the scope containing the USE statement */
+    public PhotranTokenRef getScope()
+    {
+        return scope;
+    }
+
+    /**
+     * @return the canonicalized names of the module entities in the USE statement's ONLY list, or
+     *         <code>null</code> if it does not have an ONLY list
+     */
+    public List<String> getOnlyList()
+    {
+        return onlyList;
+    }
+
+    /**
+     * @return the canonicalized names of the module entities that are renamed by the USE
+     *         statement (in its rename list or ONLY list)
+     */
+    public List<String> getRenameList()
+    {
+        return renameList;
+    }
+
+    /**
+     * @return true iff the USE statement may import the module entity with the given name
+     *         (possibly under a different name); this is false only if the entity is not in the
+     *         USE statement's ONLY list
+     */
+    public boolean mayImport(String canonicalizedName)
+    {
+        return onlyList == null || onlyList.contains(canonicalizedName);
+    }
+
+    @Override public String toString()
+    {
+        return "USE in " + scope //$NON-NLS-1$
+            + (onlyList == null ? "" : ", ONLY: " + onlyList) //$NON-NLS-1$ //$NON-NLS-2$
+            + (renameList.isEmpty() ? "" : ", renaming " + renameList); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////
+    // IPhotranSerializable Implementation
+    ////////////////////////////////////////////////////////////////////////////////
+
+    public static UseSite readFrom(InputStream in) throws IOException
+    {
+        PhotranTokenRef scope = PhotranVPGSerializer.deserialize(in);
+        boolean hasOnlyList = PhotranVPGSerializer.<Boolean>deserialize(in).booleanValue();
+        List<String> onlyList = readList(in);
+        List<String> renameList = readList(in);
+        return new UseSite(scope, hasOnlyList ? onlyList : null, renameList);
+    }
+
+    private static List<String> readList(InputStream in)
+    {
+        int size = PhotranVPGSerializer.<Integer>deserialize(in).intValue();
+        List<String> result = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++)
+            result.add(PhotranVPGSerializer.<String>deserialize(in));
+        return result;
+    }
+
+    public void writeTo(OutputStream out) throws IOException
+    {
+        PhotranVPGSerializer.serialize(scope, out);
+        PhotranVPGSerializer.serialize(onlyList != null, out);
+        writeList(onlyList == null ? new ArrayList<String>() : onlyList, out);
+        writeList(renameList, out);
+    }
+
+    private static void writeList(List<String> list, OutputStream out) throws IOException
+    {
+        PhotranVPGSerializer.serialize(list.size(), out);
+        for (String name : list)
+            PhotranVPGSerializer.serialize(name, out);
+    }
+
+    public char getSerializationCode()
+    {
+        return PhotranVPGSerializer.CLASS_USESITE;
+    }
+}
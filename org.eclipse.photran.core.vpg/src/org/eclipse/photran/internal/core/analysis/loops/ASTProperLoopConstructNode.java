@@ -67,6 +67,7 @@ public class ASTProperLoopConstructNode extends ASTNode implements IExecutableCo
     {
         this.loopHeader = header;
         if (header != null) header.setParent(this);
+        invalidateCaches();
     }
 
     public IASTListNode<IExecutionPartConstruct> getBody()
@@ -83,6 +84,7 @@ public class ASTProperLoopConstructNode extends ASTNode implements IExecutableCo
     {
         this.endDoStmt = endDoStmt;
         if (endDoStmt != null) endDoStmt.setParent(this);
+        invalidateCaches();
     }
 
     @Override public void accept(IASTVisitor visitor)
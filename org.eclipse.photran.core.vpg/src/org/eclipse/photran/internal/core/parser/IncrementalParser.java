@@ -0,0 +1,464 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.parser;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.photran.internal.core.SyntaxException;
+import org.eclipse.photran.internal.core.lexer.ASTLexerFactory;
+import org.eclipse.photran.internal.core.lexer.IAccumulatingLexer;
+import org.eclipse.photran.internal.core.lexer.LexerException;
+import org.eclipse.photran.internal.core.lexer.Terminal;
+import org.eclipse.photran.internal.core.lexer.Token;
+import org.eclipse.photran.internal.core.lexer.TokenList;
+import org.eclipse.photran.internal.core.sourceform.ISourceForm;
+
+/**
+ * Parses successive versions of the same document (e.g., the contents of an editor), reparsing
+ * only the subprograms or program units affected by each change.
+ * <p>
+ * The first call to {@link #parse(String, IFile, String, ISourceForm)} parses the entire text.
+ * On subsequent calls, the text is compared with the text that was last parsed successfully, and
+ * the changed region is mapped to the innermost subprogram (or the run of adjacent subprograms or
+ * program units) that contains it.  Only that range of the text is lexed and parsed; the
+ * resulting nodes replace the old ones in the previous AST, and the positions of the tokens
+ * following them are adjusted.  The previous AST and its tokens are modified in place.
+ * <p>
+ * The text is reparsed in its entirety if
+ * <ul>
+ * <li>the source form is fixed form or C-preprocessed,
+ * <li>the tokens do not reproduce the text exactly (e.g., because of INCLUDE lines),
+ * <li>the changed range does not parse on its own (e.g., because an END statement was removed),
+ *     or
+ * <li>a subprogram inside a module or another subprogram would be replaced by something other
+ *     than subprograms (e.g., because a CONTAINS statement was added or removed).
+ * </ul>
+ * <p>
+ * This class is not thread-safe.  However, the ASTs and token lists it returns may be read by
+ * other threads (e.g., the UI thread) while the next text is being parsed, provided that they
+ * synchronize on {@link #getLock()}: the previous AST and token list are only modified while
+ * that lock is held.
+ */
+public final class IncrementalParser
+{
+    private final Parser parser;
+
+    /** Held while the previous AST and its tokens are being modified */
+    private final Object lock = new Object();
+
+    /** The text that was last parsed successfully, or <code>null</code> */
+    private String text = null;
+
+    /** The AST for {@link #text} */
+    private ASTExecutableProgramNode ast = null;
+
+    /** The tokens in {@link #ast}, including the end-of-input token(s) */
+    private TokenList tokenList = null;
+
+    /** True iff {@link #tokenList} reproduces {@link #text}, so that part of it can be reparsed */
+    private boolean canReparse = false;
+
+    private int fullParses = 0, incrementalParses = 0;
+
+    public IncrementalParser()
+    {
+        this(new Parser());
+    }
+
+    public IncrementalParser(Parser parser)
+    {
+        this.parser = parser;
+    }
+
+    /**
+     * Parses the given text, reusing as much of the AST from the previous call as possible.
+     * <p>
+     * If the text cannot be lexed or parsed, an exception is thrown, and the next call will be
+     * compared with the last text that was parsed successfully.
+     *
+     * @return an AST for the given text (which may be the AST returned by the previous call,
+     *         modified in place), or <code>null</code>
+     */
+    public ASTExecutableProgramNode parse(String newText, IFile file, String filename, ISourceForm sourceForm) throws IOException, LexerException, SyntaxException
+    {
+        if (ast != null && canReparse && supportsReparsing(sourceForm))
+        {
+            if (newText.equals(text))
+                return ast;
+
+            if (reparse(newText, file, filename, sourceForm))
+            {
+                incrementalParses++;
+                return ast;
+            }
+        }
+
+        IAccumulatingLexer lexer = new ASTLexerFactory().createLexer(new StringReader(newText), file, filename, sourceForm);
+        ASTExecutableProgramNode newAST = parser.parse(lexer);
+        fullParses++;
+        if (newAST == null) return null;
+
+        this.text = newText;
+        this.ast = newAST;
+        this.tokenList = lexer.getTokenList();
+        this.canReparse = supportsReparsing(sourceForm) && reproduces(tokenList, newText, 0, newText.length());
+        return newAST;
+    }
+
+    private static boolean supportsReparsing(ISourceForm sourceForm)
+    {
+        return !sourceForm.isFixedForm() && !sourceForm.isCPreprocessed();
+    }
+
+    /** @return the tokens in the AST returned by the last successful call to {@link #parse(String, IFile, String, ISourceForm)} */
+    public TokenList getTokenList()
+    {
+        return tokenList;
+    }
+
+    /**
+     * @return the lock which is held while an AST and token list returned previously are modified
+     *         in place, and which must be held to read them from another thread
+     */
+    public Object getLock()
+    {
+        return lock;
+    }
+
+    /** Discards the previous AST, so that the next text will be parsed in its entirety */
+    public void reset()
+    {
+        text = null;
+        ast = null;
+        tokenList = null;
+        canReparse = false;
+    }
+
+    /** @return the number of times the entire text was parsed */
+    public int getFullParseCount()
+    {
+        return fullParses;
+    }
+
+    /** @return the number of times only part of the text was parsed */
+    public int getIncrementalParseCount()
+    {
+        return incrementalParses;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Incremental Reparsing
+    ///////////////////////////////////////////////////////////////////////////
+
+    /** A run of elements of a list of program units or subprograms, and the text they span */
+    private static final class Region
+    {
+        public final List<IASTNode> list;
+        public final boolean isProgramUnitList;
+        public final int firstIndex, lastIndex;
+        public final int start, end;
+
+        public Region(List<IASTNode> list, boolean isProgramUnitList, int firstIndex, int lastIndex, int start, int end)
+        {
+            this.list = list;
+            this.isProgramUnitList = isProgramUnitList;
+            this.firstIndex = firstIndex;
+            this.lastIndex = lastIndex;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /** @return true iff the AST was updated; false if the text must be parsed in its entirety */
+    private boolean reparse(String newText, IFile file, String filename, ISourceForm sourceForm) throws IOException
+    {
+        int maxLength = Math.min(text.length(), newText.length());
+        int prefix = 0;
+        while (prefix < maxLength && text.charAt(prefix) == newText.charAt(prefix))
+            prefix++;
+        int suffix = 0;
+        while (suffix < maxLength - prefix
+               && text.charAt(text.length() - 1 - suffix) == newText.charAt(newText.length() - 1 - suffix))
+            suffix++;
+
+        Region region = findRegion(ast.getProgramUnitList(), true, prefix, text.length() - suffix);
+        if (region == null) return false;
+
+        int delta = newText.length() - text.length();
+        int start = region.start, oldEnd = region.end, newEnd = oldEnd + delta;
+        if (!isLineStart(text, start) || !isLineStart(text, oldEnd)
+            || !isLineStart(newText, start) || !isLineStart(newText, newEnd))
+            return false;
+
+        int firstOldToken = indexOf(region.list.get(region.firstIndex).findFirstToken());
+        int lastOldToken = indexOf(region.list.get(region.lastIndex).findLastToken());
+        if (firstOldToken < 0 || lastOldToken < firstOldToken) return false;
+
+        IAccumulatingLexer lexer;
+        ASTExecutableProgramNode regionAST;
+        try
+        {
+            lexer = new ASTLexerFactory().createLexer(new StringReader(newText.substring(start, newEnd)), file, filename, sourceForm);
+            regionAST = parser.parse(lexer);
+        }
+        catch (LexerException e)
+        {
+            return false;
+        }
+        catch (SyntaxException e)
+        {
+            return false;
+        }
+        if (regionAST == null || regionAST.getProgramUnitList() == null) return false;
+
+        List<IASTNode> newNodes = new ArrayList<IASTNode>();
+        for (IProgramUnit unit : regionAST.getProgramUnitList())
+            newNodes.add(unit);
+        if (newNodes.isEmpty() || (!region.isProgramUnitList && !canReplaceSubprograms(region.list, newNodes)))
+            return false;
+
+        TokenList regionTokens = lexer.getTokenList();
+        int lineOffset = countLines(newText, 0, start);
+        for (Token token : regionTokens)
+            shift(token, start, lineOffset);
+        if (!reproduces(regionTokens, newText, start, newEnd))
+            return false;
+
+        // The region parsed successfully, so splice it into the previous AST and token list
+        int lineDelta = countLines(newText, start, newEnd) - countLines(text, start, oldEnd);
+
+        TokenList newTokenList = new TokenList();
+        for (int i = 0; i < firstOldToken; i++)
+            newTokenList.add(tokenList.get(i));
+        for (Token token : regionTokens)
+            if (token.getTerminal() != Terminal.END_OF_INPUT)
+                newTokenList.add(token);
+
+        synchronized (lock)
+        {
+            for (int i = lastOldToken + 1, size = tokenList.size(); i < size; i++)
+            {
+                Token token = tokenList.get(i);
+                shift(token, delta, lineDelta);
+                newTokenList.add(token);
+            }
+
+            for (int index = region.lastIndex; index >= region.firstIndex; index--)
+                region.list.remove(index);
+            region.list.addAll(region.firstIndex, newNodes);
+            if (delta != 0) ast.clearAllCachedRepresentativeTokens();
+        }
+
+        this.text = newText;
+        this.tokenList = newTokenList;
+        return true;
+    }
+
+    /** @return the index of the given token in {@link #tokenList}, or -1 */
+    private int indexOf(Token token)
+    {
+        if (token == null) return -1;
+
+        // Tokens other than end-of-input tokens are sorted by offset
+        int low = 0, high = tokenList.size() - 1;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            Token midToken = tokenList.get(mid);
+            if (midToken == token)
+                return mid;
+            else if (midToken.getTerminal() == Terminal.END_OF_INPUT || midToken.getStreamOffset() > token.getStreamOffset())
+                high = mid - 1;
+            else if (midToken.getStreamOffset() < token.getStreamOffset())
+                low = mid + 1;
+            else
+                return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the innermost run of subprograms (or, in the given list of program units, the run of
+     * program units) which includes the changed range of the old text.
+     *
+     * @return the region to reparse, or <code>null</code> if the changed range is not contained
+     *         in a run of subprograms in the given list
+     */
+    @SuppressWarnings("unchecked")
+    private Region findRegion(IASTListNode<? extends IASTNode> list, boolean isProgramUnitList, int changeStart, int changeEnd)
+    {
+        if (list == null) return null;
+
+        int firstIndex = -1, lastIndex = -1, regionStart = -1, regionEnd = -1;
+        for (int i = 0; i < list.size(); i++)
+        {
+            IASTNode node = list.get(i);
+            if (node == null) return null;
+
+            Token firstToken = node.findFirstToken(), lastToken = node.findLastToken();
+            if (firstToken == null || lastToken == null) return null;
+
+            int start = firstToken.getStreamOffset() - firstToken.getWhiteBefore().length();
+            int end = lastToken.getStreamOffset() + lastToken.getText().length() + lastToken.getWhiteAfter().length();
+            if (end < changeStart) continue;
+            if (start > changeEnd) break;
+
+            if (firstIndex < 0)
+            {
+                firstIndex = i;
+                regionStart = start;
+            }
+            lastIndex = i;
+            regionEnd = end;
+        }
+        if (firstIndex < 0 || regionStart > changeStart || regionEnd < changeEnd) return null;
+
+        if (firstIndex == lastIndex && regionStart < changeStart && changeEnd < regionEnd)
+        {
+            Region nested = findRegion(subprogramsIn(list.get(firstIndex)), false, changeStart, changeEnd);
+            if (nested != null) return nested;
+        }
+
+        if (!isProgramUnitList)
+            for (int i = firstIndex; i <= lastIndex; i++)
+                if (!isSubprogram(list.get(i)))
+                    return null;
+
+        return new Region((List<IASTNode>)list, isProgramUnitList, firstIndex, lastIndex, regionStart, regionEnd);
+    }
+
+    /** @return the list containing the module subprograms or internal subprograms of the given node, or <code>null</code> */
+    private static IASTListNode<? extends IASTNode> subprogramsIn(IASTNode node)
+    {
+        if (node instanceof ASTModuleNode)
+            return ((ASTModuleNode)node).getModuleBody();
+        else if (node instanceof ASTSubmoduleNode)
+            return ((ASTSubmoduleNode)node).getModuleBody();
+        else if (node instanceof ASTMainProgramNode)
+            return ((ASTMainProgramNode)node).getInternalSubprograms();
+        else if (node instanceof ASTSubroutineSubprogramNode)
+            return ((ASTSubroutineSubprogramNode)node).getInternalSubprograms();
+        else if (node instanceof ASTFunctionSubprogramNode)
+            return ((ASTFunctionSubprogramNode)node).getInternalSubprograms();
+        else if (node instanceof ASTSeparateModuleSubprogramNode)
+            return ((ASTSeparateModuleSubprogramNode)node).getInternalSubprograms();
+        else
+            return null;
+    }
+
+    private static boolean isSubprogram(IASTNode node)
+    {
+        return node instanceof ASTSubroutineSubprogramNode || node instanceof ASTFunctionSubprogramNode;
+    }
+
+    /** @return true iff the given nodes, which were parsed as program units, can be placed in the
+     *          given list of module subprograms or internal subprograms */
+    private static boolean canReplaceSubprograms(List<IASTNode> list, List<IASTNode> newNodes)
+    {
+        boolean isModuleBody = ((IASTNode)list).getParent() instanceof ASTModuleNode
+                            || ((IASTNode)list).getParent() instanceof ASTSubmoduleNode;
+
+        for (IASTNode node : newNodes)
+        {
+            if (!isSubprogram(node)) return false;
+
+            // Internal subprograms cannot contain internal subprograms
+            if (!isModuleBody && subprogramsIn(node) != null) return false;
+        }
+        return true;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Utilities
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @return true iff the given tokens (followed by zero or more end-of-input tokens) reproduce
+     *         the given region of the text exactly, and their offsets correspond to their
+     *         positions in the text
+     */
+    private static boolean reproduces(TokenList tokens, String text, int start, int end)
+    {
+        int offset = start;
+        for (Token token : tokens)
+        {
+            if (token.getTerminal() == Terminal.END_OF_INPUT)
+            {
+                if (token.getWhiteBefore().length() > 0 || token.getText().length() > 0 || token.getWhiteAfter().length() > 0)
+                    return false;
+                continue;
+            }
+
+            if (token.getPreprocessorDirective() != null || !text.startsWith(token.getWhiteBefore(), offset))
+                return false;
+            offset += token.getWhiteBefore().length();
+
+            if (token.getStreamOffset() != offset
+                || token.getFileOffset() != offset
+                || token.getLength() != token.getText().length()
+                || !text.startsWith(token.getText(), offset))
+                return false;
+            offset += token.getText().length();
+
+            if (!text.startsWith(token.getWhiteAfter(), offset))
+                return false;
+            offset += token.getWhiteAfter().length();
+
+            if (offset > end) return false;
+        }
+        return offset == end;
+    }
+
+    private static void shift(Token token, int offsetDelta, int lineDelta)
+    {
+        token.setStreamOffset(token.getStreamOffset() + offsetDelta);
+        token.setFileOffset(token.getFileOffset() + offsetDelta);
+        token.setLine(token.getLine() + lineDelta);
+    }
+
+    private static boolean isLineStart(String text, int offset)
+    {
+        if (offset == 0 || offset == text.length())
+            return true;
+
+        char previous = text.charAt(offset - 1);
+        return previous == '\n' || (previous == '\r' && text.charAt(offset) != '\n');
+    }
+
+    /** @return the number of line terminators in the given range of the text, counted the same way as the lexer */
+    private static int countLines(String text, int start, int end)
+    {
+        int lines = 0;
+        for (int i = start; i < end; i++)
+        {
+            switch (text.charAt(i))
+            {
+                case '\n':
+                    if (i == 0 || text.charAt(i - 1) != '\r') lines++;
+                    break;
+
+                case '\r':
+                case '\u000B':
+                case '\u000C':
+                case '\u0085':
+                case '\u2028':
+                case '\u2029':
+                    lines++;
+                    break;
+            }
+        }
+        return lines;
+    }
+}
@@ -10,23 +10,38 @@
  *******************************************************************************/
 package org.eclipse.photran.internal.core.refactoring;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.RefactoringStatusContext;
+import org.eclipse.ltk.core.refactoring.TextFileChange;
+import org.eclipse.photran.core.IFortranAST;
 import org.eclipse.photran.internal.core.analysis.binding.Definition;
 import org.eclipse.photran.internal.core.lexer.Token;
+import org.eclipse.photran.internal.core.preferences.FortranPreferences;
 import org.eclipse.photran.internal.core.refactoring.infrastructure.FortranEditorRefactoring;
 import org.eclipse.photran.internal.core.refactoring.interfaces.IRenameRefactoring;
 import org.eclipse.photran.internal.core.sourceform.SourceForm;
 import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
+import org.eclipse.photran.internal.core.vpg.PhotranVPG;
 
 /**
  * Refactoring to rename identifiers in Fortran programs.
@@ -329,13 +344,17 @@ public class RenameRefactoring extends FortranEditorRefactoring implements IRena
         assert allReferences != null;
         assert newName != null;
 
-        Set<IFile> filesToChange = determineFilesToChange();
+        Map<IFile, List<PhotranTokenRef>> filesToChange = groupReferencesByFile();
         pm.beginTask(Messages.RenameRefactoring_StatusRenaming, filesToChange.size());
 
         try
         {
-            for (IFile file : filesToChange)
-	            makeChangesTo(file, pm);
+            int numThreads = Math.min(FortranPreferences.VPG_INDEXER_THREADS.getValue(), filesToChange.size());
+            if (numThreads > 1 && vpg.supportsConcurrentParsing())
+                makeChangesConcurrently(filesToChange, numThreads, pm);
+            else
+                for (IFile file : filesToChange.keySet())
+                    makeChangesTo(file, filesToChange.get(file), pm);
         }
         finally
         {
@@ -344,20 +363,40 @@ public class RenameRefactoring extends FortranEditorRefactoring implements IRena
         }
     }
 
-    private Set<IFile> determineFilesToChange()
+    /**
+     * @return the tokens to rename in each file, including the file in the editor (which may
+     *         not contain any), in a deterministic order
+     */
+    private Map<IFile, List<PhotranTokenRef>> groupReferencesByFile()
     {
-        Set<IFile> files = new HashSet<IFile>(allReferences.size() + 2);
-
-        files.add(fileInEditor); // File in the editor (containing the reference)
-        files.add(definitionToRename.getTokenRef().getFile());
+        Map<IFile, List<PhotranTokenRef>> result = new TreeMap<IFile, List<PhotranTokenRef>>(new Comparator<IFile>()
+        {
+            public int compare(IFile a, IFile b)
+            {
+                return a.getFullPath().toString().compareTo(b.getFullPath().toString());
+            }
+        });
 
+        result.put(fileInEditor, new ArrayList<PhotranTokenRef>());
+        referencesIn(definitionToRename.getTokenRef().getFile(), result).add(definitionToRename.getTokenRef());
         for (PhotranTokenRef ref : allReferences)
-            files.add(ref.getFile());
+            referencesIn(ref.getFile(), result).add(ref);
+
+        return result;
+    }
 
-        return files;
+    private static List<PhotranTokenRef> referencesIn(IFile file, Map<IFile, List<PhotranTokenRef>> map)
+    {
+        List<PhotranTokenRef> result = map.get(file);
+        if (result == null)
+        {
+            result = new ArrayList<PhotranTokenRef>();
+            map.put(file, result);
+        }
+        return result;
     }
 
-    private void makeChangesTo(IFile file, IProgressMonitor pm) throws Error
+    private void makeChangesTo(IFile file, List<PhotranTokenRef> references, IProgressMonitor pm) throws Error
     {
         try
         {
@@ -366,12 +405,8 @@ public class RenameRefactoring extends FortranEditorRefactoring implements IRena
 
             vpg.acquirePermanentAST(file);
 
-            if (definitionToRename.getTokenRef().getFile().equals(file))
-                definitionToRename.getTokenRef().findToken().setText(newName);
-
-            for (PhotranTokenRef ref : allReferences)
-                if (ref.getFile().equals(file))
-                    ref.findToken().setText(newName);
+            for (PhotranTokenRef ref : references)
+                ref.findToken().setText(newName);
 
             addChangeFromModifiedAST(file, pm);
 
@@ -382,4 +417,99 @@ public class RenameRefactoring extends FortranEditorRefactoring implements IRena
             throw new Error(e);
         }
     }
+
+    /**
+     * Creates the changes for the given files on a pool of worker threads.
+     * <p>
+     * Each worker parses a file (see {@link PhotranVPG#parseConcurrently(String, List)}), renames
+     * the tokens in its private copy of the AST, and computes the resulting text edits; none of
+     * this touches the VPG's AST cache or database.  The calling thread reports progress, performs
+     * the database writes deferred during parsing, and adds the changes to {@link #allChanges} in
+     * the order in which the files were submitted.  If a file cannot be parsed on a worker thread,
+     * it is changed on the calling thread as usual.
+     */
+    private void makeChangesConcurrently(Map<IFile, List<PhotranTokenRef>> filesToChange, int numThreads, IProgressMonitor pm) throws Error
+    {
+        ExecutorService workers = Executors.newFixedThreadPool(numThreads, new WorkerThreadFactory());
+        try
+        {
+            Map<IFile, Future<ChangeTask>> futures = new LinkedHashMap<IFile, Future<ChangeTask>>();
+            for (IFile file : filesToChange.keySet())
+                futures.put(file, workers.submit(new ChangeTask(file, filesToChange.get(file))));
+
+            for (IFile file : futures.keySet())
+            {
+                if (pm.isCanceled()) throw new OperationCanceledException();
+
+                ChangeTask task = futures.get(file).get();
+                if (task.change == null)
+                {
+                    makeChangesTo(file, filesToChange.get(file), pm);
+                }
+                else
+                {
+                    pm.subTask(Messages.bind(Messages.RenameRefactoring_StatusModifyingFile, file.getName()));
+                    pm.worked(1);
+
+                    for (Runnable write : task.deferredDatabaseWrites)
+                        write.run();
+                    allChanges.add(task.change);
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            throw new OperationCanceledException();
+        }
+        catch (ExecutionException e)
+        {
+            throw new Error(e.getCause());
+        }
+        finally
+        {
+            workers.shutdownNow();
+        }
+    }
+
+    private final class ChangeTask implements Callable<ChangeTask>
+    {
+        private final IFile file;
+        private final List<PhotranTokenRef> references;
+
+        // Set by the worker thread
+        private List<Runnable> deferredDatabaseWrites;
+        private TextFileChange change;
+
+        private ChangeTask(IFile file, List<PhotranTokenRef> references)
+        {
+            this.file = file;
+            this.references = references;
+        }
+
+        /** Invoked on a worker thread */
+        public ChangeTask call()
+        {
+            deferredDatabaseWrites = new ArrayList<Runnable>();
+            IFortranAST ast = vpg.parseConcurrently(PhotranVPG.getFilenameForIFile(file), deferredDatabaseWrites);
+            if (ast == null) return this;
+
+            for (PhotranTokenRef ref : references)
+                ast.findTokenByStreamOffsetLength(ref.getOffset(), ref.getLength()).setText(newName);
+
+            change = createChangeFromModifiedAST(file, ast, new NullProgressMonitor());
+            return this;
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory
+    {
+        private int count = 0;
+
+        public Thread newThread(Runnable r)
+        {
+            Thread thread = new Thread(r, "Rename Refactoring Worker " + (++count)); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
@@ -306,9 +306,7 @@ public abstract class FortranResourceRefactoring
         {
             IAccumulatingLexer lexer = new ASTLexerFactory().createLexer(
                 new StringReader(string), null, "(none)"); //$NON-NLS-1$
-            Parser parser = new Parser();
-
-            FortranAST ast = new FortranAST(null, parser.parse(lexer), lexer.getTokenList());
+            FortranAST ast = new FortranAST(null, Parser.getThreadLocalParser().parse(lexer), lexer.getTokenList());
             return ast.getRoot().getProgramUnitList().get(0);
         }
         catch (Exception e)
@@ -1034,8 +1032,8 @@ public abstract class FortranResourceRefactoring
                 Token token = definitionToCheck == null ? new FakeToken(scopeOfDefinitionToCheck, newName) : new FakeToken(definitionToCheck.getTokenRef().findToken(), newName);
                 
                 Set<PhotranTokenRef> shadowedDefinitions = new HashSet<PhotranTokenRef>(scopeOfDefinitionToCheck.manuallyResolve(token));
-                // TODO: Does not consider rename or only lists (need to tell if this SPECIFIC definition will be imported)
-                for (ScopingNode importingScope : scopeOfDefinitionToCheck.findImportingScopes())
+                // TODO: Does not consider rename lists (ONLY lists are considered by findImportingScopes)
+                for (ScopingNode importingScope : findImportingScopes(scopeOfDefinitionToCheck))
                 {
                     pm.subTask(Messages.bind(Messages.FortranResourceRefactoring_CheckingForReferencesTo, newName, importingScope.describe()));
                     shadowedDefinitions.addAll(importingScope.manuallyResolve(token));
@@ -1145,6 +1143,18 @@ public abstract class FortranResourceRefactoring
             return new ArrayList<Conflict>(conflictingDef);
         }
 
+        /**
+         * Returns the scopes that import the given scope (if it is a module), skipping those whose
+         * USE statements have an ONLY list that does not include the definition to check
+         */
+        private Iterable<ScopingNode> findImportingScopes(ScopingNode scope)
+        {
+            if (definitionToCheck == null)
+                return scope.findImportingScopes();
+            else
+                return scope.findImportingScopes(definitionToCheck.getCanonicalizedName());
+        }
+
         private Iterable<ScopingNode> scopeItselfAndAllScopesThatImport(final ScopingNode scope)
         {
             if (scope == null) return Collections.emptySet();
@@ -1156,7 +1166,7 @@ public abstract class FortranResourceRefactoring
                     return new Iterator<ScopingNode>()
                     {
                         private ScopingNode first = scope;
-                        private Iterator<ScopingNode> rest = scope.findImportingScopes().iterator();
+                        private Iterator<ScopingNode> rest = findImportingScopes(scope).iterator();
 
                         public boolean hasNext()
                         {
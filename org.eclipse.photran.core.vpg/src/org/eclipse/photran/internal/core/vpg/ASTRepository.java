@@ -10,14 +10,38 @@
  *******************************************************************************/
 package org.eclipse.photran.internal.core.vpg;
 
-import java.lang.ref.WeakReference;
+import java.io.PrintStream;
+import java.lang.ref.SoftReference;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * The VPG's cache of abstract syntax trees.
- * 
- * @param <A> AST type
- * 
+ * <p>
+ * Transient ASTs are cached in two tiers:
+ * <ol>
+ * <li>The most recently used transient ASTs are held strongly, up to a memory budget (see
+ *     {@link VPG#getASTCacheSizeInBytes()}), based on an estimate of the size of each AST (see
+ *     {@link VPG#estimateSizeOf(Object)}).  When the budget is exceeded, the least recently used
+ *     ASTs are evicted, although the most recent few (the number passed to the constructor) and the
+ *     pinned AST (see {@link #setPinnedAST(String)}) are always retained.
+ * <li>Every transient AST is also held by a {@link SoftReference}, so an AST evicted from the
+ *     first tier (or one that is still referenced by a client) can be reused until the garbage
+ *     collector needs the memory.
+ * </ol>
+ * <p>
+ * This class is thread-safe, so ASTs can be acquired by jobs with the read-only
+ * {@link org.eclipse.photran.internal.core.vpg.eclipse.VPGSchedulingRule} while the indexer is
+ * running.  The caches are guarded by this object's monitor, which is only held briefly.  Parsing
+ * a file and computing its edges and annotations are guarded by a separate lock, so a file is never
+ * parsed and indexed by two threads at once, but cached ASTs can be acquired while it is.
+ *
+ * @param <A> AST type; ASTs are compared using {@link Object#equals(Object)}, which should be
+ *            identity
+ *
  * @author Jeff Overbey
  */
 final class ASTRepository<A>
@@ -27,19 +51,52 @@ final class ASTRepository<A>
     protected HashMap<String, A> permanentASTs;
 
     /** Cache of ASTs acquired using {@link #acquireTransientAST(String)}. */
-    protected HashMap<String, WeakReference<A>> transientASTs;
+    protected HashMap<String, SoftReference<A>> transientASTs;
+
+    /** <i>Recent</i> ASTs acquired using {@link #acquireTransientAST(String)}, least recently
+     *  used first, with their estimated sizes in bytes. */
+    private final LinkedHashMap<String, RecentAST<A>> recentASTs;
+
+    /** The total estimated size of the ASTs in {@link #recentASTs}, in bytes */
+    private long recentASTsSize = 0;
+
+    /** The number of recent ASTs that are retained even if they exceed the memory budget */
+    private final int minimumRecentASTs;
+
+    /** The file whose AST is never evicted from {@link #recentASTs}, or <code>null</code> */
+    private String pinnedFilename = null;
 
-    /** Small queue of <i>recent</i> ASTs acquired using {@link #acquireTransientAST(String)}. */
-    protected Object[] transientASTCache;
-    private int transientASTCacheIndex = 0;
+    /** The filename for each AST in this repository (see {@link #getFilenameCorrespondingTo(Object)}) */
+    private final WeakHashMap<A, String> filenames;
 
-    public ASTRepository(int transientASTCacheSize)
+    /** Held while a file is parsed and its edges and annotations are computed; acquired before this object's monitor */
+    private final Object parseLock = new Object();
+
+    // Statistics
+    private long recentHits = 0, softHits = 0, permanentHits = 0, misses = 0;
+    private long parseTime = 0, evictions = 0;
+
+    private static final class RecentAST<A>
     {
-        assert transientASTCacheSize > 0;
+        public final A ast;
+        public final long size;
 
-        this.transientASTs = new HashMap<String, WeakReference<A>>();
+        public RecentAST(A ast, long size)
+        {
+            this.ast = ast;
+            this.size = size;
+        }
+    }
+
+    public ASTRepository(int minimumRecentASTs)
+    {
+        assert minimumRecentASTs > 0;
+
+        this.transientASTs = new HashMap<String, SoftReference<A>>();
         this.permanentASTs = new HashMap<String, A>();
-        this.transientASTCache = new Object[transientASTCacheSize];
+        this.recentASTs = new LinkedHashMap<String, RecentAST<A>>(16, 0.75f, true);
+        this.minimumRecentASTs = minimumRecentASTs;
+        this.filenames = new WeakHashMap<A, String>();
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -58,35 +115,143 @@ final class ASTRepository<A>
 
         if (!forceRecomputationOfEdgesAndAnnotations)
         {
-            if (permanentASTs.containsKey(filename))
-                ast = permanentASTs.get(filename);
-            else if (transientASTs.containsKey(filename))
-                ast = transientASTs.get(filename).get();
-
+            ast = findCachedAST(filename, vpg);
             if (ast != null) return ast;
         }
 
-        boolean shouldComputeEdgesAndAnnotations =
-            forceRecomputationOfEdgesAndAnnotations || vpg.isOutOfDate(filename);
-        
-        if (shouldComputeEdgesAndAnnotations)
-            vpg.getLog().clearEntriesFor(filename);
+        synchronized (parseLock)
+        {
+            if (!forceRecomputationOfEdgesAndAnnotations)
+            {
+                // Another thread may have parsed the file while this one was waiting
+                ast = findCachedAST(filename, vpg);
+                if (ast != null) return ast;
+            }
+
+            boolean shouldComputeEdgesAndAnnotations =
+                forceRecomputationOfEdgesAndAnnotations || vpg.isOutOfDate(filename);
+
+            if (shouldComputeEdgesAndAnnotations)
+                vpg.getLog().clearEntriesFor(filename);
+
+            long start = System.currentTimeMillis();
+            ast = vpg.parse(filename);
+            recordMiss(System.currentTimeMillis() - start);
+            cacheTransientAST(filename, ast, vpg);
 
-        ast = vpg.parse(filename);
+            if (shouldComputeEdgesAndAnnotations)
+                vpg.getVPGWriter().computeEdgesAndAnnotations(filename, ast);
+
+            return ast;
+        }
+    }
+
+    private synchronized void recordMiss(long timeSpentParsing)
+    {
+        misses++;
+        parseTime += timeSpentParsing;
+    }
+
+    private synchronized <T, R extends IVPGNode<T>> A findCachedAST(String filename, VPG<A, T, R> vpg)
+    {
+        A ast = permanentASTs.get(filename);
         if (ast != null)
         {
-            WeakReference<A> astRef = new WeakReference<A>(ast);
-            transientASTs.put(filename, astRef);
-            //astFilenames.put(astRef, filename);
+            permanentHits++;
+            return ast;
+        }
+
+        RecentAST<A> recent = recentASTs.get(filename); // Moves it to the end of the LRU order
+        if (recent != null)
+        {
+            recentHits++;
+            return recent.ast;
+        }
 
-            transientASTCache[transientASTCacheIndex] = ast;
-            transientASTCacheIndex = (transientASTCacheIndex+1) % transientASTCache.length;
+        SoftReference<A> ref = transientASTs.get(filename);
+        ast = ref == null ? null : ref.get();
+        if (ast != null)
+        {
+            softHits++;
+            addRecentAST(filename, ast, vpg);
+            return ast;
         }
 
-        if (shouldComputeEdgesAndAnnotations)
+        return null;
+    }
+
+    /**
+     * Caches the given AST (which was parsed outside of this repository, e.g., on an indexer
+     * worker thread) as a transient AST and recomputes the edges and annotations for its file.
+     * <p>
+     * The caller is responsible for clearing log entries for the file before it is parsed.
+     */
+    public <T, R extends IVPGNode<T>>
+           void computeEdgesAndAnnotations(String filename, A ast, VPG<A, T, R> vpg)
+    {
+        synchronized (parseLock)
+        {
+            cacheTransientAST(filename, ast, vpg);
             vpg.getVPGWriter().computeEdgesAndAnnotations(filename, ast);
+        }
+    }
 
-        return ast;
+    private synchronized <T, R extends IVPGNode<T>> void cacheTransientAST(String filename, A ast, VPG<A, T, R> vpg)
+    {
+        if (ast != null)
+        {
+            transientASTs.put(filename, new SoftReference<A>(ast));
+            filenames.put(ast, filename);
+            addRecentAST(filename, ast, vpg);
+        }
+    }
+
+    private <T, R extends IVPGNode<T>> void addRecentAST(String filename, A ast, VPG<A, T, R> vpg)
+    {
+        removeRecentAST(filename);
+
+        RecentAST<A> recent = new RecentAST<A>(ast, vpg.estimateSizeOf(ast));
+        recentASTs.put(filename, recent);
+        recentASTsSize += recent.size;
+
+        evictRecentASTs(vpg.getASTCacheSizeInBytes());
+    }
+
+    /** Evicts the least recently used ASTs until the recent ASTs fit in the given budget */
+    private void evictRecentASTs(long budget)
+    {
+        int removable = recentASTs.size() - minimumRecentASTs;
+        for (Iterator<Map.Entry<String, RecentAST<A>>> it = recentASTs.entrySet().iterator();
+             recentASTsSize > budget && removable > 0 && it.hasNext(); )
+        {
+            Map.Entry<String, RecentAST<A>> entry = it.next();
+            if (!entry.getKey().equals(pinnedFilename))
+            {
+                recentASTsSize -= entry.getValue().size;
+                it.remove();
+                removable--;
+                evictions++;
+            }
+        }
+    }
+
+    private void removeRecentAST(String filename)
+    {
+        RecentAST<A> recent = recentASTs.remove(filename);
+        if (recent != null)
+            recentASTsSize -= recent.size;
+    }
+
+    /**
+     * Prevents the transient AST for the given file (e.g., the file in the active editor) from
+     * being evicted from the cache of recent ASTs, regardless of its size.  At most one AST is
+     * pinned at a time; pinning an AST unpins the previously pinned AST.
+     *
+     * @param filename the file to pin, or <code>null</code> to unpin the pinned AST
+     */
+    public synchronized void setPinnedAST(String filename)
+    {
+        this.pinnedFilename = filename;
     }
 
     /** @return an AST for the given file.  The AST will remain in memory until it is
@@ -114,18 +279,21 @@ final class ASTRepository<A>
      *  AST.  The AST will remain in memory until it is explicitly released
      *  using {@link #releaseAST(String)} or {@link #releaseAllASTs()}.
      */
-    public A makeTransientASTPermanent(String filename, A ast)
+    public synchronized A makeTransientASTPermanent(String filename, A ast)
     {
         transientASTs.remove(filename);
+        removeRecentAST(filename);
         permanentASTs.put(filename, ast);
+        if (ast != null) filenames.put(ast, filename);
         return ast;
     }
 
     /** Releases the AST for the given file, regardless of whether it was
      *  acquired as a permanent or transient AST. */
-    public void releaseAST(String filename)
+    public synchronized void releaseAST(String filename)
     {
         transientASTs.remove(filename);
+        removeRecentAST(filename);
         permanentASTs.remove(filename);
     }
 
@@ -137,10 +305,13 @@ final class ASTRepository<A>
      * @see #acquirePermanentAST(String)
      * @see #makeTransientASTPermanent(String)
      */
-    public void releaseAllASTs()
+    public synchronized void releaseAllASTs()
     {
         transientASTs.clear();
+        recentASTs.clear();
+        recentASTsSize = 0;
         permanentASTs.clear();
+        filenames.clear();
     }
 
     /**
@@ -148,22 +319,47 @@ final class ASTRepository<A>
      * {@link #acquirePermanentAST(String)}, returns the filename to which it
      * corresponds.  If it is not the root of an AST acquired from this VPG, returns
      * <code>null</code>.
-     * <p>
-     * Note that this is not an O(1) operation: Internally, the filename is found
-     * by comparing the given argument with every AST in memory.
-     * 
+     *
      * @return filename or <code>null</code>
      */
-    public String getFilenameCorrespondingTo(A ast)
-    {
-        for (String filename : transientASTs.keySet())
-            if (transientASTs.get(filename).get() == ast)
-                return filename;
-        
-        for (String filename : permanentASTs.keySet())
-            if (permanentASTs.get(filename) == ast)
-                return filename;
-        
+    public synchronized String getFilenameCorrespondingTo(A ast)
+    {
+        String filename = filenames.get(ast);
+        if (filename == null) return null;
+
+        // The AST may have been released, or replaced by a more recent AST for the same file
+        if (permanentASTs.get(filename) == ast) return filename;
+        SoftReference<A> ref = transientASTs.get(filename);
+        if (ref != null && ref.get() == ast) return filename;
         return null;
     }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // STATISTICS
+    ////////////////////////////////////////////////////////////////////////////
+
+    public synchronized void printStatisticsOn(PrintStream out)
+    {
+        long hits = recentHits + softHits + permanentHits;
+        long requests = hits + misses;
+
+        out.println("AST Cache Statistics:"); //$NON-NLS-1$
+        out.println();
+        out.println("    Recent ASTs:          " + recentASTs.size() + " (" + recentASTsSize / 1024 + " KB estimated)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        out.println("    Permanent ASTs:       " + permanentASTs.size()); //$NON-NLS-1$
+        out.println("    Pinned file:          " + (pinnedFilename == null ? "(none)" : pinnedFilename)); //$NON-NLS-1$ //$NON-NLS-2$
+        out.println();
+        out.println("    Hits (recent ASTs):   " + recentHits); //$NON-NLS-1$
+        out.println("    Hits (soft refs):     " + softHits); //$NON-NLS-1$
+        out.println("    Hits (permanent):     " + permanentHits); //$NON-NLS-1$
+        out.println("    Misses (parsed):      " + misses + (requests == 0 ? "" : " (" + (100 * misses / requests) + "% of requests)")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        out.println("    Time spent parsing:   " + parseTime + " ms" + (misses == 0 ? "" : " (" + (parseTime / misses) + " ms average)")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+        out.println("    Evictions:            " + evictions); //$NON-NLS-1$
+    }
+
+    public synchronized void resetStatistics()
+    {
+        recentHits = softHits = permanentHits = misses = 0;
+        parseTime = evictions = 0;
+    }
 }
@@ -27,7 +27,11 @@ public enum AnnotationType
     MODULE_TOKENREF_ANNOTATION_TYPE(Messages.PhotranVPG_ModuleTokenRef),
     MODULE_SYMTAB_ENTRY_COUNT_ANNOTATION_TYPE(Messages.PhotranVPG_ModuleSymbolTableEntryCount),
     MODULE_SYMTAB_ENTRY_ANNOTATION_TYPE(Messages.PhotranVPG_ModuleSymbolTableEntry),
-    VARIABLE_ACCESS_ANNOTATION_TYPE(Messages.PhotranVPG_VariableAccess);
+    VARIABLE_ACCESS_ANNOTATION_TYPE(Messages.PhotranVPG_VariableAccess),
+    BINDING_UNIT_FINGERPRINT_ANNOTATION_TYPE(Messages.PhotranVPG_BindingUnitFingerprint),
+    MODULE_SYMTAB_FINGERPRINT_ANNOTATION_TYPE(Messages.PhotranVPG_ModuleSymbolTableFingerprint),
+    NAME_INDEX_ANNOTATION_TYPE(Messages.PhotranVPG_NameIndexEntries),
+    USE_SITE_ANNOTATION_TYPE(Messages.PhotranVPG_UseSite);
 
     private final String description;
     
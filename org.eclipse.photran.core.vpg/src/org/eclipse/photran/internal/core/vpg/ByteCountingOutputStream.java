@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.vpg;
+
+import java.io.OutputStream;
+
+/**
+ * An output stream which discards its data, counting the bytes written to it.  Used to estimate
+ * the size of serialized objects.
+ */
+final class ByteCountingOutputStream extends OutputStream
+{
+    private long count = 0;
+
+    @Override public void write(int b)
+    {
+        count++;
+    }
+
+    @Override public void write(byte[] b, int off, int len)
+    {
+        count += len;
+    }
+
+    /** @return the number of bytes written to this stream */
+    public long getCount()
+    {
+        return count;
+    }
+}
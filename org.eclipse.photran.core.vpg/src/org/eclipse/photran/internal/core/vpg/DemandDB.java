@@ -26,6 +26,9 @@ import org.eclipse.photran.internal.core.util.SetOfPairs;
 
 /**
  * Decorator for a VPG database that handles lazy edge computations (i.e., edges computed on demand).
+ * <p>
+ * The set of files that have been populated is guarded by this object's monitor, so lazy edges
+ * may be requested from several threads at once; each populator runs at most once per file.
  *
  * @author Jeff Overbey
  *
@@ -77,15 +80,52 @@ public final class DemandDB<A, T, R extends IVPGNode<T>>
     // NEW API
     ////////////////////////////////////////////////////////////////////////////
 
-    public boolean lazyComputationEnabled = true;
+    /**
+     * Threads on which lazy computation has been disabled (see
+     * {@link #setLazyComputationEnabled(boolean)}).  This is per-thread so that a writer which
+     * disables it does not cause concurrent readers to see incomplete results.
+     */
+    private final ThreadLocal<Boolean> lazyComputationDisabled = new ThreadLocal<Boolean>();
+
+    /**
+     * Enables or disables the lazy computation of edges and annotations for queries made by the
+     * current thread.
+     *
+     * @return the previous setting for the current thread, so that it can be restored
+     */
+    public boolean setLazyComputationEnabled(boolean enabled)
+    {
+        boolean wasEnabled = isLazyComputationEnabled();
+        if (enabled)
+            lazyComputationDisabled.remove();
+        else
+            lazyComputationDisabled.set(Boolean.TRUE);
+        return wasEnabled;
+    }
+
+    /** @return true iff lazy computation is enabled for queries made by the current thread */
+    public boolean isLazyComputationEnabled()
+    {
+        return lazyComputationDisabled.get() == null;
+    }
+
+    /**
+     * Causes the lazy edges and annotations for the given file to be recomputed the next time
+     * they are requested.  The caller is responsible for deleting the existing edges and
+     * annotations of the types computed by the lazy populators.
+     */
+    public synchronized void invalidateLazyEdgesAndAnnotationsFor(String filename)
+    {
+        filesPopulated.remove(filename);
+    }
 
     ////////////////////////////////////////////////////////////////////////////
     // UTILITY METHODS
     ////////////////////////////////////////////////////////////////////////////
 
-    private void ensureLazyEdgesAndAnnotations(String targetFile)
+    private synchronized void ensureLazyEdgesAndAnnotations(String targetFile)
     {
-        if (!lazyComputationEnabled) return;
+        if (!isLazyComputationEnabled()) return;
         
         runPopulators(getPopulatorsThatHaveNotBeenRunOn(targetFile), targetFile);
     }
@@ -135,9 +175,9 @@ public final class DemandDB<A, T, R extends IVPGNode<T>>
         return false;
     }
 
-    private void ensureLazyEdge(String targetFile, int edgeType)
+    private synchronized void ensureLazyEdge(String targetFile, int edgeType)
     {
-        if (!lazyComputationEnabled) return;
+        if (!isLazyComputationEnabled()) return;
         
         if (edgeTypePopulators.containsKey(edgeType))
         {
@@ -147,9 +187,9 @@ public final class DemandDB<A, T, R extends IVPGNode<T>>
         }
     }
 
-    private void ensureLazyAnnotation(String targetFile, int annotationType)
+    private synchronized void ensureLazyAnnotation(String targetFile, int annotationType)
     {
-        if (!lazyComputationEnabled) return;
+        if (!isLazyComputationEnabled()) return;
         
         if (annotationTypePopulators.containsKey(annotationType))
         {
@@ -173,7 +213,7 @@ public final class DemandDB<A, T, R extends IVPGNode<T>>
         db.close();
     }
 
-    @Override public void clearDatabase()
+    @Override public synchronized void clearDatabase()
     {
         filesPopulated.clear();
         db.clearDatabase();
@@ -181,20 +221,20 @@ public final class DemandDB<A, T, R extends IVPGNode<T>>
 
     // HYPOTHETICAL UPDATING ///////////////////////////////////////////////////
 
-    @Override public void enterHypotheticalMode() throws IOException
+    @Override public synchronized void enterHypotheticalMode() throws IOException
     {
         oldFilesPopulated = filesPopulated.clone();
         db.enterHypotheticalMode();
     }
 
-    @Override public void leaveHypotheticalMode() throws IOException
+    @Override public synchronized void leaveHypotheticalMode() throws IOException
     {
         db.leaveHypotheticalMode();
         filesPopulated = oldFilesPopulated;
         oldFilesPopulated = null;
     }
 
-    @Override public boolean isInHypotheticalMode()
+    @Override public synchronized boolean isInHypotheticalMode()
     {
         return oldFilesPopulated != null; // true iff db.isInHypotheticalMode();
     }
@@ -211,13 +251,13 @@ public final class DemandDB<A, T, R extends IVPGNode<T>>
         return db.isOutOfDate(filename);
     }
 
-    @Override public void deleteAllEntriesFor(String filename)
+    @Override public synchronized void deleteAllEntriesFor(String filename)
     {
         filesPopulated.remove(filename);
         db.deleteAllEntriesFor(filename);
     }
 
-    @Override public void deleteAllEdgesAndAnnotationsFor(String filename)
+    @Override public synchronized void deleteAllEdgesAndAnnotationsFor(String filename)
     {
         filesPopulated.remove(filename);
         db.deleteAllEdgesAndAnnotationsFor(filename);
@@ -324,6 +364,18 @@ public final class DemandDB<A, T, R extends IVPGNode<T>>
         return db.getAllAnnotationsFor(filename);
     }
 
+    // BATCH UPDATES ///////////////////////////////////////////////////////////
+
+    @Override public void beginBatch(String filename)
+    {
+        db.beginBatch(filename);
+    }
+
+    @Override public void commitBatch(String filename)
+    {
+        db.commitBatch(filename);
+    }
+
     // UTILITY METHODS /////////////////////////////////////////////////////////
 
     @Override public void printOn(PrintStream out)
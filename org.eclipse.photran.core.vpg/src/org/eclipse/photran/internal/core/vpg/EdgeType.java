@@ -25,7 +25,10 @@ public enum EdgeType
     RENAMED_BINDING_EDGE_TYPE(Messages.PhotranVPG_RenamedBinding),
     DEFINITION_IS_PRIVATE_IN_SCOPE_EDGE_TYPE(Messages.PhotranVPG_DefinitionIsPrivateInScope),
     ILLEGAL_SHADOWING_EDGE_TYPE(Messages.PhotranVPG_IllegalShadowing),
-    CONTROL_FLOW_EDGE_TYPE(Messages.PhotranVPG_ControlFlow);
+    CONTROL_FLOW_EDGE_TYPE(Messages.PhotranVPG_ControlFlow),
+    EXTERNAL_SUBPROGRAM_DECLARATION_IN_INTERFACE_EDGE_TYPE(Messages.PhotranVPG_ExternalSubprogramDeclarationInInterface),
+    EXTERNAL_SUBPROGRAM_DECLARATION_IN_EXTERNAL_STMT_EDGE_TYPE(Messages.PhotranVPG_ExternalSubprogramDeclarationInExternalStmt),
+    USE_SITE_EDGE_TYPE(Messages.PhotranVPG_UseOfModule);
 
     private final String description;
     
@@ -39,6 +39,8 @@ public class Messages extends NLS
 
     public static String PhotranVPG_AnalysisRefactoringNotEnabled;
 
+    public static String PhotranVPG_BindingUnitFingerprint;
+
     public static String PhotranVPG_ControlFlow;
 
     public static String PhotranVPG_DefaultVisibilityForScopeIsPrivate;
@@ -51,6 +53,10 @@ public class Messages extends NLS
 
     public static String PhotranVPG_DefinitionScopeRelationshipDueToModuleImport;
 
+    public static String PhotranVPG_ExternalSubprogramDeclarationInExternalStmt;
+
+    public static String PhotranVPG_ExternalSubprogramDeclarationInInterface;
+
     public static String PhotranVPG_FileIsNotInAFortranProject;
 
     public static String PhotranVPG_GlobalScope;
@@ -63,10 +69,14 @@ public class Messages extends NLS
 
     public static String PhotranVPG_ModuleSymbolTableEntryCount;
 
+    public static String PhotranVPG_ModuleSymbolTableFingerprint;
+
     public static String PhotranVPG_ModuleTokenRef;
 
     public static String PhotranVPG_NameBinding;
 
+    public static String PhotranVPG_NameIndexEntries;
+
     public static String PhotranVPG_NotAFortranSourceFile;
 
     public static String PhotranVPG_OffsetN;
@@ -83,6 +93,10 @@ public class Messages extends NLS
 
     public static String PhotranVPG_Type;
 
+    public static String PhotranVPG_UseOfModule;
+
+    public static String PhotranVPG_UseSite;
+
     public static String PhotranVPG_VariableAccess;
 
     public static String PhotranVPGBuilder_ErrorParsingFile;
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.vpg;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.eclipse.photran.internal.core.analysis.binding.Definition;
+
+/**
+ * A cache of module symbol tables, used by {@link PhotranVPGWriter#getModuleSymbolTable(String)}.
+ * <p>
+ * Entries are keyed by the module's canonicalized name and the fingerprint of its symbol table
+ * (see {@link PhotranVPGWriter#getModuleSymbolTableFingerprint(String)}), so a cached symbol
+ * table is never used after the module has changed.
+ * <p>
+ * Symbol tables are kept in memory up to a budget (in bytes, estimated from the size of their
+ * serialized forms); when the budget is exceeded, the least recently used symbol tables are
+ * evicted.  If a directory is given, each symbol table is also written to a file in that
+ * directory (one file per module), so symbol tables can be loaded with a single sequential read
+ * after they are evicted or after the workbench is restarted, rather than by reading each of the
+ * module's definitions from the VPG database.
+ *
+ * @see PhotranVPGWriter#getModuleSymbolTable(String)
+ */
+public final class ModuleSymbolTableCache
+{
+    /** Identifies a symbol table file; changed whenever the file format changes */
+    private static final int MAGIC = 0x50535431; // PST1
+
+    private static final String FILENAME_EXTENSION = ".symtab"; //$NON-NLS-1$
+
+    private static final class Entry
+    {
+        public final String fingerprint;
+        public final List<Definition> symbolTable;
+        public final long size;
+
+        public Entry(String fingerprint, List<Definition> symbolTable, long size)
+        {
+            this.fingerprint = fingerprint;
+            this.symbolTable = symbolTable;
+            this.size = size;
+        }
+    }
+
+    /** Entries in access order, so the first entry is the least recently used one */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+    /** Directory containing symbol table files, or <code>null</code> */
+    private final File directory;
+
+    private final long maxSize;
+    private long size = 0;
+
+    private long memoryHits = 0, diskHits = 0, misses = 0, evictions = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param directory directory in which symbol tables are stored, or <code>null</code> if they
+     *                  should only be cached in memory
+     * @param maxSize estimated memory (in bytes) available to cache symbol tables
+     */
+    public ModuleSymbolTableCache(File directory, long maxSize)
+    {
+        this.directory = directory;
+        this.maxSize = maxSize;
+
+        if (directory != null) directory.mkdirs();
+    }
+
+    /**
+     * @return the cached symbol table for the given module, or <code>null</code> if no symbol
+     *         table with the given fingerprint is cached
+     */
+    public synchronized List<Definition> get(String canonicalizedModuleName, String fingerprint)
+    {
+        Entry entry = entries.get(canonicalizedModuleName);
+        if (entry != null && entry.fingerprint.equals(fingerprint))
+        {
+            memoryHits++;
+            return entry.symbolTable;
+        }
+
+        List<Definition> symbolTable = readFile(canonicalizedModuleName, fingerprint);
+        if (symbolTable != null)
+        {
+            diskHits++;
+            cacheInMemory(canonicalizedModuleName, fingerprint, symbolTable, fileFor(canonicalizedModuleName).length());
+            return symbolTable;
+        }
+
+        misses++;
+        return null;
+    }
+
+    /**
+     * Caches the given symbol table in memory and, if <code>writeToDisk</code> is
+     * <code>true</code>, writes it to disk.
+     */
+    public synchronized void put(String canonicalizedModuleName, String fingerprint, List<Definition> symbolTable, boolean writeToDisk)
+    {
+        long size = writeToDisk ? writeFile(canonicalizedModuleName, fingerprint, symbolTable) : -1;
+        if (size < 0) size = estimateSizeOf(symbolTable);
+
+        cacheInMemory(canonicalizedModuleName, fingerprint, symbolTable, size);
+    }
+
+    private void cacheInMemory(String canonicalizedModuleName, String fingerprint, List<Definition> symbolTable, long entrySize)
+    {
+        remove(canonicalizedModuleName);
+
+        if (entrySize > maxSize) return;
+
+        entries.put(canonicalizedModuleName, new Entry(fingerprint, symbolTable, entrySize));
+        size += entrySize;
+
+        while (size > maxSize && !entries.isEmpty())
+        {
+            remove(entries.keySet().iterator().next());
+            evictions++;
+        }
+    }
+
+    /** Removes the given module's symbol table from memory (but not from disk) */
+    public synchronized void remove(String canonicalizedModuleName)
+    {
+        Entry entry = entries.remove(canonicalizedModuleName);
+        if (entry != null) size -= entry.size;
+    }
+
+    /** Removes all symbol tables from memory (but not from disk) */
+    public synchronized void clear()
+    {
+        entries.clear();
+        size = 0;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Symbol Table Files
+    ///////////////////////////////////////////////////////////////////////////
+
+    /*
+     * A symbol table file contains:
+     *     int     MAGIC
+     *     UTF-8   fingerprint
+     *     int     number of definitions
+     *     ...     definitions, serialized by PhotranVPGSerializer
+     */
+
+    private File fileFor(String canonicalizedModuleName)
+    {
+        return new File(directory, canonicalizedModuleName + FILENAME_EXTENSION);
+    }
+
+    /** @return the symbol table stored on disk for the given module, or <code>null</code> */
+    private List<Definition> readFile(String canonicalizedModuleName, String fingerprint)
+    {
+        if (directory == null) return null;
+
+        File file = fileFor(canonicalizedModuleName);
+        if (!file.exists()) return null;
+
+        DataInputStream in = null;
+        try
+        {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if (in.readInt() != MAGIC || !in.readUTF().equals(fingerprint)) return null;
+
+            int count = in.readInt();
+            List<Definition> result = new ArrayList<Definition>(count);
+            for (int i = 0; i < count; i++)
+                result.add(PhotranVPGSerializer.<Definition>deserialize(in));
+            return result;
+        }
+        catch (Exception e)
+        {
+            // The file is corrupt or was written by an incompatible version; it will be
+            // overwritten the next time this module's symbol table is cached
+            return null;
+        }
+        finally
+        {
+            close(in);
+        }
+    }
+
+    /** @return the size of the symbol table file, or -1 if it could not be written */
+    private long writeFile(String canonicalizedModuleName, String fingerprint, List<Definition> symbolTable)
+    {
+        if (directory == null) return -1;
+
+        File file = fileFor(canonicalizedModuleName);
+        File tempFile = new File(directory, canonicalizedModuleName + FILENAME_EXTENSION + ".tmp"); //$NON-NLS-1$
+
+        DataOutputStream out = null;
+        try
+        {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+            out.writeInt(MAGIC);
+            out.writeUTF(fingerprint);
+            out.writeInt(symbolTable.size());
+            for (Definition def : symbolTable)
+                PhotranVPGSerializer.serialize(def, out);
+            out.close();
+            out = null;
+
+            file.delete();
+            if (!tempFile.renameTo(file)) return -1;
+            return file.length();
+        }
+        catch (IOException e)
+        {
+            tempFile.delete();
+            return -1;
+        }
+        finally
+        {
+            close(out);
+        }
+    }
+
+    private static void close(Closeable stream)
+    {
+        if (stream == null) return;
+
+        try
+        {
+            stream.close();
+        }
+        catch (IOException e)
+        {
+            // Ignore
+        }
+    }
+
+    /** Estimates the size of a symbol table as the size of its serialized form */
+    private static long estimateSizeOf(List<Definition> symbolTable)
+    {
+        ByteCountingOutputStream out = new ByteCountingOutputStream();
+        try
+        {
+            for (Definition def : symbolTable)
+                PhotranVPGSerializer.serialize(def, out);
+        }
+        catch (IOException e)
+        {
+            // Cannot happen
+        }
+        return out.getCount();
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Statistics
+    ///////////////////////////////////////////////////////////////////////////
+
+    public synchronized void printStatisticsOn(PrintStream out)
+    {
+        long total = memoryHits + diskHits + misses;
+        out.println("    Memory Hits:      " + memoryHits + "/" + total + " (" + percent(memoryHits, total) + "%)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        out.println("    Disk Hits:        " + diskHits + "/" + total + " (" + percent(diskHits, total) + "%)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        out.println("    Misses:           " + misses + "/" + total + " (" + percent(misses, total) + "%)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        out.println("    Size:             " //$NON-NLS-1$
+                    + (size / 1024) + "/" + (maxSize / 1024) + " KB, " //$NON-NLS-1$ //$NON-NLS-2$
+                    + entries.size() + " modules, " //$NON-NLS-1$
+                    + evictions + " evicted"); //$NON-NLS-1$
+    }
+
+    private static long percent(long count, long total)
+    {
+        return total == 0 ? 0 : Math.round(((float)count) / total * 100);
+    }
+
+    public synchronized void resetStatistics()
+    {
+        memoryHits = diskHits = misses = evictions = 0L;
+    }
+}
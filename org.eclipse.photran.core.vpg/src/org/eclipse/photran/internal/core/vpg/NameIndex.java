@@ -0,0 +1,369 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.vpg;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.photran.internal.core.analysis.binding.Definition;
+import org.eclipse.photran.internal.core.analysis.binding.Definition.Classification;
+
+/**
+ * A workspace-wide index mapping names to the locations of their definitions.
+ * <p>
+ * When a file is bound, {@link PhotranVPGWriter} records an {@link Entry} for every definition in
+ * that file as a single annotation (see {@link AnnotationType#NAME_INDEX_ANNOTATION_TYPE}), so the
+ * index persists along with the rest of the VPG database.  This class keeps all of those entries
+ * in memory, sorted by name, so that searches for a name do not need to parse every file in the
+ * workspace.  It is loaded from the database on first use (see
+ * {@link PhotranVPGWriter#getNameIndex()}) and is updated whenever a file is reindexed.
+ * <p>
+ * Files that were indexed before the name index was introduced have no entries in the index;
+ * {@link #getEntriesFor(String)} returns <code>null</code> for such files, and clients should
+ * fall back to parsing them.
+ */
+public final class NameIndex
+{
+    /** A definition in the name index */
+    public static final class Entry
+    {
+        private final String canonicalizedName;
+        private final Classification classification;
+        private final String scopeQualifier;
+        private final PhotranTokenRef tokenRef;
+
+        public Entry(String canonicalizedName, Classification classification, String scopeQualifier, PhotranTokenRef tokenRef)
+        {
+            this.canonicalizedName = canonicalizedName;
+            this.classification = classification;
+            this.scopeQualifier = scopeQualifier;
+            this.tokenRef = tokenRef;
+        }
+
+        public String getCanonicalizedName()
+        {
+            return canonicalizedName;
+        }
+
+        public Classification getClassification()
+        {
+            return classification;
+        }
+
+        /**
+         * @return the canonicalized names of the scopes enclosing this definition, outermost
+         *         first, separated by periods (e.g., <code>m.s</code> for a variable declared in
+         *         subroutine <i>s</i> in module <i>m</i>; anonymous scopes, such as a main program
+         *         without a PROGRAM statement, have empty names), or <code>null</code> if the
+         *         definition is in the global scope (e.g., a module or external subprogram)
+         */
+        public String getScopeQualifier()
+        {
+            return scopeQualifier;
+        }
+
+        public boolean isInGlobalScope()
+        {
+            return scopeQualifier == null;
+        }
+
+        public PhotranTokenRef getTokenRef()
+        {
+            return tokenRef;
+        }
+
+        /** @return the {@link Definition} stored in the VPG for this entry, or <code>null</code> */
+        public Definition getDefinition()
+        {
+            return PhotranVPG.getInstance().getDefinitionFor(tokenRef);
+        }
+
+        @Override public String toString()
+        {
+            return (scopeQualifier == null ? "" : scopeQualifier + ".") //$NON-NLS-1$ //$NON-NLS-2$
+                + canonicalizedName
+                + " (" + classification + ") - " //$NON-NLS-1$ //$NON-NLS-2$
+                + tokenRef;
+        }
+
+        @Override public boolean equals(Object other)
+        {
+            if (!(other instanceof Entry)) return false;
+
+            Entry that = (Entry)other;
+            return this.canonicalizedName.equals(that.canonicalizedName)
+                && this.classification == that.classification
+                && (this.scopeQualifier == null ? that.scopeQualifier == null : this.scopeQualifier.equals(that.scopeQualifier))
+                && this.tokenRef.equals(that.tokenRef);
+        }
+
+        @Override public int hashCode()
+        {
+            return canonicalizedName.hashCode() * 31 + tokenRef.hashCode();
+        }
+    }
+
+    /** The entries for a single file, stored as an annotation in the VPG */
+    public static final class FileEntries implements IPhotranSerializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Entry> entries;
+
+        public FileEntries(List<Entry> entries)
+        {
+            this.entries = entries;
+        }
+
+        public List<Entry> getEntries()
+        {
+            return entries;
+        }
+
+        public static FileEntries readFrom(InputStream in) throws IOException
+        {
+            int count = PhotranVPGSerializer.<Integer>deserialize(in).intValue();
+            List<Entry> entries = new ArrayList<Entry>(count);
+            for (int i = 0; i < count; i++)
+            {
+                String canonicalizedName = PhotranVPGSerializer.deserialize(in);
+                Classification classification = Classification.values()[PhotranVPGSerializer.<Integer>deserialize(in).intValue()];
+                String scopeQualifier = PhotranVPGSerializer.deserialize(in);
+                PhotranTokenRef tokenRef = PhotranVPGSerializer.deserialize(in);
+                entries.add(new Entry(canonicalizedName, classification, scopeQualifier, tokenRef));
+            }
+            return new FileEntries(entries);
+        }
+
+        public void writeTo(OutputStream out) throws IOException
+        {
+            PhotranVPGSerializer.serialize(entries.size(), out);
+            for (Entry entry : entries)
+            {
+                PhotranVPGSerializer.serialize(entry.canonicalizedName, out);
+                PhotranVPGSerializer.serialize(entry.classification.ordinal(), out);
+                PhotranVPGSerializer.serialize(entry.scopeQualifier, out);
+                PhotranVPGSerializer.serialize(entry.tokenRef, out);
+            }
+        }
+
+        public char getSerializationCode()
+        {
+            return PhotranVPGSerializer.CLASS_NAMEINDEX;
+        }
+    }
+
+    /** Entries by canonicalized name; <code>null</code> if the index has not been loaded */
+    private TreeMap<String, List<Entry>> entriesByName = null;
+
+    /** Entries by filename; <code>null</code> if the index has not been loaded */
+    private HashMap<String, List<Entry>> entriesByFile = null;
+
+    /** Incremented whenever the index is invalidated, so a load in progress can be discarded */
+    private int generation = 0;
+
+    /** Non-null iff the index is being loaded; updates made during loading are recorded here */
+    private Map<String, List<Entry>> updatesDuringLoad = null;
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Loading and Updating
+    ///////////////////////////////////////////////////////////////////////////
+
+    public synchronized boolean isLoaded()
+    {
+        return entriesByFile != null;
+    }
+
+    /**
+     * Called before the index is loaded from the VPG database.
+     *
+     * @return a value to pass to {@link #finishLoading(int, Map)}
+     */
+    public synchronized int beginLoading()
+    {
+        if (updatesDuringLoad == null)
+            updatesDuringLoad = new HashMap<String, List<Entry>>();
+        return generation;
+    }
+
+    /**
+     * Installs the entries read from the VPG database, along with any updates made since
+     * {@link #beginLoading()} was called, unless the index was loaded or invalidated in the
+     * meantime.
+     */
+    public synchronized void finishLoading(int generation, Map<String, List<Entry>> entriesByFile)
+    {
+        if (generation != this.generation || isLoaded()) return;
+
+        this.entriesByFile = new HashMap<String, List<Entry>>();
+        this.entriesByName = new TreeMap<String, List<Entry>>();
+        for (String filename : entriesByFile.keySet())
+            add(filename, entriesByFile.get(filename));
+        for (String filename : updatesDuringLoad.keySet())
+            update(filename, updatesDuringLoad.get(filename));
+        updatesDuringLoad = null;
+    }
+
+    /**
+     * Replaces the entries for the given file.
+     *
+     * @param entries the file's entries, or <code>null</code> to remove the file from the index
+     */
+    public synchronized void update(String filename, List<Entry> entries)
+    {
+        if (!isLoaded())
+        {
+            if (updatesDuringLoad != null) updatesDuringLoad.put(filename, entries);
+            return;
+        }
+
+        remove(filename);
+        if (entries != null) add(filename, entries);
+    }
+
+    private void add(String filename, List<Entry> entries)
+    {
+        entriesByFile.put(filename, entries);
+        for (Entry entry : entries)
+        {
+            List<Entry> list = entriesByName.get(entry.canonicalizedName);
+            if (list == null)
+            {
+                list = new ArrayList<Entry>(1);
+                entriesByName.put(entry.canonicalizedName, list);
+            }
+            list.add(entry);
+        }
+    }
+
+    private void remove(String filename)
+    {
+        List<Entry> entries = entriesByFile.remove(filename);
+        if (entries == null) return;
+
+        for (Entry entry : entries)
+        {
+            List<Entry> list = entriesByName.get(entry.canonicalizedName);
+            if (list != null)
+            {
+                list.remove(entry);
+                if (list.isEmpty()) entriesByName.remove(entry.canonicalizedName);
+            }
+        }
+    }
+
+    /**
+     * Discards the in-memory index, e.g., when the VPG database is cleared or enters or leaves
+     * hypothetical mode; it will be reloaded from the database when it is next used.
+     */
+    public synchronized void invalidate()
+    {
+        entriesByFile = null;
+        entriesByName = null;
+        updatesDuringLoad = null;
+        generation++;
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Queries
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @return the entries for the given file, or <code>null</code> if the file has not been
+     *         indexed (e.g., if it was indexed before the name index was introduced)
+     */
+    public synchronized List<Entry> getEntriesFor(String filename)
+    {
+        if (!isLoaded()) return null;
+
+        List<Entry> entries = entriesByFile.get(filename);
+        return entries == null ? null : Collections.unmodifiableList(entries);
+    }
+
+    /** @return the entries for definitions with the given name */
+    public synchronized List<Entry> findExact(String name)
+    {
+        List<Entry> result = new ArrayList<Entry>();
+        if (!isLoaded()) return result;
+
+        List<Entry> entries = entriesByName.get(PhotranVPG.canonicalizeIdentifier(name));
+        if (entries != null) result.addAll(entries);
+        return result;
+    }
+
+    /** @return the entries for definitions whose names start with the given prefix */
+    public synchronized List<Entry> findPrefix(String prefix)
+    {
+        List<Entry> result = new ArrayList<Entry>();
+        if (!isLoaded()) return result;
+
+        String canonicalizedPrefix = PhotranVPG.canonicalizeIdentifier(prefix);
+        SortedMap<String, List<Entry>> matches = entriesByName.subMap(canonicalizedPrefix, canonicalizedPrefix + Character.MAX_VALUE);
+        for (List<Entry> entries : matches.values())
+            result.addAll(entries);
+        return result;
+    }
+
+    /**
+     * @return the entries for definitions whose names match the given regular expression, which
+     *         should match canonicalized (i.e., lowercase) names
+     */
+    public synchronized List<Entry> findMatching(Pattern pattern)
+    {
+        List<Entry> result = new ArrayList<Entry>();
+        if (!isLoaded()) return result;
+
+        for (Map.Entry<String, List<Entry>> entry : entriesByName.entrySet())
+            if (pattern.matcher(entry.getKey()).matches())
+                result.addAll(entry.getValue());
+        return result;
+    }
+
+    /**
+     * @return the entries for definitions whose names match the given glob pattern, where
+     *         <code>*</code> matches any string and <code>?</code> matches any character
+     */
+    public List<Entry> findMatchingGlob(String glob)
+    {
+        return findMatching(globToPattern(glob));
+    }
+
+    /** Converts a glob pattern to a regular expression matching canonicalized names */
+    public static Pattern globToPattern(String glob)
+    {
+        String canonicalizedGlob = PhotranVPG.canonicalizeIdentifier(glob);
+
+        StringBuilder regex = new StringBuilder();
+        int start = 0;
+        for (int i = 0; i < canonicalizedGlob.length(); i++)
+        {
+            char c = canonicalizedGlob.charAt(i);
+            if (c == '*' || c == '?')
+            {
+                if (i > start) regex.append(Pattern.quote(canonicalizedGlob.substring(start, i)));
+                regex.append(c == '*' ? ".*" : "."); //$NON-NLS-1$ //$NON-NLS-2$
+                start = i + 1;
+            }
+        }
+        if (start < canonicalizedGlob.length())
+            regex.append(Pattern.quote(canonicalizedGlob.substring(start)));
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -1,6 +1,7 @@
 package org.eclipse.photran.internal.core.vpg;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.TreeSet;
@@ -14,6 +15,7 @@ import org.eclipse.photran.internal.core.FortranCorePlugin;
 import org.eclipse.photran.internal.core.analysis.binding.Definition;
 import org.eclipse.photran.internal.core.analysis.binding.Definition.Visibility;
 import org.eclipse.photran.internal.core.analysis.binding.ScopingNode;
+import org.eclipse.photran.internal.core.analysis.binding.UseSite;
 import org.eclipse.photran.internal.core.analysis.types.Type;
 import org.eclipse.photran.internal.core.lexer.Token;
 import org.eclipse.photran.internal.core.parser.ASTErrorConstructNode;
@@ -103,11 +105,54 @@ public class PhotranVPG extends EclipseVPG<IFortranAST, Token, PhotranTokenRef>
 
 
 
+    /**
+     * @return the workspace-wide index of definitions by name
+     *
+     * @see NameIndex
+     */
+    public NameIndex getNameIndex()
+    {
+        return getProvider().getNameIndex();
+    }
+
     public ArrayList<Definition> findAllModulesNamed(String name)
     {
         ArrayList<Definition> result = new ArrayList<Definition>();
         for (IFile file : findFilesThatExportModule(name))
-            result.addAll(findModules(name, file));
+        {
+            List<NameIndex.Entry> entries = getNameIndex().getEntriesFor(getFilenameForIFile(file));
+            if (entries == null)
+                result.addAll(findModules(name, file));
+            else
+                result.addAll(findIndexedDefinitions(name, entries, Definition.Classification.MODULE));
+        }
+        return result;
+    }
+
+    /**
+     * @return the Definitions for the entries in the global scope with the given name and one of
+     *         the given classifications
+     */
+    private ArrayList<Definition> findIndexedDefinitions(String name, List<NameIndex.Entry> entries, Definition.Classification... classifications)
+    {
+        ArrayList<Definition> result = new ArrayList<Definition>();
+        String cname = canonicalizeIdentifier(name);
+
+        for (NameIndex.Entry entry : entries)
+        {
+            if (entry.isInGlobalScope() && entry.getCanonicalizedName().equals(cname))
+            {
+                for (Definition.Classification classification : classifications)
+                {
+                    if (entry.getClassification() == classification)
+                    {
+                        Definition d = getDefinitionFor(entry.getTokenRef());
+                        if (d != null) result.add(d);
+                    }
+                }
+            }
+        }
+
         return result;
     }
 
@@ -138,7 +183,13 @@ public class PhotranVPG extends EclipseVPG<IFortranAST, Token, PhotranTokenRef>
     {
         ArrayList<Definition> result = new ArrayList<Definition>();
         for (IFile file : findFilesThatExportSubprogram(name))
-            result.addAll(findSubprograms(name, file));
+        {
+            List<NameIndex.Entry> entries = getNameIndex().getEntriesFor(getFilenameForIFile(file));
+            if (entries == null)
+                result.addAll(findSubprograms(name, file));
+            else
+                result.addAll(findIndexedDefinitions(name, entries, Definition.Classification.SUBROUTINE, Definition.Classification.FUNCTION));
+        }
         return result;
     }
 
@@ -232,12 +283,42 @@ public class PhotranVPG extends EclipseVPG<IFortranAST, Token, PhotranTokenRef>
 
     public ArrayList<Definition> findAllDeclarationsInInterfacesForExternalSubprogram(String name)
     {
-        ArrayList<Definition> result = new ArrayList<Definition>();
+        ArrayList<Definition> result = findExternalSubprogramDeclarations(name, EdgeType.EXTERNAL_SUBPROGRAM_DECLARATION_IN_INTERFACE_EDGE_TYPE);
         for (IFile file : findFilesThatImportSubprogram(name))
-            result.addAll(findInterfaceSubprograms(name, file));
+            if (!isInNameIndex(file))
+                result.addAll(findInterfaceSubprograms(name, file));
+        return result;
+    }
+
+    /**
+     * @return the declarations of the given external subprogram recorded by
+     *         {@link PhotranVPGWriter} when the files containing them were indexed
+     */
+    private ArrayList<Definition> findExternalSubprogramDeclarations(String name, EdgeType edgeType)
+    {
+        ArrayList<Definition> result = new ArrayList<Definition>();
+
+        PhotranTokenRef subprogram = getVPGNode("subprogram:" + canonicalizeIdentifier(name), 0, 0); //$NON-NLS-1$
+        for (PhotranTokenRef tr : subprogram.followIncoming(edgeType))
+        {
+            Definition d = getDefinitionFor(tr);
+            if (d != null) result.add(d);
+        }
+
         return result;
     }
 
+    /**
+     * @return true iff the given file was indexed after the {@link NameIndex} was introduced, in
+     *         which case declarations of external subprograms in INTERFACE blocks and EXTERNAL
+     *         statements, as well as USE statements, were recorded in the VPG when it was indexed;
+     *         otherwise, the file must be parsed to find them
+     */
+    public boolean isInNameIndex(IFile file)
+    {
+        return getNameIndex().getEntriesFor(getFilenameForIFile(file)) != null;
+    }
+
     private ArrayList<Definition> findInterfaceSubprograms(String name, IFile file)
     {
         ArrayList<Definition> result = new ArrayList<Definition>();
@@ -280,9 +361,10 @@ public class PhotranVPG extends EclipseVPG<IFortranAST, Token, PhotranTokenRef>
 
     public ArrayList<Definition> findAllDeclarationsInExternalStmts(String name)
     {
-        ArrayList<Definition> result = new ArrayList<Definition>();
+        ArrayList<Definition> result = findExternalSubprogramDeclarations(name, EdgeType.EXTERNAL_SUBPROGRAM_DECLARATION_IN_EXTERNAL_STMT_EDGE_TYPE);
         for (IFile file : findFilesThatImportSubprogram(name))
-            result.addAll(findExternalStmts(name, file));
+            if (!isInNameIndex(file))
+                result.addAll(findExternalStmts(name, file));
         return result;
     }
 
@@ -373,6 +455,25 @@ public class PhotranVPG extends EclipseVPG<IFortranAST, Token, PhotranTokenRef>
         return getIncomingIFileDependenciesTo("module:" + canonicalizeIdentifier(moduleName)); //$NON-NLS-1$
     }
 
+    /**
+     * @return the USE statements importing the given module, as recorded when the files
+     *         containing them were indexed.  USE statements in files that are not in the name
+     *         index (see {@link #isInNameIndex(IFile)}) are not included.
+     */
+    public List<UseSite> findUseSites(String moduleName)
+    {
+        List<UseSite> result = new ArrayList<UseSite>();
+
+        PhotranTokenRef module = getVPGNode("module:" + canonicalizeIdentifier(moduleName), 0, 0); //$NON-NLS-1$
+        for (PhotranTokenRef tr : module.followIncoming(EdgeType.USE_SITE_EDGE_TYPE))
+        {
+            UseSite useSite = tr.getAnnotation(AnnotationType.USE_SITE_ANNOTATION_TYPE);
+            if (useSite != null) result.add(useSite);
+        }
+
+        return result;
+    }
+
     public List<IFile> findFilesThatUseCommonBlock(String commonBlockName)
     {
         // The unnamed common block is stored with the empty name as its name
@@ -585,6 +686,19 @@ public class PhotranVPG extends EclipseVPG<IFortranAST, Token, PhotranTokenRef>
         return filename.startsWith("module:") || filename.startsWith("common:") || filename.startsWith("subprogram:"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    /**
+     * Files that USE a module only need to be reindexed when the module's symbol table changes,
+     * e.g., not when a comment or the body of a module procedure is edited.
+     */
+    @Override
+    public boolean dependentsMustBeReindexed(String filename)
+    {
+        if (filename.startsWith("module:")) //$NON-NLS-1$
+            return getProvider().hasModuleSymbolTableChanged(filename.substring("module:".length())); //$NON-NLS-1$
+        else
+            return true;
+    }
+
 
 
 
@@ -594,4 +708,48 @@ public class PhotranVPG extends EclipseVPG<IFortranAST, Token, PhotranTokenRef>
     {
         return ((PhotranVPGWriter)getVPGWriter()).parse(filename);
     }
+
+    @Override
+    public boolean supportsConcurrentParsing()
+    {
+        return true;
+    }
+
+    @Override
+    public IFortranAST parseConcurrently(String filename, List<Runnable> deferredDatabaseWrites)
+    {
+        return ((PhotranVPGWriter)getVPGWriter()).parseConcurrently(filename, deferredDatabaseWrites);
+    }
+
+    @Override
+    protected int getNumberOfIndexerThreads()
+    {
+        return FortranPreferences.VPG_INDEXER_THREADS.getValue();
+    }
+
+    /** Approximate heap usage per token, including its AST node and share of the token list */
+    private static final long ESTIMATED_BYTES_PER_TOKEN = 160;
+
+    /**
+     * Approximate heap usage per token of the node index that the first search from the root of
+     * an AST stores in the root (the IASTNode[] and int[] entries for the token and its share of
+     * the other nodes, plus their IdentityHashMap entries, boxed positions, and per-class
+     * positions).  It is always included, since the index may be built after the AST is cached.
+     */
+    private static final long ESTIMATED_INDEX_BYTES_PER_TOKEN = 64;
+
+    @Override
+    protected long estimateSizeOf(IFortranAST ast)
+    {
+        long tokens = 0;
+        for (Iterator<Token> it = ast.iterator(); it.hasNext(); it.next())
+            tokens++;
+        return tokens * (ESTIMATED_BYTES_PER_TOKEN + ESTIMATED_INDEX_BYTES_PER_TOKEN);
+    }
+
+    @Override
+    protected long getASTCacheSizeInBytes()
+    {
+        return FortranPreferences.VPG_AST_CACHE_SIZE_MB.getValue() * 1024L * 1024L;
+    }
 }
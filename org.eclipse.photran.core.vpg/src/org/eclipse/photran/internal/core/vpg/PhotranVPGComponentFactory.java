@@ -18,6 +18,7 @@ import org.eclipse.photran.internal.core.Activator;
 import org.eclipse.photran.internal.core.FortranCorePlugin;
 import org.eclipse.photran.internal.core.lexer.Token;
 import org.eclipse.photran.internal.core.preferences.FortranPreferences;
+import org.eclipse.photran.internal.core.vpg.db.concurrent.ConcurrentDB;
 import org.eclipse.photran.internal.core.vpg.db.profiling.ProfilingDB;
 import org.eclipse.photran.internal.core.vpg.eclipse.IEclipseVPGComponentFactory;
 
@@ -29,6 +30,9 @@ import org.eclipse.photran.internal.core.vpg.eclipse.IEclipseVPGComponentFactory
 public class PhotranVPGComponentFactory
   implements IEclipseVPGComponentFactory<IFortranAST, Token, PhotranTokenRef>
 {
+    /** The file containing the VPG database, set by {@link #createDatabase(VPGLog)} */
+    private File databaseFile = null;
+
     public VPGLog<Token, PhotranTokenRef> createLog()
     {
         File logFile = new File(
@@ -43,12 +47,14 @@ public class PhotranVPGComponentFactory
         File file = FortranCorePlugin.inTestingMode()
             ? createTempFile()
             : getFileInPluginStateLocation();
+        databaseFile = file;
         
         if (FortranPreferences.ENABLE_VPG_LOGGING.getValue())
             System.out.println("Using Photran VPG database " + file.getAbsolutePath()); //$NON-NLS-1$
 
         return new ProfilingDB<IFortranAST, Token, PhotranTokenRef>(
-            new PhotranVPGDB1(this, file, log));
+            new ConcurrentDB<IFortranAST, Token, PhotranTokenRef>(
+                new PhotranVPGDB1(this, file, log)));
             //new PhotranVPGDB2(this, file, log));
     }
 
@@ -73,7 +79,16 @@ public class PhotranVPGComponentFactory
 
     public PhotranVPGWriter createVPGWriter(VPGDB<IFortranAST, Token, PhotranTokenRef> db, VPGLog<Token,PhotranTokenRef> log)
     {
-        return new PhotranVPGWriter(db, log);
+        return new PhotranVPGWriter(db, log, getModuleSymTabDirectory());
+    }
+
+    /** @return the directory in which module symbol tables are cached, or <code>null</code> */
+    private File getModuleSymTabDirectory()
+    {
+        if (databaseFile == null || FortranCorePlugin.inTestingMode())
+            return null;
+        else
+            return new File(databaseFile.getPath() + ".symtabs"); //$NON-NLS-1$
     }
 
     public PhotranTokenRef getVPGNode(String filename, int offset, int length)
@@ -8,12 +8,22 @@ import java.io.Serializable;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.photran.core.IFortranAST;
+import org.eclipse.photran.internal.core.FortranCorePlugin;
 import org.eclipse.photran.internal.core.lexer.Token;
+import org.eclipse.photran.internal.core.preferences.FortranPreferences;
 import org.eclipse.photran.internal.core.vpg.db.caching.CachingDB;
 import org.eclipse.photran.internal.core.vpg.db.cdt.CDTDB;
+import org.eclipse.photran.internal.core.vpg.db.columnar.ColumnarEdgeDB;
+import org.eclipse.photran.internal.core.vpg.db.hypothetical.HypotheticalDB;
 
 /**
  * Photran VPG database based on CDT's B-tree infrastructure and a caching decorator.
+ * <p>
+ * Edges are stored in memory-mapped tables by a {@link ColumnarEdgeDB} rather than in the CDT
+ * database.
+ * <p>
+ * Hypothetical mode is implemented by a {@link HypotheticalDB}, which records changes in memory
+ * rather than copying the on-disk database.
  * 
  * @author Jeff Overbey
  */
@@ -21,7 +31,48 @@ public class PhotranVPGDB1 extends CachingDB<IFortranAST, Token, PhotranTokenRef
 {
     public PhotranVPGDB1(PhotranVPGComponentFactory locator, File file, VPGLog<Token,PhotranTokenRef> log)
     {
-        super(new PhotranCDTDB(locator, file, log), 500, 10000);
+        super(new HypotheticalDB<IFortranAST, Token, PhotranTokenRef>(
+                  createEdgeDB(new PhotranCDTDB(locator, file, log), file, log)),
+              getCacheSizeInBytes() / 4,
+              getCacheSizeInBytes() - getCacheSizeInBytes() / 4);
+    }
+
+    /** @return a {@link ColumnarEdgeDB} in the directory <i>file</i>.edges, which is deleted on exit in testing mode */
+    private static ColumnarEdgeDB<IFortranAST, Token, PhotranTokenRef> createEdgeDB(PhotranCDTDB db, File file, VPGLog<Token,PhotranTokenRef> log)
+    {
+        ColumnarEdgeDB<IFortranAST, Token, PhotranTokenRef> result =
+            new ColumnarEdgeDB<IFortranAST, Token, PhotranTokenRef>(
+                db,
+                new File(file.getPath() + ".edges"), //$NON-NLS-1$
+                log);
+
+        if (FortranCorePlugin.inTestingMode())
+            result.deleteOnExit();
+
+        return result;
+    }
+
+    /** @return the memory available to cache edges and annotations; a quarter is used for edges */
+    private static long getCacheSizeInBytes()
+    {
+        return FortranPreferences.VPG_CACHE_SIZE_MB.getValue() * 1024L * 1024L;
+    }
+
+    /** Estimates the size of an annotation as the size of its serialized form */
+    @Override protected long estimateSizeOf(Serializable annotation)
+    {
+        if (annotation == null) return 0;
+
+        try
+        {
+            ByteCountingOutputStream out = new ByteCountingOutputStream();
+            PhotranVPGSerializer.serialize(annotation, out);
+            return out.getCount();
+        }
+        catch (IOException e)
+        {
+            return super.estimateSizeOf(annotation);
+        }
     }
 
     static class PhotranCDTDB extends CDTDB<IFortranAST, Token, PhotranTokenRef>
@@ -62,7 +113,10 @@ public class PhotranVPGDB1 extends CachingDB<IFortranAST, Token, PhotranTokenRef
     @Override
     public String describeEdgeType(int edgeType)
     {
-        return super.describeEdgeType(edgeType);
+        if (edgeType >= 0 && edgeType < EdgeType.values().length)
+            return EdgeType.values()[edgeType].toString();
+        else
+            return super.describeEdgeType(edgeType);
     }
 
     @Override
@@ -81,6 +135,14 @@ public class PhotranVPGDB1 extends CachingDB<IFortranAST, Token, PhotranTokenRef
     public void clearDatabase()
     {
         super.db.clearDatabase();
+        PhotranVPG.getProvider().nameIndex.invalidate();
+    }
+
+    @Override
+    public void deleteAllEntriesFor(String filename)
+    {
+        super.deleteAllEntriesFor(filename);
+        PhotranVPG.getProvider().nameIndex.update(filename, null);
     }
 
     @Override
@@ -100,12 +162,14 @@ public class PhotranVPGDB1 extends CachingDB<IFortranAST, Token, PhotranTokenRef
     @Override public void enterHypotheticalMode() throws IOException
     {
         PhotranVPG.getProvider().moduleSymTabCache.clear();
+        PhotranVPG.getProvider().nameIndex.invalidate();
         super.enterHypotheticalMode();
     }
 
     @Override public void leaveHypotheticalMode() throws IOException
     {
         PhotranVPG.getProvider().moduleSymTabCache.clear();
+        PhotranVPG.getProvider().nameIndex.invalidate();
         super.leaveHypotheticalMode();
     }
 }
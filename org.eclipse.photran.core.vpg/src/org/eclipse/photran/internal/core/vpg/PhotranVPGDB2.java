@@ -64,12 +64,14 @@ public class PhotranVPGDB2 extends RAMDB<IFortranAST, Token, PhotranTokenRef>
     @Override public void enterHypotheticalMode() throws IOException
     {
         PhotranVPG.getProvider().moduleSymTabCache.clear();
+        PhotranVPG.getProvider().nameIndex.invalidate();
         super.enterHypotheticalMode();
     }
 
     @Override public void leaveHypotheticalMode() throws IOException
     {
         PhotranVPG.getProvider().moduleSymTabCache.clear();
+        PhotranVPG.getProvider().nameIndex.invalidate();
         super.leaveHypotheticalMode();
     }
 }
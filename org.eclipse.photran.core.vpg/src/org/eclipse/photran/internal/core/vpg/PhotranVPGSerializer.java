@@ -17,6 +17,7 @@ import java.io.Serializable;
 
 import org.eclipse.photran.internal.core.analysis.binding.Definition;
 import org.eclipse.photran.internal.core.analysis.binding.ImplicitSpec;
+import org.eclipse.photran.internal.core.analysis.binding.UseSite;
 import org.eclipse.photran.internal.core.analysis.binding.VariableAccess;
 import org.eclipse.photran.internal.core.analysis.types.ArraySpec;
 import org.eclipse.photran.internal.core.analysis.types.Dimension;
@@ -53,6 +54,8 @@ public class PhotranVPGSerializer
     public static final byte CLASS_DIMENSION      = 'M';
     public static final byte CLASS_IMPLICITSPEC   = 'I';
     public static final byte CLASS_VARIABLEACCESS = 'V';
+    public static final byte CLASS_NAMEINDEX      = 'N';
+    public static final byte CLASS_USESITE        = 'U';
 
     protected static IOException readFailure()
     {
@@ -148,6 +151,8 @@ public class PhotranVPGSerializer
                 case CLASS_DIMENSION:      return (T)Dimension.readFrom(in);
                 case CLASS_IMPLICITSPEC:   return (T)ImplicitSpec.readFrom(in);
                 case CLASS_VARIABLEACCESS: return (T)VariableAccess.readFrom(in);
+                case CLASS_NAMEINDEX:      return (T)NameIndex.FileEntries.readFrom(in);
+                case CLASS_USESITE:        return (T)UseSite.readFrom(in);
 
                 default:                 throw new Error("Unknown class code in deserialization: " + Integer.toString(code)); //$NON-NLS-1$
             }
@@ -11,20 +11,28 @@
 package org.eclipse.photran.internal.core.vpg;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.Reader;
 import java.io.StreamTokenizer;
 import java.io.UnsupportedEncodingException;
+import java.math.BigInteger;
 import java.nio.charset.Charset;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -40,6 +48,7 @@ import org.eclipse.photran.internal.core.analysis.binding.Definition;
 import org.eclipse.photran.internal.core.analysis.binding.Definition.Visibility;
 import org.eclipse.photran.internal.core.analysis.binding.ImplicitSpec;
 import org.eclipse.photran.internal.core.analysis.binding.ScopingNode;
+import org.eclipse.photran.internal.core.analysis.binding.UseSite;
 import org.eclipse.photran.internal.core.analysis.binding.VariableAccess;
 import org.eclipse.photran.internal.core.analysis.flow.ControlFlowAnalysis;
 import org.eclipse.photran.internal.core.analysis.loops.LoopReplacer;
@@ -51,11 +60,21 @@ import org.eclipse.photran.internal.core.lexer.Terminal;
 import org.eclipse.photran.internal.core.lexer.Token;
 import org.eclipse.photran.internal.core.lexer.preprocessor.fortran_include.IncludeLoaderCallback;
 import org.eclipse.photran.internal.core.parser.ASTExecutableProgramNode;
+import org.eclipse.photran.internal.core.parser.ASTExternalNameListNode;
+import org.eclipse.photran.internal.core.parser.ASTExternalStmtNode;
+import org.eclipse.photran.internal.core.parser.ASTFunctionStmtNode;
+import org.eclipse.photran.internal.core.parser.ASTInterfaceBlockNode;
 import org.eclipse.photran.internal.core.parser.ASTNodeWithErrorRecoverySymbols;
+import org.eclipse.photran.internal.core.parser.ASTSubroutineStmtNode;
+import org.eclipse.photran.internal.core.parser.ASTUseStmtNode;
+import org.eclipse.photran.internal.core.parser.GenericASTVisitor;
+import org.eclipse.photran.internal.core.parser.IASTListNode;
 import org.eclipse.photran.internal.core.parser.Parser;
+import org.eclipse.photran.internal.core.preferences.FortranPreferences;
 import org.eclipse.photran.internal.core.sourceform.ISourceForm;
 import org.eclipse.photran.internal.core.sourceform.SourceForm;
-import org.eclipse.photran.internal.core.util.LRUCache;
+import org.eclipse.photran.internal.core.util.OffsetLength;
+import org.eclipse.photran.internal.core.util.Pair;
 import org.eclipse.photran.internal.core.vpg.eclipse.EclipseVPGWriter;
 
 /**
@@ -70,9 +89,27 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
 {
 	protected PhotranVPGWriter(VPGDB<IFortranAST, Token, PhotranTokenRef> db, VPGLog<Token, PhotranTokenRef> log)
 	{
-	    super(db, log);
+	    this(db, log, null);
 	}
 
+    /**
+     * Constructor.
+     *
+     * @param moduleSymTabDirectory directory in which module symbol tables are cached on disk,
+     *                              or <code>null</code> to cache them only in memory
+     */
+    protected PhotranVPGWriter(VPGDB<IFortranAST, Token, PhotranTokenRef> db, VPGLog<Token, PhotranTokenRef> log, File moduleSymTabDirectory)
+    {
+        super(db, log);
+        this.moduleSymTabCache = new ModuleSymbolTableCache(moduleSymTabDirectory, getModuleSymTabCacheSizeInBytes());
+    }
+
+    /** @return the memory available to cache module symbol tables (half of the VPG cache size) */
+    private static long getModuleSymTabCacheSizeInBytes()
+    {
+        return FortranPreferences.VPG_CACHE_SIZE_MB.getValue() * 1024L * 1024L / 2;
+    }
+
     public void markFileAsExportingSubprogram(IFile file, String subprogramName)
     {
         db.ensure(new VPGDependency<IFortranAST, Token, PhotranTokenRef>("subprogram:" + canonicalizeIdentifier(subprogramName), getFilenameForIFile(file))); //$NON-NLS-1$
@@ -119,6 +156,24 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
         db.ensure(new VPGEdge<IFortranAST, Token, PhotranTokenRef>(identifier, scope.getRepresentativeToken(), EdgeType.DEFINED_IN_SCOPE_EDGE_TYPE));
     }
 
+    /**
+     * Records the given USE statement, so that the scopes importing a module can be found
+     * without parsing every file that imports it.
+     *
+     * @see PhotranVPG#findUseSites(String)
+     */
+    public void markUseSite(ASTUseStmtNode useStmt)
+    {
+        Token moduleNameToken = useStmt.getName();
+        ScopingNode scope = useStmt.findFirstToken().getEnclosingScope();
+        if (moduleNameToken == null || scope == null) return;
+
+        PhotranTokenRef useSite = moduleNameToken.getTokenRef();
+        String module = "module:" + canonicalizeIdentifier(moduleNameToken.getText()); //$NON-NLS-1$
+        db.setAnnotation(useSite, AnnotationType.USE_SITE_ANNOTATION_TYPE, new UseSite(useStmt, scope));
+        db.ensure(new VPGEdge<IFortranAST, Token, PhotranTokenRef>(useSite, PhotranVPG.getInstance().getVPGNode(module, 0, 0), EdgeType.USE_SITE_EDGE_TYPE));
+    }
+
     public void markIllegalShadowing(PhotranTokenRef shadowingIdent, PhotranTokenRef shadowedIdent)
     {
         db.ensure(new VPGEdge<IFortranAST, Token, PhotranTokenRef>(shadowingIdent, shadowedIdent, EdgeType.ILLEGAL_SHADOWING_EDGE_TYPE));
@@ -150,12 +205,34 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
     public void setModuleSymbolTable(Token moduleNameToken, List<Definition> symbolTable)
     {
         PhotranVPG vpg = PhotranVPG.getInstance();
-        
-        clearModuleSymbolTableEntries(moduleNameToken);
 
-        String filename = "module:" + canonicalizeIdentifier(moduleNameToken.getText()); //$NON-NLS-1$
+        String canonicalizedModuleName = canonicalizeIdentifier(moduleNameToken.getText());
+        String filename = "module:" + canonicalizedModuleName; //$NON-NLS-1$
         PhotranTokenRef tokenRef = vpg.getVPGNode(filename, 0, 0);
+
+        String fingerprint = computeModuleSymbolTableFingerprint(moduleNameToken.getTokenRef(), symbolTable);
+        Object previousFingerprint = db.getAnnotation(tokenRef, AnnotationType.MODULE_SYMTAB_FINGERPRINT_ANNOTATION_TYPE);
+        if (fingerprint.equals(previousFingerprint))
+        {
+            modulesWithChangedSymbolTables.remove(canonicalizedModuleName);
+            return;
+        }
+        else if (previousFingerprint instanceof String && haveSameDefinitions((String)previousFingerprint, fingerprint))
+        {
+            // Only the locations of the definitions changed (e.g., a comment was inserted above them)
+            recordRelocatedDefinitions(canonicalizedModuleName, moduleNameToken.getTokenRef(), symbolTable);
+            modulesWithChangedSymbolTables.remove(canonicalizedModuleName);
+        }
+        else
+        {
+            modulesWithChangedSymbolTables.add(canonicalizedModuleName);
+        }
+
+        clearModuleSymbolTableEntries(moduleNameToken);
+        moduleSymTabCache.put(canonicalizedModuleName, fingerprint, new ArrayList<Definition>(symbolTable), !db.isInHypotheticalMode());
+
         db.setAnnotation(tokenRef, AnnotationType.MODULE_TOKENREF_ANNOTATION_TYPE, moduleNameToken.getTokenRef());
+        db.setAnnotation(tokenRef, AnnotationType.MODULE_SYMTAB_FINGERPRINT_ANNOTATION_TYPE, fingerprint);
 
         int entries = 0;
         for (Definition def : symbolTable)
@@ -168,23 +245,58 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
         db.setAnnotation(tokenRef, AnnotationType.MODULE_SYMTAB_ENTRY_COUNT_ANNOTATION_TYPE, Integer.valueOf(entries));
     }
 
-    protected LRUCache<String, List<Definition>> moduleSymTabCache = new LRUCache<String, List<Definition>>(MODULE_SYMTAB_CACHE_SIZE);
-    protected long moduleSymTabCacheHits = 0L, moduleSymTabCacheMisses = 0L;
+    /** Canonicalized names of the modules whose symbol tables changed when they were last bound */
+    private final Set<String> modulesWithChangedSymbolTables = new HashSet<String>();
+
+    /**
+     * Maps the old locations of the names of modules, and of their public definitions, to their
+     * new locations, when a file is reindexed and the modules' definitions moved but did not
+     * otherwise change.  Used to restore edges from the files that USE these modules (see
+     * {@link #restoreEdgesFromOtherFiles(String, IFortranAST, Set, List)}).
+     */
+    private final Map<PhotranTokenRef, PhotranTokenRef> relocatedDefinitions = new HashMap<PhotranTokenRef, PhotranTokenRef>();
+
+    private void recordRelocatedDefinitions(String canonicalizedModuleName, PhotranTokenRef moduleTokenRef, List<Definition> symbolTable)
+    {
+        String filename = "module:" + canonicalizedModuleName; //$NON-NLS-1$
+        Object oldModuleTokenRef = db.getAnnotation(PhotranVPG.getInstance().getVPGNode(filename, 0, 0), AnnotationType.MODULE_TOKENREF_ANNOTATION_TYPE);
+        if (oldModuleTokenRef instanceof PhotranTokenRef)
+            relocatedDefinitions.put((PhotranTokenRef)oldModuleTokenRef, moduleTokenRef);
+
+        List<Definition> oldSymbolTable = getModuleSymbolTable(canonicalizedModuleName);
+        if (oldSymbolTable != null && oldSymbolTable.size() == symbolTable.size())
+            for (int i = 0; i < symbolTable.size(); i++)
+                relocatedDefinitions.put(oldSymbolTable.get(i).getTokenRef(), symbolTable.get(i).getTokenRef());
+    }
+
+    /**
+     * @return true iff the given module's symbol table changed (i.e., its fingerprint changed,
+     *         other than the locations of its definitions) the last time the file declaring it
+     *         was indexed
+     */
+    public boolean hasModuleSymbolTableChanged(String moduleName)
+    {
+        return modulesWithChangedSymbolTables.contains(canonicalizeIdentifier(moduleName));
+    }
+
+    protected final ModuleSymbolTableCache moduleSymTabCache;
 
     public List<Definition> getModuleSymbolTable(String moduleName)
     {
-        if (moduleSymTabCache.contains(moduleName))
+        String canonicalizedModuleName = canonicalizeIdentifier(moduleName);
+        String filename = "module:" + canonicalizedModuleName; //$NON-NLS-1$
+
+        Object fingerprint = db.getAnnotation(PhotranVPG.getInstance().getVPGNode(filename, 0, 0), AnnotationType.MODULE_SYMTAB_FINGERPRINT_ANNOTATION_TYPE);
+        if (fingerprint instanceof String)
         {
-            moduleSymTabCacheHits++;
-            return moduleSymTabCache.get(moduleName);
+            List<Definition> result = moduleSymTabCache.get(canonicalizedModuleName, (String)fingerprint);
+            if (result != null) return result;
         }
-        moduleSymTabCacheMisses++;
 
-        int entries = countModuleSymbolTableEntries(moduleName);
+        int entries = countModuleSymbolTableEntries(canonicalizedModuleName);
 
         if (entries == 0) return new LinkedList<Definition>();
 
-        String filename = "module:" + canonicalizeIdentifier(moduleName); //$NON-NLS-1$
         ArrayList<Definition> result = new ArrayList<Definition>(entries);
         for (int i = 0; i < entries; i++)
         {
@@ -194,7 +306,8 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
                 result.add((Definition)entry);
         }
 
-        moduleSymTabCache.cache(moduleName, result);
+        if (fingerprint instanceof String)
+            moduleSymTabCache.put(canonicalizedModuleName, (String)fingerprint, result, !db.isInHypotheticalMode());
 
         return result;
     }
@@ -234,15 +347,381 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
     public void printModuleSymTabCacheStatisticsOn(PrintStream out)
     {
         out.println("Module Symbol Table Cache Statistics:"); //$NON-NLS-1$
-
-        long edgeTotal = moduleSymTabCacheHits + moduleSymTabCacheMisses;
-        float edgeHitRatio = edgeTotal == 0 ? 0 : ((float)moduleSymTabCacheHits) / edgeTotal * 100;
-        out.println("    Hit Ratio:        " + moduleSymTabCacheHits + "/" + edgeTotal + " (" + (long)Math.round(edgeHitRatio) + "%)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        moduleSymTabCache.printStatisticsOn(out);
     }
 
     public void resetStatistics()
     {
-        moduleSymTabCacheHits = moduleSymTabCacheMisses = 0L;
+        moduleSymTabCache.resetStatistics();
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Name Index
+    ///////////////////////////////////////////////////////////////////////////
+
+    protected final NameIndex nameIndex = new NameIndex();
+
+    /**
+     * @return the workspace-wide index of definitions by name, loading it from the database if
+     *         necessary
+     */
+    public NameIndex getNameIndex()
+    {
+        if (nameIndex.isLoaded()) return nameIndex;
+
+        // The database is read without holding the index's lock, since indexing threads update
+        // the index while holding database locks
+        int generation = nameIndex.beginLoading();
+        PhotranVPG vpg = PhotranVPG.getInstance();
+        Map<String, List<NameIndex.Entry>> entriesByFile = new HashMap<String, List<NameIndex.Entry>>();
+        for (String filename : db.listAllFilenames())
+        {
+            if (!vpg.isVirtualFile(filename))
+            {
+                Object entries = db.getAnnotation(vpg.getVPGNode(filename, 0, 0), AnnotationType.NAME_INDEX_ANNOTATION_TYPE);
+                if (entries instanceof NameIndex.FileEntries)
+                    entriesByFile.put(filename, ((NameIndex.FileEntries)entries).getEntries());
+            }
+        }
+        nameIndex.finishLoading(generation, entriesByFile);
+
+        return nameIndex;
+    }
+
+    /**
+     * Records a name index entry for every definition in the given file, which has just been
+     * bound.  The entries are stored as a single annotation on the start of the file.
+     */
+    private void updateNameIndex(String filename, IFortranAST ast)
+    {
+        List<NameIndex.Entry> entries = collectNameIndexEntries(filename, ast);
+        db.setAnnotation(PhotranVPG.getInstance().getVPGNode(filename, 0, 0), AnnotationType.NAME_INDEX_ANNOTATION_TYPE, new NameIndex.FileEntries(entries));
+        nameIndex.update(filename, entries);
+    }
+
+    private List<NameIndex.Entry> collectNameIndexEntries(String filename, IFortranAST ast)
+    {
+        final List<NameIndex.Entry> result = new ArrayList<NameIndex.Entry>();
+        if (ast == null || isEmpty(ast.getRoot())) return result;
+
+        final int type = AnnotationType.DEFINITION_ANNOTATION_TYPE.ordinal();
+        final Set<PhotranTokenRef> definitions = new HashSet<PhotranTokenRef>();
+        for (Pair<PhotranTokenRef, Integer> pair : db.getAllAnnotationsFor(filename))
+            if (pair.snd.intValue() == type)
+                definitions.add(pair.fst);
+        if (definitions.isEmpty()) return result;
+
+        // Visit the tokens in the AST to determine the scope enclosing each definition
+        final Map<ScopingNode, String> scopeQualifiers = new HashMap<ScopingNode, String>();
+        ast.accept(new GenericASTVisitor()
+        {
+            @Override public void visitToken(Token token)
+            {
+                PhotranTokenRef tokenRef = token.getTokenRef();
+                if (definitions.remove(tokenRef))
+                {
+                    Object def = db.getAnnotation(tokenRef, type);
+                    if (def instanceof Definition)
+                        result.add(new NameIndex.Entry(
+                            ((Definition)def).getCanonicalizedName(),
+                            ((Definition)def).getClassification(),
+                            getScopeQualifier(token.getEnclosingScope(), scopeQualifiers),
+                            tokenRef));
+                }
+            }
+        });
+        return result;
+    }
+
+    /** @see NameIndex.Entry#getScopeQualifier() */
+    private static String getScopeQualifier(ScopingNode scope, Map<ScopingNode, String> cache)
+    {
+        if (scope == null || scope instanceof ASTExecutableProgramNode) return null;
+
+        if (!cache.containsKey(scope))
+        {
+            String name = scope.getName(true);
+            name = name == null ? "" : canonicalizeIdentifier(name); //$NON-NLS-1$
+
+            String parent = getScopeQualifier(scope.getEnclosingScope(), cache);
+            cache.put(scope, parent == null ? name : parent + "." + name); //$NON-NLS-1$
+        }
+        return cache.get(scope);
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+    // External Subprogram Declarations
+    ///////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Adds an edge from each declaration of an external subprogram in an INTERFACE block or
+     * EXTERNAL statement in the given file (which has just been bound) to the subprogram's
+     * <code>subprogram:</code> node, so that these declarations can be found without parsing
+     * every file that imports the subprogram.
+     *
+     * @see PhotranVPG#findAllDeclarationsInInterfacesForExternalSubprogram(String)
+     * @see PhotranVPG#findAllDeclarationsInExternalStmts(String)
+     */
+    private void markExternalSubprogramDeclarations(IFortranAST ast)
+    {
+        if (ast == null || isEmpty(ast.getRoot())) return;
+
+        ast.accept(new GenericASTVisitor()
+        {
+            @Override public void visitASTSubroutineStmtNode(ASTSubroutineStmtNode node)
+            {
+                if (node.findNearestAncestor(ASTInterfaceBlockNode.class) != null)
+                    markInterfaceDeclaration(node.getSubroutineName().getSubroutineName());
+            }
+
+            @Override public void visitASTFunctionStmtNode(ASTFunctionStmtNode node)
+            {
+                if (node.findNearestAncestor(ASTInterfaceBlockNode.class) != null)
+                    markInterfaceDeclaration(node.getFunctionName().getFunctionName());
+            }
+
+            private void markInterfaceDeclaration(Token nameToken)
+            {
+                Definition def = PhotranVPG.getInstance().getDefinitionFor(nameToken.getTokenRef());
+                markExternalSubprogramDeclaration(nameToken,
+                    def != null && def.isExternalSubprogramReferenceInInterfaceBlock(),
+                    EdgeType.EXTERNAL_SUBPROGRAM_DECLARATION_IN_INTERFACE_EDGE_TYPE);
+            }
+
+            @Override public void visitASTExternalStmtNode(ASTExternalStmtNode node)
+            {
+                traverseChildren(node);
+
+                IASTListNode<ASTExternalNameListNode> list = node.getExternalNameList();
+                for (int i = 0; i < list.size(); i++)
+                {
+                    Token nameToken = list.get(i).getExternalName();
+                    markExternalSubprogramDeclaration(nameToken,
+                        PhotranVPG.getInstance().getDefinitionFor(nameToken.getTokenRef()) != null,
+                        EdgeType.EXTERNAL_SUBPROGRAM_DECLARATION_IN_EXTERNAL_STMT_EDGE_TYPE);
+                }
+            }
+        });
+    }
+
+    private void markExternalSubprogramDeclaration(Token nameToken, boolean isDeclaration, EdgeType edgeType)
+    {
+        String subprogram = "subprogram:" + canonicalizeIdentifier(nameToken.getText()); //$NON-NLS-1$
+        VPGEdge<IFortranAST, Token, PhotranTokenRef> edge = new VPGEdge<IFortranAST, Token, PhotranTokenRef>(
+            nameToken.getTokenRef(),
+            PhotranVPG.getInstance().getVPGNode(subprogram, 0, 0),
+            edgeType);
+
+        // When only part of the file was rebound, an edge may remain from the last time the file
+        // was bound
+        if (isDeclaration)
+            db.ensure(edge);
+        else
+            db.delete(edge);
+    }
+
+    /**
+     * Begins a batch of edge and annotation updates for the given file.
+     * <p>
+     * Until {@link #commitBatch(String)} is called, the database may buffer updates for the file
+     * and write them all at once; queries still reflect the buffered updates.
+     */
+    public void beginBatch(String filename)
+    {
+        db.beginBatch(filename);
+    }
+
+    /** Writes any edges and annotations buffered since {@link #beginBatch(String)} was called */
+    public void commitBatch(String filename)
+    {
+        db.commitBatch(filename);
+    }
+
+    /**
+     * @return a digest of the given module's symbol table, which changes whenever the location of
+     *         the module's name or any of the module's public definitions (or their locations)
+     *         change.  It consists of a digest of the definitions, which does not depend on their
+     *         locations, followed by a digest of their locations.
+     */
+    public String getModuleSymbolTableFingerprint(String moduleName)
+    {
+        String canonicalizedModuleName = canonicalizeIdentifier(moduleName);
+        String filename = "module:" + canonicalizedModuleName; //$NON-NLS-1$
+        PhotranTokenRef tokenRef = PhotranVPG.getInstance().getVPGNode(filename, 0, 0);
+
+        Object fingerprint = db.getAnnotation(tokenRef, AnnotationType.MODULE_SYMTAB_FINGERPRINT_ANNOTATION_TYPE);
+        if (fingerprint instanceof String) return (String)fingerprint;
+
+        Object moduleTokenRef = db.getAnnotation(tokenRef, AnnotationType.MODULE_TOKENREF_ANNOTATION_TYPE);
+        return computeModuleSymbolTableFingerprint(
+            moduleTokenRef instanceof PhotranTokenRef ? (PhotranTokenRef)moduleTokenRef : null,
+            getModuleSymbolTable(canonicalizedModuleName));
+    }
+
+    private static String computeModuleSymbolTableFingerprint(PhotranTokenRef moduleTokenRef, List<Definition> symbolTable)
+    {
+        try
+        {
+            DigestOutputStream definitions = new DigestOutputStream(new NullOutputStream(), MessageDigest.getInstance("MD5")); //$NON-NLS-1$
+            DigestOutputStream locations = new DigestOutputStream(new NullOutputStream(), MessageDigest.getInstance("MD5")); //$NON-NLS-1$
+            if (moduleTokenRef != null)
+            {
+                PhotranVPGSerializer.serialize(moduleTokenRef.getFilename(), definitions);
+                PhotranVPGSerializer.serialize(moduleTokenRef, locations);
+            }
+            for (Definition def : symbolTable)
+            {
+                def.writeLocationIndependentFormTo(definitions);
+                PhotranVPGSerializer.serialize(def.getTokenRef(), locations);
+            }
+            return new BigInteger(1, definitions.getMessageDigest().digest()).toString(16)
+                + FINGERPRINT_SEPARATOR
+                + new BigInteger(1, locations.getMessageDigest().digest()).toString(16);
+        }
+        catch (Exception e)
+        {
+            throw new Error(e);
+        }
+    }
+
+    /** Separates the digest of a module's definitions from the digest of their locations */
+    private static final char FINGERPRINT_SEPARATOR = '@';
+
+    /** @return true iff the given fingerprints differ only in the locations of the definitions */
+    private static boolean haveSameDefinitions(String fingerprint1, String fingerprint2)
+    {
+        int end1 = fingerprint1.indexOf(FINGERPRINT_SEPARATOR), end2 = fingerprint2.indexOf(FINGERPRINT_SEPARATOR);
+        return end1 >= 0 && end1 == end2 && fingerprint1.regionMatches(0, fingerprint2, 0, end1);
+    }
+
+    private static final class NullOutputStream extends OutputStream
+    {
+        @Override public void write(int b) {}
+        @Override public void write(byte[] b, int off, int len) {}
+    }
+
+    /**
+     * Records the fingerprint of a binding unit, i.e., a part of a file that can be rebound
+     * independently of the rest of the file.
+     *
+     * @see Binder#rebind(IFortranAST, IFile)
+     */
+    public void setBindingUnitFingerprint(PhotranTokenRef unit, String fingerprint)
+    {
+        db.setAnnotation(unit, AnnotationType.BINDING_UNIT_FINGERPRINT_ANNOTATION_TYPE, fingerprint);
+    }
+
+    /**
+     * @return the binding unit fingerprints stored for the given file, sorted by offset
+     *
+     * @see #setBindingUnitFingerprint(PhotranTokenRef, String)
+     */
+    public List<Pair<PhotranTokenRef, String>> getBindingUnitFingerprints(String filename)
+    {
+        int type = AnnotationType.BINDING_UNIT_FINGERPRINT_ANNOTATION_TYPE.ordinal();
+
+        TreeMap<PhotranTokenRef, String> result = new TreeMap<PhotranTokenRef, String>();
+        for (Pair<PhotranTokenRef, Integer> pair : db.getAllAnnotationsFor(filename))
+        {
+            if (pair.snd.intValue() == type)
+            {
+                Object fingerprint = db.getAnnotation(pair.fst, type);
+                if (fingerprint instanceof String)
+                    result.put(pair.fst, (String)fingerprint);
+            }
+        }
+
+        List<Pair<PhotranTokenRef, String>> list = new ArrayList<Pair<PhotranTokenRef, String>>(result.size());
+        for (Map.Entry<PhotranTokenRef, String> entry : result.entrySet())
+            list.add(new Pair<PhotranTokenRef, String>(entry.getKey(), entry.getValue()));
+        return list;
+    }
+
+    /**
+     * Deletes the edges and annotations for the tokens in the given ranges of a file, so that
+     * those parts of the file can be rebound.
+     * <p>
+     * Edges from tokens in the given ranges are deleted, as are edges from other files into the
+     * given ranges.  Edges from elsewhere in the same file into the given ranges are retained;
+     * the caller is responsible for rebinding the tokens they originate from.  All lazily computed
+     * edges and annotations for the file are deleted, so that they will be recomputed on demand.
+     */
+    public void deleteEdgesAndAnnotationsIn(String filename, List<OffsetLength> ranges)
+    {
+        Set<Integer> lazyEdgeTypes = new HashSet<Integer>();
+        Set<Integer> lazyAnnotationTypes = new HashSet<Integer>();
+        for (ILazyVPGPopulator populator : getLazyEdgePopulators())
+        {
+            for (int type : populator.edgeTypesPopulated())
+                lazyEdgeTypes.add(type);
+            for (int type : populator.annotationTypesPopulated())
+                lazyAnnotationTypes.add(type);
+        }
+
+        List<VPGEdge<IFortranAST, Token, PhotranTokenRef>> edges = new ArrayList<VPGEdge<IFortranAST, Token, PhotranTokenRef>>();
+        for (VPGEdge<IFortranAST, Token, PhotranTokenRef> edge : db.getAllEdgesFor(filename))
+        {
+            PhotranTokenRef source = edge.getSource();
+            PhotranTokenRef sink = edge.getSink();
+            boolean sourceInFile = source.getFilename().equals(filename);
+
+            if (lazyEdgeTypes.contains(edge.getType())
+                || (sourceInFile && isInRanges(source, ranges))
+                || (!sourceInFile && sink.getFilename().equals(filename) && isInRanges(sink, ranges)))
+                edges.add(edge);
+        }
+        for (VPGEdge<IFortranAST, Token, PhotranTokenRef> edge : edges)
+            db.delete(edge);
+
+        List<Pair<PhotranTokenRef, Integer>> annotations = new ArrayList<Pair<PhotranTokenRef, Integer>>();
+        for (Pair<PhotranTokenRef, Integer> pair : db.getAllAnnotationsFor(filename))
+            if (lazyAnnotationTypes.contains(pair.snd) || isInRanges(pair.fst, ranges))
+                annotations.add(pair);
+        for (Pair<PhotranTokenRef, Integer> pair : annotations)
+            db.deleteAnnotation(pair.fst, pair.snd.intValue());
+
+        if (db instanceof DemandDB<?,?,?>) ((DemandDB<IFortranAST, Token, PhotranTokenRef>)db).invalidateLazyEdgesAndAnnotationsFor(filename);
+    }
+
+    private static boolean isInRanges(PhotranTokenRef tokenRef, List<OffsetLength> ranges)
+    {
+        for (OffsetLength range : ranges)
+            if (tokenRef.getOffset() >= range.getOffset() && tokenRef.getOffset() < range.getPositionPastEnd())
+                return true;
+        return false;
+    }
+
+    /**
+     * Deletes the dependencies recorded by the binder for the given file, i.e., its dependencies on
+     * modules, subprograms, and common blocks, and the dependencies of the modules and
+     * subprograms it exports on it, except for the given ones.  Dependencies on INCLUDEd files
+     * are not affected.
+     *
+     * @param keepImports dependencies of the file to keep (e.g., <code>module:name</code>)
+     * @param keepExports dependents of the file to keep (e.g., <code>subprogram:name</code>)
+     *
+     * @see Binder#rebind(IFortranAST, IFile)
+     */
+    public void deleteBindingDependenciesExcept(String filename, Set<String> keepImports, Set<String> keepExports)
+    {
+        List<String> dependencies = new ArrayList<String>();
+        for (String dependency : db.getOutgoingDependenciesFrom(filename))
+            if (isBindingDependency(dependency) && !keepImports.contains(dependency))
+                dependencies.add(dependency);
+        for (String dependency : dependencies)
+            db.delete(new VPGDependency<IFortranAST, Token, PhotranTokenRef>(filename, dependency));
+
+        List<String> dependents = new ArrayList<String>();
+        for (String dependent : db.getIncomingDependenciesTo(filename))
+            if (isBindingDependency(dependent) && !keepExports.contains(dependent))
+                dependents.add(dependent);
+        for (String dependent : dependents)
+            db.delete(new VPGDependency<IFortranAST, Token, PhotranTokenRef>(dependent, filename));
+    }
+
+    private static boolean isBindingDependency(String name)
+    {
+        return name.startsWith("module:") || name.startsWith("subprogram:") || name.startsWith("common:"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
     @Override
@@ -325,7 +804,7 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
                 {
                     // When we encounter an INCLUDE directive, set up a file dependency in the VPG
 
-                    db.ensure(new VPGDependency<IFortranAST, Token, PhotranTokenRef>(
+                    ensure(new VPGDependency<IFortranAST, Token, PhotranTokenRef>(
                                 filename,
                                 getFilenameForIFile(getIncludedFile(fileToInclude))));
 
@@ -436,6 +915,47 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
         return parse(filename, null);
     }
 
+    /**
+     * Parses the given file on an indexer worker thread.  Dependencies that would be written to
+     * the database during parsing are added to <code>deferredDatabaseWrites</code> instead.
+     * 
+     * @see VPG#parseConcurrently(String, List)
+     */
+    public IFortranAST parseConcurrently(String filename, List<Runnable> deferredDatabaseWrites)
+    {
+        this.deferredDatabaseWrites.set(deferredDatabaseWrites);
+        try
+        {
+            return parse(filename, null);
+        }
+        finally
+        {
+            this.deferredDatabaseWrites.remove();
+        }
+    }
+
+    /** Non-null iff the current thread is an indexer worker thread parsing a file */
+    private final ThreadLocal<List<Runnable>> deferredDatabaseWrites = new ThreadLocal<List<Runnable>>();
+
+    private void ensure(final VPGDependency<IFortranAST, Token, PhotranTokenRef> dependency)
+    {
+        List<Runnable> deferred = deferredDatabaseWrites.get();
+        if (deferred == null)
+        {
+            db.ensure(dependency);
+        }
+        else
+        {
+            deferred.add(new Runnable()
+            {
+                public void run()
+                {
+                    db.ensure(dependency);
+                }
+            });
+        }
+    }
+
     private IFortranAST parse(String filename, Reader stream)
     {
         if (filename == null || PhotranVPG.getInstance().isVirtualFile(filename)) return null;
@@ -449,7 +969,7 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
                 if (stream == null) stream = new BufferedReader(new InputStreamReader(file.getContents(true), file.getCharset()));
                 IAccumulatingLexer lexer = new ASTLexerFactory().createLexer(stream, file, filename, sourceForm);
                 long start = System.currentTimeMillis();
-                ASTExecutableProgramNode ast = parser.parse(lexer);
+                ASTExecutableProgramNode ast = Parser.getThreadLocalParser().parse(lexer);
                 checkForErrors(ast, filename);
                 PhotranVPG.getInstance().debug("  - Elapsed time in Parser#parse: " + (System.currentTimeMillis()-start) + " ms", filename); //$NON-NLS-1$ //$NON-NLS-2$
                 return new FortranAST(file, ast, lexer.getTokenList());
@@ -579,10 +1099,199 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
         if (ast == null || isEmpty(ast.getRoot())) return;
 
         long start = System.currentTimeMillis();
-        Binder.bind(ast, getIFileForFilename(filename));
+        beginBatch(filename);
+        try
+        {
+            Binder.bind(ast, getIFileForFilename(filename));
+        }
+        finally
+        {
+            commitBatch(filename);
+        }
         PhotranVPG.getInstance().debug("  - Elapsed time in Binder#bind: " + (System.currentTimeMillis()-start) + " ms", filename); //$NON-NLS-1$ //$NON-NLS-2$
     }
 
+    /**
+     * Rebinds only the parts of the file that have changed since it was last bound (see
+     * {@link Binder#rebind(IFortranAST, IFile)}), or the entire file if that is not possible.
+     */
+    @Override
+    public void computeEdgesAndAnnotations(String filename, IFortranAST ast)
+    {
+        if (PhotranVPG.getInstance().isVirtualFile(filename))
+        {
+            super.computeEdgesAndAnnotations(filename, ast);
+            return;
+        }
+
+        relocatedDefinitions.clear();
+
+        Set<String> previousDependents = new HashSet<String>();
+        for (String dependent : db.getIncomingDependenciesTo(filename))
+        {
+            previousDependents.add(dependent);
+            if (dependent.startsWith("module:")) //$NON-NLS-1$
+                modulesWithChangedSymbolTables.remove(dependent.substring("module:".length())); //$NON-NLS-1$
+        }
+
+        List<VPGEdge<IFortranAST, Token, PhotranTokenRef>> edges = getEdgesToAndFromOtherFiles(filename);
+
+        if (ast == null || isEmpty(ast.getRoot()) || !rebind(filename, ast))
+            super.computeEdgesAndAnnotations(filename, ast);
+
+        restoreEdgesFromOtherFiles(filename, ast, previousDependents, edges);
+
+        updateNameIndex(filename, ast);
+        markExternalSubprogramDeclarations(ast);
+    }
+
+    /**
+     * Reindexing a file deletes the edges between it and other files (e.g., bindings in files
+     * that USE a module it declares, and the edges from the module's definitions to the scopes
+     * importing them).  Those edges depend only on the other file and the symbol tables of the
+     * modules it imports, so they are returned here to be restored by
+     * {@link #restoreEdgesFromOtherFiles(String, IFortranAST, Set, List)} when the other file will
+     * not be reindexed.
+     */
+    private List<VPGEdge<IFortranAST, Token, PhotranTokenRef>> getEdgesToAndFromOtherFiles(String filename)
+    {
+        List<VPGEdge<IFortranAST, Token, PhotranTokenRef>> result = new ArrayList<VPGEdge<IFortranAST, Token, PhotranTokenRef>>();
+
+        boolean wasEnabled = setLazyComputationEnabled(false);
+        try
+        {
+            for (VPGEdge<IFortranAST, Token, PhotranTokenRef> edge : db.getAllEdgesFor(filename))
+            {
+                boolean sourceInFile = edge.getSource().getFilename().equals(filename);
+                boolean sinkInFile = edge.getSink().getFilename().equals(filename);
+                if ((!sourceInFile && sinkInFile) || (sourceInFile && !sinkInFile && isCreatedByImportingFile(edge.getType())))
+                    result.add(edge);
+            }
+        }
+        finally
+        {
+            setLazyComputationEnabled(wasEnabled);
+        }
+
+        return result;
+    }
+
+    /**
+     * @return true iff an edge of the given type from a module's definition into another file is
+     *         created when the other file (which imports the definition) is bound
+     */
+    private static boolean isCreatedByImportingFile(int edgeType)
+    {
+        return edgeType == EdgeType.DEFINED_IN_SCOPE_EDGE_TYPE.ordinal()
+            || edgeType == EdgeType.DEFINITION_IS_PRIVATE_IN_SCOPE_EDGE_TYPE.ordinal()
+            || edgeType == EdgeType.ILLEGAL_SHADOWING_EDGE_TYPE.ordinal();
+    }
+
+    /**
+     * Restores each of the given edges if the other file it connects depends on the given file
+     * (through a module it declares), unless the other file depends on the given file directly or
+     * through a virtual file whose dependents must be reindexed (e.g., a module whose symbol
+     * table changed, or a module which the file no longer declares), since then the other file
+     * will be reindexed, and its edges recomputed.
+     * <p>
+     * If a module's definitions moved (see {@link #relocatedDefinitions}), the edges are restored
+     * at their new locations.  An edge is discarded if its endpoint in the given file is no longer
+     * a token in the given AST.
+     *
+     * @param previousDependents the files which depended on the given file before it was reindexed
+     */
+    private void restoreEdgesFromOtherFiles(String filename,
+                                            IFortranAST ast,
+                                            Set<String> previousDependents,
+                                            List<VPGEdge<IFortranAST, Token, PhotranTokenRef>> edges)
+    {
+        if (edges.isEmpty()) return;
+
+        PhotranVPG vpg = PhotranVPG.getInstance();
+
+        Set<String> currentDependents = new HashSet<String>();
+        for (String dependent : db.getIncomingDependenciesTo(filename))
+            currentDependents.add(dependent);
+
+        Set<String> changedDependents = new HashSet<String>();
+        for (String dependent : currentDependents)
+            if (!vpg.isVirtualFile(dependent) || vpg.dependentsMustBeReindexed(dependent))
+                changedDependents.add(dependent);
+        for (String dependent : previousDependents)
+            if (!currentDependents.contains(dependent)) // E.g., a module was deleted from the file
+                changedDependents.add(dependent);
+
+        Map<String, Boolean> mustRestore = new HashMap<String, Boolean>();
+        for (VPGEdge<IFortranAST, Token, PhotranTokenRef> edge : edges)
+        {
+            boolean isIncoming = edge.getSink().getFilename().equals(filename);
+            String otherFilename = isIncoming ? edge.getSource().getFilename() : edge.getSink().getFilename();
+            Boolean restore = mustRestore.get(otherFilename);
+            if (restore == null)
+            {
+                restore = mustRestore(otherFilename, previousDependents, changedDependents);
+                mustRestore.put(otherFilename, restore);
+            }
+
+            PhotranTokenRef source = relocate(edge.getSource()), sink = relocate(edge.getSink());
+            if (restore && existsIn(ast, isIncoming ? sink : source))
+                db.ensure(new VPGEdge<IFortranAST, Token, PhotranTokenRef>(source, sink, edge.getType()));
+        }
+    }
+
+    private boolean mustRestore(String otherFilename, Set<String> previousDependents, Set<String> changedDependents)
+    {
+        if (changedDependents.contains(otherFilename)) return false;
+
+        boolean dependsOnFile = false;
+        for (String dependency : db.getOutgoingDependenciesFrom(otherFilename))
+        {
+            if (changedDependents.contains(dependency))
+                return false;
+            else if (previousDependents.contains(dependency))
+                dependsOnFile = true;
+        }
+        return dependsOnFile;
+    }
+
+    private PhotranTokenRef relocate(PhotranTokenRef tokenRef)
+    {
+        PhotranTokenRef result = relocatedDefinitions.get(tokenRef);
+        return result == null ? tokenRef : result;
+    }
+
+    private static boolean existsIn(IFortranAST ast, PhotranTokenRef tokenRef)
+    {
+        return ast != null && ast.findTokenByStreamOffsetLength(tokenRef.getOffset(), tokenRef.getLength()) != null;
+    }
+
+    private boolean rebind(String filename, IFortranAST ast)
+    {
+        boolean wasEnabled = setLazyComputationEnabled(false);
+        try
+        {
+            long start = System.currentTimeMillis();
+            beginBatch(filename);
+            try
+            {
+                if (!Binder.rebind(ast, getIFileForFilename(filename)))
+                    return false;
+            }
+            finally
+            {
+                commitBatch(filename);
+            }
+            PhotranVPG.getInstance().debug("  - Elapsed time in Binder#rebind: " + (System.currentTimeMillis()-start) + " ms", filename); //$NON-NLS-1$ //$NON-NLS-2$
+
+            db.updateModificationStamp(filename);
+            return true;
+        }
+        finally
+        {
+            setLazyComputationEnabled(wasEnabled);
+        }
+    }
+
     @Override public ILazyVPGPopulator[] getLazyEdgePopulators()
     {
         return new ILazyVPGPopulator[]
@@ -601,7 +1310,16 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
             
             LoopReplacer.replaceAllLoopsIn(ast.getRoot());
             long start = System.currentTimeMillis();
-            ControlFlowAnalysis.analyze(filename, ast.getRoot());
+            PhotranVPGWriter vpg = PhotranVPG.getProvider();
+            vpg.beginBatch(filename);
+            try
+            {
+                ControlFlowAnalysis.analyze(filename, ast.getRoot());
+            }
+            finally
+            {
+                vpg.commitBatch(filename);
+            }
             PhotranVPG.getInstance().debug("  - Elapsed time in ControlFlowAnalysis#analyze: " + (System.currentTimeMillis()-start) + " ms", filename); //$NON-NLS-1$ //$NON-NLS-2$
         }
 
@@ -697,11 +1415,6 @@ public class PhotranVPGWriter extends EclipseVPGWriter<IFortranAST, Token, Photr
 
 
 
-    // Tested empirically on ibeam-cpp-mod: 5 does better than 3, but 10 does not do better than 5
-    private static final int MODULE_SYMTAB_CACHE_SIZE = 5;
-
-
-    protected Parser parser = new Parser();
 
 
     public String describeEdgeType(int edgeType)
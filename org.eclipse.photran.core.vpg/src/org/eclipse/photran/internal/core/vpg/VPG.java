@@ -110,6 +110,55 @@ public abstract class VPG<A, T, R extends IVPGNode<T>>
      */
     protected abstract A parse(String filename);
 
+    /**
+     * @return <code>true</code> iff {@link #parseConcurrently(String, List)} may be used to parse
+     *         files on indexer worker threads
+     */
+    public boolean supportsConcurrentParsing()
+    {
+        return false;
+    }
+
+    /**
+     * Parses the given file on an indexer worker thread.
+     * <p>
+     * This may be invoked from several threads at once, so it must not write to the database.
+     * Any database writes that would normally occur during parsing (e.g., file dependencies due to
+     * include lines) must be added to the given list instead; they will be run, in order, on the
+     * indexer thread before edges and annotations are computed for the file.
+     * <p>
+     * Precondition: {@link #supportsConcurrentParsing()} returns <code>true</code>.  Callers must
+     * check this first.
+     * 
+     * @param filename (non-null)
+     * @param deferredDatabaseWrites (non-null)
+     * @return an AST for the given file, or <code>null</code> if an error was encountered
+     */
+    public abstract A parseConcurrently(String filename, List<Runnable> deferredDatabaseWrites);
+
+    ////////////////////////////////////////////////////////////////////////////
+    // CALLBACK: AST CACHE
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @return an estimate of the number of bytes of memory occupied by the given AST, which is
+     *         used to determine how many ASTs can be cached (see {@link #getASTCacheSizeInBytes()})
+     */
+    protected long estimateSizeOf(A ast)
+    {
+        return 1024 * 1024;
+    }
+
+    /**
+     * @return the total estimated size of the recently-used transient ASTs which will be kept in
+     *         memory, in bytes (see {@link #estimateSizeOf(Object)}).  Transient ASTs beyond this
+     *         limit are held only by soft references.
+     */
+    protected long getASTCacheSizeInBytes()
+    {
+        return 32L * 1024 * 1024;
+    }
+
 	////////////////////////////////////////////////////////////////////////////
 	// API: AST ACQUISITION/RELEASE
 	////////////////////////////////////////////////////////////////////////////
@@ -122,6 +171,18 @@ public abstract class VPG<A, T, R extends IVPGNode<T>>
 		return astCache.acquireTransientAST(filename, false, this);
 	}
 
+    /**
+     * Prevents the transient AST for the given file (e.g., the file in the active editor) from
+     * being evicted from the AST cache, regardless of its size.  Pinning an AST unpins the
+     * previously pinned AST.
+     *
+     * @param filename the file to pin, or <code>null</code> to unpin the pinned AST
+     */
+    public final void setPinnedAST(String filename)
+    {
+        astCache.setPinnedAST(filename);
+    }
+
 	/** @return an AST for the given file.  The AST will remain in memory until it is
 	 *  explicitly released using {@link #releaseAST(String)} or {@link #releaseAllASTs()}.
 	 */
@@ -174,9 +235,6 @@ public abstract class VPG<A, T, R extends IVPGNode<T>>
 	 * {@link #acquirePermanentAST(String)}, returns the filename to which it
 	 * corresponds.  If it is not the root of an AST acquired from this VPG, returns
 	 * <code>null</code>.
-	 * <p>
-	 * Note that this is not an O(1) operation: Internally, the filename is found
-	 * by comparing the given argument with every AST in memory.
 	 * 
 	 * @return filename or <code>null</code>
 	 */
@@ -238,6 +296,20 @@ public abstract class VPG<A, T, R extends IVPGNode<T>>
         return db.sortFilesAccordingToDependencies(files);
     }
 
+    /**
+     * Returns <code>true</code> iff the files dependent on the given file must be reindexed
+     * after the given file has been reindexed (or, for a virtual file, after a file on which it
+     * depends has been reindexed).
+     * <p>
+     * By default, this always returns <code>true</code>.  Subclasses may return
+     * <code>false</code> when they can determine that the information dependent files
+     * obtained from the given file did not change.
+     */
+    public boolean dependentsMustBeReindexed(String filename)
+    {
+        return true;
+    }
+
 //  public boolean checkForCircularDependencies(String filename)
 //  {
 //      throw new UnsupportedOperationException();
@@ -405,6 +477,15 @@ public abstract class VPG<A, T, R extends IVPGNode<T>>
         astCache.acquireTransientAST(filename, true, this);
     }
 
+    /** Recomputes the edges and annotations for the given file using an AST
+     *  that has already been parsed (e.g., by {@link #parseConcurrently(String, List)}).
+     */
+    public final void forceRecomputationOfEdgesAndAnnotations(String filename, A ast)
+    {
+        releaseAST(filename);
+        astCache.computeEdgesAndAnnotations(filename, ast, this);
+    }
+
     /**
      * Callback method invoked by {@link EclipseVPG} when it detects that a file has been deleted
      * from the filesystem.
@@ -427,11 +508,14 @@ public abstract class VPG<A, T, R extends IVPGNode<T>>
     public void resetDatabaseStatistics()
     {
         db.resetStatistics();
+        astCache.resetStatistics();
     }
     
     public void printDatabaseStatisticsOn(PrintStream out)
     {
         db.printStatisticsOn(out);
+        out.println();
+        astCache.printStatisticsOn(out);
     }
     
     public void printDatabaseOn(PrintStream out)
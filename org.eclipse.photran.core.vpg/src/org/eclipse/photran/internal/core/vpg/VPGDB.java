@@ -318,7 +318,33 @@ public abstract class VPGDB<A, T, R extends IVPGNode<T>>
      * Due to implementation details, some annotations may be listed more than once.
      */
     public abstract Iterable<Pair<R, Integer>> getAllAnnotationsFor(String filename);
-    
+
+    // BATCH UPDATES ///////////////////////////////////////////////////////////
+
+    /**
+     * Indicates that a large number of edges and annotations with an endpoint in the given file
+     * are about to be added (e.g., because the file is being re-indexed).
+     * <p>
+     * Until {@link #commitBatch(String)} is called with the same filename, the database may defer
+     * some of the work of adding these edges and annotations (e.g., sorting them or inserting them
+     * into an on-disk index) so that it can be done in a single pass.  Queries still reflect every
+     * update made during the batch.
+     * <p>
+     * The default implementation does nothing.
+     */
+    public void beginBatch(String filename)
+    {
+    }
+
+    /**
+     * Completes a batch of updates started by {@link #beginBatch(String)}.
+     * <p>
+     * The default implementation does nothing.
+     */
+    public void commitBatch(String filename)
+    {
+    }
+
     // UTILITY METHODS /////////////////////////////////////////////////////////
 
     public abstract void printOn(PrintStream out);
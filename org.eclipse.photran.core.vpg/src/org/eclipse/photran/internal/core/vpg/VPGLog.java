@@ -28,6 +28,10 @@ import java.util.Set;
 
 /**
  * VPG error/warning log.
+ * <p>
+ * Methods which read, add, or remove entries are synchronized, since files may be parsed (and
+ * parse errors logged) on several indexer threads concurrently.  {@link #getEntries()} returns a
+ * copy of the entries, so callers can iterate over it while other threads log errors.
  * 
  * @author Jeff Overbey
  * @author Kurt Hendle
@@ -105,14 +109,14 @@ public final class VPGLog<T, R extends IVPGNode<T>>
 	protected List<Entry> log = new ArrayList<Entry>();
 
 	/** Clears the error/warning log. */
-	public void clear()
+	public synchronized void clear()
 	{
 		log.clear();
 		notifyListeners();
 	}
 
 	/** Removes all entries for the given file from the error/warning log. */
-	public void clearEntriesFor(String filename)
+	public synchronized void clearEntriesFor(String filename)
 	{
 	    List<Entry> newLog = new LinkedList<Entry>();
 
@@ -135,7 +139,7 @@ public final class VPGLog<T, R extends IVPGNode<T>>
 	 *
 	 * @param message the warning message to display to the user
 	 */
-	public void logWarning(String message)
+	public synchronized void logWarning(String message)
 	{
 		log.add(new Entry(true, message, null));
 		notifyListeners();
@@ -147,7 +151,7 @@ public final class VPGLog<T, R extends IVPGNode<T>>
      * @param message the warning message to display to the user
      * @param filename the file with which the warning is associated
      */
-	public void logWarning(String message, String filename)
+	public synchronized void logWarning(String message, String filename)
 	{
 		log.add(new Entry(true, message, locator.getVPGNode(filename, 0, 0)));
 		notifyListeners();
@@ -161,7 +165,7 @@ public final class VPGLog<T, R extends IVPGNode<T>>
      *                 for example, if an identifier was used without being
      *                 initialized, it could reference that identifier
      */
-	public void logWarning(String message, R tokenRef)
+	public synchronized void logWarning(String message, R tokenRef)
 	{
 		log.add(new Entry(true, message, tokenRef));
 		notifyListeners();
@@ -185,7 +189,7 @@ public final class VPGLog<T, R extends IVPGNode<T>>
      *                 for example, if an identifier was used without being
      *                 initialized, it could reference that identifier
      */
-	public void logError(Throwable e, R tokenRef)
+	public synchronized void logError(Throwable e, R tokenRef)
 	{
 		StringBuilder sb = new StringBuilder();
 		sb.append(e.getClass().getName());
@@ -205,7 +209,7 @@ public final class VPGLog<T, R extends IVPGNode<T>>
      *
      * @param message the error message to display to the user
      */
-	public void logError(String message)
+	public synchronized void logError(String message)
 	{
 		log.add(new Entry(false, message, null));
 		notifyListeners();
@@ -231,14 +235,14 @@ public final class VPGLog<T, R extends IVPGNode<T>>
      *                 for example, if an identifier was used but not
      *                 declared, it could reference that identifier
      */
-	public void logError(String message, R tokenRef)
+	public synchronized void logError(String message, R tokenRef)
 	{
 		log.add(new Entry(false, message, tokenRef));
 		notifyListeners();
 	}
 
 	/** @return true iff at least one error exists in the error/warning log */
-	public boolean hasErrorsLogged()
+	public synchronized boolean hasErrorsLogged()
 	{
         for (int i = 0; i < log.size(); i++)
             if (log.get(i).isError())
@@ -248,19 +252,19 @@ public final class VPGLog<T, R extends IVPGNode<T>>
 	}
 
     /** @return true iff at least one entry exists in the error/warning log */
-	public boolean hasErrorsOrWarningsLogged()
+	public synchronized boolean hasErrorsOrWarningsLogged()
 	{
 		return !log.isEmpty();
 	}
 
-	/** @return the error/warning log */
-	public List<Entry> getEntries()
+	/** @return a copy of the error/warning log */
+	public synchronized List<Entry> getEntries()
 	{
-		return log;
+		return new ArrayList<Entry>(log);
 	}
 
 	/** Prints the error/warning log on the given <code>PrintStream</code> */
-	public void printOn(PrintStream out)
+	public synchronized void printOn(PrintStream out)
 	{
         for (int i = 0; i < log.size(); i++)
         {
@@ -327,7 +331,7 @@ public final class VPGLog<T, R extends IVPGNode<T>>
     /**
      * Writes the log to a file.
      */
-    public void writeToFile() throws IOException
+    public synchronized void writeToFile() throws IOException
     {
         Writer output = new BufferedWriter(new FileWriter(logFile));
         
@@ -369,7 +373,7 @@ public final class VPGLog<T, R extends IVPGNode<T>>
      *      message
      * </pre>
      */
-    public void readLogFromFile()
+    public synchronized void readLogFromFile()
     {
         try
         {
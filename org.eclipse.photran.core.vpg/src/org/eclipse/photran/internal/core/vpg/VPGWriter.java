@@ -58,11 +58,31 @@ public abstract class VPGWriter<A, T, R extends IVPGNode<T>>
     {
         // Log cleared prior to parse -- log.clearEntriesFor(filename);
         
-        if (db instanceof DemandDB<?,?,?>) ((DemandDB<A,T,R>)db).lazyComputationEnabled = false;
-        db.deleteAllEdgesAndAnnotationsFor(filename);
-        populateVPG(filename, ast);
-        db.updateModificationStamp(filename);
-        if (db instanceof DemandDB<?,?,?>) ((DemandDB<A,T,R>)db).lazyComputationEnabled = true;
+        boolean wasEnabled = setLazyComputationEnabled(false);
+        try
+        {
+            db.deleteAllEdgesAndAnnotationsFor(filename);
+            populateVPG(filename, ast);
+            db.updateModificationStamp(filename);
+        }
+        finally
+        {
+            setLazyComputationEnabled(wasEnabled);
+        }
+    }
+
+    /**
+     * Enables or disables lazy edge and annotation computation (if the database is a
+     * {@link DemandDB}) for the current thread only.
+     *
+     * @return the previous setting, so that it can be restored
+     */
+    protected boolean setLazyComputationEnabled(boolean enabled)
+    {
+        if (db instanceof DemandDB<?,?,?>)
+            return ((DemandDB<A,T,R>)db).setLazyComputationEnabled(enabled);
+        else
+            return true;
     }
 
     public void computeEdgesAndAnnotationsFromModifiedAST(String filename, A ast)
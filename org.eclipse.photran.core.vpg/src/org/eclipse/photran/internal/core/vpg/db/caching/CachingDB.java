@@ -14,8 +14,13 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.NoSuchElementException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.photran.internal.core.util.Pair;
@@ -29,6 +34,10 @@ import org.eclipse.photran.internal.core.vpg.db.cdt.CDTDB;
 /**
  * Base class for a typical Virtual Program Graph database the caches the result of another
  * (on-disk) database (usually a {@link CDTDB}).
+ * <p>
+ * Each cache entry is indexed by the names of the files containing the tokens it refers to (for an
+ * edge list, the endpoints of every edge in the list), so deleting the entries for one file only
+ * evicts the cache entries which might refer to that file.
  *
  * @author Jeff Overbey
  *
@@ -72,38 +81,205 @@ public class CachingDB<A, T, R extends IVPGNode<T>>
         }
     }
 
-    public VPGDB<A, T, R> db;
+    /**
+     * A size-bounded cache whose entries are indexed by the names of the files they refer to.
+     * <p>
+     * Each entry has an estimated size (in bytes).  When the total estimated size of the entries
+     * exceeds the cache's budget, the least recently used entries are evicted.
+     *
+     * @param <V> cached value type
+     */
+    private final class Cache<V>
+    {
+        private final class Entry
+        {
+            public final V value;
+            public final Set<String> filenames;
+            public final long size;
+
+            public Entry(V value, Set<String> filenames, long size)
+            {
+                this.value = value;
+                this.filenames = filenames;
+                this.size = size;
+            }
+        }
+
+        /** Entries in access order, so the first entry is the least recently used one */
+        private final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<CacheKey, Entry>(16, 0.75f, true);
+        private final HashMap<String, Set<CacheKey>> keysByFilename = new HashMap<String, Set<CacheKey>>();
+
+        private long maxSize;
+        private long size = 0;
+        private long evictions = 0, evictedBytes = 0;
+
+        public Cache(long maxSize)
+        {
+            this.maxSize = maxSize;
+        }
+
+        public long size()
+        {
+            return size;
+        }
+
+        public void setMaxSize(long maxSize)
+        {
+            this.maxSize = maxSize;
+            evictLeastRecentlyUsedEntries();
+        }
+
+        public boolean containsKey(CacheKey key)
+        {
+            return entries.containsKey(key);
+        }
+
+        /** Returns the cached value for the given key, marking it as the most recently used entry */
+        public V get(CacheKey key)
+        {
+            Entry entry = entries.get(key);
+            return entry == null ? null : entry.value;
+        }
+
+        public void put(CacheKey key, V value, Set<String> filenames, long entrySize)
+        {
+            remove(key);
+
+            if (entrySize > maxSize) return;
+
+            entries.put(key, new Entry(value, filenames, entrySize));
+            size += entrySize;
+            for (String filename : filenames)
+            {
+                Set<CacheKey> keys = keysByFilename.get(filename);
+                if (keys == null)
+                {
+                    keys = new HashSet<CacheKey>();
+                    keysByFilename.put(filename, keys);
+                }
+                keys.add(key);
+            }
+
+            evictLeastRecentlyUsedEntries();
+        }
+
+        private void evictLeastRecentlyUsedEntries()
+        {
+            while (size > maxSize && !entries.isEmpty())
+            {
+                Entry evicted = remove(entries.keySet().iterator().next());
+                evictions++;
+                evictedBytes += evicted.size;
+            }
+        }
+
+        public Entry remove(CacheKey key)
+        {
+            Entry entry = entries.remove(key);
+            if (entry == null) return null;
+
+            size -= entry.size;
+            for (String filename : entry.filenames)
+            {
+                Set<CacheKey> keys = keysByFilename.get(filename);
+                if (keys != null)
+                {
+                    keys.remove(key);
+                    if (keys.isEmpty())
+                        keysByFilename.remove(filename);
+                }
+            }
+            return entry;
+        }
+
+        /** Removes every entry which refers to a token in the given file */
+        public int removeAllFor(String filename)
+        {
+            Set<CacheKey> keys = keysByFilename.remove(filename);
+            if (keys == null) return 0;
+
+            int count = 0;
+            for (CacheKey key : keys)
+                if (remove(key) != null)
+                    count++;
+            return count;
+        }
+
+        public void clear()
+        {
+            entries.clear();
+            keysByFilename.clear();
+            size = 0;
+        }
+
+        public void printStatisticsOn(PrintStream out, String description)
+        {
+            out.println("    " + description + " " //$NON-NLS-1$ //$NON-NLS-2$
+                        + (size / 1024) + "/" + (maxSize / 1024) + " KB, " //$NON-NLS-1$ //$NON-NLS-2$
+                        + entries.size() + " entries, " //$NON-NLS-1$
+                        + evictions + " evicted (" + (evictedBytes / 1024) + " KB)"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        public void resetStatistics()
+        {
+            evictions = evictedBytes = 0;
+        }
+    }
+
+    /** Cache hit and miss counts for a single edge type */
+    private static final class EdgeTypeStatistics
+    {
+        public long hits = 0, misses = 0;
+    }
+
+    /** Estimated size (in bytes) of a cache entry, excluding the cached value */
+    private static final long ENTRY_OVERHEAD = 96;
 
-    private int maxEdgeCacheEntries;
-    private int maxAnnotationCacheEntries;
+    /** Estimated size (in bytes) of a {@link VPGEdge} in a cached edge list, excluding its endpoints */
+    private static final long EDGE_SIZE = 32;
 
-    private HashMap<CacheKey, Iterable<? extends VPGEdge<A, T, R>>> incomingEdgeCache;
-    private HashMap<CacheKey, Iterable<? extends VPGEdge<A, T, R>>> outgoingEdgeCache;
-    private HashMap<CacheKey, Serializable> annotationCache;
+    /** Estimated size (in bytes) of an {@link IVPGNode} in a cached edge list, excluding its filename */
+    private static final long NODE_SIZE = 32;
+
+    /** Estimated size (in bytes) of a cached annotation, used when no better estimate is available */
+    protected static final long DEFAULT_ANNOTATION_SIZE = 256;
+
+    public VPGDB<A, T, R> db;
+
+    private Cache<Iterable<? extends VPGEdge<A, T, R>>> incomingEdgeCache;
+    private Cache<Iterable<? extends VPGEdge<A, T, R>>> outgoingEdgeCache;
+    private Cache<Serializable> annotationCache;
 
     private long edgeHits = 0, edgeMisses = 0, totalEdgeListBuildTime = 0;
     private long annotationHits = 0, annotationMisses = 0, totalDeserializationTime = 0;
+    private long fileInvalidations = 0, entriesInvalidated = 0;
+    private TreeMap<Integer, EdgeTypeStatistics> edgeStatisticsByType = new TreeMap<Integer, EdgeTypeStatistics>();
 
     public CachingDB(VPGDB<A, T, R> diskDatabase)
     {
-        this(diskDatabase, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        this(diskDatabase, Long.MAX_VALUE, Long.MAX_VALUE);
     }
 
-    public CachingDB(VPGDB<A, T, R> diskDatabase, int maxEdgeCacheEntries, int maxAnnotationCacheEntries)
+    /**
+     * Constructor.
+     *
+     * @param maxEdgeCacheBytes estimated memory (in bytes) available to cache edge lists; this is
+     *                          divided evenly between incoming and outgoing edge lists
+     * @param maxAnnotationCacheBytes estimated memory (in bytes) available to cache annotations
+     */
+    public CachingDB(VPGDB<A, T, R> diskDatabase, long maxEdgeCacheBytes, long maxAnnotationCacheBytes)
     {
         super(diskDatabase);
 
         Assert.isNotNull(diskDatabase);
         Assert.isTrue(diskDatabase != this);
-        Assert.isTrue(maxEdgeCacheEntries > 0, "maxEdgeCacheEntries must be a positive integer"); //$NON-NLS-1$
-        Assert.isTrue(maxAnnotationCacheEntries > 0, "maxAnnotationCacheEntries must be a positive integer"); //$NON-NLS-1$
+        Assert.isTrue(maxEdgeCacheBytes > 0, "maxEdgeCacheBytes must be a positive integer"); //$NON-NLS-1$
+        Assert.isTrue(maxAnnotationCacheBytes > 0, "maxAnnotationCacheBytes must be a positive integer"); //$NON-NLS-1$
 
         this.db = diskDatabase;
-        this.maxEdgeCacheEntries = maxEdgeCacheEntries;
-        this.maxAnnotationCacheEntries = maxAnnotationCacheEntries;
-        this.incomingEdgeCache = new HashMap<CacheKey, Iterable<? extends VPGEdge<A, T, R>>>();
-        this.outgoingEdgeCache = new HashMap<CacheKey, Iterable<? extends VPGEdge<A, T, R>>>();
-        this.annotationCache = new HashMap<CacheKey, Serializable>();
+        this.incomingEdgeCache = new Cache<Iterable<? extends VPGEdge<A, T, R>>>(Math.max(maxEdgeCacheBytes / 2, 1));
+        this.outgoingEdgeCache = new Cache<Iterable<? extends VPGEdge<A, T, R>>>(Math.max(maxEdgeCacheBytes / 2, 1));
+        this.annotationCache = new Cache<Serializable>(maxAnnotationCacheBytes);
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -120,13 +296,22 @@ public class CachingDB<A, T, R extends IVPGNode<T>>
         db.close();
     }
 
-    private void clearCache()
+    private synchronized void clearCache()
     {
         incomingEdgeCache.clear();
         outgoingEdgeCache.clear();
         annotationCache.clear();
     }
 
+    /** Removes every cache entry which refers to a token in the given file */
+    private synchronized void clearCacheFor(String filename)
+    {
+        fileInvalidations++;
+        entriesInvalidated += incomingEdgeCache.removeAllFor(filename);
+        entriesInvalidated += outgoingEdgeCache.removeAllFor(filename);
+        entriesInvalidated += annotationCache.removeAllFor(filename);
+    }
+
     @Override public void clearDatabase()
     {
         clearCache();
@@ -166,13 +351,13 @@ public class CachingDB<A, T, R extends IVPGNode<T>>
 
     @Override public void deleteAllEntriesFor(String filename)
     {
-        clearCache();
+        clearCacheFor(filename);
         db.deleteAllEntriesFor(filename);
     }
 
     @Override public void deleteAllEdgesAndAnnotationsFor(String filename)
     {
-        clearCache();
+        clearCacheFor(filename);
         db.deleteAllEdgesAndAnnotationsFor(filename);
     }
 
@@ -237,10 +422,12 @@ public class CachingDB<A, T, R extends IVPGNode<T>>
         db.delete(edge);
     }
 
-    private void removeFromCache(VPGEdge<A, T, R> edge)
+    private synchronized void removeFromCache(VPGEdge<A, T, R> edge)
     {
         incomingEdgeCache.remove(new CacheKey(edge.getSink(), edge.getType()));
+        incomingEdgeCache.remove(new CacheKey(edge.getSink(), ALL_EDGES));
         outgoingEdgeCache.remove(new CacheKey(edge.getSource(), edge.getType()));
+        outgoingEdgeCache.remove(new CacheKey(edge.getSource(), ALL_EDGES));
     }
 
     @Override public Iterable<? extends VPGEdge<A, T, R>> getAllEdgesFor(String filename)
@@ -251,89 +438,107 @@ public class CachingDB<A, T, R extends IVPGNode<T>>
     @Override public Iterable<? extends VPGEdge<A, T, R>> getOutgoingEdgesFrom(R tokenRef, int edgeType)
     {
         CacheKey key = new CacheKey(tokenRef, edgeType);
-        if (outgoingEdgeCache.containsKey(key))
-        {
-            edgeHits++;
-            //System.out.println("Edge cache hit");
-            return outgoingEdgeCache.get(key);
-        }
-        else
+        synchronized (this)
         {
+            if (outgoingEdgeCache.containsKey(key))
+            {
+                edgeHits++;
+                getEdgeStatistics(edgeType).hits++;
+                //System.out.println("Edge cache hit");
+                return outgoingEdgeCache.get(key);
+            }
+
             edgeMisses++;
+            getEdgeStatistics(edgeType).misses++;
             //System.out.println("Edge cache miss");
-            return buildEdgeCache(outgoingEdgeCache, key, db.getOutgoingEdgesFrom(tokenRef, edgeType));
         }
+        return buildEdgeCache(outgoingEdgeCache, key, db.getOutgoingEdgesFrom(tokenRef, edgeType));
     }
 
     @Override public Iterable<? extends VPGEdge<A, T, R>> getIncomingEdgesTo(R tokenRef, int edgeType)
     {
         CacheKey key = new CacheKey(tokenRef, edgeType);
-        if (incomingEdgeCache.containsKey(key))
-        {
-            edgeHits++;
-            //System.out.println("Edge cache hit");
-            return incomingEdgeCache.get(key);
-        }
-        else
+        synchronized (this)
         {
+            if (incomingEdgeCache.containsKey(key))
+            {
+                edgeHits++;
+                getEdgeStatistics(edgeType).hits++;
+                //System.out.println("Edge cache hit");
+                return incomingEdgeCache.get(key);
+            }
+
             edgeMisses++;
+            getEdgeStatistics(edgeType).misses++;
             //System.out.println("Edge cache miss");
-            return buildEdgeCache(incomingEdgeCache, key, db.getIncomingEdgesTo(tokenRef, edgeType));
         }
+        return buildEdgeCache(incomingEdgeCache, key, db.getIncomingEdgesTo(tokenRef, edgeType));
+    }
+
+    private EdgeTypeStatistics getEdgeStatistics(int edgeType)
+    {
+        EdgeTypeStatistics result = edgeStatisticsByType.get(edgeType);
+        if (result == null)
+        {
+            result = new EdgeTypeStatistics();
+            edgeStatisticsByType.put(edgeType, result);
+        }
+        return result;
     }
 
     private Iterable<? extends VPGEdge<A, T, R>> buildEdgeCache(
-        HashMap<CacheKey, Iterable<? extends VPGEdge<A, T, R>>> cache,
+        Cache<Iterable<? extends VPGEdge<A, T, R>>> cache,
         CacheKey key,
         Iterable<? extends VPGEdge<A, T, R>> iterable)
     {
         try
         {
-            if (cache.size() > maxEdgeCacheEntries)
-            {
-//                Iterator<CacheKey> it = cache.keySet().iterator();
-//                if (it.next() != null)
-//                    it.remove();
-            	try
-            	{
-            		cache.remove(cache.keySet().iterator().next());
-            	}
-            	catch (NoSuchElementException e)
-            	{
-            		// This should not happen since cache.size() > 1,
-            		// but it's been reported (S Kalogerakos on Photran
-            		// mailing list), so we should handle it
-            		cache.clear();
-            	}
-            }
+            long start = System.currentTimeMillis();
 
-            if (maxEdgeCacheEntries > 0)
+            ArrayList<VPGEdge<A, T, R>> list = new ArrayList<VPGEdge<A, T, R>>();
+            Set<String> filenames = new HashSet<String>(4);
+            filenames.add(key.tokenRef.getFilename());
+            long size = ENTRY_OVERHEAD;
+            for (VPGEdge<A, T, R> edge : iterable)
             {
-                long start = System.currentTimeMillis();
-
-                ArrayList<VPGEdge<A, T, R>> list = new ArrayList<VPGEdge<A, T, R>>();
-                for (VPGEdge<A, T, R> edge : iterable)
-                    list.add(edge);
+                list.add(edge);
+                filenames.add(edge.getSource().getFilename());
+                filenames.add(edge.getSink().getFilename());
+                size += estimateSizeOf(edge);
+            }
+            list.trimToSize();
 
-                long buildTime = System.currentTimeMillis() - start;
-                totalEdgeListBuildTime += buildTime;
-                //System.out.println("Edge list build time: " + buildTime + " ms");
+            long buildTime = System.currentTimeMillis() - start;
+            //System.out.println("Edge list build time: " + buildTime + " ms");
 
-                cache.put(key, list);
-                return list;
-            }
-            else
+            synchronized (this)
             {
-                return iterable;
+                totalEdgeListBuildTime += buildTime;
+                cache.put(key, list, filenames, size);
             }
+            return list;
         }
         catch (OutOfMemoryError e)
         {
-            maxEdgeCacheEntries = cache.size()-1;
+            synchronized (this)
+            {
+                cache.setMaxSize(cache.size() / 2);
+            }
             return iterable;
         }
     }
 
+    private long estimateSizeOf(VPGEdge<A, T, R> edge)
+    {
+        return EDGE_SIZE + estimateSizeOf(edge.getSource()) + estimateSizeOf(edge.getSink());
+    }
+
+    private long estimateSizeOf(R node)
+    {
+        // Filenames are not shared between nodes read from the database, so count them too
+        return NODE_SIZE + 40 + 2 * node.getFilename().length();
+    }
+
     // ANNOTATIONS /////////////////////////////////////////////////////////////
 
     @Override public void setAnnotation(R token, int annotationID, Serializable annotation)
@@ -348,7 +553,7 @@ public class CachingDB<A, T, R extends IVPGNode<T>>
         db.deleteAnnotation(token, annotationID);
     }
 
-    private void removeFromCache(R token, int annotationID)
+    private synchronized void removeFromCache(R token, int annotationID)
     {
         annotationCache.remove(new CacheKey(token, annotationID));
     }
@@ -356,33 +561,48 @@ public class CachingDB<A, T, R extends IVPGNode<T>>
     @Override public Serializable getAnnotation(R tokenRef, int annotationID)
     {
         CacheKey key = new CacheKey(tokenRef, annotationID);
-        if (annotationCache.containsKey(key))
+        synchronized (this)
         {
-            annotationHits++;
-            //System.out.println("Annotation cache hit");
-            return annotationCache.get(key);
-        }
-        else
-        {
-            annotationMisses++;
-            //System.out.println("Annotation cache miss");
-            if (annotationCache.size() > maxAnnotationCacheEntries)
+            if (annotationCache.containsKey(key))
             {
-//                Iterator<CacheKey> it = annotationCache.keySet().iterator();
-//                if (it.next() != null)
-//                    it.remove();
-                annotationCache.remove(annotationCache.keySet().iterator().next());
+                annotationHits++;
+                //System.out.println("Annotation cache hit");
+                return annotationCache.get(key);
             }
 
-            long start = System.currentTimeMillis();
-            Serializable ann = db.getAnnotation(tokenRef, annotationID);
-            long deserTime = System.currentTimeMillis() - start;
-            totalDeserializationTime += deserTime;
-            //System.out.println("Annotation deserialization time: " + deserTime + " ms");
+            annotationMisses++;
+            //System.out.println("Annotation cache miss");
+        }
+
+        long start = System.currentTimeMillis();
+        Serializable ann = db.getAnnotation(tokenRef, annotationID);
+        long deserTime = System.currentTimeMillis() - start;
+        //System.out.println("Annotation deserialization time: " + deserTime + " ms");
 
-            annotationCache.put(key, ann);
-            return ann;
+        long size = ENTRY_OVERHEAD + estimateSizeOf(ann);
+        synchronized (this)
+        {
+            totalDeserializationTime += deserTime;
+            annotationCache.put(key, ann, Collections.singleton(tokenRef.getFilename()), size);
         }
+        return ann;
+    }
+
+    /**
+     * Returns an estimate of the amount of memory (in bytes) used by the given annotation, which
+     * determines how much of the annotation cache's budget it consumes.
+     * <p>
+     * Subclasses should override this to provide a better estimate (e.g., the size of the
+     * annotation's serialized form).
+     */
+    protected long estimateSizeOf(Serializable annotation)
+    {
+        if (annotation == null)
+            return 0;
+        else if (annotation instanceof String)
+            return 40 + 2 * ((String)annotation).length();
+        else
+            return DEFAULT_ANNOTATION_SIZE;
     }
 
     @Override public Iterable<Pair<R, Integer>> getAllAnnotationsFor(String filename)
@@ -390,8 +610,32 @@ public class CachingDB<A, T, R extends IVPGNode<T>>
         return db.getAllAnnotationsFor(filename);
     }
 
+    // BATCH UPDATES ///////////////////////////////////////////////////////////
+
+    @Override public void beginBatch(String filename)
+    {
+        db.beginBatch(filename);
+    }
+
+    @Override public void commitBatch(String filename)
+    {
+        db.commitBatch(filename);
+    }
+
     // UTILITY METHODS /////////////////////////////////////////////////////////
 
+    /** @return the estimated memory (in bytes) used by the cached incoming and outgoing edge lists */
+    public synchronized long getEdgeCacheSize()
+    {
+        return incomingEdgeCache.size() + outgoingEdgeCache.size();
+    }
+
+    /** @return the estimated memory (in bytes) used by the cached annotations */
+    public synchronized long getAnnotationCacheSize()
+    {
+        return annotationCache.size();
+    }
+
     @Override public void printOn(PrintStream out)
     {
         printStatisticsOn(out);
@@ -399,7 +643,7 @@ public class CachingDB<A, T, R extends IVPGNode<T>>
         db.printOn(out);
     }
 
-    @Override public void printStatisticsOn(PrintStream out)
+    @Override public synchronized void printStatisticsOn(PrintStream out)
     {
         out.println("Database Cache Statistics:"); //$NON-NLS-1$
 
@@ -417,18 +661,37 @@ public class CachingDB<A, T, R extends IVPGNode<T>>
         if (annotationMisses > 0)
             out.println("    Average annotation deserialization time: " + (totalDeserializationTime/annotationMisses) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
 
-//      out.println();
-//      out.println("Cache Sizes:");
-//      out.println("    Incoming Edge Cache: " + incomingEdgeCache.size() + " entries (max " + maxEdgeCacheEntries + ")");
-//      out.println("    Incoming Edge Cache: " + outgoingEdgeCache.size() + " entries (max " + maxEdgeCacheEntries + ")");
-//      out.println("    Annotation Cache: " + annotationCache.size() + " entries (max " + maxAnnotationCacheEntries + ")");
-        
+        out.println("    Entries evicted by file:     " + entriesInvalidated + " (" + fileInvalidations + " files)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+        outgoingEdgeCache.printStatisticsOn(out, "Outgoing Edge Cache:        "); //$NON-NLS-1$
+        incomingEdgeCache.printStatisticsOn(out, "Incoming Edge Cache:        "); //$NON-NLS-1$
+        annotationCache.printStatisticsOn(out,   "Annotation Cache:           "); //$NON-NLS-1$
+
+        if (!edgeStatisticsByType.isEmpty())
+        {
+            out.println("    Edge Cache Hit Ratio by Type:"); //$NON-NLS-1$
+            for (Map.Entry<Integer, EdgeTypeStatistics> entry : edgeStatisticsByType.entrySet())
+            {
+                int edgeType = entry.getKey();
+                long hits = entry.getValue().hits;
+                long total = hits + entry.getValue().misses;
+                float hitRatio = total == 0 ? 0 : ((float)hits) / total * 100;
+                String description = edgeType == ALL_EDGES ? "All edge types" : describeEdgeType(edgeType); //$NON-NLS-1$
+                out.println("        " + description + ": " + hits + "/" + total + " (" + (long)Math.round(hitRatio) + "%)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+            }
+        }
+
         db.printStatisticsOn(out);
     }
 
-    @Override public void resetStatistics()
+    @Override public synchronized void resetStatistics()
     {
         edgeHits = edgeMisses = annotationHits = annotationMisses = totalEdgeListBuildTime = totalDeserializationTime = 0;
+        fileInvalidations = entriesInvalidated = 0;
+        edgeStatisticsByType.clear();
+        outgoingEdgeCache.resetStatistics();
+        incomingEdgeCache.resetStatistics();
+        annotationCache.resetStatistics();
         db.resetStatistics();
     }
 }
\ No newline at end of file
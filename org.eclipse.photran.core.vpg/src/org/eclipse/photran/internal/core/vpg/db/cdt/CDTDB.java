@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.photran.internal.core.vpg.db.cdt;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -18,9 +19,14 @@ import java.io.InputStream;
 import java.io.PrintStream;
 import java.io.Serializable;
 import java.nio.channels.FileChannel;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -118,6 +124,7 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
     {
         try
         {
+            applyPendingBatches();
             db.flush();
         }
         catch (CoreException e)
@@ -130,6 +137,7 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
     {
         try
         {
+            applyPendingBatches();
             db.close();
             lock.delete();
         }
@@ -143,6 +151,9 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
     {
         log.clear();
 
+        for (TreeMap<AnnotationKey, byte[]> batch : batches.values())
+            batch.clear();
+
         try
         {
             db.clear();
@@ -163,6 +174,7 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
         
         try
         {
+            applyPendingBatches();
             db.flush();
             File copy = copyFile(db.getFile());
             
@@ -191,6 +203,9 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
     {
         assert isInHypotheticalMode();
         
+        for (TreeMap<AnnotationKey, byte[]> batch : batches.values())
+            batch.clear();
+
         db = origDB;
         origDB = null;
     }
@@ -243,6 +258,8 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
      */
     @Override public void deleteAllEntriesFor(String filename)
     {
+        clearBatch(filename);
+
         try
         {
             db.dependencies.deleteAllIncomingDependenciesTo(filename);
@@ -260,6 +277,8 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
 
     @Override public void deleteAllEdgesAndAnnotationsFor(String filename)
     {
+        clearBatch(filename);
+
         try
         {
             db.edges.deleteAllIncomingEdgesTo(filename);
@@ -682,6 +701,13 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
     {
         try
         {
+            TreeMap<AnnotationKey, byte[]> batch = batches.get(token.getFilename());
+            if (batch != null)
+            {
+                batch.put(new AnnotationKey(token.getOffset(), token.getLength(), annotationID), serialize(annotation));
+                return;
+            }
+
             db.annotations.set(token.getFilename(), token.getOffset(), token.getLength(), annotationID, serialize(annotation));
         }
         catch (Exception e)
@@ -692,6 +718,13 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
 
     @Override public void deleteAnnotation(R token, int annotationID)
     {
+        TreeMap<AnnotationKey, byte[]> batch = batches.get(token.getFilename());
+        if (batch != null)
+        {
+            batch.put(new AnnotationKey(token.getOffset(), token.getLength(), annotationID), null);
+            return;
+        }
+
         try
         {
             db.annotations.delete(token.getFilename(), token.getOffset(), token.getLength(), annotationID);
@@ -707,6 +740,17 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
     {
         try
         {
+            TreeMap<AnnotationKey, byte[]> batch = batches.get(token.getFilename());
+            if (batch != null)
+            {
+                AnnotationKey key = new AnnotationKey(token.getOffset(), token.getLength(), annotationID);
+                if (batch.containsKey(key))
+                {
+                    byte[] annotation = batch.get(key);
+                    return annotation == null ? null : deserialize(new ByteArrayInputStream(annotation));
+                }
+            }
+
             int record = db.annotations.findRecordFor(token.getFilename(), token.getOffset(), token.getLength(), annotationID);
             if (record < 0)
                 return null;
@@ -721,6 +765,15 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
     }
 
     @Override public Iterable<Pair<R, Integer>> getAllAnnotationsFor(String filename)
+    {
+        TreeMap<AnnotationKey, byte[]> batch = batches.get(filename);
+        if (batch != null && !batch.isEmpty())
+            return getAllAnnotationsFor(filename, batch);
+        else
+            return getAllStoredAnnotationsFor(filename);
+    }
+
+    private Iterable<Pair<R, Integer>> getAllStoredAnnotationsFor(String filename)
     {
         try
         {
@@ -774,6 +827,127 @@ public abstract class CDTDB<A, T, R extends IVPGNode<T>>
         }
     }
 
+    private Iterable<Pair<R, Integer>> getAllAnnotationsFor(String filename, TreeMap<AnnotationKey, byte[]> batch)
+    {
+        List<Pair<R, Integer>> result = new ArrayList<Pair<R, Integer>>();
+
+        for (Pair<R, Integer> pair : getAllStoredAnnotationsFor(filename))
+            if (!batch.containsKey(new AnnotationKey(pair.fst.getOffset(), pair.fst.getLength(), pair.snd.intValue())))
+                result.add(pair);
+
+        for (Map.Entry<AnnotationKey, byte[]> entry : batch.entrySet())
+        {
+            if (entry.getValue() != null)
+            {
+                AnnotationKey key = entry.getKey();
+                result.add(new Pair<R, Integer>(factory.getVPGNode(filename, key.offset, key.length), key.type));
+            }
+        }
+
+        return result;
+    }
+
+    // BATCH UPDATES ///////////////////////////////////////////////////////////
+
+    /**
+     * Annotations set during batch updates, indexed by filename.  A <code>null</code> value
+     * indicates that the annotation was deleted.  The annotations are written to the database
+     * (in sorted order) when the batch is committed or the database is flushed.
+     */
+    private final Map<String, TreeMap<AnnotationKey, byte[]>> batches = new HashMap<String, TreeMap<AnnotationKey, byte[]>>();
+
+    private static final class AnnotationKey implements Comparable<AnnotationKey>
+    {
+        final int offset, length, type;
+
+        AnnotationKey(int offset, int length, int type)
+        {
+            this.offset = offset;
+            this.length = length;
+            this.type = type;
+        }
+
+        public int compareTo(AnnotationKey that)
+        {
+            if (this.offset != that.offset) return this.offset < that.offset ? -1 : 1;
+            if (this.length != that.length) return this.length < that.length ? -1 : 1;
+            if (this.type != that.type) return this.type < that.type ? -1 : 1;
+            return 0;
+        }
+
+        @Override public boolean equals(Object o)
+        {
+            return o instanceof AnnotationKey && compareTo((AnnotationKey)o) == 0;
+        }
+
+        @Override public int hashCode()
+        {
+            return 31 * (31 * offset + length) + type;
+        }
+    }
+
+    @Override public void beginBatch(String filename)
+    {
+        if (!batches.containsKey(filename))
+            batches.put(filename, new TreeMap<AnnotationKey, byte[]>());
+    }
+
+    @Override public void commitBatch(String filename)
+    {
+        TreeMap<AnnotationKey, byte[]> batch = batches.remove(filename);
+        if (batch != null) applyBatch(filename, batch);
+    }
+
+    private void clearBatch(String filename)
+    {
+        TreeMap<AnnotationKey, byte[]> batch = batches.get(filename);
+        if (batch != null) batch.clear();
+    }
+
+    /** Writes every pending batch to the database; the batches remain open */
+    private void applyPendingBatches()
+    {
+        for (Map.Entry<String, TreeMap<AnnotationKey, byte[]>> entry : batches.entrySet())
+        {
+            applyBatch(entry.getKey(), entry.getValue());
+            entry.getValue().clear();
+        }
+    }
+
+    private void applyBatch(String filename, TreeMap<AnnotationKey, byte[]> batch)
+    {
+        if (batch.isEmpty()) return;
+
+        try
+        {
+            // If the file has no annotations (e.g., because they were deleted before it was
+            // re-indexed), the B-tree does not need to be searched for annotations to replace
+            boolean mayExist = db.annotations.hasAnnotations(filename);
+            int fileRecordPtr = ensureEntryForFile(filename);
+
+            boolean deleted = false;
+            for (Map.Entry<AnnotationKey, byte[]> entry : batch.entrySet())
+            {
+                AnnotationKey key = entry.getKey();
+                if (entry.getValue() != null)
+                {
+                    db.annotations.set(fileRecordPtr, key.offset, key.length, key.type, entry.getValue(), mayExist);
+                }
+                else if (mayExist)
+                {
+                    db.annotations.delete(fileRecordPtr, key.offset, key.length, key.type);
+                    deleted = true;
+                }
+            }
+
+            if (deleted) cleanUp(filename);
+        }
+        catch (CoreException e)
+        {
+            log.logError(e);
+        }
+    }
+
     /**
      * Subclasses should implement this as
      * <pre>
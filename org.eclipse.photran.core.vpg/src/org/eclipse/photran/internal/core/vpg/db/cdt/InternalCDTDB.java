@@ -1211,7 +1211,26 @@ public class InternalCDTDB
 
         public void delete(String fromFilename, int fromOffset, int fromLength, int edgeType) throws CoreException
         {
-            int record = findRecordFor(fromFilename, fromOffset, fromLength, edgeType);
+            int fileRecordPtr = files.findRecordFor(fromFilename);
+            if (fileRecordPtr >= 0)
+                delete(fileRecordPtr, fromOffset, fromLength, edgeType);
+        }
+
+        /**
+         * Sets an annotation in a file whose record has already been found.
+         * <p>
+         * If <code>mayExist</code> is false, the caller guarantees that no such annotation exists,
+         * so the B-tree is not searched for an annotation to replace.
+         */
+        public int set(int fileRecordPtr, int offset, int length, int annotationType, byte[] annotation, boolean mayExist) throws CoreException
+        {
+            if (mayExist) delete(fileRecordPtr, offset, length, annotationType);
+            return createNewRecord(fileRecordPtr, offset, length, annotationType, annotation);
+        }
+
+        public void delete(int fileRecordPtr, int offset, int length, int annotationType) throws CoreException
+        {
+            int record = findRecordFor(fileRecordPtr, offset, length, annotationType);
             if (record < 0) return;
 
             db.free(getAnnotationPtr(record));
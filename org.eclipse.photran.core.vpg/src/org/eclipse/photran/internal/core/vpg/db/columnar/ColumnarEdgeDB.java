@@ -0,0 +1,1009 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.vpg.db.columnar;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.photran.internal.core.util.Pair;
+import org.eclipse.photran.internal.core.vpg.IVPGNode;
+import org.eclipse.photran.internal.core.vpg.NodeRef;
+import org.eclipse.photran.internal.core.vpg.VPGDB;
+import org.eclipse.photran.internal.core.vpg.VPGDependency;
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+import org.eclipse.photran.internal.core.vpg.VPGLog;
+import org.eclipse.photran.internal.core.vpg.db.cdt.CDTDB;
+
+/**
+ * Decorator for a VPG database which stores edges in sorted, memory-mapped integer tables rather
+ * than in the wrapped database.  Files, dependencies, and annotations are stored in the wrapped
+ * database.
+ * <p>
+ * Each file has two {@link EdgeTable}s: one containing the edges whose source is in that file, and
+ * one containing the edges whose sink is in that file.  Both tables of a file are stored together
+ * in a single segment file in this database's directory, and segments are memory-mapped when they
+ * are first read.  Finding the edges for a token is a binary search in one table, rather than a
+ * B-tree walk as in {@link CDTDB}, and deleting every edge in a file replaces its tables wholesale.
+ * <p>
+ * Modified tables are kept on the heap until the database is flushed, when they are written to new
+ * segment files (the old segments are deleted) and the index, which maps file IDs to filenames and
+ * segments, is rewritten.  When a file's entries are deleted, its ID is released (in the index, it
+ * is given an empty filename) and reused for the next file that is added.  Like {@link CDTDB}, a
+ * lock file is kept in the directory while the database is open.  If it exists when the database
+ * is opened, or if there is no index, the edge store and the wrapped database are both cleared,
+ * forcing every file to be re-indexed.
+ * <p>
+ * In hypothetical mode, a file's tables are copied before they are first modified, and nothing is
+ * written to disk; leaving hypothetical mode restores the original tables.  (In Photran, this
+ * database is wrapped in a
+ * {@link org.eclipse.photran.internal.core.vpg.db.hypothetical.HypotheticalDB}, which implements
+ * hypothetical mode without modifying this database.)
+ *
+ * @param <A> AST type
+ * @param <T> token type
+ * @param <R> {@link IVPGNode}/{@link NodeRef} type
+ */
+public class ColumnarEdgeDB<A, T, R extends IVPGNode<T>>
+     extends VPGDB<A, T, R>
+{
+    private static final int INDEX_MAGIC = 0x56504749;   // VPGI
+    private static final int SEGMENT_MAGIC = 0x56504745; // VPGE
+    private static final int VERSION = 1;
+
+    /** Number of ints preceding the columns in a segment file (magic number and two table sizes) */
+    private static final int SEGMENT_HEADER_SIZE = 3;
+
+    private static final String INDEX_FILENAME = "index"; //$NON-NLS-1$
+    private static final String LOCK_FILENAME = "lock"; //$NON-NLS-1$
+    private static final String SEGMENT_SUFFIX = ".edges"; //$NON-NLS-1$
+
+    private final VPGDB<A, T, R> db;
+    private final File directory;
+    private final File lock;
+    private final VPGLog<T, R> log;
+
+    /** Indexed by file ID; <code>null</code> for released IDs */
+    private List<FileEntry> entries;
+    private Map<String, FileEntry> entriesByFilename;
+
+    /** IDs which were released when their files' entries were deleted, and can be reused */
+    private List<Integer> freeIDs;
+
+    /** True iff IDs have been released since the index was written */
+    private boolean indexModified = false;
+
+    /** In hypothetical mode, the state of the database before it was entered; otherwise <code>null</code> */
+    private HypotheticalState hypotheticalState = null;
+
+    /** Files for which a batch update is in progress; edges with an endpoint in these files are appended to their tables */
+    private final Set<String> batchedFiles = new HashSet<String>();
+
+    private long segmentsMapped = 0;
+    private long bytesMapped = 0;
+    private long segmentsWritten = 0;
+
+    private static final class FileEntry
+    {
+        final int id;
+        final String filename;
+
+        /** Number of the segment file containing this file's tables, or 0 if there is none */
+        int generation;
+
+        /** <code>null</code> until the segment has been read */
+        EdgeTable outgoing, incoming;
+
+        /** The mapped segment which backs the tables, or <code>null</code> if it is not mapped */
+        MappedByteBuffer segment;
+
+        /** True iff the tables have been modified since the segment was written */
+        boolean dirty;
+
+        FileEntry(int id, String filename, int generation)
+        {
+            this.id = id;
+            this.filename = filename;
+            this.generation = generation;
+            this.outgoing = generation == 0 ? new EdgeTable() : null;
+            this.incoming = generation == 0 ? new EdgeTable() : null;
+            this.dirty = false;
+        }
+    }
+
+    private static final class SavedTables
+    {
+        final EdgeTable outgoing, incoming;
+        final boolean dirty;
+
+        SavedTables(FileEntry entry)
+        {
+            this.outgoing = entry.outgoing;
+            this.incoming = entry.incoming;
+            this.dirty = entry.dirty;
+        }
+    }
+
+    private static final class HypotheticalState
+    {
+        /** The original tables of each file modified in hypothetical mode */
+        final Map<FileEntry, SavedTables> savedTables = new HashMap<FileEntry, SavedTables>();
+
+        /** Entries created in hypothetical mode */
+        final List<FileEntry> addedEntries = new ArrayList<FileEntry>();
+
+        final int numEntries;
+        final List<Integer> freeIDs;
+
+        HypotheticalState(int numEntries, List<Integer> freeIDs)
+        {
+            this.numEntries = numEntries;
+            this.freeIDs = new ArrayList<Integer>(freeIDs);
+        }
+    }
+
+    public ColumnarEdgeDB(VPGDB<A, T, R> db, File directory, VPGLog<T, R> log)
+    {
+        super(db);
+
+        Assert.isNotNull(db);
+        Assert.isTrue(db != this);
+        Assert.isNotNull(directory);
+
+        this.db = db;
+        this.directory = directory;
+        this.lock = new File(directory, LOCK_FILENAME);
+        this.log = log;
+
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new Error("Unable to create VPG edge database " + directory.getName()); //$NON-NLS-1$
+
+        if (lock.exists() || !readIndex())
+        {
+            // Edges may be missing, so the wrapped database must be rebuilt as well
+            clearEdges();
+            db.clearDatabase();
+        }
+
+        deleteUnusedSegments();
+
+        try
+        {
+            lock.createNewFile();
+        }
+        catch (IOException e)
+        {
+            //ignore
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // STORAGE
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** @return true iff the index was read successfully */
+    private boolean readIndex()
+    {
+        entries = new ArrayList<FileEntry>();
+        entriesByFilename = new HashMap<String, FileEntry>();
+        freeIDs = new ArrayList<Integer>();
+
+        File index = new File(directory, INDEX_FILENAME);
+        if (!index.exists()) return false;
+
+        DataInputStream in = null;
+        try
+        {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(index)));
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != VERSION)
+                throw new IOException("Unrecognized VPG edge database index " + index.getName()); //$NON-NLS-1$
+
+            int count = in.readInt();
+            for (int id = 0; id < count; id++)
+            {
+                String filename = in.readUTF();
+                int generation = in.readInt();
+                if (filename.length() == 0)
+                {
+                    entries.add(null);
+                    freeIDs.add(id);
+                }
+                else
+                {
+                    addEntry(new FileEntry(id, filename, generation));
+                }
+            }
+            return true;
+        }
+        catch (IOException e)
+        {
+            logError(e);
+            clearEdges();
+            return false;
+        }
+        finally
+        {
+            close(in);
+        }
+    }
+
+    private void writeIndex() throws IOException
+    {
+        File temp = new File(directory, INDEX_FILENAME + ".tmp"); //$NON-NLS-1$
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+        try
+        {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (FileEntry entry : entries)
+            {
+                out.writeUTF(entry == null ? "" : entry.filename); //$NON-NLS-1$
+                out.writeInt(entry == null ? 0 : entry.generation);
+            }
+        }
+        finally
+        {
+            out.close();
+        }
+
+        File index = new File(directory, INDEX_FILENAME);
+        if (!temp.renameTo(index))
+        {
+            index.delete();
+            if (!temp.renameTo(index))
+                throw new IOException("Unable to write VPG edge database index " + index.getName()); //$NON-NLS-1$
+        }
+    }
+
+    private File getSegmentFile(FileEntry entry)
+    {
+        return new File(directory, entry.id + "." + entry.generation + SEGMENT_SUFFIX); //$NON-NLS-1$
+    }
+
+    /** Memory-maps the given file's segment, if it has not already been read */
+    private synchronized void ensureLoaded(FileEntry entry)
+    {
+        if (entry.outgoing != null) return;
+
+        File file = getSegmentFile(entry);
+        try
+        {
+            RandomAccessFile raf = new RandomAccessFile(file, "r"); //$NON-NLS-1$
+            try
+            {
+                FileChannel channel = raf.getChannel();
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                IntBuffer buffer = segment.asIntBuffer();
+
+                int outgoingSize = buffer.get(1), incomingSize = buffer.get(2);
+                if (buffer.get(0) != SEGMENT_MAGIC
+                    || buffer.limit() != SEGMENT_HEADER_SIZE + EdgeTable.NUM_COLUMNS * (outgoingSize + incomingSize))
+                    throw new IOException("Corrupt VPG edge database segment " + file.getName()); //$NON-NLS-1$
+
+                entry.outgoing = new EdgeTable(buffer, SEGMENT_HEADER_SIZE, outgoingSize);
+                entry.incoming = new EdgeTable(buffer, SEGMENT_HEADER_SIZE + EdgeTable.NUM_COLUMNS * outgoingSize, incomingSize);
+                entry.segment = segment;
+
+                segmentsMapped++;
+                bytesMapped += channel.size();
+            }
+            finally
+            {
+                raf.close();
+            }
+        }
+        catch (IOException e)
+        {
+            logError(e);
+            entry.outgoing = new EdgeTable();
+            entry.incoming = new EdgeTable();
+        }
+    }
+
+    private void writeSegment(FileEntry entry) throws IOException
+    {
+        File oldSegment = entry.generation == 0 ? null : getSegmentFile(entry);
+
+        if (entry.outgoing.isEmpty() && entry.incoming.isEmpty())
+        {
+            entry.generation = 0;
+            entry.outgoing = new EdgeTable();
+            entry.incoming = new EdgeTable();
+            unmap(entry);
+        }
+        else
+        {
+            entry.generation++;
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(getSegmentFile(entry))));
+            try
+            {
+                out.writeInt(SEGMENT_MAGIC);
+                out.writeInt(entry.outgoing.size());
+                out.writeInt(entry.incoming.size());
+                entry.outgoing.writeTo(out);
+                entry.incoming.writeTo(out);
+            }
+            finally
+            {
+                out.close();
+            }
+
+            // Release the heap copy (and the old mapping); the new segment will be mapped when it is next read
+            entry.outgoing = null;
+            entry.incoming = null;
+            unmap(entry);
+            segmentsWritten++;
+        }
+
+        // If this fails, the segment is deleted when the database is next opened
+        if (oldSegment != null) oldSegment.delete();
+
+        entry.dirty = false;
+    }
+
+    /**
+     * Unmaps the given file's segment, if it is mapped, so that the segment file can be deleted (on
+     * Windows, a mapped file cannot be deleted).  The tables must not be read from the segment again.
+     */
+    private static void unmap(FileEntry entry)
+    {
+        if (entry.segment == null) return;
+
+        // There is no public API to unmap a buffer before it is garbage collected, so its cleaner
+        // is invoked reflectively; if this fails, the buffer is unmapped when it is collected
+        try
+        {
+            Method getCleaner = entry.segment.getClass().getMethod("cleaner"); //$NON-NLS-1$
+            getCleaner.setAccessible(true);
+            Object cleaner = getCleaner.invoke(entry.segment);
+            if (cleaner != null)
+                cleaner.getClass().getMethod("clean").invoke(cleaner); //$NON-NLS-1$
+        }
+        catch (Exception e)
+        {
+            // Ignore
+        }
+
+        entry.segment = null;
+    }
+
+    /** Deletes segment files which are not referenced by the index */
+    private void deleteUnusedSegments()
+    {
+        Set<String> segments = new HashSet<String>();
+        for (FileEntry entry : entries)
+            if (entry != null && entry.generation != 0)
+                segments.add(getSegmentFile(entry).getName());
+
+        File[] files = directory.listFiles();
+        if (files == null) return;
+
+        for (File file : files)
+            if (file.getName().endsWith(SEGMENT_SUFFIX) && !segments.contains(file.getName()))
+                file.delete();
+    }
+
+    private void flushEdges()
+    {
+        try
+        {
+            boolean modified = indexModified;
+            for (FileEntry entry : entries)
+            {
+                if (entry != null && entry.dirty)
+                {
+                    writeSegment(entry);
+                    modified = true;
+                }
+            }
+
+            if (modified || !new File(directory, INDEX_FILENAME).exists())
+                writeIndex();
+            indexModified = false;
+        }
+        catch (IOException e)
+        {
+            throw new Error("Unable to flush VPG edge database to disk", e); //$NON-NLS-1$
+        }
+    }
+
+    /** Discards every file's tables and deletes every file in the directory except the lock */
+    private synchronized void clearEdges()
+    {
+        if (entries != null)
+        {
+            for (FileEntry entry : entries)
+            {
+                if (entry == null) continue;
+
+                entry.outgoing = null;
+                entry.incoming = null;
+                unmap(entry);
+            }
+        }
+
+        entries = new ArrayList<FileEntry>();
+        entriesByFilename = new HashMap<String, FileEntry>();
+        freeIDs = new ArrayList<Integer>();
+        indexModified = false;
+
+        File[] files = directory.listFiles();
+        if (files != null)
+            for (File file : files)
+                if (!file.equals(lock))
+                    file.delete();
+    }
+
+    /**
+     * Deletes this database's directory, and every file in it, when the JVM exits.  This is used
+     * when the database is in a temporary location (e.g., when Photran is being tested).
+     */
+    public void deleteOnExit()
+    {
+        Runtime.getRuntime().addShutdownHook(new Thread()
+        {
+            @Override public void run()
+            {
+                File[] files = directory.listFiles();
+                if (files != null)
+                    for (File file : files)
+                        file.delete();
+                directory.delete();
+            }
+        });
+    }
+
+    private void addEntry(FileEntry entry)
+    {
+        if (entry.id < entries.size())
+            entries.set(entry.id, entry);
+        else
+            entries.add(entry);
+        entriesByFilename.put(entry.filename, entry);
+    }
+
+    private FileEntry ensureEntryFor(String filename)
+    {
+        FileEntry entry = entriesByFilename.get(filename);
+        if (entry == null)
+        {
+            int id = freeIDs.isEmpty() ? entries.size() : freeIDs.remove(freeIDs.size() - 1).intValue();
+            entry = new FileEntry(id, filename, 0);
+            addEntry(entry);
+
+            if (hypotheticalState != null) hypotheticalState.addedEntries.add(entry);
+        }
+        ensureLoaded(entry);
+        return entry;
+    }
+
+    /**
+     * Removes the entry for a file whose entries have been deleted, so that its ID can be reused.
+     * The file must not have any edges, so that no table refers to its ID.
+     */
+    private void releaseEntry(FileEntry entry)
+    {
+        File segment = entry.generation == 0 ? null : getSegmentFile(entry);
+
+        entry.outgoing = null;
+        entry.incoming = null;
+        unmap(entry);
+
+        // If this fails, the segment is deleted when the database is next opened
+        if (segment != null) segment.delete();
+
+        entries.set(entry.id, null);
+        entriesByFilename.remove(entry.filename);
+        freeIDs.add(entry.id);
+        indexModified = true;
+    }
+
+    /**
+     * Called before the given file's tables are modified.  In hypothetical mode, this saves the
+     * tables (so they can be restored when hypothetical mode is left) and replaces them with copies.
+     */
+    private void aboutToModify(FileEntry entry)
+    {
+        if (hypotheticalState == null || hypotheticalState.savedTables.containsKey(entry)) return;
+
+        ensureLoaded(entry);
+        hypotheticalState.savedTables.put(entry, new SavedTables(entry));
+        entry.outgoing = new EdgeTable(entry.outgoing);
+        entry.incoming = new EdgeTable(entry.incoming);
+    }
+
+    /** @return the entry for the given file, with its tables loaded and sorted, or <code>null</code> if it has no edges */
+    private FileEntry findEntryFor(String filename)
+    {
+        FileEntry entry = entriesByFilename.get(filename);
+        if (entry != null) ensureSorted(entry);
+        return entry;
+    }
+
+    /** Sorts any edges appended to the given file's tables during a batch update */
+    private synchronized void ensureSorted(FileEntry entry)
+    {
+        ensureLoaded(entry);
+        entry.outgoing.sortPending();
+        entry.incoming.sortPending();
+    }
+
+    private static void close(DataInputStream in)
+    {
+        try
+        {
+            if (in != null) in.close();
+        }
+        catch (IOException e)
+        {
+            // Ignore
+        }
+    }
+
+    private void logError(Throwable e)
+    {
+        if (log != null)
+            log.logError(e);
+        else
+            e.printStackTrace();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // VPG DATABASE METHODS
+    ////////////////////////////////////////////////////////////////////////////
+
+    @Override public void flush()
+    {
+        // Changes made in hypothetical mode are never written to disk
+        if (!isInHypotheticalMode()) flushEdges();
+        db.flush();
+    }
+
+    @Override public void close()
+    {
+        if (isInHypotheticalMode()) discardHypotheticalChanges();
+        flushEdges();
+        lock.delete();
+        db.close();
+    }
+
+    @Override public void clearDatabase()
+    {
+        if (isInHypotheticalMode())
+        {
+            for (FileEntry entry : entries)
+            {
+                if (entry == null) continue;
+
+                aboutToModify(entry);
+                entry.outgoing.clear();
+                entry.incoming.clear();
+                entry.dirty = true;
+            }
+        }
+        else
+        {
+            clearEdges();
+        }
+        db.clearDatabase();
+    }
+
+    // HYPOTHETICAL UPDATING ///////////////////////////////////////////////////
+
+    @Override public void enterHypotheticalMode() throws IOException
+    {
+        if (isInHypotheticalMode()) return;
+
+        db.enterHypotheticalMode();
+        hypotheticalState = new HypotheticalState(entries.size(), freeIDs);
+    }
+
+    @Override public void leaveHypotheticalMode() throws IOException
+    {
+        if (!isInHypotheticalMode()) return;
+
+        discardHypotheticalChanges();
+        db.leaveHypotheticalMode();
+    }
+
+    /** Restores the tables and entries to their state when hypothetical mode was entered */
+    private void discardHypotheticalChanges()
+    {
+        for (Map.Entry<FileEntry, SavedTables> saved : hypotheticalState.savedTables.entrySet())
+        {
+            FileEntry entry = saved.getKey();
+            entry.outgoing = saved.getValue().outgoing;
+            entry.incoming = saved.getValue().incoming;
+            entry.dirty = saved.getValue().dirty;
+        }
+
+        for (FileEntry entry : hypotheticalState.addedEntries)
+        {
+            entriesByFilename.remove(entry.filename);
+            if (entry.id < hypotheticalState.numEntries)
+                entries.set(entry.id, null);
+        }
+        entries.subList(hypotheticalState.numEntries, entries.size()).clear();
+        freeIDs = hypotheticalState.freeIDs;
+
+        hypotheticalState = null;
+    }
+
+    @Override public boolean isInHypotheticalMode()
+    {
+        return hypotheticalState != null;
+    }
+
+    // FILES ///////////////////////////////////////////////////////////////////
+
+    @Override public void updateModificationStamp(String filename)
+    {
+        db.updateModificationStamp(filename);
+    }
+
+    @Override public boolean isOutOfDate(String filename)
+    {
+        return db.isOutOfDate(filename);
+    }
+
+    @Override public void deleteAllEntriesFor(String filename)
+    {
+        FileEntry entry = findEntryFor(filename);
+        if (entry != null)
+        {
+            deleteAllEdgesFor(entry);
+            if (!isInHypotheticalMode() && !batchedFiles.contains(filename))
+                releaseEntry(entry);
+        }
+        db.deleteAllEntriesFor(filename);
+    }
+
+    @Override public void deleteAllEdgesAndAnnotationsFor(String filename)
+    {
+        deleteAllEdgesFor(filename);
+        db.deleteAllEdgesAndAnnotationsFor(filename);
+    }
+
+    private void deleteAllEdgesFor(String filename)
+    {
+        FileEntry entry = findEntryFor(filename);
+        if (entry != null) deleteAllEdgesFor(entry);
+    }
+
+    /** Deletes every edge with an endpoint in the given file */
+    private void deleteAllEdgesFor(FileEntry entry)
+    {
+        ensureLoaded(entry);
+        if (entry.outgoing.isEmpty() && entry.incoming.isEmpty()) return;
+
+        // Edges with one endpoint in another file also appear in that file's tables
+        for (int otherID : otherFilesReferencedBy(entry.outgoing, entry.id))
+        {
+            FileEntry other = entries.get(otherID);
+            aboutToModify(other);
+            ensureLoaded(other);
+            if (other.incoming.removeRowsReferencing(entry.id))
+                other.dirty = true;
+        }
+
+        for (int otherID : otherFilesReferencedBy(entry.incoming, entry.id))
+        {
+            FileEntry other = entries.get(otherID);
+            aboutToModify(other);
+            ensureLoaded(other);
+            if (other.outgoing.removeRowsReferencing(entry.id))
+                other.dirty = true;
+        }
+
+        aboutToModify(entry);
+        entry.outgoing.clear();
+        entry.incoming.clear();
+        entry.dirty = true;
+    }
+
+    private static Set<Integer> otherFilesReferencedBy(EdgeTable table, int fileID)
+    {
+        Set<Integer> result = new HashSet<Integer>();
+        for (int row = 0, size = table.size(); row < size; row++)
+        {
+            int otherID = table.get(row, EdgeTable.OTHER_FILE);
+            if (otherID != fileID) result.add(otherID);
+        }
+        return result;
+    }
+
+    @Override public void deleteAllIncomingDependenciesFor(String filename)
+    {
+        db.deleteAllIncomingDependenciesFor(filename);
+    }
+
+    @Override public void deleteAllOutgoingDependenciesFor(String filename)
+    {
+        db.deleteAllOutgoingDependenciesFor(filename);
+    }
+
+    @Override public Iterable<String> listAllFilenames()
+    {
+        return db.listAllFilenames();
+    }
+
+    @Override public Iterable<String> listAllFilenamesWithDependents()
+    {
+        return db.listAllFilenamesWithDependents();
+    }
+
+    @Override public Iterable<String> listAllDependentFilenames()
+    {
+        return db.listAllDependentFilenames();
+    }
+
+    // DEPENDENCIES ////////////////////////////////////////////////////////////
+
+    @Override public void ensure(VPGDependency<A, T, R> dependency)
+    {
+        db.ensure(dependency);
+    }
+
+    @Override public void delete(VPGDependency<A, T, R> dependency)
+    {
+        db.delete(dependency);
+    }
+
+    @Override public Iterable<String> getOutgoingDependenciesFrom(String filename)
+    {
+        return db.getOutgoingDependenciesFrom(filename);
+    }
+
+    @Override public Iterable<String> getIncomingDependenciesTo(String filename)
+    {
+        return db.getIncomingDependenciesTo(filename);
+    }
+
+    // EDGES ///////////////////////////////////////////////////////////////////
+
+    @Override public void ensure(VPGEdge<A, T, R> edge)
+    {
+        R source = edge.getSource();
+        R sink = edge.getSink();
+        FileEntry sourceEntry = ensureEntryFor(source.getFilename());
+        FileEntry sinkEntry = ensureEntryFor(sink.getFilename());
+        aboutToModify(sourceEntry);
+        aboutToModify(sinkEntry);
+
+        if (batchedFiles.contains(source.getFilename()) || batchedFiles.contains(sink.getFilename()))
+        {
+            // Sorted (and duplicates removed) when the table is next searched
+            sourceEntry.outgoing.append(outgoingRow(edge, sinkEntry));
+            sinkEntry.incoming.append(incomingRow(edge, sourceEntry));
+            sourceEntry.dirty = sinkEntry.dirty = true;
+        }
+        else
+        {
+            if (sourceEntry.outgoing.add(outgoingRow(edge, sinkEntry)))
+                sourceEntry.dirty = true;
+            if (sinkEntry.incoming.add(incomingRow(edge, sourceEntry)))
+                sinkEntry.dirty = true;
+        }
+    }
+
+    @Override public void delete(VPGEdge<A, T, R> edge)
+    {
+        R source = edge.getSource();
+        R sink = edge.getSink();
+        FileEntry sourceEntry = findEntryFor(source.getFilename());
+        FileEntry sinkEntry = findEntryFor(sink.getFilename());
+        if (sourceEntry == null || sinkEntry == null) return;
+
+        aboutToModify(sourceEntry);
+        aboutToModify(sinkEntry);
+        if (sourceEntry.outgoing.remove(outgoingRow(edge, sinkEntry)))
+            sourceEntry.dirty = true;
+        if (sinkEntry.incoming.remove(incomingRow(edge, sourceEntry)))
+            sinkEntry.dirty = true;
+    }
+
+    private int[] outgoingRow(VPGEdge<A, T, R> edge, FileEntry sinkEntry)
+    {
+        R source = edge.getSource();
+        R sink = edge.getSink();
+        return new int[] { source.getOffset(), source.getLength(), edge.getType(), sinkEntry.id, sink.getOffset(), sink.getLength() };
+    }
+
+    private int[] incomingRow(VPGEdge<A, T, R> edge, FileEntry sourceEntry)
+    {
+        R source = edge.getSource();
+        R sink = edge.getSink();
+        return new int[] { sink.getOffset(), sink.getLength(), edge.getType(), sourceEntry.id, source.getOffset(), source.getLength() };
+    }
+
+    @Override public Iterable<? extends VPGEdge<A, T, R>> getAllEdgesFor(String filename)
+    {
+        List<VPGEdge<A, T, R>> result = new ArrayList<VPGEdge<A, T, R>>();
+
+        FileEntry entry = findEntryFor(filename);
+        if (entry != null)
+        {
+            for (int row = 0, size = entry.incoming.size(); row < size; row++)
+                result.add(createEdge(entry.incoming, row, entry, null, true));
+
+            for (int row = 0, size = entry.outgoing.size(); row < size; row++)
+                result.add(createEdge(entry.outgoing, row, entry, null, false));
+        }
+
+        return result;
+    }
+
+    @Override public Iterable<? extends VPGEdge<A, T, R>> getOutgoingEdgesFrom(R tokenRef, int edgeType)
+    {
+        return findEdges(tokenRef, edgeType, false);
+    }
+
+    @Override public Iterable<? extends VPGEdge<A, T, R>> getIncomingEdgesTo(R tokenRef, int edgeType)
+    {
+        return findEdges(tokenRef, edgeType, true);
+    }
+
+    private List<VPGEdge<A, T, R>> findEdges(R tokenRef, int edgeType, boolean incoming)
+    {
+        List<VPGEdge<A, T, R>> result = new ArrayList<VPGEdge<A, T, R>>(4);
+
+        FileEntry entry = findEntryFor(tokenRef.getFilename());
+        if (entry == null) return result;
+
+        EdgeTable table = incoming ? entry.incoming : entry.outgoing;
+        int offset = tokenRef.getOffset(), length = tokenRef.getLength();
+        for (int row = table.findFirst(offset, length); table.hasKey(row, offset, length); row++)
+            if (edgeType == ALL_EDGES || table.get(row, EdgeTable.TYPE) == edgeType)
+                result.add(createEdge(table, row, entry, tokenRef, incoming));
+
+        return result;
+    }
+
+    /**
+     * @param key the token in the given row's file, or <code>null</code> to create it
+     * @param incoming true iff the table contains incoming edges (i.e., the key is the sink)
+     */
+    private VPGEdge<A, T, R> createEdge(EdgeTable table, int row, FileEntry entry, R key, boolean incoming)
+    {
+        if (key == null)
+            key = factory.getVPGNode(entry.filename,
+                                     table.get(row, EdgeTable.KEY_OFFSET),
+                                     table.get(row, EdgeTable.KEY_LENGTH));
+
+        R other = factory.getVPGNode(entries.get(table.get(row, EdgeTable.OTHER_FILE)).filename,
+                                     table.get(row, EdgeTable.OTHER_OFFSET),
+                                     table.get(row, EdgeTable.OTHER_LENGTH));
+
+        int type = table.get(row, EdgeTable.TYPE);
+
+        if (incoming)
+            return new VPGEdge<A, T, R>(other, key, type);
+        else
+            return new VPGEdge<A, T, R>(key, other, type);
+    }
+
+    // BATCH UPDATES ///////////////////////////////////////////////////////////
+
+    @Override public void beginBatch(String filename)
+    {
+        batchedFiles.add(filename);
+        db.beginBatch(filename);
+    }
+
+    @Override public void commitBatch(String filename)
+    {
+        batchedFiles.remove(filename);
+
+        FileEntry entry = entriesByFilename.get(filename);
+        if (entry != null) ensureSorted(entry);
+
+        db.commitBatch(filename);
+    }
+
+    // ANNOTATIONS /////////////////////////////////////////////////////////////
+
+    @Override public void setAnnotation(R token, int annotationID, Serializable annotation)
+    {
+        db.setAnnotation(token, annotationID, annotation);
+    }
+
+    @Override public void deleteAnnotation(R token, int annotationID)
+    {
+        db.deleteAnnotation(token, annotationID);
+    }
+
+    @Override public Serializable getAnnotation(R tokenRef, int annotationID)
+    {
+        return db.getAnnotation(tokenRef, annotationID);
+    }
+
+    @Override public Iterable<Pair<R, Integer>> getAllAnnotationsFor(String filename)
+    {
+        return db.getAllAnnotationsFor(filename);
+    }
+
+    // UTILITY METHODS /////////////////////////////////////////////////////////
+
+    @Override public void printOn(PrintStream out)
+    {
+        db.printOn(out);
+
+        out.println();
+        out.println();
+        out.println("COLUMNAR EDGES (key offset, key length, type, other file, other offset, other length):"); //$NON-NLS-1$
+        for (FileEntry entry : entries)
+        {
+            if (entry == null) continue;
+
+            ensureLoaded(entry);
+            if (entry.outgoing.isEmpty() && entry.incoming.isEmpty()) continue;
+
+            out.println();
+            out.println(entry.id + " " + entry.filename + " (outgoing)"); //$NON-NLS-1$ //$NON-NLS-2$
+            out.print(entry.outgoing);
+            out.println(entry.id + " " + entry.filename + " (incoming)"); //$NON-NLS-1$ //$NON-NLS-2$
+            out.print(entry.incoming);
+        }
+    }
+
+    @Override public synchronized void printStatisticsOn(PrintStream out)
+    {
+        long rows = 0, heapBytes = 0;
+        int mapped = 0, modified = 0;
+        for (FileEntry entry : entries)
+        {
+            if (entry == null || entry.outgoing == null) continue;
+
+            rows += entry.outgoing.size();
+            heapBytes += entry.outgoing.estimateHeapSize() + entry.incoming.estimateHeapSize();
+            if (entry.dirty)
+                modified++;
+            else if (entry.outgoing.isMapped() || entry.incoming.isMapped())
+                mapped++;
+        }
+
+        out.println("Columnar Edge Store Statistics:"); //$NON-NLS-1$
+        out.println("    Files:                       " + entriesByFilename.size()); //$NON-NLS-1$
+        out.println("    Edges in loaded files:       " + rows); //$NON-NLS-1$
+        out.println("    Segments currently mapped:   " + mapped); //$NON-NLS-1$
+        out.println("    Modified files (unflushed):  " + modified + " (" + heapBytes + " bytes on heap)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        out.println("    Segments mapped:             " + segmentsMapped + " (" + bytesMapped + " bytes)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        out.println("    Segments written:            " + segmentsWritten); //$NON-NLS-1$
+
+        db.printStatisticsOn(out);
+    }
+
+    @Override public synchronized void resetStatistics()
+    {
+        segmentsMapped = bytesMapped = segmentsWritten = 0;
+        db.resetStatistics();
+    }
+}
@@ -0,0 +1,394 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.vpg.db.columnar;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * A sorted table of edges, all of which have one endpoint (the <i>key</i>) in the same file.
+ * <p>
+ * Each row has {@value #NUM_COLUMNS} integer columns: the offset and length of the key token, the
+ * edge type, and the file ID, offset, and length of the other endpoint.  Rows are kept in
+ * lexicographic order, so all of the edges for a given token are adjacent and can be found by
+ * binary search.
+ * <p>
+ * The data is stored column-by-column, either in a (memory-mapped, read-only) {@link IntBuffer}
+ * or, once the table has been modified, in <code>int</code> arrays on the heap.
+ * <p>
+ * Rows can also be {@link #append(int[]) appended} without regard to order; they are sorted and
+ * merged into the table in one pass by {@link #sortPending()}, which must be called before the
+ * table is searched.
+ */
+final class EdgeTable
+{
+    static final int KEY_OFFSET = 0;
+    static final int KEY_LENGTH = 1;
+    static final int TYPE = 2;
+    static final int OTHER_FILE = 3;
+    static final int OTHER_OFFSET = 4;
+    static final int OTHER_LENGTH = 5;
+
+    static final int NUM_COLUMNS = 6;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Backing buffer if the table has not been modified since it was read, otherwise <code>null</code> */
+    private IntBuffer buffer;
+
+    /** Index in {@link #buffer} of the first column */
+    private int start;
+
+    /** Backing arrays, if the table has been modified */
+    private int[][] columns;
+
+    private int size;
+
+    /** Number of rows at the beginning of the table which are sorted; the remaining rows were appended */
+    private int sortedSize;
+
+    /** Creates an empty table */
+    EdgeTable()
+    {
+        this.buffer = null;
+        this.start = 0;
+        this.columns = null;
+        this.size = 0;
+        this.sortedSize = 0;
+    }
+
+    /**
+     * Creates a table backed by the given buffer, which contains the table's columns (of the given
+     * size) starting at the given index.  The buffer is not copied unless the table is modified.
+     */
+    EdgeTable(IntBuffer buffer, int start, int size)
+    {
+        this.buffer = buffer;
+        this.start = start;
+        this.columns = null;
+        this.size = size;
+        this.sortedSize = size;
+    }
+
+    /** Creates a copy of the given table on the heap, which can be modified without affecting it */
+    EdgeTable(EdgeTable table)
+    {
+        this.buffer = null;
+        this.start = 0;
+        this.columns = new int[NUM_COLUMNS][Math.max(INITIAL_CAPACITY, table.size)];
+        for (int c = 0; c < NUM_COLUMNS; c++)
+            for (int row = 0; row < table.size; row++)
+                this.columns[c][row] = table.get(row, c);
+        this.size = table.size;
+        this.sortedSize = table.sortedSize;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /** @return true iff this table is still backed by the buffer it was created from */
+    public boolean isMapped()
+    {
+        return buffer != null;
+    }
+
+    public int get(int row, int column)
+    {
+        if (columns != null)
+            return columns[column][row];
+        else
+            return buffer.get(start + column*size + row);
+    }
+
+    /**
+     * @return the index of the first row whose key is the token with the given offset and length,
+     *         or the index at which such a row would be inserted if there is none
+     */
+    public int findFirst(int offset, int length)
+    {
+        assert !hasPendingRows();
+
+        int low = 0, high = size;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(get(mid, KEY_OFFSET), offset);
+            if (cmp == 0) cmp = compare(get(mid, KEY_LENGTH), length);
+            if (cmp < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /** @return true iff the given row has the given key */
+    public boolean hasKey(int row, int offset, int length)
+    {
+        return row < size && get(row, KEY_OFFSET) == offset && get(row, KEY_LENGTH) == length;
+    }
+
+    /**
+     * Adds the given row if it is not already present.
+     *
+     * @return true iff the table was modified
+     */
+    public boolean add(int[] row)
+    {
+        sortPending();
+
+        int index = find(row);
+        if (index >= 0) return false;
+
+        index = -(index + 1);
+        ensureWritable(size + 1);
+        for (int c = 0; c < NUM_COLUMNS; c++)
+        {
+            System.arraycopy(columns[c], index, columns[c], index + 1, size - index);
+            columns[c][index] = row[c];
+        }
+        size++;
+        sortedSize++;
+        return true;
+    }
+
+    /**
+     * Adds the given row to the end of the table, even if it is already present.  The table cannot
+     * be searched until {@link #sortPending()} is called.
+     */
+    public void append(int[] row)
+    {
+        ensureWritable(size + 1);
+        for (int c = 0; c < NUM_COLUMNS; c++)
+            columns[c][size] = row[c];
+        size++;
+    }
+
+    /** @return true iff rows have been appended since the table was last sorted */
+    public boolean hasPendingRows()
+    {
+        return sortedSize != size;
+    }
+
+    /** Sorts any appended rows, merges them into the table, and removes duplicates */
+    public void sortPending()
+    {
+        if (!hasPendingRows()) return;
+
+        Integer[] pending = new Integer[size - sortedSize];
+        for (int i = 0; i < pending.length; i++)
+            pending[i] = Integer.valueOf(sortedSize + i);
+        Arrays.sort(pending, new Comparator<Integer>()
+        {
+            public int compare(Integer row1, Integer row2)
+            {
+                return compareRows(row1.intValue(), row2.intValue());
+            }
+        });
+
+        int[][] merged = new int[NUM_COLUMNS][Math.max(INITIAL_CAPACITY, size)];
+        int count = 0, i = 0, j = 0;
+        while (i < sortedSize || j < pending.length)
+        {
+            int row;
+            if (j == pending.length)
+                row = i++;
+            else if (i == sortedSize)
+                row = pending[j++].intValue();
+            else if (compareRows(i, pending[j].intValue()) <= 0)
+                row = i++;
+            else
+                row = pending[j++].intValue();
+
+            if (count > 0 && compareRow(merged, count - 1, row) == 0) continue;
+
+            for (int c = 0; c < NUM_COLUMNS; c++)
+                merged[c][count] = columns[c][row];
+            count++;
+        }
+
+        this.columns = merged;
+        this.size = this.sortedSize = count;
+    }
+
+    /**
+     * Removes the given row, if it is present.
+     *
+     * @return true iff the table was modified
+     */
+    public boolean remove(int[] row)
+    {
+        sortPending();
+
+        int index = find(row);
+        if (index < 0) return false;
+
+        ensureWritable(size);
+        for (int c = 0; c < NUM_COLUMNS; c++)
+            System.arraycopy(columns[c], index + 1, columns[c], index, size - index - 1);
+        size--;
+        sortedSize--;
+        return true;
+    }
+
+    /**
+     * Removes every row whose other endpoint is in the file with the given ID.
+     *
+     * @return true iff the table was modified
+     */
+    public boolean removeRowsReferencing(int fileID)
+    {
+        sortPending();
+
+        int count = 0;
+        for (int row = 0; row < size; row++)
+            if (get(row, OTHER_FILE) == fileID)
+                count++;
+        if (count == 0) return false;
+
+        ensureWritable(size);
+        int dest = 0;
+        for (int row = 0; row < size; row++)
+        {
+            if (columns[OTHER_FILE][row] != fileID)
+            {
+                if (dest != row)
+                    for (int c = 0; c < NUM_COLUMNS; c++)
+                        columns[c][dest] = columns[c][row];
+                dest++;
+            }
+        }
+        size = sortedSize = dest;
+        return true;
+    }
+
+    /** Removes every row from this table */
+    public void clear()
+    {
+        buffer = null;
+        columns = null;
+        size = sortedSize = 0;
+    }
+
+    /**
+     * @return the index of the given row, if it is present; otherwise, <code>-(i+1)</code>, where
+     *         <code>i</code> is the index at which it would be inserted
+     */
+    private int find(int[] row)
+    {
+        int low = 0, high = size - 1;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            int cmp = compareRow(mid, row);
+            if (cmp < 0)
+                low = mid + 1;
+            else if (cmp > 0)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    private int compareRow(int row, int[] values)
+    {
+        for (int c = 0; c < NUM_COLUMNS; c++)
+        {
+            int cmp = compare(get(row, c), values[c]);
+            if (cmp != 0) return cmp;
+        }
+        return 0;
+    }
+
+    private int compareRows(int row1, int row2)
+    {
+        for (int c = 0; c < NUM_COLUMNS; c++)
+        {
+            int cmp = compare(get(row1, c), get(row2, c));
+            if (cmp != 0) return cmp;
+        }
+        return 0;
+    }
+
+    /** Compares a row in the given columns to a row in this table */
+    private int compareRow(int[][] otherColumns, int otherRow, int row)
+    {
+        for (int c = 0; c < NUM_COLUMNS; c++)
+        {
+            int cmp = compare(otherColumns[c][otherRow], get(row, c));
+            if (cmp != 0) return cmp;
+        }
+        return 0;
+    }
+
+    private static int compare(int a, int b)
+    {
+        return a < b ? -1 : (a == b ? 0 : 1);
+    }
+
+    /** Copies the table into heap arrays (if necessary) with room for at least the given number of rows */
+    private void ensureWritable(int minCapacity)
+    {
+        if (columns != null && columns[0].length >= minCapacity) return;
+
+        int capacity = Math.max(INITIAL_CAPACITY, Math.max(minCapacity, size + (size >> 1)));
+        int[][] newColumns = new int[NUM_COLUMNS][capacity];
+        for (int c = 0; c < NUM_COLUMNS; c++)
+            for (int row = 0; row < size; row++)
+                newColumns[c][row] = get(row, c);
+
+        this.columns = newColumns;
+        this.buffer = null;
+    }
+
+    /** Writes this table's columns to the given stream; the number of rows is not written */
+    public void writeTo(DataOutputStream out) throws IOException
+    {
+        sortPending();
+
+        for (int c = 0; c < NUM_COLUMNS; c++)
+            for (int row = 0; row < size; row++)
+                out.writeInt(get(row, c));
+    }
+
+    /** @return the approximate number of bytes of heap memory used by this table */
+    public long estimateHeapSize()
+    {
+        return columns == null ? 0 : 4L * NUM_COLUMNS * columns[0].length;
+    }
+
+    @Override public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int row = 0; row < size; row++)
+        {
+            sb.append("    "); //$NON-NLS-1$
+            for (int c = 0; c < NUM_COLUMNS; c++)
+            {
+                if (c > 0) sb.append(' ');
+                sb.append(get(row, c));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,534 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.vpg.db.concurrent;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.photran.internal.core.util.Pair;
+import org.eclipse.photran.internal.core.vpg.IVPGNode;
+import org.eclipse.photran.internal.core.vpg.NodeRef;
+import org.eclipse.photran.internal.core.vpg.VPGDB;
+import org.eclipse.photran.internal.core.vpg.VPGDependency;
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+import org.eclipse.photran.internal.core.vpg.db.caching.CachingDB;
+
+/**
+ * Decorator for a VPG database which allows it to be read by several threads at once, even while
+ * another thread is writing to it.
+ * <p>
+ * Every call is guarded by a read/write lock: queries acquire the read lock, so any number of
+ * threads can query the database concurrently, while updates acquire the write lock, so they are
+ * never concurrent with queries or other updates.  Since the wrapped database may return lazy
+ * {@link Iterable}s which read from the database as they are iterated, results are copied before
+ * the read lock is released.
+ * <p>
+ * The wrapped database must tolerate concurrent queries (e.g., {@link CachingDB} synchronizes its
+ * caches internally).  {@link #isOutOfDate(String)} is treated as an update, since some databases
+ * create an entry for the file if one does not exist.
+ *
+ * @param <A> AST type
+ * @param <T> token type
+ * @param <R> {@link IVPGNode}/{@link NodeRef} type
+ */
+public class ConcurrentDB<A, T, R extends IVPGNode<T>>
+     extends VPGDB<A, T, R>
+{
+    private final VPGDB<A, T, R> db;
+
+    private final ReadWriteLock lock;
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    public ConcurrentDB(VPGDB<A, T, R> db)
+    {
+        super(db);
+
+        Assert.isNotNull(db);
+        Assert.isTrue(db != this);
+
+        this.db = db;
+        this.lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    /**
+     * @return the lock guarding this database, which clients may acquire in order to perform
+     *         several queries (read lock) or updates (write lock) atomically
+     */
+    public ReadWriteLock getLock()
+    {
+        return lock;
+    }
+
+    private static <E> List<E> copy(Iterable<? extends E> iterable)
+    {
+        List<E> result = new ArrayList<E>();
+        for (E element : iterable)
+            result.add(element);
+        return result;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // VPG DATABASE METHODS
+    ////////////////////////////////////////////////////////////////////////////
+
+    @Override public void flush()
+    {
+        writeLock.lock();
+        try
+        {
+            db.flush();
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public void close()
+    {
+        writeLock.lock();
+        try
+        {
+            db.close();
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public void clearDatabase()
+    {
+        writeLock.lock();
+        try
+        {
+            db.clearDatabase();
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    // HYPOTHETICAL UPDATING ///////////////////////////////////////////////////
+
+    @Override public void enterHypotheticalMode() throws IOException
+    {
+        writeLock.lock();
+        try
+        {
+            db.enterHypotheticalMode();
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public void leaveHypotheticalMode() throws IOException
+    {
+        writeLock.lock();
+        try
+        {
+            db.leaveHypotheticalMode();
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public boolean isInHypotheticalMode()
+    {
+        readLock.lock();
+        try
+        {
+            return db.isInHypotheticalMode();
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    // FILES ///////////////////////////////////////////////////////////////////
+
+    @Override public void updateModificationStamp(String filename)
+    {
+        writeLock.lock();
+        try
+        {
+            db.updateModificationStamp(filename);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public boolean isOutOfDate(String filename)
+    {
+        writeLock.lock();
+        try
+        {
+            return db.isOutOfDate(filename);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public void deleteAllEntriesFor(String filename)
+    {
+        writeLock.lock();
+        try
+        {
+            db.deleteAllEntriesFor(filename);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public void deleteAllEdgesAndAnnotationsFor(String filename)
+    {
+        writeLock.lock();
+        try
+        {
+            db.deleteAllEdgesAndAnnotationsFor(filename);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public void deleteAllIncomingDependenciesFor(String filename)
+    {
+        writeLock.lock();
+        try
+        {
+            db.deleteAllIncomingDependenciesFor(filename);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public void deleteAllOutgoingDependenciesFor(String filename)
+    {
+        writeLock.lock();
+        try
+        {
+            db.deleteAllOutgoingDependenciesFor(filename);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public Iterable<String> listAllFilenames()
+    {
+        readLock.lock();
+        try
+        {
+            return copy(db.listAllFilenames());
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    @Override public Iterable<String> listAllFilenamesWithDependents()
+    {
+        readLock.lock();
+        try
+        {
+            return copy(db.listAllFilenamesWithDependents());
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    @Override public Iterable<String> listAllDependentFilenames()
+    {
+        readLock.lock();
+        try
+        {
+            return copy(db.listAllDependentFilenames());
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    // DEPENDENCIES ////////////////////////////////////////////////////////////
+
+    @Override public void ensure(VPGDependency<A, T, R> dependency)
+    {
+        writeLock.lock();
+        try
+        {
+            db.ensure(dependency);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public void delete(VPGDependency<A, T, R> dependency)
+    {
+        writeLock.lock();
+        try
+        {
+            db.delete(dependency);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public Iterable<String> getOutgoingDependenciesFrom(String filename)
+    {
+        readLock.lock();
+        try
+        {
+            return copy(db.getOutgoingDependenciesFrom(filename));
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    @Override public Iterable<String> getIncomingDependenciesTo(String filename)
+    {
+        readLock.lock();
+        try
+        {
+            return copy(db.getIncomingDependenciesTo(filename));
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    // EDGES ///////////////////////////////////////////////////////////////////
+
+    @Override public void ensure(VPGEdge<A, T, R> edge)
+    {
+        writeLock.lock();
+        try
+        {
+            db.ensure(edge);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public void delete(VPGEdge<A, T, R> edge)
+    {
+        writeLock.lock();
+        try
+        {
+            db.delete(edge);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public Iterable<? extends VPGEdge<A, T, R>> getAllEdgesFor(String filename)
+    {
+        readLock.lock();
+        try
+        {
+            return copy(db.getAllEdgesFor(filename));
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    @Override public Iterable<? extends VPGEdge<A, T, R>> getOutgoingEdgesFrom(R tokenRef, int edgeType)
+    {
+        readLock.lock();
+        try
+        {
+            return copy(db.getOutgoingEdgesFrom(tokenRef, edgeType));
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    @Override public Iterable<? extends VPGEdge<A, T, R>> getIncomingEdgesTo(R tokenRef, int edgeType)
+    {
+        readLock.lock();
+        try
+        {
+            return copy(db.getIncomingEdgesTo(tokenRef, edgeType));
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    // ANNOTATIONS /////////////////////////////////////////////////////////////
+
+    @Override public void setAnnotation(R token, int annotationID, Serializable annotation)
+    {
+        writeLock.lock();
+        try
+        {
+            db.setAnnotation(token, annotationID, annotation);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public void deleteAnnotation(R token, int annotationID)
+    {
+        writeLock.lock();
+        try
+        {
+            db.deleteAnnotation(token, annotationID);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public Serializable getAnnotation(R tokenRef, int annotationID)
+    {
+        readLock.lock();
+        try
+        {
+            return db.getAnnotation(tokenRef, annotationID);
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    @Override public Iterable<Pair<R, Integer>> getAllAnnotationsFor(String filename)
+    {
+        readLock.lock();
+        try
+        {
+            return copy(db.getAllAnnotationsFor(filename));
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    // BATCH UPDATES ///////////////////////////////////////////////////////////
+
+    @Override public void beginBatch(String filename)
+    {
+        writeLock.lock();
+        try
+        {
+            db.beginBatch(filename);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    @Override public void commitBatch(String filename)
+    {
+        writeLock.lock();
+        try
+        {
+            db.commitBatch(filename);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    // UTILITY METHODS /////////////////////////////////////////////////////////
+
+    @Override public void printOn(PrintStream out)
+    {
+        readLock.lock();
+        try
+        {
+            db.printOn(out);
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    @Override public void printStatisticsOn(PrintStream out)
+    {
+        readLock.lock();
+        try
+        {
+            db.printStatisticsOn(out);
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
+    @Override public void resetStatistics()
+    {
+        writeLock.lock();
+        try
+        {
+            db.resetStatistics();
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+}
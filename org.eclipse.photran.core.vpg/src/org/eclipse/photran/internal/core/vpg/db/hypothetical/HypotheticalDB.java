@@ -0,0 +1,743 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.vpg.db.hypothetical;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.photran.internal.core.util.Pair;
+import org.eclipse.photran.internal.core.vpg.IVPGNode;
+import org.eclipse.photran.internal.core.vpg.NodeRef;
+import org.eclipse.photran.internal.core.vpg.VPGDB;
+import org.eclipse.photran.internal.core.vpg.VPGDependency;
+import org.eclipse.photran.internal.core.vpg.VPGEdge;
+import org.eclipse.photran.internal.core.vpg.db.cdt.CDTDB;
+
+/**
+ * Decorator for a VPG database which implements hypothetical mode using an in-memory,
+ * copy-on-write overlay rather than a copy of the underlying database.
+ * <p>
+ * Outside of hypothetical mode, every call is forwarded to the wrapped database.  In hypothetical
+ * mode, the wrapped database is never modified: dependencies, edges, annotations, and
+ * modification stamps written by the VPG are recorded in an overlay, and queries are answered by
+ * merging the overlay with the wrapped database.  When a file's entries are deleted, the wrapped
+ * database's entries for that file are hidden rather than deleted.  Leaving hypothetical mode
+ * simply discards the overlay, so entering and leaving hypothetical mode take time proportional
+ * to the number of changes made while in hypothetical mode rather than the size of the database
+ * (cf. {@link CDTDB#enterHypotheticalMode()}, which copies the entire database file).
+ *
+ * @param <A> AST type
+ * @param <T> token type
+ * @param <R> {@link IVPGNode}/{@link NodeRef} type
+ */
+public class HypotheticalDB<A, T, R extends IVPGNode<T>>
+     extends VPGDB<A, T, R>
+{
+    private final VPGDB<A, T, R> db;
+
+    /** Changes made in hypothetical mode, or <code>null</code> if not in hypothetical mode */
+    private Overlay overlay;
+
+    public HypotheticalDB(VPGDB<A, T, R> db)
+    {
+        super(db);
+
+        Assert.isNotNull(db);
+        Assert.isTrue(db != this);
+
+        this.db = db;
+        this.overlay = null;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // VPG DATABASE METHODS
+    ////////////////////////////////////////////////////////////////////////////
+
+    @Override public void flush()
+    {
+        db.flush();
+    }
+
+    @Override public void close()
+    {
+        overlay = null;
+        db.close();
+    }
+
+    @Override public void clearDatabase()
+    {
+        if (overlay == null)
+            db.clearDatabase();
+        else
+            overlay = new Overlay(true);
+    }
+
+    // HYPOTHETICAL UPDATING ///////////////////////////////////////////////////
+
+    @Override public void enterHypotheticalMode() throws IOException
+    {
+        assert !isInHypotheticalMode();
+
+        overlay = new Overlay(false);
+    }
+
+    @Override public void leaveHypotheticalMode() throws IOException
+    {
+        assert isInHypotheticalMode();
+
+        overlay = null;
+    }
+
+    @Override public boolean isInHypotheticalMode()
+    {
+        return overlay != null;
+    }
+
+    // FILES ///////////////////////////////////////////////////////////////////
+
+    @Override public void updateModificationStamp(String filename)
+    {
+        if (overlay == null)
+            db.updateModificationStamp(filename);
+        else
+            overlay.updateModificationStamp(filename);
+    }
+
+    @Override public boolean isOutOfDate(String filename)
+    {
+        if (overlay == null)
+            return db.isOutOfDate(filename);
+        else
+            return overlay.isOutOfDate(filename);
+    }
+
+    @Override public void deleteAllEntriesFor(String filename)
+    {
+        if (overlay == null)
+            db.deleteAllEntriesFor(filename);
+        else
+            overlay.deleteAllEntriesFor(filename);
+    }
+
+    @Override public void deleteAllEdgesAndAnnotationsFor(String filename)
+    {
+        if (overlay == null)
+            db.deleteAllEdgesAndAnnotationsFor(filename);
+        else
+            overlay.deleteAllEdgesAndAnnotationsFor(filename);
+    }
+
+    @Override public void deleteAllIncomingDependenciesFor(String filename)
+    {
+        if (overlay == null)
+            db.deleteAllIncomingDependenciesFor(filename);
+        else
+            overlay.deleteAllIncomingDependenciesFor(filename);
+    }
+
+    @Override public void deleteAllOutgoingDependenciesFor(String filename)
+    {
+        if (overlay == null)
+            db.deleteAllOutgoingDependenciesFor(filename);
+        else
+            overlay.deleteAllOutgoingDependenciesFor(filename);
+    }
+
+    @Override public Iterable<String> listAllFilenames()
+    {
+        if (overlay == null)
+            return db.listAllFilenames();
+        else
+            return overlay.listAllFilenames();
+    }
+
+    @Override public Iterable<String> listAllFilenamesWithDependents()
+    {
+        if (overlay == null)
+            return db.listAllFilenamesWithDependents();
+        else
+            return overlay.listAllFilenamesWithDependents();
+    }
+
+    @Override public Iterable<String> listAllDependentFilenames()
+    {
+        if (overlay == null)
+            return db.listAllDependentFilenames();
+        else
+            return overlay.listAllDependentFilenames();
+    }
+
+    // DEPENDENCIES ////////////////////////////////////////////////////////////
+
+    @Override public void ensure(VPGDependency<A, T, R> dependency)
+    {
+        if (overlay == null)
+            db.ensure(dependency);
+        else
+            overlay.ensure(dependency);
+    }
+
+    @Override public void delete(VPGDependency<A, T, R> dependency)
+    {
+        if (overlay == null)
+            db.delete(dependency);
+        else
+            overlay.delete(dependency);
+    }
+
+    @Override public Iterable<String> getOutgoingDependenciesFrom(String filename)
+    {
+        if (overlay == null)
+            return db.getOutgoingDependenciesFrom(filename);
+        else
+            return overlay.getOutgoingDependenciesFrom(filename);
+    }
+
+    @Override public Iterable<String> getIncomingDependenciesTo(String filename)
+    {
+        if (overlay == null)
+            return db.getIncomingDependenciesTo(filename);
+        else
+            return overlay.getIncomingDependenciesTo(filename);
+    }
+
+    // EDGES ///////////////////////////////////////////////////////////////////
+
+    @Override public void ensure(VPGEdge<A, T, R> edge)
+    {
+        if (overlay == null)
+            db.ensure(edge);
+        else
+            overlay.ensure(edge);
+    }
+
+    @Override public void delete(VPGEdge<A, T, R> edge)
+    {
+        if (overlay == null)
+            db.delete(edge);
+        else
+            overlay.delete(edge);
+    }
+
+    @Override public Iterable<? extends VPGEdge<A, T, R>> getAllEdgesFor(String filename)
+    {
+        if (overlay == null)
+            return db.getAllEdgesFor(filename);
+        else
+            return overlay.getAllEdgesFor(filename);
+    }
+
+    @Override public Iterable<? extends VPGEdge<A, T, R>> getOutgoingEdgesFrom(R tokenRef, int edgeType)
+    {
+        if (overlay == null)
+            return db.getOutgoingEdgesFrom(tokenRef, edgeType);
+        else
+            return overlay.getOutgoingEdgesFrom(tokenRef, edgeType);
+    }
+
+    @Override public Iterable<? extends VPGEdge<A, T, R>> getIncomingEdgesTo(R tokenRef, int edgeType)
+    {
+        if (overlay == null)
+            return db.getIncomingEdgesTo(tokenRef, edgeType);
+        else
+            return overlay.getIncomingEdgesTo(tokenRef, edgeType);
+    }
+
+    // ANNOTATIONS /////////////////////////////////////////////////////////////
+
+    @Override public void setAnnotation(R token, int annotationID, Serializable annotation)
+    {
+        if (overlay == null)
+            db.setAnnotation(token, annotationID, annotation);
+        else
+            overlay.setAnnotation(token, annotationID, annotation);
+    }
+
+    @Override public void deleteAnnotation(R token, int annotationID)
+    {
+        if (overlay == null)
+            db.deleteAnnotation(token, annotationID);
+        else
+            overlay.deleteAnnotation(token, annotationID);
+    }
+
+    @Override public Serializable getAnnotation(R tokenRef, int annotationID)
+    {
+        if (overlay == null)
+            return db.getAnnotation(tokenRef, annotationID);
+        else
+            return overlay.getAnnotation(tokenRef, annotationID);
+    }
+
+    @Override public Iterable<Pair<R, Integer>> getAllAnnotationsFor(String filename)
+    {
+        if (overlay == null)
+            return db.getAllAnnotationsFor(filename);
+        else
+            return overlay.getAllAnnotationsFor(filename);
+    }
+
+    // BATCH UPDATES ///////////////////////////////////////////////////////////
+
+    @Override public void beginBatch(String filename)
+    {
+        // In hypothetical mode, updates are recorded in the overlay
+        if (overlay == null)
+            db.beginBatch(filename);
+    }
+
+    @Override public void commitBatch(String filename)
+    {
+        // Always forwarded, in case the batch was started before entering hypothetical mode
+        db.commitBatch(filename);
+    }
+
+    // UTILITY METHODS /////////////////////////////////////////////////////////
+
+    @Override public void printOn(PrintStream out)
+    {
+        printStatisticsOn(out);
+        out.println();
+        db.printOn(out);
+    }
+
+    @Override public void printStatisticsOn(PrintStream out)
+    {
+        if (overlay != null)
+        {
+            out.println("Hypothetical Mode Overlay:"); //$NON-NLS-1$
+            out.println("    Files with hidden entries:  " + overlay.countHiddenFiles()); //$NON-NLS-1$
+            out.println("    Dependencies added/deleted: " + overlay.countAddedDependencies() + "/" + overlay.deletedDependencies.size()); //$NON-NLS-1$ //$NON-NLS-2$
+            out.println("    Edges added/deleted:        " + overlay.countAddedEdges() + "/" + overlay.deletedEdges.size()); //$NON-NLS-1$ //$NON-NLS-2$
+            out.println("    Annotations set/deleted:    " + overlay.annotations.size() + "/" + overlay.deletedAnnotations.size()); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        db.printStatisticsOn(out);
+    }
+
+    @Override public void resetStatistics()
+    {
+        db.resetStatistics();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // OVERLAY
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Changes made to the database in hypothetical mode.
+     * <p>
+     * An entry in the wrapped database is <i>visible</i> unless it has been deleted individually
+     * or all entries of its kind have been deleted for one of the files it refers to.  Queries
+     * return the visible entries from the wrapped database together with the entries added to
+     * the overlay.
+     */
+    private final class Overlay
+    {
+        /** True iff {@link VPGDB#clearDatabase()} was called, hiding every entry in the wrapped database */
+        private final boolean baseCleared;
+
+        private final Set<String> addedFiles = new HashSet<String>();
+        private final Set<String> deletedFiles = new HashSet<String>();
+        private final Set<String> upToDateFiles = new HashSet<String>();
+
+        private final Set<String> filesWithHiddenIncomingDependencies = new HashSet<String>();
+        private final Set<String> filesWithHiddenOutgoingDependencies = new HashSet<String>();
+        private final Map<String, Set<String>> addedOutgoingDependencies = new HashMap<String, Set<String>>();
+        private final Map<String, Set<String>> addedIncomingDependencies = new HashMap<String, Set<String>>();
+        private final Set<Pair<String, String>> deletedDependencies = new HashSet<Pair<String, String>>();
+
+        private final Set<String> filesWithHiddenEdgesAndAnnotations = new HashSet<String>();
+        private final Map<R, Set<VPGEdge<A, T, R>>> addedOutgoingEdges = new HashMap<R, Set<VPGEdge<A, T, R>>>();
+        private final Map<R, Set<VPGEdge<A, T, R>>> addedIncomingEdges = new HashMap<R, Set<VPGEdge<A, T, R>>>();
+        private final Set<VPGEdge<A, T, R>> deletedEdges = new TreeSet<VPGEdge<A, T, R>>();
+
+        private final Map<Pair<R, Integer>, Serializable> annotations = new HashMap<Pair<R, Integer>, Serializable>();
+        private final Set<Pair<R, Integer>> deletedAnnotations = new HashSet<Pair<R, Integer>>();
+
+        public Overlay(boolean baseCleared)
+        {
+            this.baseCleared = baseCleared;
+        }
+
+        // FILES ///////////////////////////////////////////////////////////////
+
+        private void addFile(String filename)
+        {
+            addedFiles.add(filename);
+            deletedFiles.remove(filename);
+        }
+
+        public void updateModificationStamp(String filename)
+        {
+            addFile(filename);
+            upToDateFiles.add(filename);
+        }
+
+        public boolean isOutOfDate(String filename)
+        {
+            if (upToDateFiles.contains(filename))
+                return false;
+            else if (baseCleared || deletedFiles.contains(filename))
+                return true;
+            else
+                return db.isOutOfDate(filename);
+        }
+
+        public void deleteAllEntriesFor(String filename)
+        {
+            deleteAllIncomingDependenciesFor(filename);
+            deleteAllOutgoingDependenciesFor(filename);
+            deleteAllEdgesAndAnnotationsFor(filename);
+
+            addedFiles.remove(filename);
+            deletedFiles.add(filename);
+            upToDateFiles.remove(filename);
+        }
+
+        public Iterable<String> listAllFilenames()
+        {
+            Set<String> result = new TreeSet<String>();
+            if (!baseCleared)
+                for (String filename : db.listAllFilenames())
+                    if (!deletedFiles.contains(filename))
+                        result.add(filename);
+            result.addAll(addedFiles);
+            return result;
+        }
+
+        public Iterable<String> listAllFilenamesWithDependents()
+        {
+            Set<String> result = new TreeSet<String>();
+            if (!baseCleared)
+                for (String filename : db.listAllFilenamesWithDependents())
+                    if (getIncomingDependenciesTo(filename).iterator().hasNext())
+                        result.add(filename);
+            result.addAll(addedIncomingDependencies.keySet());
+            return result;
+        }
+
+        public Iterable<String> listAllDependentFilenames()
+        {
+            Set<String> result = new TreeSet<String>();
+            if (!baseCleared)
+                for (String filename : db.listAllDependentFilenames())
+                    if (getOutgoingDependenciesFrom(filename).iterator().hasNext())
+                        result.add(filename);
+            result.addAll(addedOutgoingDependencies.keySet());
+            return result;
+        }
+
+        // DEPENDENCIES ////////////////////////////////////////////////////////
+
+        private boolean isVisible(String dependentFile, String dependsOnFile)
+        {
+            return !baseCleared
+                && !filesWithHiddenOutgoingDependencies.contains(dependentFile)
+                && !filesWithHiddenIncomingDependencies.contains(dependsOnFile)
+                && !deletedDependencies.contains(Pair.of(dependentFile, dependsOnFile));
+        }
+
+        public void ensure(VPGDependency<A, T, R> dependency)
+        {
+            String dependentFile = dependency.getDependentFile();
+            String dependsOnFile = dependency.getDependsOnFile();
+
+            addFile(dependentFile);
+            addFile(dependsOnFile);
+            deletedDependencies.remove(Pair.of(dependentFile, dependsOnFile));
+            add(addedOutgoingDependencies, dependentFile, dependsOnFile);
+            add(addedIncomingDependencies, dependsOnFile, dependentFile);
+        }
+
+        public void delete(VPGDependency<A, T, R> dependency)
+        {
+            String dependentFile = dependency.getDependentFile();
+            String dependsOnFile = dependency.getDependsOnFile();
+
+            remove(addedOutgoingDependencies, dependentFile, dependsOnFile);
+            remove(addedIncomingDependencies, dependsOnFile, dependentFile);
+            deletedDependencies.add(Pair.of(dependentFile, dependsOnFile));
+        }
+
+        public void deleteAllIncomingDependenciesFor(String filename)
+        {
+            filesWithHiddenIncomingDependencies.add(filename);
+
+            Set<String> dependents = addedIncomingDependencies.remove(filename);
+            if (dependents != null)
+                for (String dependentFile : dependents)
+                    remove(addedOutgoingDependencies, dependentFile, filename);
+        }
+
+        public void deleteAllOutgoingDependenciesFor(String filename)
+        {
+            filesWithHiddenOutgoingDependencies.add(filename);
+
+            Set<String> dependencies = addedOutgoingDependencies.remove(filename);
+            if (dependencies != null)
+                for (String dependsOnFile : dependencies)
+                    remove(addedIncomingDependencies, dependsOnFile, filename);
+        }
+
+        public Iterable<String> getOutgoingDependenciesFrom(String filename)
+        {
+            Set<String> result = new TreeSet<String>();
+            if (!baseCleared && !filesWithHiddenOutgoingDependencies.contains(filename))
+                for (String dependsOnFile : db.getOutgoingDependenciesFrom(filename))
+                    if (isVisible(filename, dependsOnFile))
+                        result.add(dependsOnFile);
+            addAll(result, addedOutgoingDependencies.get(filename));
+            return result;
+        }
+
+        public Iterable<String> getIncomingDependenciesTo(String filename)
+        {
+            Set<String> result = new TreeSet<String>();
+            if (!baseCleared && !filesWithHiddenIncomingDependencies.contains(filename))
+                for (String dependentFile : db.getIncomingDependenciesTo(filename))
+                    if (isVisible(dependentFile, filename))
+                        result.add(dependentFile);
+            addAll(result, addedIncomingDependencies.get(filename));
+            return result;
+        }
+
+        public int countAddedDependencies()
+        {
+            int result = 0;
+            for (Set<String> dependencies : addedOutgoingDependencies.values())
+                result += dependencies.size();
+            return result;
+        }
+
+        // EDGES ///////////////////////////////////////////////////////////////
+
+        private boolean hidesEdgesAndAnnotationsFor(String filename)
+        {
+            return baseCleared || filesWithHiddenEdgesAndAnnotations.contains(filename);
+        }
+
+        private boolean isVisible(VPGEdge<A, T, R> edge)
+        {
+            return !hidesEdgesAndAnnotationsFor(edge.getSource().getFilename())
+                && !hidesEdgesAndAnnotationsFor(edge.getSink().getFilename())
+                && !deletedEdges.contains(edge);
+        }
+
+        public void ensure(VPGEdge<A, T, R> edge)
+        {
+            addFile(edge.getSource().getFilename());
+            addFile(edge.getSink().getFilename());
+            deletedEdges.remove(edge);
+            add(addedOutgoingEdges, edge.getSource(), edge);
+            add(addedIncomingEdges, edge.getSink(), edge);
+        }
+
+        public void delete(VPGEdge<A, T, R> edge)
+        {
+            remove(addedOutgoingEdges, edge.getSource(), edge);
+            remove(addedIncomingEdges, edge.getSink(), edge);
+            deletedEdges.add(edge);
+        }
+
+        public void deleteAllEdgesAndAnnotationsFor(String filename)
+        {
+            filesWithHiddenEdgesAndAnnotations.add(filename);
+
+            removeEdgesFor(filename, addedOutgoingEdges);
+            removeEdgesFor(filename, addedIncomingEdges);
+
+            for (Iterator<Pair<R, Integer>> it = annotations.keySet().iterator(); it.hasNext(); )
+                if (it.next().fst.getFilename().equals(filename))
+                    it.remove();
+        }
+
+        /** Removes every edge with at least one endpoint in the given file */
+        private void removeEdgesFor(String filename, Map<R, Set<VPGEdge<A, T, R>>> edgeMap)
+        {
+            for (Iterator<Map.Entry<R, Set<VPGEdge<A, T, R>>>> it = edgeMap.entrySet().iterator(); it.hasNext(); )
+            {
+                Map.Entry<R, Set<VPGEdge<A, T, R>>> entry = it.next();
+                if (entry.getKey().getFilename().equals(filename))
+                {
+                    it.remove();
+                }
+                else
+                {
+                    for (Iterator<VPGEdge<A, T, R>> edges = entry.getValue().iterator(); edges.hasNext(); )
+                    {
+                        VPGEdge<A, T, R> edge = edges.next();
+                        if (edge.getSource().getFilename().equals(filename) || edge.getSink().getFilename().equals(filename))
+                            edges.remove();
+                    }
+
+                    if (entry.getValue().isEmpty())
+                        it.remove();
+                }
+            }
+        }
+
+        public Iterable<? extends VPGEdge<A, T, R>> getAllEdgesFor(String filename)
+        {
+            Set<VPGEdge<A, T, R>> result = new TreeSet<VPGEdge<A, T, R>>();
+
+            if (!hidesEdgesAndAnnotationsFor(filename))
+                for (VPGEdge<A, T, R> edge : db.getAllEdgesFor(filename))
+                    if (isVisible(edge))
+                        result.add(edge);
+
+            for (Set<VPGEdge<A, T, R>> edges : addedOutgoingEdges.values())
+                for (VPGEdge<A, T, R> edge : edges)
+                    if (edge.getSource().getFilename().equals(filename) || edge.getSink().getFilename().equals(filename))
+                        result.add(edge);
+
+            return result;
+        }
+
+        public Iterable<? extends VPGEdge<A, T, R>> getOutgoingEdgesFrom(R tokenRef, int edgeType)
+        {
+            Set<VPGEdge<A, T, R>> result = new TreeSet<VPGEdge<A, T, R>>();
+
+            if (!hidesEdgesAndAnnotationsFor(tokenRef.getFilename()))
+                for (VPGEdge<A, T, R> edge : db.getOutgoingEdgesFrom(tokenRef, edgeType))
+                    if (isVisible(edge))
+                        result.add(edge);
+
+            addAll(result, addedOutgoingEdges.get(tokenRef), edgeType);
+            return result;
+        }
+
+        public Iterable<? extends VPGEdge<A, T, R>> getIncomingEdgesTo(R tokenRef, int edgeType)
+        {
+            Set<VPGEdge<A, T, R>> result = new TreeSet<VPGEdge<A, T, R>>();
+
+            if (!hidesEdgesAndAnnotationsFor(tokenRef.getFilename()))
+                for (VPGEdge<A, T, R> edge : db.getIncomingEdgesTo(tokenRef, edgeType))
+                    if (isVisible(edge))
+                        result.add(edge);
+
+            addAll(result, addedIncomingEdges.get(tokenRef), edgeType);
+            return result;
+        }
+
+        private void addAll(Set<VPGEdge<A, T, R>> result, Set<VPGEdge<A, T, R>> edges, int edgeType)
+        {
+            if (edges != null)
+                for (VPGEdge<A, T, R> edge : edges)
+                    if (edgeType == ALL_EDGES || edge.getType() == edgeType)
+                        result.add(edge);
+        }
+
+        public int countAddedEdges()
+        {
+            int result = 0;
+            for (Set<VPGEdge<A, T, R>> edges : addedOutgoingEdges.values())
+                result += edges.size();
+            return result;
+        }
+
+        // ANNOTATIONS /////////////////////////////////////////////////////////
+
+        public void setAnnotation(R token, int annotationID, Serializable annotation)
+        {
+            Pair<R, Integer> key = Pair.of(token, annotationID);
+
+            addFile(token.getFilename());
+            deletedAnnotations.remove(key);
+            annotations.put(key, annotation);
+        }
+
+        public void deleteAnnotation(R token, int annotationID)
+        {
+            Pair<R, Integer> key = Pair.of(token, annotationID);
+
+            annotations.remove(key);
+            deletedAnnotations.add(key);
+        }
+
+        public Serializable getAnnotation(R tokenRef, int annotationID)
+        {
+            Pair<R, Integer> key = Pair.of(tokenRef, annotationID);
+
+            if (annotations.containsKey(key))
+                return annotations.get(key);
+            else if (deletedAnnotations.contains(key) || hidesEdgesAndAnnotationsFor(tokenRef.getFilename()))
+                return null;
+            else
+                return db.getAnnotation(tokenRef, annotationID);
+        }
+
+        public Iterable<Pair<R, Integer>> getAllAnnotationsFor(String filename)
+        {
+            List<Pair<R, Integer>> result = new ArrayList<Pair<R, Integer>>();
+
+            if (!hidesEdgesAndAnnotationsFor(filename))
+                for (Pair<R, Integer> key : db.getAllAnnotationsFor(filename))
+                    if (!deletedAnnotations.contains(key) && !annotations.containsKey(key))
+                        result.add(key);
+
+            for (Pair<R, Integer> key : annotations.keySet())
+                if (key.fst.getFilename().equals(filename))
+                    result.add(key);
+
+            return result;
+        }
+
+        // UTILITY METHODS /////////////////////////////////////////////////////
+
+        public int countHiddenFiles()
+        {
+            Set<String> result = new HashSet<String>(deletedFiles);
+            result.addAll(filesWithHiddenIncomingDependencies);
+            result.addAll(filesWithHiddenOutgoingDependencies);
+            result.addAll(filesWithHiddenEdgesAndAnnotations);
+            return result.size();
+        }
+
+        private <K, V> void add(Map<K, Set<V>> map, K key, V value)
+        {
+            Set<V> values = map.get(key);
+            if (values == null)
+            {
+                values = new TreeSet<V>();
+                map.put(key, values);
+            }
+            values.add(value);
+        }
+
+        private <K, V> void remove(Map<K, Set<V>> map, K key, V value)
+        {
+            Set<V> values = map.get(key);
+            if (values != null)
+            {
+                values.remove(value);
+                if (values.isEmpty())
+                    map.remove(key);
+            }
+        }
+
+        private void addAll(Set<String> result, Set<String> filenames)
+        {
+            if (filenames != null)
+                result.addAll(filenames);
+        }
+    }
+}
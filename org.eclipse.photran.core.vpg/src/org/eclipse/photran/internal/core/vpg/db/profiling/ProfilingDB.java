@@ -70,7 +70,7 @@ public class ProfilingDB<A, T, R extends IVPGNode<T>>
      * @param methodName - the database method that was called
      * @param time - the total time (in milliseconds) that the call took
      */
-    private void update(String methodName, long time)
+    private synchronized void update(String methodName, long time)
     {
         if (!methodCalls.containsKey(methodName))
         {
@@ -395,6 +395,30 @@ public class ProfilingDB<A, T, R extends IVPGNode<T>>
         update("deleteAnnotation", endTime - startTime); //$NON-NLS-1$
     }
 
+    // BATCH UPDATES ///////////////////////////////////////////////////////////
+
+    @Override public void beginBatch(String filename)
+    {
+        long startTime = System.currentTimeMillis();
+        
+        db.beginBatch(filename);
+        
+        long endTime = System.currentTimeMillis();
+        
+        update("beginBatch", endTime - startTime); //$NON-NLS-1$
+    }
+
+    @Override public void commitBatch(String filename)
+    {
+        long startTime = System.currentTimeMillis();
+        
+        db.commitBatch(filename);
+        
+        long endTime = System.currentTimeMillis();
+        
+        update("commitBatch", endTime - startTime); //$NON-NLS-1$
+    }
+
     // UTILITY METHODS /////////////////////////////////////////////////////////
 
     @Override public void printOn(PrintStream out)
@@ -412,13 +436,16 @@ public class ProfilingDB<A, T, R extends IVPGNode<T>>
         out.println("Additional Statistics: "); //$NON-NLS-1$
         out.format("%-35s%-20s%-20s%-20s\n", "Method Name", "Times Called", "Average Time (ms)", "Longest Time (ms)");   //$NON-NLS-1$ //$NON-NLS-2$//$NON-NLS-3$ //$NON-NLS-4$//$NON-NLS-5$
         
-        for (String aMethod : methodCalls.keySet())
+        synchronized (this)
         {
-            int numCalls = methodCalls.get(aMethod).intValue();
-            double avgTime = (double)methodTimes.get(aMethod) / (double)numCalls;
-            long longestCall = methodLongestCall.get(aMethod).longValue();
-            
-            out.format("%-35s%-20d%-20.2f%-20d\n", aMethod, numCalls, avgTime, longestCall); //$NON-NLS-1$
+            for (String aMethod : methodCalls.keySet())
+            {
+                int numCalls = methodCalls.get(aMethod).intValue();
+                double avgTime = (double)methodTimes.get(aMethod) / (double)numCalls;
+                long longestCall = methodLongestCall.get(aMethod).longValue();
+                
+                out.format("%-35s%-20d%-20.2f%-20d\n", aMethod, numCalls, avgTime, longestCall); //$NON-NLS-1$
+            }
         }
         
         db.printStatisticsOn(out);
@@ -426,9 +453,12 @@ public class ProfilingDB<A, T, R extends IVPGNode<T>>
 
     @Override public void resetStatistics()
     {
-        methodCalls = new HashMap <String, Integer>();
-        methodTimes = new HashMap <String, Long>();
-        methodLongestCall = new HashMap <String, Long>();
+        synchronized (this)
+        {
+            methodCalls = new HashMap <String, Integer>();
+            methodTimes = new HashMap <String, Long>();
+            methodLongestCall = new HashMap <String, Long>();
+        }
         db.resetStatistics();
     }
 
@@ -12,6 +12,7 @@ package org.eclipse.photran.internal.core.vpg.eclipse;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -252,6 +253,16 @@ public abstract class EclipseVPG<A, T, R extends IVPGNode<T>>
         {
             List<String> queue = sortFilesAccordingToDependencies(files); //, monitor);
 
+            if (shouldIndexInParallel())
+            {
+                Set<String> filesToIndex = new HashSet<String>();
+                for (String filename : queue)
+                    if (isOutOfDate(filename))
+                        filesToIndex.add(filename);
+                indexInParallel(queue, filesToIndex, monitor);
+                return;
+            }
+
             int completed = 0, total = countFilesInQueue(queue);
             for (String filename : queue)
             {
@@ -282,6 +293,61 @@ public abstract class EclipseVPG<A, T, R extends IVPGNode<T>>
         return !isVirtualFile(filename);
     }
 
+    /**
+     * @return the number of threads used to parse files during indexing; if this is 1 (the
+     *         default), files are parsed and indexed sequentially on the indexer thread
+     */
+    protected int getNumberOfIndexerThreads()
+    {
+        return 1;
+    }
+
+    private boolean shouldIndexInParallel()
+    {
+        return getNumberOfIndexerThreads() > 1 && supportsConcurrentParsing();
+    }
+
+    private void indexInParallel(List<String> queue, Set<String> filesToIndex, IProgressMonitor monitor)
+    {
+        indexInParallel(queue, filesToIndex, new HashSet<String>(), monitor);
+    }
+
+    private void indexInParallel(List<String> queue, Set<String> filesToIndex, Set<String> dependentFiles, IProgressMonitor monitor)
+    {
+        new ParallelIndexer<A, T, R>(this, getNumberOfIndexerThreads())
+            .index(queue, filesToIndex, dependentFiles, countFilesInQueue(queue), monitor);
+    }
+
+    /**
+     * Determines whether a file which was enqueued only because it depends on a modified file
+     * must be reindexed.
+     *
+     * @param changedFiles files which have been reindexed and whose dependents must be reindexed
+     *                     (see {@link #recordReindexed(String, Set)})
+     * @return <code>true</code> iff the file is out of date or depends on a file in
+     *         <code>changedFiles</code>
+     */
+    boolean mustReindexDependent(String filename, Set<String> changedFiles)
+    {
+        for (String dependency : getOutgoingDependenciesFrom(filename))
+            if (changedFiles.contains(dependency))
+                return true;
+
+        return !isVirtualFile(filename) && isOutOfDate(filename);
+    }
+
+    /**
+     * Records that the given file has been reindexed, adding it to <code>changedFiles</code> if
+     * its dependents must be reindexed as well.
+     *
+     * @see #dependentsMustBeReindexed(String)
+     */
+    void recordReindexed(String filename, Set<String> changedFiles)
+    {
+        if (dependentsMustBeReindexed(filename))
+            changedFiles.add(filename);
+    }
+
     //public ArrayList<String> sortFilesAccordingToDependencies(final ArrayList<String> files, final IProgressMonitor monitor)
 
     ///////////////////////////////////////////////////////////////////////////
@@ -421,9 +487,34 @@ public abstract class EclipseVPG<A, T, R extends IVPGNode<T>>
             }
         }
 
+        /**
+         * Indexes the modified files and the files that depend on them.
+         * <p>
+         * A file which was enqueued only because it depends on a modified file is reindexed only
+         * if a file it depends on was reindexed and {@link #dependentsMustBeReindexed(String)}
+         * (e.g., because a module's interface changed).
+         */
         public void index(IProgressMonitor monitor)
         {
             List<String> queue = sortFilesAccordingToDependencies(files); //, monitor);
+
+            if (shouldIndexInParallel())
+            {
+                Set<String> filesToIndex = new HashSet<String>();
+                Set<String> dependentFiles = new HashSet<String>();
+                for (String filename : queue)
+                {
+                    Boolean force = forceReindex.get(filename);
+                    if (force == null)
+                        dependentFiles.add(filename);
+                    else if (force || isOutOfDate(filename))
+                        filesToIndex.add(filename);
+                }
+                indexInParallel(queue, filesToIndex, dependentFiles, monitor);
+                return;
+            }
+
+            Set<String> changedFiles = new HashSet<String>();
             int completed = 0, total = countFilesInQueue(queue);
             for (String filename : queue)
             {
@@ -436,10 +527,22 @@ public abstract class EclipseVPG<A, T, R extends IVPGNode<T>>
                             total));
 
                 Boolean force = forceReindex.get(filename);
-                if (force == null || force)
+                boolean mustIndex;
+                if (force == null)
+                    mustIndex = mustReindexDependent(filename, changedFiles);
+                else
+                    mustIndex = force || isOutOfDate(filename);
+
+                if (mustIndex)
+                {
+                    debug(Messages.EclipseVPG_Indexing, filename);
                     forceRecomputationOfEdgesAndAnnotations(filename);
+                    recordReindexed(filename, changedFiles);
+                }
                 else
-                    indexIfNotUpToDate(filename);
+                {
+                    debug(Messages.EclipseVPG_IndexIsUpToDate, filename);
+                }
             }
         }
     }
@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.vpg.eclipse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.photran.internal.core.vpg.IVPGNode;
+import org.eclipse.photran.internal.core.vpg.NodeRef;
+import org.eclipse.photran.internal.core.vpg.VPG;
+import org.eclipse.photran.internal.core.vpg.VPGDB;
+
+/**
+ * Indexes a list of files using several threads.
+ * <p>
+ * Parsing is the most expensive part of indexing, and it does not depend on any other file's
+ * index entries, so files are parsed concurrently on a pool of worker threads using
+ * {@link VPG#parseConcurrently(String, List)}.  Edges and annotations are computed and written to
+ * the database only on the calling (indexer) thread, so the database is never accessed
+ * concurrently.
+ * <p>
+ * Files are scheduled as a DAG over the file dependency graph: a file's edges and annotations are
+ * computed as soon as every file it depends on has been indexed and its own parse has finished,
+ * so a single slow file does not hold up unrelated files behind it.  Only edges that point
+ * backward in the order produced by {@link VPGDB#sortFilesAccordingToDependencies(List)} are
+ * considered, so cyclic dependencies are resolved the same way as in the sequential indexer.
+ * <p>
+ * Files which were enqueued only because they depend on a modified file are not parsed until
+ * every file they depend on has been indexed; at that point, they are either scheduled for
+ * parsing or skipped, depending on whether a file they depend on changed in a way that requires
+ * them to be reindexed (see {@link EclipseVPG#mustReindexDependent(String, Set)}).
+ *
+ * @param <A> AST type
+ * @param <T> token type
+ * @param <R> {@link IVPGNode}/{@link NodeRef} type
+ */
+final class ParallelIndexer<A, T, R extends IVPGNode<T>>
+{
+    private final EclipseVPG<A, T, R> vpg;
+    private final int numThreads;
+
+    /** Maximum number of ASTs that may be parsed but not yet indexed (bounds memory usage) */
+    private final int maxOutstandingParses;
+
+    private final class IndexerTask implements Runnable
+    {
+        private final int position;
+        private final String filename;
+        private final boolean isDependent;
+        private boolean mustIndex;
+        private boolean canParseConcurrently;
+        private final List<IndexerTask> dependents;
+        private int unindexedDependencies;
+
+        // Written by a worker thread before this task is added to the parsedTasks queue
+        private A ast;
+        private List<Runnable> deferredDatabaseWrites;
+        private Throwable error;
+
+        // Indexer thread only
+        private boolean isParsed;
+
+        private IndexerTask(int position, String filename, boolean mustIndex, boolean isDependent)
+        {
+            this.position = position;
+            this.filename = filename;
+            this.isDependent = isDependent && !mustIndex;
+            this.mustIndex = mustIndex;
+            this.canParseConcurrently = (mustIndex || this.isDependent) && !vpg.isVirtualFile(filename) && vpg.shouldProcessFile(filename);
+            this.dependents = new ArrayList<IndexerTask>(4);
+            this.unindexedDependencies = 0;
+            this.isParsed = !canParseConcurrently;
+        }
+
+        /** Invoked on a worker thread */
+        public void run()
+        {
+            try
+            {
+                List<Runnable> deferred = new ArrayList<Runnable>();
+                vpg.getLog().clearEntriesFor(filename);
+                this.ast = vpg.parseConcurrently(filename, deferred);
+                this.deferredDatabaseWrites = deferred;
+            }
+            catch (Throwable e)
+            {
+                this.error = e;
+            }
+            finally
+            {
+                parsedTasks.add(this);
+            }
+        }
+    }
+
+    private final LinkedBlockingQueue<IndexerTask> parsedTasks = new LinkedBlockingQueue<IndexerTask>();
+
+    /** Files which have been reindexed and whose dependents must be reindexed (indexer thread only) */
+    private final Set<String> changedFiles = new HashSet<String>();
+
+    public ParallelIndexer(EclipseVPG<A, T, R> vpg, int numThreads)
+    {
+        assert numThreads > 0;
+
+        this.vpg = vpg;
+        this.numThreads = numThreads;
+        this.maxOutstandingParses = 2 * numThreads;
+    }
+
+    /**
+     * Indexes the files in the given queue.
+     *
+     * @param queue files to process, in the order returned by
+     *              {@link VPGDB#sortFilesAccordingToDependencies(List)}
+     * @param filesToIndex the files in the queue whose edges and annotations must be recomputed
+     * @param dependentFiles the files in the queue which must be recomputed only if they are out
+     *                       of date or a file they depend on changed; other files in the queue
+     *                       are up to date
+     * @param totalFilesInProgressMessages number of files in the queue which are listed in
+     *                                     progress messages
+     */
+    public void index(List<String> queue, Set<String> filesToIndex, Set<String> dependentFiles, int totalFilesInProgressMessages, IProgressMonitor monitor)
+    {
+        List<IndexerTask> tasks = createTasks(queue, filesToIndex, dependentFiles);
+
+        ExecutorService workers = Executors.newFixedThreadPool(numThreads, new WorkerThreadFactory());
+        try
+        {
+            TreeSet<Integer> ready = new TreeSet<Integer>();
+            int outstandingParses = 0;
+            for (IndexerTask task : tasks)
+                if (task.unindexedDependencies == 0)
+                    outstandingParses += makeReady(task, ready, workers);
+
+            int nextToParse = 0, completed = 0;
+            for (int indexed = 0; indexed < tasks.size(); )
+            {
+                if (monitor.isCanceled()) throw new OperationCanceledException();
+
+                for (; nextToParse < tasks.size() && outstandingParses < maxOutstandingParses; nextToParse++)
+                {
+                    IndexerTask task = tasks.get(nextToParse);
+                    if (task.canParseConcurrently && !task.isDependent)
+                    {
+                        workers.execute(task);
+                        outstandingParses++;
+                    }
+                }
+
+                IndexerTask task = findReadyTask(ready, tasks);
+                if (task == null)
+                {
+                    waitForParse();
+                    continue;
+                }
+
+                ready.remove(task.position);
+                if (task.canParseConcurrently) outstandingParses--;
+
+                if (vpg.shouldListFileInIndexerProgressMessages(task.filename))
+                    monitor.subTask(task.filename + " " + //$NON-NLS-1$
+                        Messages.bind(Messages.EclipseVPG_XofY,
+                                      ++completed,
+                                      totalFilesInProgressMessages));
+
+                index(task);
+                indexed++;
+
+                for (IndexerTask dependent : task.dependents)
+                    if (--dependent.unindexedDependencies == 0)
+                        outstandingParses += makeReady(dependent, ready, workers);
+            }
+        }
+        finally
+        {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Adds the given task, all of whose dependencies have been indexed, to the ready set.  If the
+     * task was enqueued only because it depends on a modified file, this determines whether it
+     * must be indexed and, if so, starts parsing it immediately.  (Since the task is ready, its
+     * AST is indexed as soon as it has been parsed, so this may exceed
+     * {@link #maxOutstandingParses}; deferring it could starve the indexer, since later files may
+     * be waiting for it.)
+     *
+     * @return the number of parses started (0 or 1)
+     */
+    private int makeReady(IndexerTask task, TreeSet<Integer> ready, ExecutorService workers)
+    {
+        ready.add(task.position);
+
+        if (!task.isDependent) return 0;
+
+        task.mustIndex = vpg.mustReindexDependent(task.filename, changedFiles);
+        if (task.mustIndex && task.canParseConcurrently)
+        {
+            workers.execute(task);
+            return 1;
+        }
+        else
+        {
+            task.canParseConcurrently = false;
+            task.isParsed = true;
+            return 0;
+        }
+    }
+
+    private List<IndexerTask> createTasks(List<String> queue, Set<String> filesToIndex, Set<String> dependentFiles)
+    {
+        List<IndexerTask> tasks = new ArrayList<IndexerTask>(queue.size());
+        HashMap<String, IndexerTask> tasksByFilename = new HashMap<String, IndexerTask>(queue.size() * 2);
+        for (String filename : queue)
+        {
+            IndexerTask task = new IndexerTask(tasks.size(), filename, filesToIndex.contains(filename), dependentFiles.contains(filename));
+            tasks.add(task);
+            tasksByFilename.put(filename, task);
+        }
+
+        for (IndexerTask task : tasks)
+        {
+            for (String dependency : vpg.getOutgoingDependenciesFrom(task.filename))
+            {
+                IndexerTask dependencyTask = tasksByFilename.get(dependency);
+                if (dependencyTask != null && dependencyTask.position < task.position)
+                {
+                    dependencyTask.dependents.add(task);
+                    task.unindexedDependencies++;
+                }
+            }
+        }
+
+        return tasks;
+    }
+
+    /** @return the first ready task (in dependency order) whose parse has finished, or <code>null</code> */
+    private IndexerTask findReadyTask(TreeSet<Integer> ready, List<IndexerTask> tasks)
+    {
+        for (IndexerTask task; (task = parsedTasks.poll()) != null; )
+            task.isParsed = true;
+
+        for (Integer position : ready)
+        {
+            IndexerTask task = tasks.get(position);
+            if (task.isParsed) return task;
+        }
+
+        return null;
+    }
+
+    private void waitForParse()
+    {
+        try
+        {
+            parsedTasks.take().isParsed = true;
+        }
+        catch (InterruptedException e)
+        {
+            throw new OperationCanceledException();
+        }
+    }
+
+    private void index(IndexerTask task)
+    {
+        if (!task.mustIndex)
+        {
+            vpg.debug(Messages.EclipseVPG_IndexIsUpToDate, task.filename);
+        }
+        else if (!task.canParseConcurrently || task.error != null)
+        {
+            if (task.error != null) vpg.getLog().logError(task.error);
+
+            vpg.debug(Messages.EclipseVPG_Indexing, task.filename);
+            vpg.forceRecomputationOfEdgesAndAnnotations(task.filename);
+        }
+        else
+        {
+            vpg.debug(Messages.EclipseVPG_Indexing, task.filename);
+            for (Runnable write : task.deferredDatabaseWrites)
+                write.run();
+            vpg.forceRecomputationOfEdgesAndAnnotations(task.filename, task.ast);
+        }
+
+        if (task.mustIndex) vpg.recordReindexed(task.filename, changedFiles);
+
+        // Allow the AST to be garbage collected once it is no longer cached
+        task.ast = null;
+        task.deferredDatabaseWrites = null;
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory
+    {
+        private int count = 0;
+
+        public Thread newThread(Runnable r)
+        {
+            Thread thread = new Thread(r, "VPG Indexer Worker " + (++count)); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -15,10 +15,15 @@ import org.eclipse.core.runtime.jobs.ISchedulingRule;
 /**
  * An {@link ISchedulingRule} for jobs which access a VPG.
  * <p>
- * Only one job with a {@link VPGSchedulingRule} is allowed to run at any single point in time.
+ * Only one job with the exclusive {@link VPGSchedulingRule} (see {@link #getInstance()}) is
+ * allowed to run at any single point in time.  Jobs with a read-only rule (see
+ * {@link #createReadOnlyRule()}), which only query the VPG and acquire ASTs, may run concurrently
+ * with each other and with the exclusive job (e.g., the indexer): the database is guarded by a
+ * {@link org.eclipse.photran.internal.core.vpg.db.concurrent.ConcurrentDB}, and the VPG's AST
+ * cache is thread-safe.
  * <p>
- * This class is a Singleton; the singleton instance is accessed via the {@link #getInstance()}
- * method.
+ * The exclusive rule is a singleton.  Since a scheduling rule must conflict with itself, each
+ * read-only job needs its own read-only rule.
  * <p>
  * <a href="../../../../overview-summary.html#Eclipse">More Information</a>
  * 
@@ -26,23 +31,40 @@ import org.eclipse.core.runtime.jobs.ISchedulingRule;
  */
 public class VPGSchedulingRule implements ISchedulingRule
 {
-	private static VPGSchedulingRule instance = null;
+	private static final VPGSchedulingRule instance = new VPGSchedulingRule(false);
 
+	/** @return the rule for jobs which may modify the VPG (or its AST cache) */
 	public static VPGSchedulingRule getInstance()
 	{
-		if (instance == null) instance = new VPGSchedulingRule();
 		return instance;
 	}
 
-	private VPGSchedulingRule() {}
+	/** @return a new rule for a job which only reads from the VPG */
+	public static VPGSchedulingRule createReadOnlyRule()
+	{
+		return new VPGSchedulingRule(true);
+	}
+
+	private final boolean readOnly;
+
+	private VPGSchedulingRule(boolean readOnly)
+	{
+		this.readOnly = readOnly;
+	}
 
 	public boolean isConflicting(ISchedulingRule rule)
 	{
+		// There is only one exclusive rule, and read-only rules conflict with nothing but themselves
 		return rule == this;
 	}
 
 	public boolean contains(ISchedulingRule rule)
 	{
-		return rule == this;
+		if (rule == this)
+			return true;
+		else if (this == instance && rule instanceof VPGSchedulingRule)
+			return ((VPGSchedulingRule)rule).readOnly;
+		else
+			return false;
 	}
 }
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 University of Illinois at Urbana-Champaign and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    UIUC - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.photran.internal.core.vpg.refactoring;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+
+/**
+ * Computes a small set of text edits which transform one string into another.
+ * <p>
+ * The text common to the beginning and end of both strings is removed; the remaining lines are
+ * compared using the Myers O(ND) difference algorithm.  Each run of changed lines becomes a
+ * single {@link ReplaceEdit} (or one per line, if the same number of lines was deleted and
+ * inserted), trimmed to the characters that actually changed.  For example,
+ * renaming a variable in a large file produces one short edit per occurrence rather than replacing
+ * the entire file.  If the texts differ in more than {@link #MAX_CHANGED_LINES} lines, the lines
+ * between the first and last change are replaced by a single edit.
+ *
+ * @see VPGRefactoring#addChangeFromModifiedAST(org.eclipse.core.resources.IFile, org.eclipse.core.runtime.IProgressMonitor)
+ */
+public final class TextEditDiff
+{
+    /** Maximum number of inserted plus deleted lines for which a line-by-line diff is computed */
+    public static final int MAX_CHANGED_LINES = 2000;
+
+    private TextEditDiff() {}
+
+    /**
+     * @return a {@link MultiTextEdit} which, when applied to <code>oldText</code>, produces
+     *         <code>newText</code> (if the strings are equal, it has no children)
+     */
+    public static MultiTextEdit computeEdits(String oldText, String newText)
+    {
+        MultiTextEdit result = new MultiTextEdit();
+
+        int prefix = commonPrefixLength(oldText, 0, oldText.length(), newText, 0, newText.length());
+        int oldStart = startOfLine(oldText, prefix), newStart = oldStart;
+        int suffix = commonSuffixLength(oldText, oldStart, oldText.length(), newText, newStart, newText.length());
+        int oldEnd = oldText.length() - suffix, newEnd = newText.length() - suffix;
+        if (oldStart == oldEnd && newStart == newEnd) return result;
+
+        int[] oldLines = lineOffsets(oldText, oldStart, oldEnd);
+        int[] newLines = lineOffsets(newText, newStart, newEnd);
+        int[][] lineIDs = identifyLines(oldText, oldLines, newText, newLines);
+        boolean[][] changed = diff(lineIDs[0], lineIDs[1], MAX_CHANGED_LINES);
+        if (changed == null)
+        {
+            addEdit(result, oldText, oldStart, oldEnd, newText, newStart, newEnd);
+            return result;
+        }
+
+        boolean[] deleted = changed[0], inserted = changed[1];
+        int i = 0, j = 0, n = deleted.length, m = inserted.length;
+        while (i < n || j < m)
+        {
+            if (i < n && j < m && !deleted[i] && !inserted[j])
+            {
+                i++;
+                j++;
+                continue;
+            }
+
+            int firstOldLine = i, firstNewLine = j;
+            while (i < n && deleted[i]) i++;
+            while (j < m && inserted[j]) j++;
+            if (i == firstOldLine && j == firstNewLine) break; // Cannot happen
+
+            if (i - firstOldLine == j - firstNewLine)
+            {
+                // Each line was modified, so the lines can be compared one at a time
+                for (int line = 0; line < i - firstOldLine; line++)
+                    addEdit(result,
+                            oldText, oldLines[firstOldLine + line], oldLines[firstOldLine + line + 1],
+                            newText, newLines[firstNewLine + line], newLines[firstNewLine + line + 1]);
+            }
+            else
+            {
+                addEdit(result,
+                        oldText, oldLines[firstOldLine], oldLines[i],
+                        newText, newLines[firstNewLine], newLines[j]);
+            }
+        }
+        return result;
+    }
+
+    /** Adds an edit replacing the given region of the old text with the given region of the new
+     *  text, excluding any characters common to the beginning or end of the two regions */
+    private static void addEdit(MultiTextEdit result,
+                                String oldText, int oldStart, int oldEnd,
+                                String newText, int newStart, int newEnd)
+    {
+        int prefix = commonPrefixLength(oldText, oldStart, oldEnd, newText, newStart, newEnd);
+        oldStart += prefix;
+        newStart += prefix;
+
+        int suffix = commonSuffixLength(oldText, oldStart, oldEnd, newText, newStart, newEnd);
+        oldEnd -= suffix;
+        newEnd -= suffix;
+
+        if (oldStart < oldEnd || newStart < newEnd)
+            result.addChild(new ReplaceEdit(oldStart, oldEnd - oldStart, newText.substring(newStart, newEnd)));
+    }
+
+    private static int commonPrefixLength(String a, int aStart, int aEnd, String b, int bStart, int bEnd)
+    {
+        int length = Math.min(aEnd - aStart, bEnd - bStart);
+        for (int i = 0; i < length; i++)
+            if (a.charAt(aStart + i) != b.charAt(bStart + i))
+                return i;
+        return length;
+    }
+
+    private static int commonSuffixLength(String a, int aStart, int aEnd, String b, int bStart, int bEnd)
+    {
+        int length = Math.min(aEnd - aStart, bEnd - bStart);
+        for (int i = 0; i < length; i++)
+            if (a.charAt(aEnd - 1 - i) != b.charAt(bEnd - 1 - i))
+                return i;
+        return length;
+    }
+
+    private static int startOfLine(String text, int offset)
+    {
+        while (offset > 0 && text.charAt(offset - 1) != '\n' && text.charAt(offset - 1) != '\r')
+            offset--;
+        return offset;
+    }
+
+    /**
+     * @return the offsets at which the lines in the given region begin, followed by the end
+     *         offset of the region (so line <i>k</i> spans from element <i>k</i> to element
+     *         <i>k+1</i>, including its line terminator)
+     */
+    private static int[] lineOffsets(String text, int start, int end)
+    {
+        ArrayList<Integer> offsets = new ArrayList<Integer>();
+        int lineStart = start;
+        for (int i = start; i < end; i++)
+        {
+            char c = text.charAt(i);
+            if (c == '\n' || (c == '\r' && (i + 1 >= end || text.charAt(i + 1) != '\n')))
+            {
+                offsets.add(lineStart);
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < end) offsets.add(lineStart);
+
+        int[] result = new int[offsets.size() + 1];
+        for (int i = 0; i < offsets.size(); i++)
+            result[i] = offsets.get(i);
+        result[offsets.size()] = end;
+        return result;
+    }
+
+    /** @return arrays of integers such that two lines have the same integer iff they have the
+     *          same text (including line terminators) */
+    private static int[][] identifyLines(String oldText, int[] oldLines, String newText, int[] newLines)
+    {
+        HashMap<String, Integer> ids = new HashMap<String, Integer>();
+        return new int[][] { identifyLines(oldText, oldLines, ids), identifyLines(newText, newLines, ids) };
+    }
+
+    private static int[] identifyLines(String text, int[] lines, HashMap<String, Integer> ids)
+    {
+        int[] result = new int[lines.length - 1];
+        for (int i = 0; i < result.length; i++)
+        {
+            String line = text.substring(lines[i], lines[i+1]);
+            Integer id = ids.get(line);
+            if (id == null)
+            {
+                id = ids.size();
+                ids.put(line, id);
+            }
+            result[i] = id;
+        }
+        return result;
+    }
+
+    /**
+     * Computes a shortest edit script between the two sequences using the greedy algorithm in
+     * E. W. Myers, &quot;An O(ND) Difference Algorithm and Its Variations,&quot; Algorithmica 1(2),
+     * 1986.
+     *
+     * @return a pair of arrays marking the elements of <code>a</code> that are deleted and the
+     *         elements of <code>b</code> that are inserted, or <code>null</code> if more than
+     *         <code>maxD</code> insertions and deletions are required
+     */
+    private static boolean[][] diff(int[] a, int[] b, int maxD)
+    {
+        int n = a.length, m = b.length;
+
+        // trace.get(d)[k+d] is the furthest x reached on diagonal k (= x - y) after d edits
+        List<int[]> trace = new ArrayList<int[]>();
+        for (int d = 0; d <= maxD; d++)
+        {
+            int[] prev = d == 0 ? null : trace.get(d - 1);
+            int[] v = new int[2*d + 1];
+            trace.add(v);
+
+            for (int k = -d; k <= d; k += 2)
+            {
+                int x;
+                if (d == 0)
+                    x = 0;
+                else if (k == -d || (k != d && prev[k-1 + d-1] < prev[k+1 + d-1]))
+                    x = prev[k+1 + d-1];     // Insertion (move down)
+                else
+                    x = prev[k-1 + d-1] + 1; // Deletion (move right)
+
+                int y = x - k;
+                while (x < n && y < m && a[x] == b[y])
+                {
+                    x++;
+                    y++;
+                }
+                v[k + d] = x;
+
+                if (x >= n && y >= m)
+                    return backtrack(trace, n, m);
+            }
+        }
+        return null;
+    }
+
+    private static boolean[][] backtrack(List<int[]> trace, int n, int m)
+    {
+        boolean[] deleted = new boolean[n], inserted = new boolean[m];
+
+        int x = n, y = m;
+        for (int d = trace.size() - 1; d > 0; d--)
+        {
+            int[] prev = trace.get(d - 1);
+            int k = x - y;
+
+            boolean insertion = k == -d || (k != d && prev[k-1 + d-1] < prev[k+1 + d-1]);
+            int prevK = insertion ? k + 1 : k - 1;
+            int prevX = prev[prevK + d-1];
+            int prevY = prevX - prevK;
+
+            if (insertion)
+                inserted[prevY] = true;
+            else
+                deleted[prevX] = true;
+
+            x = prevX;
+            y = prevY;
+        }
+
+        return new boolean[][] { deleted, inserted };
+    }
+}
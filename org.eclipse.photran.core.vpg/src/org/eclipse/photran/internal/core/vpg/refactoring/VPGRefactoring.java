@@ -1,6 +1,5 @@
 package org.eclipse.photran.internal.core.vpg.refactoring;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
@@ -24,7 +23,6 @@ import org.eclipse.photran.internal.core.refactoring.IRefactoring;
 import org.eclipse.photran.internal.core.vpg.IVPGNode;
 import org.eclipse.photran.internal.core.vpg.VPGLog;
 import org.eclipse.photran.internal.core.vpg.eclipse.EclipseVPG;
-import org.eclipse.text.edits.ReplaceEdit;
 
 /**
  * A refactoring which accesses a VPG.
@@ -267,17 +265,31 @@ public abstract class VPGRefactoring<A, T, V extends EclipseVPG<A, T, ? extends
      * This method should be called from within the <code>doCreateChange</code> method after all
      * of the changes to a file's AST have been made.
      * <p>
+     * The change only replaces the regions of the file that differ from the modified AST's
+     * source code (see {@link TextEditDiff}).
+     * <p>
      * If calling <code>#toString</code> on the AST does not reproduce the modified
      * source code for the given file, this method should be overridden.
      */
     protected void addChangeFromModifiedAST(IFile file, IProgressMonitor pm) {
+        allChanges.add(createChangeFromModifiedAST(file, vpg.acquireTransientAST(file), pm));
+    }
+
+    /**
+     * Returns a change which replaces the contents of the given file with the source code of the
+     * given (modified) AST, without adding it to the refactoring's changes.
+     * <p>
+     * Unlike {@link #addChangeFromModifiedAST(IFile, IProgressMonitor)}, this does not access the
+     * VPG, so it may be called on a worker thread with an AST that is not in the VPG's AST cache
+     * (e.g., one returned by {@link EclipseVPG#parseConcurrently(String, java.util.List)}).
+     */
+    protected TextFileChange createChangeFromModifiedAST(IFile file, A ast, IProgressMonitor pm) {
         try {
-            A ast = vpg.acquireTransientAST(file);
             TextFileChange changeThisFile = new TextFileChange(getName() + " - " //$NON-NLS-1$
                     + file.getFullPath().toOSString(), file);
             changeThisFile.initializeValidationData(pm);
-            changeThisFile.setEdit(new ReplaceEdit(0, countCharsIn(file), getSourceCodeFromAST(ast)));
-            allChanges.add(changeThisFile);
+            changeThisFile.setEdit(TextEditDiff.computeEdits(readContents(file), getSourceCodeFromAST(ast)));
+            return changeThisFile;
         } catch (Exception e) {
             throw new Error(e);
         }
@@ -288,14 +300,21 @@ public abstract class VPGRefactoring<A, T, V extends EclipseVPG<A, T, ? extends
         return ast.toString();
     }
 
-    private int countCharsIn(IFile file) throws CoreException, IOException
+    private String readContents(IFile file) throws CoreException, IOException
     {
-        int size = 0;
-        Reader in = new BufferedReader(new InputStreamReader(file.getContents(true), file.getCharset()));
-        while (in.read() > -1)
-            size++;
-        in.close();
-        return size;
+        StringBuilder sb = new StringBuilder(4096);
+        char[] buffer = new char[4096];
+        Reader in = new InputStreamReader(file.getContents(true), file.getCharset());
+        try
+        {
+            for (int count = in.read(buffer); count >= 0; count = in.read(buffer))
+                sb.append(buffer, 0, count);
+        }
+        finally
+        {
+            in.close();
+        }
+        return sb.toString();
     }
 
     // PRECONDITIONS //////////////////////////////////////////////////////////
@@ -35,6 +35,9 @@ public final class FortranPreferences
     public static final FortranStringPreference RELEASE_NOTES_SHOWN = new FortranStringPreference("releasenotesversionshown", ""); //$NON-NLS-1$ //$NON-NLS-2$
 
     public static final FortranBooleanPreference ENABLE_VPG_LOGGING = new FortranBooleanPreference("vpglogging", false); //$NON-NLS-1$
+    public static final FortranIntegerPreference VPG_INDEXER_THREADS = new FortranIntegerPreference("vpgindexerthreads", 1, 64, 1); //$NON-NLS-1$
+    public static final FortranIntegerPreference VPG_CACHE_SIZE_MB = new FortranIntegerPreference("vpgcachesize", 16, 1024, 1); //$NON-NLS-1$
+    public static final FortranIntegerPreference VPG_AST_CACHE_SIZE_MB = new FortranIntegerPreference("vpgastcachesize", 64, 4096, 1); //$NON-NLS-1$
     public static final FortranBooleanPreference SHOW_PARSE_TREE = new FortranBooleanPreference("parsetree", false); //$NON-NLS-1$
     public static final FortranBooleanPreference ENABLE_FOLDING = new FortranBooleanPreference("folding", true); //$NON-NLS-1$
     public static final FortranBooleanPreference ENABLE_RULER = new FortranBooleanPreference("ruler", true); //$NON-NLS-1$
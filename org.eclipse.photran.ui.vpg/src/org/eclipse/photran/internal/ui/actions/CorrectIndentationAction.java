@@ -96,7 +96,7 @@ public class CorrectIndentationAction extends FortranEditorASTActionDelegate
             ifile,
             filename,
             SourceForm.of(ifile));
-        ASTExecutableProgramNode astRoot = new Parser().parse(lexer);
+        ASTExecutableProgramNode astRoot = Parser.getThreadLocalParser().parse(lexer);
         return new FortranAST(ifile, astRoot, new TokenList(astRoot));
     }
 
@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.eclipse.photran.internal.ui.editor_vpg;
 
-import java.io.StringReader;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -22,13 +21,11 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.photran.core.IFortranAST;
 import org.eclipse.photran.internal.core.SyntaxException;
 import org.eclipse.photran.internal.core.analysis.binding.Definition;
-import org.eclipse.photran.internal.core.lexer.ASTLexerFactory;
-import org.eclipse.photran.internal.core.lexer.IAccumulatingLexer;
 import org.eclipse.photran.internal.core.lexer.LexerException;
 import org.eclipse.photran.internal.core.lexer.Token;
 import org.eclipse.photran.internal.core.lexer.preprocessor.fortran_include.IncludeLoaderCallback;
 import org.eclipse.photran.internal.core.parser.ASTExecutableProgramNode;
-import org.eclipse.photran.internal.core.parser.Parser;
+import org.eclipse.photran.internal.core.parser.IncrementalParser;
 import org.eclipse.photran.internal.core.properties.SearchPathProperties;
 import org.eclipse.photran.internal.core.sourceform.ISourceForm;
 import org.eclipse.photran.internal.core.sourceform.SourceForm;
@@ -37,6 +34,9 @@ import org.eclipse.photran.internal.core.vpg.eclipse.VPGJob;
 import org.eclipse.photran.internal.core.vpg.eclipse.VPGSchedulingRule;
 import org.eclipse.photran.internal.ui.FortranUIPlugin;
 import org.eclipse.photran.internal.ui.editor.FortranEditor;
+import org.eclipse.ui.IPartListener2;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchPartReference;
 
 /**
  * Dispatcher for a set of tasks to be run by the Fortran editor when its contents change (and
@@ -64,11 +64,68 @@ public class FortranEditorTasks
         editor.reconcilerTasks = this;
 
         this.runner = new Runner();
+
+        unpinASTWhenEditorIsDeactivated();
+    }
+
+    /**
+     * The VPG AST for the file in this editor is pinned in the VPG's AST cache while the editor is
+     * updated (see UpdateVPGJob); this unpins it when the editor is deactivated or
+     * closed, so that it can be evicted.
+     */
+    private void unpinASTWhenEditorIsDeactivated()
+    {
+        if (editor.getSite() == null || editor.getSite().getPage() == null)
+            return;
+
+        final IWorkbenchPage page = editor.getSite().getPage();
+        page.addPartListener(new IPartListener2()
+        {
+            public void partActivated(IWorkbenchPartReference partRef)
+            {
+            }
+
+            public void partBroughtToTop(IWorkbenchPartReference partRef)
+            {
+            }
+
+            public void partClosed(IWorkbenchPartReference partRef)
+            {
+                if (partRef.getPart(false) == editor)
+                {
+                    PhotranVPG.getInstance().setPinnedAST(null);
+                    page.removePartListener(this);
+                }
+            }
+
+            public void partDeactivated(IWorkbenchPartReference partRef)
+            {
+                if (partRef.getPart(false) == editor)
+                    PhotranVPG.getInstance().setPinnedAST(null);
+            }
+
+            public void partHidden(IWorkbenchPartReference partRef)
+            {
+            }
+
+            public void partInputChanged(IWorkbenchPartReference partRef)
+            {
+            }
+
+            public void partOpened(IWorkbenchPartReference partRef)
+            {
+            }
+
+            public void partVisible(IWorkbenchPartReference partRef)
+            {
+            }
+        });
     }
     
     //////////////////////////////////////////////////////////////////////////////////////////////
 
-    private Parser parser = new Parser();
+    /** Reparses only the parts of the editor's contents that changed since the last reconcile */
+    private IncrementalParser parser = new IncrementalParser();
 
     private FortranEditor editor;
 
@@ -111,9 +168,22 @@ public class FortranEditorTasks
         return runner;
     }
 
+    /**
+     * The AST and token list passed to an {@link IFortranEditorASTTask} are modified in place
+     * when the editor is reconciled (see {@link IncrementalParser}), so a task that keeps them
+     * must hold this lock while it reads them outside of its <code>handle</code> method (e.g., on
+     * the UI thread).
+     */
+    public Object getASTLock()
+    {
+        return parser.getLock();
+    }
+
     public class Runner
     {
         protected DefinitionMap<Definition> defMap = null;
+        /** The VPG AST from which {@link #defMap} was created */
+        protected IFortranAST defMapAST = null;
 
         protected PhotranVPG vpg = PhotranVPG.getInstance();
         protected Job dispatchASTTasksJob = null;
@@ -144,7 +214,8 @@ public class FortranEditorTasks
             if (dispatchASTTasksJob != null) return; // Already running an update
 
             dispatchASTTasksJob = new DispatchASTTasksJob();
-            dispatchASTTasksJob.setRule(VPGSchedulingRule.getInstance());
+            // Only the editor's own AST is modified; the VPG is only read
+            dispatchASTTasksJob.setRule(VPGSchedulingRule.createReadOnlyRule());
             dispatchASTTasksJob.setPriority(Job.DECORATE);
             dispatchASTTasksJob.schedule();
         }
@@ -201,14 +272,11 @@ public class FortranEditorTasks
                         
                                                 long start = System.currentTimeMillis();
                         ISourceForm sourceForm = determineSourceForm();
-                        IAccumulatingLexer lexer = new ASTLexerFactory().createLexer(new StringReader(editorContents),
+                        ASTExecutableProgramNode astRootNode = parser.parse(editorContents,
                                                                             editor.getIFile(),
                                                                             editor.getIFile().getName(),
                                                                             sourceForm);
-                                                debug("    createLexer:\t" + (System.currentTimeMillis()-start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
-                                                start = System.currentTimeMillis();
-                        ASTExecutableProgramNode astRootNode = parser.parse(lexer);
-                                                debug("    parse:\t" + (System.currentTimeMillis()-start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+                                                debug("    parse:\t" + (System.currentTimeMillis()-start) + " ms (" + parser.getIncrementalParseCount() + " incremental, " + parser.getFullParseCount() + " full)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
                         if (astRootNode == null) return;
 
                         HashSet<IFortranEditorASTTask> tasksToRemove = new HashSet<IFortranEditorASTTask>();
@@ -218,7 +286,7 @@ public class FortranEditorTasks
                             for (IFortranEditorASTTask task : FortranEditorTasks.instance(editor).astTasks)
                             {
                                                 long start2 = System.currentTimeMillis();
-                                if (!task.handle(astRootNode, lexer.getTokenList(), defMap))
+                                if (!task.handle(astRootNode, parser.getTokenList(), defMap))
                                     tasksToRemove.add(task);
                                                 debug("        Task " + task.getClass().getSimpleName() + ":\t" + (System.currentTimeMillis()-start2) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
                             }
@@ -248,7 +316,9 @@ public class FortranEditorTasks
             @Override
             public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException
             {
-                vpgAST = vpg.acquireTransientAST(PhotranVPG.getFilenameForIFile(editor.getIFile()));
+                String filename = PhotranVPG.getFilenameForIFile(editor.getIFile());
+                vpg.setPinnedAST(filename);
+                vpgAST = vpg.acquireTransientAST(filename);
                 //scheduleVPGTaskDispatchJob();
 
                 if (vpgAST != null)
@@ -264,7 +334,13 @@ public class FortranEditorTasks
                         vpgTasks = new HashSet<IFortranEditorVPGTask>(FortranEditorTasks.instance(editor).vpgTasks);
                     }
 
-                    defMap = createDefMap();
+                    // The VPG AST only changes when the file is saved and reindexed, so
+                    // the definition map can be reused until then
+                    if (defMap == null || defMapAST != vpgAST)
+                    {
+                        defMap = createDefMap();
+                        defMapAST = vpgAST;
+                    }
                     for (IFortranEditorVPGTask task : vpgTasks)
                         task.handle(editor.getIFile(), vpgAST, defMap);
                 }
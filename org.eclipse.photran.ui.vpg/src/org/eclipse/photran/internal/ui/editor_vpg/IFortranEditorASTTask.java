@@ -20,6 +20,10 @@ import org.eclipse.photran.internal.core.parser.ASTExecutableProgramNode;
  * <p>
  * The AST provided to this method will be based on the contents of the editor, while the AST provided to an
  * {@link IFortranEditorVPGTask} will be based on the last saved version of the file.
+ * <p>
+ * The AST and token list are modified in place when the editor is reconciled again, so a task that
+ * retains them must synchronize on {@link FortranEditorTasks#getASTLock()} when it uses them
+ * outside of {@link #handle(ASTExecutableProgramNode, TokenList, DefinitionMap)}.
  * 
  * @author Jeff Overbey
  */
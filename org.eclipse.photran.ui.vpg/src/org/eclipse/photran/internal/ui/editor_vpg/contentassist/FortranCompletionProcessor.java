@@ -39,6 +39,7 @@ import org.eclipse.photran.internal.core.parser.ASTDerivedTypeStmtNode;
 import org.eclipse.photran.internal.core.parser.ASTTypeAttrSpecNode;
 import org.eclipse.photran.internal.core.parser.IASTListNode;
 import org.eclipse.photran.internal.core.properties.SearchPathProperties;
+import org.eclipse.photran.internal.core.vpg.NameIndex;
 import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
 import org.eclipse.photran.internal.core.vpg.PhotranVPG;
 import org.eclipse.photran.internal.ui.editor.FortranEditor;
@@ -410,8 +411,17 @@ public class FortranCompletionProcessor implements IContentAssistProcessor
         PhotranVPG vpg = PhotranVPG.getInstance();
         Iterable<String> moduleNames = vpg.listAllModules();
         for (String module: moduleNames) {
-            Definition dummyDef = new Definition(module,null,Classification.MODULE,Type.VOID);
-            moduleDefs.add(dummyDef);
+            // Use the module's Definition from the name index, if it is indexed
+            Definition moduleDef = null;
+            for (NameIndex.Entry entry : vpg.getNameIndex().findExact(module)) {
+                if (entry.isInGlobalScope() && entry.getClassification() == Classification.MODULE) {
+                    moduleDef = entry.getDefinition();
+                    break;
+                }
+            }
+            if (moduleDef == null)
+                moduleDef = new Definition(module,null,Classification.MODULE,Type.VOID);
+            moduleDefs.add(moduleDef);
         }
         return moduleDefs;
     }
@@ -445,9 +455,8 @@ public class FortranCompletionProcessor implements IContentAssistProcessor
             //
             Definition module = modules.get(0);
             PhotranTokenRef moduleTokenRef = module.getTokenRef();
-            Token moduleToken = moduleTokenRef.getASTNode();
-            ScopingNode moduleScope = moduleToken.getLocalScope();
-            List<Definition> tempDefs = moduleScope.getAllPublicDefinitions();
+            // The module's symbol table contains its public definitions; using it avoids parsing the module
+            List<Definition> tempDefs = vpg.getModuleSymbolTable(moduleName);
             String moduleFile = moduleTokenRef.getFilename();
             for (Definition def: tempDefs) {
                 PhotranTokenRef defTokenRef = def.getTokenRef();
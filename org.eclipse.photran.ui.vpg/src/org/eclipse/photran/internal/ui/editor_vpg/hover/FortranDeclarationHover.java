@@ -92,8 +92,12 @@ public class FortranDeclarationHover implements ITextHover, ITextHoverExtension
                 TextSelection ts = new TextSelection(textViewer.getDocument(),
                     hoverRegion.getOffset(),
                     hoverRegion.getLength());
-                Definition def = activeDefinitionMap.lookup(ts, activeTokenList);
-                if (def != null) str = def.describe();
+                // The token list may be modified when the editor is reconciled
+                synchronized (FortranEditorTasks.instance(fEditor).getASTLock())
+                {
+                    Definition def = activeDefinitionMap.lookup(ts, activeTokenList);
+                    if (def != null) str = def.describe();
+                }
             }
             catch (Throwable t)
             {
@@ -13,8 +13,12 @@
  *******************************************************************************/
 package org.eclipse.photran.internal.ui.search;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -28,6 +32,7 @@ import org.eclipse.photran.internal.core.analysis.binding.ScopingNode;
 import org.eclipse.photran.internal.core.lexer.FileOrIFile;
 import org.eclipse.photran.internal.core.lexer.Terminal;
 import org.eclipse.photran.internal.core.lexer.Token;
+import org.eclipse.photran.internal.core.vpg.NameIndex;
 import org.eclipse.photran.internal.core.vpg.PhotranTokenRef;
 import org.eclipse.photran.internal.core.vpg.PhotranVPG;
 import org.eclipse.search.ui.ISearchQuery;
@@ -92,7 +97,8 @@ public class FortranSearchQuery extends SearchQuery<SearchResult>
 
     /**
      * The search proceeds in two phases.
-     * (1) Each file is parsed and searched for declarations matching the given query.  The
+     * (1) Each file is searched for declarations matching the given query, using the VPG's
+     *     {@link NameIndex} (or, if the file is not in the name index, by parsing it).  The
      *     <i>references</i> to those declarations are accumulated in {@link #matchesToAddLater}.
      *     (Since this is a {@link TreeSet}, the matches will be ordered by filename, then offset.)
      * (2) The files are iterated through again, and these references are added to the result list.
@@ -106,13 +112,55 @@ public class FortranSearchQuery extends SearchQuery<SearchResult>
      */
     private TreeSet<PhotranTokenRef> matchesToAddLater;
 
+    /**
+     * Entries in the VPG's {@link NameIndex} whose names match the search pattern, by filename.
+     * Files in the name index are searched using these entries rather than by parsing them.
+     */
+    private Map<String, List<NameIndex.Entry>> indexedMatches;
+
     @Override protected void prepareToSearch(IProgressMonitor monitor)
     {
         PhotranVPG.getInstance().ensureVPGIsUpToDate(monitor);
         this.matchesToAddLater = new TreeSet<PhotranTokenRef>();
+
+        this.indexedMatches = new HashMap<String, List<NameIndex.Entry>>();
+        Pattern pattern = Pattern.compile(PhotranVPG.canonicalizeIdentifier(patternRegex));
+        for (NameIndex.Entry entry : PhotranVPG.getInstance().getNameIndex().findMatching(pattern))
+        {
+            String filename = entry.getTokenRef().getFilename();
+            List<NameIndex.Entry> entries = indexedMatches.get(filename);
+            if (entries == null)
+            {
+                entries = new ArrayList<NameIndex.Entry>();
+                indexedMatches.put(filename, entries);
+            }
+            entries.add(entry);
+        }
     }
 
     @Override protected void search(IFile file)
+    {
+        String filename = PhotranVPG.getFilenameForIFile(file);
+        if (PhotranVPG.getInstance().getNameIndex().getEntriesFor(filename) == null)
+        {
+            searchAST(file);
+        }
+        else
+        {
+            List<NameIndex.Entry> entries = indexedMatches.get(filename);
+            if (entries != null)
+            {
+                for (NameIndex.Entry entry : entries)
+                {
+                    Definition def = entry.getDefinition();
+                    if (def != null) foundDefinition(def.getTokenRef(), def);
+                }
+            }
+        }
+    }
+
+    /** Searches a file that is not in the name index by parsing it */
+    private void searchAST(IFile file)
     {
         IFortranAST ast = PhotranVPG.getInstance().acquireTransientAST(file);
         if (ast == null) return;
@@ -143,14 +191,19 @@ public class FortranSearchQuery extends SearchQuery<SearchResult>
         Token token = ref.findTokenOrReturnNull();
         if (token == null) return;
         for (Definition def : token.resolveBinding()) {
-            if (shouldAccept(def)) {
-                if ((searchFlags & FIND_DECLARATIONS) != 0) {
-                    foundMatch(token);
-                }
-                if ((searchFlags & FIND_REFERENCES) != 0) {
-                    for(PhotranTokenRef rref : def.findAllReferences(true)) {
-                        foundMatch(rref);
-                    }
+            foundDefinition(token.getTokenRef(), def);
+        }
+    }
+
+    private void foundDefinition(PhotranTokenRef declaration, Definition def)
+    {
+        if (shouldAccept(def)) {
+            if ((searchFlags & FIND_DECLARATIONS) != 0) {
+                addSearchResultFromTokenRef(declaration);
+            }
+            if ((searchFlags & FIND_REFERENCES) != 0) {
+                for(PhotranTokenRef rref : def.findAllReferences(true)) {
+                    foundMatch(rref);
                 }
             }
         }
@@ -196,10 +249,6 @@ public class FortranSearchQuery extends SearchQuery<SearchResult>
         return false;
     }
 
-    private void foundMatch(Token token) {
-        addSearchResultFromTokenRef(token.getTokenRef());
-    }
-
     private void foundMatch(PhotranTokenRef ref) {
         matchesToAddLater.add(ref);
     }
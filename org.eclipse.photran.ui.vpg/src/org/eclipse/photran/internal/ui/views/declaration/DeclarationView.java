@@ -430,7 +430,11 @@ public class DeclarationView extends ViewPart
         String description;
         if (tokenList != null && defMap != null)
         {
-            description = defMap.lookup(selection, tokenList);
+            // The token list may be modified when the editor is reconciled
+            synchronized (FortranEditorTasks.instance(activeEditor).getASTLock())
+            {
+                description = defMap.lookup(selection, tokenList);
+            }
         }
         else
         {
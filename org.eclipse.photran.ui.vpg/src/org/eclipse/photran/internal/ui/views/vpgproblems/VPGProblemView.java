@@ -153,7 +153,7 @@ public class VPGProblemView extends ViewPart implements VPGLog.ILogListener
             markersTask = new RecreateMarkers();
             markersTask.setRule(
                 MultiRule.combine(
-                    VPGSchedulingRule.getInstance(),
+                    VPGSchedulingRule.createReadOnlyRule(),
                     ResourcesPlugin.getWorkspace().getRoot()));
             markersTask.schedule();
         }
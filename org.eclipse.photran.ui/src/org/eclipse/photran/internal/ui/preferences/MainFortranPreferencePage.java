@@ -11,6 +11,7 @@
 package org.eclipse.photran.internal.ui.preferences;
 
 import org.eclipse.jface.preference.BooleanFieldEditor;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.photran.internal.core.preferences.FortranPreferences;
 
 /**
@@ -28,6 +29,9 @@ public class MainFortranPreferencePage extends AbstractFortranPreferencePage
     {
         FortranPreferences.SHOW_PARSE_TREE.setDefault();
         FortranPreferences.ENABLE_VPG_LOGGING.setDefault();
+        FortranPreferences.VPG_INDEXER_THREADS.setDefault();
+        FortranPreferences.VPG_CACHE_SIZE_MB.setDefault();
+        FortranPreferences.VPG_AST_CACHE_SIZE_MB.setDefault();
     }
 
     @Override protected void createFieldEditors()
@@ -39,5 +43,29 @@ public class MainFortranPreferencePage extends AbstractFortranPreferencePage
         addField(new BooleanFieldEditor(FortranPreferences.ENABLE_VPG_LOGGING.getName(),
                                         Messages.MainFortranPreferencePage_1,
                                         getFieldEditorParent()));
+
+        IntegerFieldEditor indexerThreadsEditor = new IntegerFieldEditor(
+            FortranPreferences.VPG_INDEXER_THREADS.getName(),
+            Messages.MainFortranPreferencePage_2,
+            getFieldEditorParent());
+        indexerThreadsEditor.setValidRange(FortranPreferences.VPG_INDEXER_THREADS.getLowerLimit(), FortranPreferences.VPG_INDEXER_THREADS.getUpperLimit());
+        indexerThreadsEditor.setTextLimit(Integer.toString(FortranPreferences.VPG_INDEXER_THREADS.getUpperLimit()).length());
+        addField(indexerThreadsEditor);
+
+        IntegerFieldEditor cacheSizeEditor = new IntegerFieldEditor(
+            FortranPreferences.VPG_CACHE_SIZE_MB.getName(),
+            Messages.MainFortranPreferencePage_3,
+            getFieldEditorParent());
+        cacheSizeEditor.setValidRange(FortranPreferences.VPG_CACHE_SIZE_MB.getLowerLimit(), FortranPreferences.VPG_CACHE_SIZE_MB.getUpperLimit());
+        cacheSizeEditor.setTextLimit(Integer.toString(FortranPreferences.VPG_CACHE_SIZE_MB.getUpperLimit()).length());
+        addField(cacheSizeEditor);
+
+        IntegerFieldEditor astCacheSizeEditor = new IntegerFieldEditor(
+            FortranPreferences.VPG_AST_CACHE_SIZE_MB.getName(),
+            Messages.MainFortranPreferencePage_4,
+            getFieldEditorParent());
+        astCacheSizeEditor.setValidRange(FortranPreferences.VPG_AST_CACHE_SIZE_MB.getLowerLimit(), FortranPreferences.VPG_AST_CACHE_SIZE_MB.getUpperLimit());
+        astCacheSizeEditor.setTextLimit(Integer.toString(FortranPreferences.VPG_AST_CACHE_SIZE_MB.getUpperLimit()).length());
+        addField(astCacheSizeEditor);
     }
 }
\ No newline at end of file
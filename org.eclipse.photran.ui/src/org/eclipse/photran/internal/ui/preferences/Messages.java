@@ -52,6 +52,12 @@ public class Messages extends NLS
     public static String MainFortranPreferencePage_0;
 
     public static String MainFortranPreferencePage_1;
+
+    public static String MainFortranPreferencePage_2;
+
+    public static String MainFortranPreferencePage_3;
+
+    public static String MainFortranPreferencePage_4;
     static
     {
         // initialize resource bundle